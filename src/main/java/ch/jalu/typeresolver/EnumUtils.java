@@ -1,9 +1,15 @@
 package ch.jalu.typeresolver;
 
+import ch.jalu.typeresolver.enumutil.EnumIndex;
+import ch.jalu.typeresolver.enumutil.EnumIntIndex;
+import ch.jalu.typeresolver.enumutil.EnumNameIndex;
+import ch.jalu.typeresolver.enumutil.EnumSetCodec;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.EnumSet;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -29,11 +35,7 @@ public final class EnumUtils {
         if (clazz == null || !clazz.isEnum() || name == null) {
             return Optional.empty();
         }
-        try {
-            return Optional.of((T) Enum.valueOf((Class) clazz, name));
-        } catch (IllegalArgumentException ignored) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable((T) EnumNameIndex.of((Class) clazz).find(name));
     }
 
     /**
@@ -46,17 +48,106 @@ public final class EnumUtils {
      * @param <T> the class type
      * @return optional of the enum entry if the class is an enum and the name matched; empty otherwise
      */
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public static <T> Optional<T> tryValueOfCaseInsensitive(@Nullable Class<T> clazz, @Nullable String name) {
         if (clazz == null || !clazz.isEnum() || name == null) {
             return Optional.empty();
         }
+        return Optional.ofNullable((T) EnumNameIndex.of((Class) clazz).findFolded(name));
+    }
 
-        for (T enumConstant : clazz.getEnumConstants()) {
-            if (name.equalsIgnoreCase(((Enum<?>) enumConstant).name())) {
-                return Optional.of(enumConstant);
-            }
-        }
-        return Optional.empty();
+    /**
+     * Returns the entry of the given enum whose name matches the given characters exactly, or null if there is no
+     * match. Unlike {@link Enum#valueOf}, no exception is thrown if there is no match, and the name can be provided
+     * as any {@link CharSequence} (e.g. a {@link StringBuilder} or a {@link java.nio.CharBuffer}).
+     * <p>
+     * The names of each enum are indexed once in a hash table, so that the lookup is performed in constant time.
+     *
+     * @param enumClass the enum class
+     * @param name the name to look up
+     * @param <E> the enum type
+     * @return the matching enum entry, or null if there is no match
+     */
+    public static <E extends Enum<E>> @Nullable E findEntryOrNull(Class<E> enumClass, CharSequence name) {
+        return EnumNameIndex.of(enumClass).find(name);
+    }
+
+    /**
+     * Returns the entry of the given enum whose name matches the given byte range exactly, or null if there is no
+     * match. Each byte is interpreted as one ISO-8859-1 character, which is equivalent to UTF-8 for ASCII names.
+     * This allows to look up enum entries from a buffer without creating a String first.
+     *
+     * @param enumClass the enum class
+     * @param bytes the bytes containing the name to look up
+     * @param from the index of the name's first byte (inclusive)
+     * @param to the index after the name's last byte (exclusive)
+     * @param <E> the enum type
+     * @return the matching enum entry, or null if there is no match
+     */
+    public static <E extends Enum<E>> @Nullable E findEntryOrNull(Class<E> enumClass, byte[] bytes, int from, int to) {
+        return EnumNameIndex.of(enumClass).find(bytes, from, to);
+    }
+
+    /**
+     * Returns the entry of the given enum whose name matches the given characters case-insensitively, or null if
+     * there is no match. The first entry is returned if multiple entries match. Characters are compared like
+     * {@link String#equalsIgnoreCase} does.
+     *
+     * @param enumClass the enum class
+     * @param name the name to look up (case-insensitive)
+     * @param <E> the enum type
+     * @return the matching enum entry, or null if there is no match
+     */
+    public static <E extends Enum<E>> @Nullable E findEntryCaseInsensitiveOrNull(Class<E> enumClass,
+                                                                                  CharSequence name) {
+        return EnumNameIndex.of(enumClass).findFolded(name);
+    }
+
+    /**
+     * Returns the entry of the given enum whose name matches the given byte range case-insensitively, or null if
+     * there is no match. Each byte is interpreted as one ISO-8859-1 character, which is equivalent to UTF-8 for ASCII
+     * names. The first entry is returned if multiple entries match.
+     *
+     * @param enumClass the enum class
+     * @param bytes the bytes containing the name to look up (case-insensitive)
+     * @param from the index of the name's first byte (inclusive)
+     * @param to the index after the name's last byte (exclusive)
+     * @param <E> the enum type
+     * @return the matching enum entry, or null if there is no match
+     */
+    public static <E extends Enum<E>> @Nullable E findEntryCaseInsensitiveOrNull(Class<E> enumClass,
+                                                                                  byte[] bytes, int from, int to) {
+        return EnumNameIndex.of(enumClass).findFolded(bytes, from, to);
+    }
+
+    /**
+     * Returns an index of the given enum's entries by a custom key, which allows to look up entries by the key in
+     * constant time. The index is cached per key extractor. See {@link EnumIndex#of} for details.
+     *
+     * @param enumClass the enum class to index
+     * @param keyExtractor function returning the key of an entry
+     * @param <K> the key type
+     * @param <E> the enum type
+     * @return index of the enum entries by key
+     */
+    public static <K, E extends Enum<E>> EnumIndex<K, E> indexBy(Class<E> enumClass,
+                                                                Function<? super E, ? extends K> keyExtractor) {
+        return EnumIndex.of(enumClass, keyExtractor);
+    }
+
+    /**
+     * Returns an index of the given enum's entries by a custom int key, which allows to look up entries by the key in
+     * constant time and without boxing. The index is cached per key extractor. See {@link EnumIntIndex#of} for
+     * details.
+     *
+     * @param enumClass the enum class to index
+     * @param keyExtractor function returning the key of an entry
+     * @param <E> the enum type
+     * @return index of the enum entries by key
+     */
+    public static <E extends Enum<E>> EnumIntIndex<E> indexByInt(Class<E> enumClass,
+                                                                 ToIntFunction<? super E> keyExtractor) {
+        return EnumIntIndex.of(enumClass, keyExtractor);
     }
 
     /**
@@ -145,4 +236,17 @@ public final class EnumUtils {
     public static <E extends Enum<E>> Collector<E, ?, EnumSet<E>> toEnumSet(Class<E> enumType) {
         return Collectors.toCollection(() -> EnumSet.noneOf(enumType));
     }
+
+    /**
+     * Returns a collector that combines the entries of a stream into a bitmask, using each entry's ordinal as bit
+     * index. No intermediate set is created. See {@link EnumSetCodec} for more conversions and for bitmasks that
+     * are not based on the ordinal.
+     *
+     * @param enumType the class of the enum the stream consists of
+     * @param <E> the enum type
+     * @return collector to a bitmask by ordinal
+     */
+    public static <E extends Enum<E>> Collector<E, ?, Long> toOrdinalBitmask(Class<E> enumType) {
+        return EnumSetCodec.byOrdinal(enumType).toLongCollector();
+    }
 }
@@ -0,0 +1,181 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Appends the string representation of arrays to an {@link Appendable}, in the format of
+ * {@link java.util.Arrays#toString} and {@link java.util.Arrays#deepToString}. Elements are appended one by one
+ * without boxing: if the target is a {@link StringBuilder}, elements are appended to it directly; otherwise, elements
+ * are collected in a small buffer that is passed on to the target whenever it is full, so that the representation of
+ * a large array is never built up in memory entirely.
+ * <p>
+ * Arrays with more elements than the configured maximum are truncated, and the number of omitted elements is
+ * indicated with an elision marker, e.g. {@code [1, 2, 3, ... (997 more)]}.
+ */
+final class ArrayAppender {
+
+    /** Number of buffered characters after which the buffer is passed on to the target. */
+    private static final int FLUSH_THRESHOLD = 4096;
+
+    private final Appendable target;
+    private final StringBuilder buffer;
+    private final int maxElements;
+    /** Object arrays that are currently being appended (deep mode only), used to detect self-references. */
+    private final @Nullable Set<Object[]> arraysInProgress;
+
+    private ArrayAppender(Appendable target, int maxElements, boolean deep) {
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("maxElements may not be negative, but was " + maxElements);
+        }
+        this.target = target;
+        this.buffer = target instanceof StringBuilder ? (StringBuilder) target : new StringBuilder();
+        this.maxElements = maxElements;
+        this.arraysInProgress = deep ? Collections.newSetFromMap(new IdentityHashMap<>()) : null;
+    }
+
+    /**
+     * Appends the string representation of the given array to the target. Elements of Object arrays are converted
+     * with {@link String#valueOf(Object)}.
+     *
+     * @param target the appendable to append to
+     * @param array the array to append (may be null)
+     * @param maxElements max number of elements to append
+     * @throws IOException propagated from the target
+     */
+    static void append(Appendable target, @Nullable Object array, int maxElements) throws IOException {
+        new ArrayAppender(target, maxElements, false).appendFully(array);
+    }
+
+    /**
+     * Appends the string representation of the given array to the target. Elements that are arrays are appended
+     * recursively; an array that contains itself is represented as {@code [...]}. The max number of elements applies
+     * to each array individually.
+     *
+     * @param target the appendable to append to
+     * @param array the array to append (may be null)
+     * @param maxElements max number of elements to append per array
+     * @throws IOException propagated from the target
+     */
+    static void deepAppend(Appendable target, @Nullable Object array, int maxElements) throws IOException {
+        new ArrayAppender(target, maxElements, true).appendFully(array);
+    }
+
+    private void appendFully(@Nullable Object array) throws IOException {
+        if (array == null) {
+            buffer.append("null");
+        } else {
+            appendArray(array);
+        }
+        if (buffer != target) {
+            target.append(buffer);
+        }
+    }
+
+    private void appendArray(Object array) throws IOException {
+        ArrayOps ops = ArrayUtils.getOps(array);
+        int length = ops.getLength(array);
+        int count = Math.min(length, maxElements);
+
+        buffer.append('[');
+        switch (ops.getComponentType()) {
+            case BOOLEAN:
+                boolean[] booleans = (boolean[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(booleans[i]);
+                }
+                break;
+            case BYTE:
+                byte[] bytes = (byte[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(bytes[i]);
+                }
+                break;
+            case CHARACTER:
+                char[] chars = (char[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(chars[i]);
+                }
+                break;
+            case SHORT:
+                short[] shorts = (short[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(shorts[i]);
+                }
+                break;
+            case INTEGER:
+                int[] ints = (int[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(ints[i]);
+                }
+                break;
+            case LONG:
+                long[] longs = (long[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(longs[i]);
+                }
+                break;
+            case FLOAT:
+                float[] floats = (float[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(floats[i]);
+                }
+                break;
+            case DOUBLE:
+                double[] doubles = (double[]) array;
+                for (int i = 0; i < count; ++i) {
+                    appendSeparator(i).append(doubles[i]);
+                }
+                break;
+            default:
+                appendObjectElements((Object[]) array, count);
+        }
+
+        if (count < length) {
+            appendSeparator(count).append("... (").append(length - count).append(" more)");
+        }
+        buffer.append(']');
+    }
+
+    private void appendObjectElements(Object[] array, int count) throws IOException {
+        if (arraysInProgress == null) {
+            for (int i = 0; i < count; ++i) {
+                appendSeparator(i).append(array[i]);
+            }
+            return;
+        }
+
+        arraysInProgress.add(array);
+        for (int i = 0; i < count; ++i) {
+            Object element = array[i];
+            appendSeparator(i);
+            if (element == null || !element.getClass().isArray()) {
+                buffer.append(element);
+            } else if (arraysInProgress.contains(element)) {
+                buffer.append("[...]");
+            } else {
+                appendArray(element);
+            }
+        }
+        arraysInProgress.remove(array);
+    }
+
+    /**
+     * Passes the buffer on to the target if it is full, and appends the separator if the index is not the first.
+     *
+     * @param index the index of the element that will be appended
+     * @return the buffer to append the element to
+     * @throws IOException propagated from the target
+     */
+    private StringBuilder appendSeparator(int index) throws IOException {
+        if (buffer != target && buffer.length() >= FLUSH_THRESHOLD) {
+            target.append(buffer);
+            buffer.setLength(0);
+        }
+        return index == 0 ? buffer : buffer.append(", ");
+    }
+}
@@ -0,0 +1,1038 @@
+package ch.jalu.typeresolver.array;
+
+import ch.jalu.typeresolver.classutil.ClassUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Builds an array of unknown size by appending elements to it, similar to {@link java.util.ArrayList}, but backed
+ * by an array of the actual component type: primitive values are stored without boxing them. The backing array grows
+ * by 50% when it is full, so that appending elements takes amortized constant time.
+ * <p>
+ * A builder is created for a component type with {@link #forComponent(Class)}, which returns the implementation for
+ * the type's {@link ArrayComponentType}. The typed factories, such as {@link #ofInt()}, return the implementations
+ * directly, which offer methods to append and get primitive values, and whose {@code toArray} method returns the
+ * array type. Example:<pre>{@code
+ *   ArrayBuilder.OfInt builder = ArrayBuilder.ofInt();
+ *   for (String line : lines) {
+ *     builder.add(Integer.parseInt(line));
+ *   }
+ *   builder.addAll(IntStream.range(0, 10));
+ *   int[] values = builder.toArray();
+ * }</pre>
+ * The methods that take {@code Object} arguments, such as {@link #add(Object)}, may be used with any builder; for
+ * primitive component types, they unbox the values and throw an exception if the type does not match (e.g. an
+ * {@code Integer} cannot be added to a builder of {@code long} values).
+ * <p>
+ * Builders are not thread-safe.
+ */
+public abstract class ArrayBuilder {
+
+    /** Capacity of builders that are created without an explicit initial capacity. */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** Max capacity, as some VMs reserve header words in arrays (see {@code ArrayList}). */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final ArrayOps ops;
+    int size;
+
+    ArrayBuilder(ArrayComponentType componentType) {
+        this.ops = StandardArrayOps.forComponentType(componentType);
+    }
+
+    /**
+     * Creates a builder for arrays with the given component type, with the {@link #DEFAULT_CAPACITY default
+     * capacity}. For example, {@code forComponent(int.class)} returns an {@link OfInt}, which builds an int array.
+     *
+     * @param componentType the component type of the array to build (e.g. int.class or String.class)
+     * @return new builder for the component type
+     */
+    public static ArrayBuilder forComponent(Class<?> componentType) {
+        return forComponent(componentType, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a builder for arrays with the given component type, whose backing array initially has the given
+     * capacity.
+     *
+     * @param componentType the component type of the array to build (e.g. int.class or String.class)
+     * @param initialCapacity the initial capacity (may not be negative)
+     * @return new builder for the component type
+     */
+    public static ArrayBuilder forComponent(Class<?> componentType, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity may not be negative, but was " + initialCapacity);
+        } else if (componentType == void.class) {
+            throw new IllegalArgumentException("The component type may not be void");
+        } else if (componentType == boolean.class) {
+            return new OfBoolean(initialCapacity);
+        } else if (componentType == byte.class) {
+            return new OfByte(initialCapacity);
+        } else if (componentType == char.class) {
+            return new OfChar(initialCapacity);
+        } else if (componentType == short.class) {
+            return new OfShort(initialCapacity);
+        } else if (componentType == int.class) {
+            return new OfInt(initialCapacity);
+        } else if (componentType == long.class) {
+            return new OfLong(initialCapacity);
+        } else if (componentType == float.class) {
+            return new OfFloat(initialCapacity);
+        } else if (componentType == double.class) {
+            return new OfDouble(initialCapacity);
+        }
+        return new OfObject<>(componentType, initialCapacity);
+    }
+
+    /**
+     * @return new builder for boolean arrays
+     */
+    public static OfBoolean ofBoolean() {
+        return new OfBoolean(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new builder for byte arrays
+     */
+    public static OfByte ofByte() {
+        return new OfByte(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new builder for char arrays
+     */
+    public static OfChar ofChar() {
+        return new OfChar(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new builder for short arrays
+     */
+    public static OfShort ofShort() {
+        return new OfShort(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new builder for int arrays
+     */
+    public static OfInt ofInt() {
+        return new OfInt(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new builder for long arrays
+     */
+    public static OfLong ofLong() {
+        return new OfLong(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new builder for float arrays
+     */
+    public static OfFloat ofFloat() {
+        return new OfFloat(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return new builder for double arrays
+     */
+    public static OfDouble ofDouble() {
+        return new OfDouble(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a builder for arrays of the given reference type.
+     *
+     * @param componentType the component type of the array to build (may not be primitive)
+     * @param <T> the component type
+     * @return new builder for arrays of the given type
+     */
+    public static <T> OfObject<T> ofObject(Class<T> componentType) {
+        if (componentType.isPrimitive()) {
+            throw new IllegalArgumentException("Expected a reference type, but got: " + componentType);
+        }
+        return new OfObject<>(componentType, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @return the component type of the array that is built
+     */
+    public ArrayComponentType getComponentType() {
+        return ops.getComponentType();
+    }
+
+    /**
+     * @return the number of elements that have been added
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if no elements have been added, false otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the number of elements the backing array can hold before it needs to grow
+     */
+    public int capacity() {
+        return ops.getLength(getArray());
+    }
+
+    /**
+     * Grows the backing array, if necessary, so that it can hold at least the given number of elements.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Reduces the capacity of the backing array to the number of elements.
+     */
+    public void trimToSize() {
+        if (size < capacity()) {
+            setArray(ops.copyOf(getArray(), size));
+        }
+    }
+
+    /**
+     * Removes all elements. The capacity of the backing array is kept.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns the element at the given index, boxed if the component type is primitive.
+     *
+     * @param index the index of the element (smaller than the size)
+     * @return the element at the given index
+     */
+    public @Nullable Object get(int index) {
+        checkIndex(index);
+        return ops.get(getArray(), index);
+    }
+
+    /**
+     * Appends the given value. Values for primitive builders are unboxed.
+     *
+     * @param value the value to add (must match the component type; may only be null for reference types)
+     * @return this builder
+     */
+    public ArrayBuilder add(@Nullable Object value) {
+        ensureSpaceFor(1);
+        ops.set(getArray(), size, value);
+        ++size;
+        return this;
+    }
+
+    /**
+     * Appends all elements of the given array, which must be of the same type as the array that is built (e.g.
+     * int[] for an int builder). For reference types, an {@link ArrayStoreException} is thrown if an element cannot
+     * be stored in the array; the elements before it are added.
+     *
+     * @param array the array whose elements should be added
+     * @return this builder
+     */
+    public ArrayBuilder addAll(Object array) {
+        return addAll(array, 0, ArrayUtils.getOps(array).getLength(array));
+    }
+
+    /**
+     * Appends the elements in the given range of the array. See {@link #addAll(Object)}.
+     *
+     * @param array the array whose elements should be added
+     * @param fromIndex start index of the range to add (inclusive)
+     * @param toIndex end index of the range to add (exclusive)
+     * @return this builder
+     */
+    public ArrayBuilder addAll(Object array, int fromIndex, int toIndex) {
+        ArrayOps sourceOps = ArrayUtils.getOps(array);
+        if (sourceOps != ops) {
+            throw new IllegalArgumentException("Expected an array of type " + getComponentType()
+                + ", but got: " + ClassUtils.getSemanticName(array));
+        }
+        StandardArrayOps.checkRange(sourceOps.getLength(array), fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        ensureSpaceFor(length);
+        try {
+            System.arraycopy(array, fromIndex, getArray(), size, length);
+            size += length;
+        } catch (ArrayStoreException e) {
+            updateSizeAfterArrayStoreException(array, fromIndex);
+            throw e;
+        }
+        return this;
+    }
+
+    /**
+     * Appends all elements of the given stream, in encounter order. Values for primitive builders are unboxed. If
+     * the size of the stream is known, the backing array grows only once. Use the methods for primitive streams
+     * of the typed builders, such as {@link OfInt#addAll(IntStream)}, to avoid boxing.
+     *
+     * @param stream the stream whose elements should be added
+     * @return this builder
+     */
+    public ArrayBuilder addAll(Stream<?> stream) {
+        Spliterator<?> spliterator = stream.spliterator();
+        ensureSpaceFor(spliterator.getExactSizeIfKnown());
+        spliterator.forEachRemaining(this::add);
+        return this;
+    }
+
+    /**
+     * Returns a new array with the elements that have been added. The builder can be used further.
+     *
+     * @return array with all elements of this builder (e.g. int[] or String[])
+     */
+    public Object toArray() {
+        return ops.copyOf(getArray(), size);
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayBuilder[type=" + getComponentType() + ", size=" + size + ", capacity=" + capacity() + "]";
+    }
+
+    /**
+     * @return the backing array
+     */
+    abstract Object getArray();
+
+    /**
+     * Replaces the backing array.
+     *
+     * @param array the new backing array
+     */
+    abstract void setArray(Object array);
+
+    /**
+     * Grows the backing array, if necessary, so that the given number of elements can be appended. Negative values
+     * are ignored, as they denote an unknown size.
+     *
+     * @param additionalElements the number of elements to make space for
+     */
+    final void ensureSpaceFor(long additionalElements) {
+        if (additionalElements > 0 && size + additionalElements > capacity()) {
+            grow(size + additionalElements);
+        }
+    }
+
+    /**
+     * Grows the backing array to a capacity of at least the given value; the capacity is increased by at least 50%.
+     *
+     * @param minCapacity the minimum capacity
+     */
+    final void grow(long minCapacity) {
+        if (minCapacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Cannot grow array to " + minCapacity + " elements");
+        }
+        int capacity = capacity();
+        long newCapacity = Math.min(Math.max(capacity + (capacity >> 1), minCapacity), MAX_CAPACITY);
+        setArray(ops.copyOf(getArray(), (int) newCapacity));
+    }
+
+    final void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    private void updateSizeAfterArrayStoreException(Object source, int fromIndex) {
+        // System#arraycopy copies all elements before the one that cannot be stored; find its index
+        Object[] sourceArray = (Object[]) source;
+        Class<?> componentType = getArray().getClass().getComponentType();
+        int index = fromIndex;
+        while (sourceArray[index] == null || componentType.isInstance(sourceArray[index])) {
+            ++index;
+        }
+        size += index - fromIndex;
+    }
+
+    /**
+     * Builder for boolean arrays.
+     */
+    public static final class OfBoolean extends ArrayBuilder {
+
+        private boolean[] array;
+
+        OfBoolean(int initialCapacity) {
+            super(ArrayComponentType.BOOLEAN);
+            this.array = new boolean[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfBoolean add(boolean value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfBoolean addAll(boolean[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public boolean getBoolean(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public boolean[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (boolean[]) array;
+        }
+    }
+
+    /**
+     * Builder for byte arrays.
+     */
+    public static final class OfByte extends ArrayBuilder {
+
+        private byte[] array;
+
+        OfByte(int initialCapacity) {
+            super(ArrayComponentType.BYTE);
+            this.array = new byte[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfByte add(byte value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfByte addAll(byte[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public byte getByte(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public byte[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (byte[]) array;
+        }
+    }
+
+    /**
+     * Builder for char arrays.
+     */
+    public static final class OfChar extends ArrayBuilder {
+
+        private char[] array;
+
+        OfChar(int initialCapacity) {
+            super(ArrayComponentType.CHARACTER);
+            this.array = new char[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfChar add(char value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfChar addAll(char[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Appends all characters of the given char sequence.
+         *
+         * @param chars the characters to add
+         * @return this builder
+         */
+        public OfChar addAll(CharSequence chars) {
+            int length = chars.length();
+            ensureSpaceFor(length);
+            for (int i = 0; i < length; ++i) {
+                array[size++] = chars.charAt(i);
+            }
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public char getChar(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public char[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (char[]) array;
+        }
+    }
+
+    /**
+     * Builder for short arrays.
+     */
+    public static final class OfShort extends ArrayBuilder {
+
+        private short[] array;
+
+        OfShort(int initialCapacity) {
+            super(ArrayComponentType.SHORT);
+            this.array = new short[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfShort add(short value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfShort addAll(short[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public short getShort(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public short[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (short[]) array;
+        }
+    }
+
+    /**
+     * Builder for int arrays.
+     */
+    public static final class OfInt extends ArrayBuilder {
+
+        private int[] array;
+
+        OfInt(int initialCapacity) {
+            super(ArrayComponentType.INTEGER);
+            this.array = new int[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfInt add(int value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfInt addAll(int[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given stream, in encounter order.
+         *
+         * @param stream the stream whose elements should be added
+         * @return this builder
+         */
+        public OfInt addAll(IntStream stream) {
+            Spliterator.OfInt spliterator = stream.spliterator();
+            ensureSpaceFor(spliterator.getExactSizeIfKnown());
+            spliterator.forEachRemaining((IntConsumer) this::add);
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public int getInt(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public int[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (int[]) array;
+        }
+    }
+
+    /**
+     * Builder for long arrays.
+     */
+    public static final class OfLong extends ArrayBuilder {
+
+        private long[] array;
+
+        OfLong(int initialCapacity) {
+            super(ArrayComponentType.LONG);
+            this.array = new long[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfLong add(long value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfLong addAll(long[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given stream, in encounter order.
+         *
+         * @param stream the stream whose elements should be added
+         * @return this builder
+         */
+        public OfLong addAll(LongStream stream) {
+            Spliterator.OfLong spliterator = stream.spliterator();
+            ensureSpaceFor(spliterator.getExactSizeIfKnown());
+            spliterator.forEachRemaining((LongConsumer) this::add);
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public long getLong(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public long[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (long[]) array;
+        }
+    }
+
+    /**
+     * Builder for float arrays.
+     */
+    public static final class OfFloat extends ArrayBuilder {
+
+        private float[] array;
+
+        OfFloat(int initialCapacity) {
+            super(ArrayComponentType.FLOAT);
+            this.array = new float[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfFloat add(float value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfFloat addAll(float[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public float getFloat(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public float[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (float[]) array;
+        }
+    }
+
+    /**
+     * Builder for double arrays.
+     */
+    public static final class OfDouble extends ArrayBuilder {
+
+        private double[] array;
+
+        OfDouble(int initialCapacity) {
+            super(ArrayComponentType.DOUBLE);
+            this.array = new double[initialCapacity];
+        }
+
+        /**
+         * Appends the given value.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        public OfDouble add(double value) {
+            if (size == array.length) {
+                grow(size + 1L);
+            }
+            array[size++] = value;
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfDouble addAll(double[] values) {
+            addAll(values, 0, values.length);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given stream, in encounter order.
+         *
+         * @param stream the stream whose elements should be added
+         * @return this builder
+         */
+        public OfDouble addAll(DoubleStream stream) {
+            Spliterator.OfDouble spliterator = stream.spliterator();
+            ensureSpaceFor(spliterator.getExactSizeIfKnown());
+            spliterator.forEachRemaining((DoubleConsumer) this::add);
+            return this;
+        }
+
+        /**
+         * Returns the value at the given index.
+         *
+         * @param index the index of the value (smaller than the size)
+         * @return the value at the given index
+         */
+        public double getDouble(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        @Override
+        public double[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        void setArray(Object array) {
+            this.array = (double[]) array;
+        }
+    }
+
+    /**
+     * Builder for arrays of a reference type. Values that are not of the component type cannot be added: an
+     * {@link ArrayStoreException} is thrown in this case.
+     *
+     * @param <T> the component type
+     */
+    public static final class OfObject<T> extends ArrayBuilder {
+
+        private T[] array;
+
+        @SuppressWarnings("unchecked")
+        OfObject(Class<?> componentType, int initialCapacity) {
+            super(ArrayComponentType.OBJECT);
+            this.array = (T[]) Array.newInstance(componentType, initialCapacity);
+        }
+
+        /**
+         * Appends the given value. An {@link ArrayStoreException} is thrown if the value is not of the component
+         * type. Declared with {@code Object} as parameter type as it overrides {@link ArrayBuilder#add(Object)}.
+         *
+         * @param value the value to add
+         * @return this builder
+         */
+        @Override
+        public OfObject<T> add(@Nullable Object value) {
+            super.add(value);
+            return this;
+        }
+
+        /**
+         * Appends all elements of the given array.
+         *
+         * @param values the values to add
+         * @return this builder
+         */
+        public OfObject<T> addAll(T[] values) {
+            return addAll(values, 0, values.length);
+        }
+
+        /**
+         * Appends the elements in the given range of the array.
+         *
+         * @param values the values to add
+         * @param fromIndex start index of the range to add (inclusive)
+         * @param toIndex end index of the range to add (exclusive)
+         * @return this builder
+         */
+        public OfObject<T> addAll(T[] values, int fromIndex, int toIndex) {
+            super.addAll(values, fromIndex, toIndex);
+            return this;
+        }
+
+        @Override
+        public OfObject<T> addAll(Object array) {
+            super.addAll(array);
+            return this;
+        }
+
+        @Override
+        public OfObject<T> addAll(Object array, int fromIndex, int toIndex) {
+            super.addAll(array, fromIndex, toIndex);
+            return this;
+        }
+
+        @Override
+        public OfObject<T> addAll(Stream<?> stream) {
+            super.addAll(stream);
+            return this;
+        }
+
+        @Override
+        public @Nullable T get(int index) {
+            checkIndex(index);
+            return array[index];
+        }
+
+        /**
+         * Removes all elements. The capacity of the backing array is kept; the elements are removed from it so that
+         * they can be garbage collected.
+         */
+        @Override
+        public void clear() {
+            Arrays.fill(array, 0, size, null);
+            super.clear();
+        }
+
+        @Override
+        public T[] toArray() {
+            return Arrays.copyOf(array, size);
+        }
+
+        @Override
+        Object getArray() {
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void setArray(Object array) {
+            this.array = (T[]) array;
+        }
+    }
+}
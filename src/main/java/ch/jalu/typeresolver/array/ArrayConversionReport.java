@@ -0,0 +1,53 @@
+package ch.jalu.typeresolver.array;
+
+/**
+ * Result of a conversion with {@link NumberArrayConverter}, stating how many values were converted and how many of
+ * them could not be represented by the target type without loss of magnitude. Depending on the
+ * {@link OutOfRangePolicy}, values that were out of range have been cast or converted to the closest value.
+ */
+public final class ArrayConversionReport {
+
+    private final int convertedCount;
+    private final int outOfRangeCount;
+    private final int firstOutOfRangeIndex;
+
+    ArrayConversionReport(int convertedCount, int outOfRangeCount, int firstOutOfRangeIndex) {
+        this.convertedCount = convertedCount;
+        this.outOfRangeCount = outOfRangeCount;
+        this.firstOutOfRangeIndex = firstOutOfRangeIndex;
+    }
+
+    /**
+     * @return the number of values that were converted
+     */
+    public int getConvertedCount() {
+        return convertedCount;
+    }
+
+    /**
+     * @return the number of values that could not be represented by the target type without loss of magnitude
+     */
+    public int getOutOfRangeCount() {
+        return outOfRangeCount;
+    }
+
+    /**
+     * @return the index in the source array of the first value that was out of range, or -1 if there was none
+     */
+    public int getFirstOutOfRangeIndex() {
+        return firstOutOfRangeIndex;
+    }
+
+    /**
+     * @return true if at least one value was out of range, false otherwise
+     */
+    public boolean hasValuesOutOfRange() {
+        return outOfRangeCount > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayConversionReport[convertedCount=" + convertedCount + ", outOfRangeCount=" + outOfRangeCount
+            + ", firstOutOfRangeIndex=" + firstOutOfRangeIndex + "]";
+    }
+}
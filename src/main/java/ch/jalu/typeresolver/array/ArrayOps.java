@@ -0,0 +1,191 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * Operations on arrays of a specific {@link ArrayComponentType}. There is one implementation per component type,
+ * which casts the array to its concrete type (e.g. {@code int[]}) and delegates to the appropriate method, typically
+ * in {@link Arrays}. The implementation for an array class is obtained with {@link ArrayUtils#opsFor(Class)}.
+ * <p>
+ * Unlike the methods in {@link ArrayUtils}, which determine the array's component type on each call, code that
+ * processes many arrays of the same type can get the operations once and use them for all arrays. Every method
+ * expects the array argument to be of the type that the instance is for; a {@link ClassCastException} is thrown
+ * otherwise. Arguments representing an element of the array (such as {@code key} or {@code val}) must match the
+ * component type and may not be null, or a {@link ClassCastException} or {@link NullPointerException} is thrown.
+ * <p>
+ * See the methods of the same name in {@link ArrayUtils} for details on each operation. This class cannot be
+ * extended outside of this library.
+ */
+public abstract class ArrayOps {
+
+    /**
+     * Constructor. Only the implementations in this package extend this class, so methods can be added to it
+     * without breaking other code.
+     */
+    ArrayOps() {
+    }
+
+    /**
+     * @return the component type of the arrays these operations are for
+     */
+    public abstract ArrayComponentType getComponentType();
+
+    /**
+     * Returns the length of the array.
+     *
+     * @param array the array
+     * @return the array's length
+     */
+    public abstract int getLength(Object array);
+
+    /**
+     * Returns the element at the given index, boxed if the component type is primitive.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @return the element at the given index
+     */
+    public abstract @Nullable Object get(Object array, int index);
+
+    /**
+     * Sets the element at the given index.
+     *
+     * @param array the array
+     * @param index the index of the element
+     * @param value the value to set (must match the component type; may only be null for reference types)
+     */
+    public abstract void set(Object array, int index, @Nullable Object value);
+
+    /**
+     * Performs a binary search in the given range. See {@link ArrayUtils#binarySearch(Object, int, int, Object)}.
+     *
+     * @param array the array to search in
+     * @param fromIndex start index of the range to search in (inclusive)
+     * @param toIndex end index of the range to search in (exclusive)
+     * @param key the key to search for
+     * @return index of the key, or a negative insertion point
+     */
+    public abstract int binarySearch(Object array, int fromIndex, int toIndex, Object key);
+
+    /**
+     * Compares the two ranges lexicographically. See {@link ArrayUtils#compare(Object, int, int, Object, int, int)}.
+     *
+     * @param a the first array
+     * @param aFromIndex start index of the range in the first array (inclusive)
+     * @param aToIndex end index of the range in the first array (exclusive)
+     * @param b the second array
+     * @param bFromIndex start index of the range in the second array (inclusive)
+     * @param bToIndex end index of the range in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    public abstract int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex);
+
+    /**
+     * Creates a copy of the array with the given length. See {@link ArrayUtils#copyOf}.
+     *
+     * @param original the array to copy
+     * @param newLength the length of the copy
+     * @return the copy
+     */
+    public abstract Object copyOf(Object original, int newLength);
+
+    /**
+     * Creates a copy of the given range of the array. See {@link ArrayUtils#copyOfRange}.
+     *
+     * @param original the array to copy
+     * @param from start index of the range to copy (inclusive)
+     * @param to end index of the range to copy (exclusive)
+     * @return the copy of the range
+     */
+    public abstract Object copyOfRange(Object original, int from, int to);
+
+    /**
+     * Returns whether the two arrays have the same elements. See {@link ArrayUtils#equals}.
+     *
+     * @param a the first array
+     * @param a2 the second array
+     * @return true if the arrays are equal, false otherwise
+     */
+    public abstract boolean equals(Object a, Object a2);
+
+    /**
+     * Fills the given range of the array with the value. See {@link ArrayUtils#fill(Object, int, int, Object)}.
+     *
+     * @param a the array to fill
+     * @param fromIndex start index of the range to fill (inclusive)
+     * @param toIndex end index of the range to fill (exclusive)
+     * @param val the value to fill the array with
+     */
+    public abstract void fill(Object a, int fromIndex, int toIndex, Object val);
+
+    /**
+     * Returns the hash code of the array based on its elements. See {@link ArrayUtils#hashCode}.
+     *
+     * @param a the array
+     * @return hash code of the array
+     */
+    public abstract int hashCode(Object a);
+
+    /**
+     * Returns the relative index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link ArrayUtils#mismatch(Object, int, int, Object, int, int)}.
+     *
+     * @param a the first array
+     * @param aFromIndex start index of the range in the first array (inclusive)
+     * @param aToIndex end index of the range in the first array (exclusive)
+     * @param b the second array
+     * @param bFromIndex start index of the range in the second array (inclusive)
+     * @param bToIndex end index of the range in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    public abstract int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex);
+
+    /**
+     * Sorts the given range of the array in parallel. See {@link ArrayUtils#parallelSort(Object, int, int)}.
+     *
+     * @param a the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     */
+    public abstract void parallelSort(Object a, int fromIndex, int toIndex);
+
+    /**
+     * Sorts the given range of the array. See {@link ArrayUtils#sort(Object, int, int)}.
+     *
+     * @param a the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     */
+    public abstract void sort(Object a, int fromIndex, int toIndex);
+
+    /**
+     * Returns a spliterator over the array's elements, boxed if the component type is primitive. The spliterator
+     * is {@link Spliterator#SIZED sized} and splits into sized halves.
+     *
+     * @param array the array to create a spliterator for
+     * @return spliterator over the array's elements
+     */
+    public abstract Spliterator<Object> spliterator(Object array);
+
+    /**
+     * Returns a stream of the array's elements, boxed if the component type is primitive. The stream is based on
+     * {@link #spliterator}.
+     *
+     * @param array the array to stream over
+     * @return stream of the array's elements
+     */
+    public abstract Stream<Object> stream(Object array);
+
+    /**
+     * Returns a string representation of the array. See {@link ArrayUtils#toString(Object)}.
+     *
+     * @param a the array
+     * @return string representation of the array
+     */
+    public abstract String toString(Object a);
+
+}
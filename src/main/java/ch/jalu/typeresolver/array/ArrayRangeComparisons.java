@@ -0,0 +1,622 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Range-based mismatch and lexicographic comparison for each array type. On Java 9 and newer, the mismatch of
+ * primitive arrays is determined with the {@code Arrays#mismatch} methods, which the JVM implements with vectorized
+ * intrinsics; they are resolved with method handles, since this library targets Java 8. On Java 8, a simple loop is
+ * used instead. The comparison of two ranges is based on their mismatch.
+ * <p>
+ * The semantics correspond to the methods in {@code Arrays} on Java 9+: floating-point values are compared by their
+ * bits like in {@link Arrays#equals(double[], double[])}, such that NaN is equal to NaN and 0.0 is not
+ * equal to -0.0. The ranges are not validated by this class.
+ */
+// Justification: MethodHandle#invokeExact declares Throwable
+@SuppressWarnings("checkstyle:IllegalCatch")
+final class ArrayRangeComparisons {
+
+    private static final @Nullable MethodHandle BOOLEAN_MISMATCH = findArraysMismatch(boolean[].class);
+    private static final @Nullable MethodHandle BYTE_MISMATCH = findArraysMismatch(byte[].class);
+    private static final @Nullable MethodHandle CHAR_MISMATCH = findArraysMismatch(char[].class);
+    private static final @Nullable MethodHandle SHORT_MISMATCH = findArraysMismatch(short[].class);
+    private static final @Nullable MethodHandle INT_MISMATCH = findArraysMismatch(int[].class);
+    private static final @Nullable MethodHandle LONG_MISMATCH = findArraysMismatch(long[].class);
+    private static final @Nullable MethodHandle FLOAT_MISMATCH = findArraysMismatch(float[].class);
+    private static final @Nullable MethodHandle DOUBLE_MISMATCH = findArraysMismatch(double[].class);
+
+    private ArrayRangeComparisons() {
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, relative to the start of the ranges, or -1 if
+     * the ranges have the same length and their elements are equal. If one range is a prefix of the other, the
+     * length of the shorter range is returned. Elements are compared with {@link Objects#equals}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(@Nullable Object[] a, int aFrom, int aTo, @Nullable Object[] b, int bFrom, int bTo) {
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        for (int i = 0; i < length; ++i) {
+            if (!Objects.equals(a[aFrom + i], b[bFrom + i])) {
+                return i;
+            }
+        }
+        return aTo - aFrom == bTo - bFrom ? -1 : length;
+    }
+
+    /**
+     * Compares the two ranges lexicographically: the result of the first element comparison that is not zero is
+     * returned, or the difference of the lengths if all elements of the shorter range compare as equal. Elements
+     * must be {@link Comparable} to each other; null is considered to be less than any other element.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int compare(@Nullable Object[] a, int aFrom, int aTo, @Nullable Object[] b, int bFrom, int bTo) {
+        // Not based on mismatch, since equals and compareTo may disagree (e.g. BigDecimal)
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        for (int i = 0; i < length; ++i) {
+            Object elemA = a[aFrom + i];
+            Object elemB = b[bFrom + i];
+            if (elemA != elemB) {
+                if (elemA == null || elemB == null) {
+                    return elemA == null ? -1 : 1;
+                }
+                int result = ((Comparable) elemA).compareTo(elemB);
+                if (result != 0) {
+                    return result;
+                }
+            }
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(boolean[] a, int aFrom, int aTo, boolean[] b, int bFrom, int bTo) {
+        if (BOOLEAN_MISMATCH != null) {
+            try {
+                return (int) BOOLEAN_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(boolean[] a, int aFrom, int aTo, boolean[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Boolean.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(boolean[] a, int aFrom, boolean[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(byte[] a, int aFrom, int aTo, byte[] b, int bFrom, int bTo) {
+        if (BYTE_MISMATCH != null) {
+            try {
+                return (int) BYTE_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(byte[] a, int aFrom, int aTo, byte[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Byte.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(byte[] a, int aFrom, byte[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(char[] a, int aFrom, int aTo, char[] b, int bFrom, int bTo) {
+        if (CHAR_MISMATCH != null) {
+            try {
+                return (int) CHAR_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(char[] a, int aFrom, int aTo, char[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Character.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(char[] a, int aFrom, char[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(short[] a, int aFrom, int aTo, short[] b, int bFrom, int bTo) {
+        if (SHORT_MISMATCH != null) {
+            try {
+                return (int) SHORT_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(short[] a, int aFrom, int aTo, short[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Short.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(short[] a, int aFrom, short[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo) {
+        if (INT_MISMATCH != null) {
+            try {
+                return (int) INT_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(int[] a, int aFrom, int aTo, int[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Integer.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(int[] a, int aFrom, int[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(long[] a, int aFrom, int aTo, long[] b, int bFrom, int bTo) {
+        if (LONG_MISMATCH != null) {
+            try {
+                return (int) LONG_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(long[] a, int aFrom, int aTo, long[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Long.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(long[] a, int aFrom, long[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (a[aFrom + i] != b[bFrom + i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(float[] a, int aFrom, int aTo, float[] b, int bFrom, int bTo) {
+        if (FLOAT_MISMATCH != null) {
+            try {
+                return (int) FLOAT_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(float[] a, int aFrom, int aTo, float[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Float.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(float[] a, int aFrom, float[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (Float.floatToIntBits(a[aFrom + i]) != Float.floatToIntBits(b[bFrom + i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first mismatch between the two ranges, or -1 if they are equal. See
+     * {@link #mismatch(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatch(double[] a, int aFrom, int aTo, double[] b, int bFrom, int bTo) {
+        if (DOUBLE_MISMATCH != null) {
+            try {
+                return (int) DOUBLE_MISMATCH.invokeExact(a, aFrom, aTo, b, bFrom, bTo);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        int index = mismatchWithLoop(a, aFrom, b, bFrom, length);
+        return index < 0 && aTo - aFrom != bTo - bFrom ? length : index;
+    }
+
+    /**
+     * Compares the two ranges lexicographically. See {@link #compare(Object[], int, int, Object[], int, int)}.
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param aTo end index in the first array (exclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param bTo end index in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    static int compare(double[] a, int aFrom, int aTo, double[] b, int bFrom, int bTo) {
+        int index = mismatch(a, aFrom, aTo, b, bFrom, bTo);
+        if (index >= 0 && index < Math.min(aTo - aFrom, bTo - bFrom)) {
+            return Double.compare(a[aFrom + index], b[bFrom + index]);
+        }
+        return (aTo - aFrom) - (bTo - bFrom);
+    }
+
+    /**
+     * Returns the index of the first mismatch in the given number of elements, or -1 if there is no mismatch.
+     * Used if {@code Arrays#mismatch} is not available (Java 8).
+     *
+     * @param a the first array
+     * @param aFrom start index in the first array (inclusive)
+     * @param b the second array
+     * @param bFrom start index in the second array (inclusive)
+     * @param length number of elements to compare
+     * @return relative index of the first mismatch, or -1
+     */
+    static int mismatchWithLoop(double[] a, int aFrom, double[] b, int bFrom, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (Double.doubleToLongBits(a[aFrom + i]) != Double.doubleToLongBits(b[bFrom + i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static @Nullable MethodHandle findArraysMismatch(Class<?> arrayType) {
+        try {
+            return MethodHandles.publicLookup().findStatic(Arrays.class, "mismatch", MethodType.methodType(
+                int.class, arrayType, int.class, int.class, arrayType, int.class, int.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException("Failed to call Arrays#mismatch", t);
+    }
+}
@@ -0,0 +1,692 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterators over arrays, including primitive spliterators that widen the elements of arrays with a smaller
+ * component type (e.g. a {@link Spliterator.OfInt} over a {@code byte[]}). All spliterators report the same
+ * characteristics as {@link Arrays#spliterator(int[])}: they are {@link Spliterator#SIZED sized} and split into
+ * halves that are sized as well, so that parallel streams over them are balanced.
+ */
+final class ArraySpliterators {
+
+    /** Characteristics of the spliterators; {@link Spliterator#NONNULL} is added for primitive elements. */
+    static final int CHARACTERISTICS =
+        Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+
+    private ArraySpliterators() {
+    }
+
+    /**
+     * Returns a spliterator that provides the elements of the given array as int, or null if the array's elements
+     * cannot be widened to int. Supported are arrays of type byte, short, char and int.
+     *
+     * @param array the array
+     * @return int spliterator over the array, or null if not applicable
+     */
+    static Spliterator.@Nullable OfInt ofInt(Object array) {
+        if (array instanceof int[]) {
+            return Arrays.spliterator((int[]) array);
+        } else if (array instanceof byte[]) {
+            return new ByteToIntSpliterator((byte[]) array, 0, ((byte[]) array).length);
+        } else if (array instanceof short[]) {
+            return new ShortToIntSpliterator((short[]) array, 0, ((short[]) array).length);
+        } else if (array instanceof char[]) {
+            return new CharToIntSpliterator((char[]) array, 0, ((char[]) array).length);
+        }
+        return null;
+    }
+
+    /**
+     * Returns a spliterator that provides the elements of the given array as long, or null if the array's elements
+     * cannot be widened to long. Supported are arrays of type byte, short, char, int and long.
+     *
+     * @param array the array
+     * @return long spliterator over the array, or null if not applicable
+     */
+    static Spliterator.@Nullable OfLong ofLong(Object array) {
+        if (array instanceof long[]) {
+            return Arrays.spliterator((long[]) array);
+        } else if (array instanceof int[]) {
+            return new IntToLongSpliterator((int[]) array, 0, ((int[]) array).length);
+        } else if (array instanceof byte[]) {
+            return new ByteToLongSpliterator((byte[]) array, 0, ((byte[]) array).length);
+        } else if (array instanceof short[]) {
+            return new ShortToLongSpliterator((short[]) array, 0, ((short[]) array).length);
+        } else if (array instanceof char[]) {
+            return new CharToLongSpliterator((char[]) array, 0, ((char[]) array).length);
+        }
+        return null;
+    }
+
+    /**
+     * Returns a spliterator that provides the elements of the given array as double, or null if the array's elements
+     * cannot be converted to double. Supported are arrays of all primitive number types and of char. Note that
+     * {@code long} values with a large magnitude may lose precision, like with any long-to-double conversion.
+     *
+     * @param array the array
+     * @return double spliterator over the array, or null if not applicable
+     */
+    static Spliterator.@Nullable OfDouble ofDouble(Object array) {
+        if (array instanceof double[]) {
+            return Arrays.spliterator((double[]) array);
+        } else if (array instanceof float[]) {
+            return new FloatToDoubleSpliterator((float[]) array, 0, ((float[]) array).length);
+        } else if (array instanceof int[]) {
+            return new IntToDoubleSpliterator((int[]) array, 0, ((int[]) array).length);
+        } else if (array instanceof long[]) {
+            return new LongToDoubleSpliterator((long[]) array, 0, ((long[]) array).length);
+        } else if (array instanceof byte[]) {
+            return new ByteToDoubleSpliterator((byte[]) array, 0, ((byte[]) array).length);
+        } else if (array instanceof short[]) {
+            return new ShortToDoubleSpliterator((short[]) array, 0, ((short[]) array).length);
+        } else if (array instanceof char[]) {
+            return new CharToDoubleSpliterator((char[]) array, 0, ((char[]) array).length);
+        }
+        return null;
+    }
+
+    /**
+     * Returns a spliterator that provides the elements of the given primitive array as boxed values, based on the
+     * given array operations. Each element is boxed when it is consumed.
+     *
+     * @param ops the array operations of the array
+     * @param array the array
+     * @return spliterator over the boxed elements of the array
+     */
+    static Spliterator<Object> boxed(ArrayOps ops, Object array) {
+        return new BoxedArraySpliterator(index -> ops.get(array, index), 0, ops.getLength(array));
+    }
+
+    /**
+     * Returns a spliterator over the indices 0 to {@code length - 1} that provides the element of each index with
+     * the given function. Used for array-like structures that are not arrays, such as {@link ArrayView}.
+     *
+     * @param getter function returning the element of an index
+     * @param length the number of elements
+     * @return spliterator over the elements
+     */
+    static Spliterator<Object> boxed(IntFunction<Object> getter, int length) {
+        return new BoxedArraySpliterator(getter, 0, length);
+    }
+
+    /**
+     * Returns an int spliterator over the indices 0 to {@code length - 1} that provides the element of each index
+     * with the given function.
+     *
+     * @param getter function returning the element of an index
+     * @param length the number of elements
+     * @return spliterator over the elements
+     */
+    static Spliterator.OfInt ofInt(IntUnaryOperator getter, int length) {
+        return new IndexedIntSpliterator(getter, 0, length);
+    }
+
+    /**
+     * Returns a long spliterator over the indices 0 to {@code length - 1} that provides the element of each index
+     * with the given function.
+     *
+     * @param getter function returning the element of an index
+     * @param length the number of elements
+     * @return spliterator over the elements
+     */
+    static Spliterator.OfLong ofLong(IntToLongFunction getter, int length) {
+        return new IndexedLongSpliterator(getter, 0, length);
+    }
+
+    /**
+     * Returns a double spliterator over the indices 0 to {@code length - 1} that provides the element of each index
+     * with the given function.
+     *
+     * @param getter function returning the element of an index
+     * @param length the number of elements
+     * @return spliterator over the elements
+     */
+    static Spliterator.OfDouble ofDouble(IntToDoubleFunction getter, int length) {
+        return new IndexedDoubleSpliterator(getter, 0, length);
+    }
+
+    /**
+     * Returns the given spliterator as a spliterator of objects. Primitive spliterators such as
+     * {@link Spliterator.OfInt} box their elements when they are consumed as objects.
+     *
+     * @param spliterator the spliterator to return as spliterator of objects
+     * @return the spliterator
+     */
+    @SuppressWarnings("unchecked")
+    static Spliterator<Object> toObjectSpliterator(Spliterator<?> spliterator) {
+        // Safe, as a spliterator only passes its elements to consumers
+        return (Spliterator<Object>) spliterator;
+    }
+
+    /**
+     * Base spliterator over a range of indices. Splits the range in half.
+     *
+     * @param <S> the type of the spliterator
+     */
+    abstract static class AbstractArraySpliterator<S> {
+
+        int index;
+        final int fence;
+
+        AbstractArraySpliterator(int index, int fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        /**
+         * Creates a spliterator of the same type over the given range of the array.
+         *
+         * @param from start index (inclusive)
+         * @param to end index (exclusive)
+         * @return new spliterator
+         */
+        abstract S createSplit(int from, int to);
+
+        /**
+         * Splits off the first half of the remaining range, as {@link Spliterator#trySplit()}.
+         *
+         * @return spliterator over the first half, or null if the range is too small to split
+         */
+        public @Nullable S trySplit() {
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            }
+            index = mid;
+            return createSplit(lo, mid);
+        }
+
+        /**
+         * @return the exact number of remaining elements
+         */
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        /**
+         * @return the characteristics of this spliterator
+         */
+        public int characteristics() {
+            return CHARACTERISTICS | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * Base spliterator over a range of an array whose elements are provided as {@code int}.
+     */
+    abstract static class IntArraySpliterator extends AbstractArraySpliterator<IntArraySpliterator>
+        implements Spliterator.OfInt {
+
+        IntArraySpliterator(int index, int fence) {
+            super(index, fence);
+        }
+
+        /**
+         * Returns the element at the given index, widened to int.
+         *
+         * @param index the index
+         * @return the element
+         */
+        abstract int get(int index);
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (index < fence) {
+                action.accept(get(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            int end = fence;
+            for (int i = index; i < end; ++i) {
+                action.accept(get(i));
+            }
+            index = end;
+        }
+    }
+
+    private static final class ByteToIntSpliterator extends IntArraySpliterator {
+
+        private final byte[] array;
+
+        ByteToIntSpliterator(byte[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        int get(int index) {
+            return array[index];
+        }
+
+        @Override
+        IntArraySpliterator createSplit(int from, int to) {
+            return new ByteToIntSpliterator(array, from, to);
+        }
+    }
+
+    private static final class ShortToIntSpliterator extends IntArraySpliterator {
+
+        private final short[] array;
+
+        ShortToIntSpliterator(short[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        int get(int index) {
+            return array[index];
+        }
+
+        @Override
+        IntArraySpliterator createSplit(int from, int to) {
+            return new ShortToIntSpliterator(array, from, to);
+        }
+    }
+
+    private static final class CharToIntSpliterator extends IntArraySpliterator {
+
+        private final char[] array;
+
+        CharToIntSpliterator(char[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        int get(int index) {
+            return array[index];
+        }
+
+        @Override
+        IntArraySpliterator createSplit(int from, int to) {
+            return new CharToIntSpliterator(array, from, to);
+        }
+    }
+
+    /**
+     * Base spliterator over a range of an array whose elements are provided as {@code long}.
+     */
+    abstract static class LongArraySpliterator extends AbstractArraySpliterator<LongArraySpliterator>
+        implements Spliterator.OfLong {
+
+        LongArraySpliterator(int index, int fence) {
+            super(index, fence);
+        }
+
+        /**
+         * Returns the element at the given index, widened to long.
+         *
+         * @param index the index
+         * @return the element
+         */
+        abstract long get(int index);
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index < fence) {
+                action.accept(get(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            int end = fence;
+            for (int i = index; i < end; ++i) {
+                action.accept(get(i));
+            }
+            index = end;
+        }
+    }
+
+    private static final class ByteToLongSpliterator extends LongArraySpliterator {
+
+        private final byte[] array;
+
+        ByteToLongSpliterator(byte[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        long get(int index) {
+            return array[index];
+        }
+
+        @Override
+        LongArraySpliterator createSplit(int from, int to) {
+            return new ByteToLongSpliterator(array, from, to);
+        }
+    }
+
+    private static final class ShortToLongSpliterator extends LongArraySpliterator {
+
+        private final short[] array;
+
+        ShortToLongSpliterator(short[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        long get(int index) {
+            return array[index];
+        }
+
+        @Override
+        LongArraySpliterator createSplit(int from, int to) {
+            return new ShortToLongSpliterator(array, from, to);
+        }
+    }
+
+    private static final class CharToLongSpliterator extends LongArraySpliterator {
+
+        private final char[] array;
+
+        CharToLongSpliterator(char[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        long get(int index) {
+            return array[index];
+        }
+
+        @Override
+        LongArraySpliterator createSplit(int from, int to) {
+            return new CharToLongSpliterator(array, from, to);
+        }
+    }
+
+    private static final class IntToLongSpliterator extends LongArraySpliterator {
+
+        private final int[] array;
+
+        IntToLongSpliterator(int[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        long get(int index) {
+            return array[index];
+        }
+
+        @Override
+        LongArraySpliterator createSplit(int from, int to) {
+            return new IntToLongSpliterator(array, from, to);
+        }
+    }
+
+    /**
+     * Base spliterator over a range of an array whose elements are provided as {@code double}.
+     */
+    abstract static class DoubleArraySpliterator extends AbstractArraySpliterator<DoubleArraySpliterator>
+        implements Spliterator.OfDouble {
+
+        DoubleArraySpliterator(int index, int fence) {
+            super(index, fence);
+        }
+
+        /**
+         * Returns the element at the given index, widened to double.
+         *
+         * @param index the index
+         * @return the element
+         */
+        abstract double get(int index);
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index < fence) {
+                action.accept(get(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            int end = fence;
+            for (int i = index; i < end; ++i) {
+                action.accept(get(i));
+            }
+            index = end;
+        }
+    }
+
+    private static final class ByteToDoubleSpliterator extends DoubleArraySpliterator {
+
+        private final byte[] array;
+
+        ByteToDoubleSpliterator(byte[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        DoubleArraySpliterator createSplit(int from, int to) {
+            return new ByteToDoubleSpliterator(array, from, to);
+        }
+    }
+
+    private static final class ShortToDoubleSpliterator extends DoubleArraySpliterator {
+
+        private final short[] array;
+
+        ShortToDoubleSpliterator(short[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        DoubleArraySpliterator createSplit(int from, int to) {
+            return new ShortToDoubleSpliterator(array, from, to);
+        }
+    }
+
+    private static final class CharToDoubleSpliterator extends DoubleArraySpliterator {
+
+        private final char[] array;
+
+        CharToDoubleSpliterator(char[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        DoubleArraySpliterator createSplit(int from, int to) {
+            return new CharToDoubleSpliterator(array, from, to);
+        }
+    }
+
+    private static final class IntToDoubleSpliterator extends DoubleArraySpliterator {
+
+        private final int[] array;
+
+        IntToDoubleSpliterator(int[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        DoubleArraySpliterator createSplit(int from, int to) {
+            return new IntToDoubleSpliterator(array, from, to);
+        }
+    }
+
+    private static final class LongToDoubleSpliterator extends DoubleArraySpliterator {
+
+        private final long[] array;
+
+        LongToDoubleSpliterator(long[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        DoubleArraySpliterator createSplit(int from, int to) {
+            return new LongToDoubleSpliterator(array, from, to);
+        }
+    }
+
+    private static final class FloatToDoubleSpliterator extends DoubleArraySpliterator {
+
+        private final float[] array;
+
+        FloatToDoubleSpliterator(float[] array, int index, int fence) {
+            super(index, fence);
+            this.array = array;
+        }
+
+        @Override
+        double get(int index) {
+            return array[index];
+        }
+
+        @Override
+        DoubleArraySpliterator createSplit(int from, int to) {
+            return new FloatToDoubleSpliterator(array, from, to);
+        }
+    }
+
+
+    private static final class BoxedArraySpliterator extends AbstractArraySpliterator<Spliterator<Object>>
+        implements Spliterator<Object> {
+
+        private final IntFunction<Object> getter;
+
+        BoxedArraySpliterator(IntFunction<Object> getter, int index, int fence) {
+            super(index, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            if (index < fence) {
+                action.accept(getter.apply(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Object> action) {
+            int end = fence;
+            for (int i = index; i < end; ++i) {
+                action.accept(getter.apply(i));
+            }
+            index = end;
+        }
+
+        @Override
+        Spliterator<Object> createSplit(int from, int to) {
+            return new BoxedArraySpliterator(getter, from, to);
+        }
+    }
+
+    private static final class IndexedIntSpliterator extends IntArraySpliterator {
+
+        private final IntUnaryOperator getter;
+
+        IndexedIntSpliterator(IntUnaryOperator getter, int index, int fence) {
+            super(index, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        int get(int index) {
+            return getter.applyAsInt(index);
+        }
+
+        @Override
+        IntArraySpliterator createSplit(int from, int to) {
+            return new IndexedIntSpliterator(getter, from, to);
+        }
+    }
+
+    private static final class IndexedLongSpliterator extends LongArraySpliterator {
+
+        private final IntToLongFunction getter;
+
+        IndexedLongSpliterator(IntToLongFunction getter, int index, int fence) {
+            super(index, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        long get(int index) {
+            return getter.applyAsLong(index);
+        }
+
+        @Override
+        LongArraySpliterator createSplit(int from, int to) {
+            return new IndexedLongSpliterator(getter, from, to);
+        }
+    }
+
+    private static final class IndexedDoubleSpliterator extends DoubleArraySpliterator {
+
+        private final IntToDoubleFunction getter;
+
+        IndexedDoubleSpliterator(IntToDoubleFunction getter, int index, int fence) {
+            super(index, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        double get(int index) {
+            return getter.applyAsDouble(index);
+        }
+
+        @Override
+        DoubleArraySpliterator createSplit(int from, int to) {
+            return new IndexedDoubleSpliterator(getter, from, to);
+        }
+    }
+}
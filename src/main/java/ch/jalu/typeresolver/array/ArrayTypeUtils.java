@@ -8,9 +8,34 @@ import java.lang.reflect.Type;
 
 /**
  * Utilities for array types.
+ * <p>
+ * Array classes and the {@link ArrayClassProperties} of classes are cached with {@link ClassValue}s, so that
+ * repeated calls (e.g. for every array supertype that is visited) neither create an array instance nor walk the
+ * component types again. The cached values do not prevent classes from being unloaded.
  */
 public final class ArrayTypeUtils {
 
+    /** Array class (one dimension) by component type. */
+    private static final ClassValue<Class<?>> ARRAY_CLASS_BY_COMPONENT = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            return Array.newInstance(type, 0).getClass();
+        }
+    };
+
+    private static final ClassValue<ArrayClassProperties> PROPERTIES_BY_CLASS =
+        new ClassValue<ArrayClassProperties>() {
+            @Override
+            protected ArrayClassProperties computeValue(Class<?> type) {
+                if (type.isArray()) {
+                    ArrayClassProperties componentProperties = PROPERTIES_BY_CLASS.get(type.getComponentType());
+                    return new ArrayClassProperties(componentProperties.getComponentType(),
+                        componentProperties.getDimension() + 1);
+                }
+                return new ArrayClassProperties(type, 0);
+            }
+        };
+
     private ArrayTypeUtils() {
     }
 
@@ -18,14 +43,18 @@ public final class ArrayTypeUtils {
      * Returns an array class of the given component type, e.g. if the componentType is {@code String.class},
      * then {@code String[].class} is returned.
      * <p>
-     * As of Java 12, you can use {@code componentType.arrayType()}.
+     * As of Java 12, you can use {@code componentType.arrayType()}. This method caches the array class per
+     * component type, so no array instance is created after the first call for a component type.
      *
      * @param componentType the component type of the array
      * @return array class of the given component
      * @throws IllegalArgumentException if the component type is {@code void.class}
      */
     public static Class<?> createArrayClass(Class<?> componentType) {
-        return Array.newInstance(componentType, 0).getClass();
+        if (componentType == void.class) {
+            throw new IllegalArgumentException("The component type may not be void");
+        }
+        return ARRAY_CLASS_BY_COMPONENT.get(componentType);
     }
 
     /**
@@ -44,8 +73,11 @@ public final class ArrayTypeUtils {
             return componentType;
         }
 
-        int[] dimensions = new int[dimension];
-        return Array.newInstance(componentType, dimensions).getClass();
+        Class<?> arrayClass = createArrayClass(componentType);
+        for (int i = 1; i < dimension; ++i) {
+            arrayClass = ARRAY_CLASS_BY_COMPONENT.get(arrayClass);
+        }
+        return arrayClass;
     }
 
     /**
@@ -95,10 +127,21 @@ public final class ArrayTypeUtils {
      */
     public static ArrayTypeProperties getArrayProperty(Type type) {
         if (type instanceof Class<?>) {
-            return new ArrayClassProperties((Class<?>) type);
+            return getArrayProperty((Class<?>) type);
         } else if (type instanceof GenericArrayType) {
             return new GenericArrayTypeProperties((GenericArrayType) type);
         }
         return new GenericArrayTypeProperties(type, 0);
     }
+
+    /**
+     * Returns a description of the given class, with dimension 0 if it is not an array. The result is cached
+     * per class.
+     *
+     * @param clazz the class to inspect
+     * @return array description of the given class, never null
+     */
+    public static ArrayClassProperties getArrayProperty(Class<?> clazz) {
+        return PROPERTIES_BY_CLASS.get(clazz);
+    }
 }
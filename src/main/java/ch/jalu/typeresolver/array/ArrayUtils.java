@@ -1,14 +1,21 @@
 package ch.jalu.typeresolver.array;
 
 import ch.jalu.typeresolver.classutil.ClassUtils;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
 import java.util.Arrays;
-import java.util.Locale;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
-
-import static ch.jalu.typeresolver.array.ArrayComponentType.getArrayComponentType;
+import java.util.stream.StreamSupport;
 
 /**
  * This class contains methods that can handle arrays of any type ({@code boolean[]}, {@code byte[]}, {@code Object[]},
@@ -17,14 +24,48 @@ import static ch.jalu.typeresolver.array.ArrayComponentType.getArrayComponentTyp
  * <p>
  * Methods throw a runtime exception if the given object is not an array. To check if an object is an array, use
  * {@code object.getClass().isArray()}. See individual methods for specific caveats.
+ * <p>
+ * To process many arrays of the same type, the operations for the array class can be obtained once with
+ * {@link #opsFor(Class)}.
  */
-// Justification: line-by-line aligned casts in switch statements
-@SuppressWarnings({"checkstyle:OneStatementPerLine", "checkstyle:SingleSpaceSeparator"})
 public final class ArrayUtils {
 
     private ArrayUtils() {
     }
 
+    /**
+     * Returns the operations for arrays of the given class. The operations are determined once per array class, so
+     * that code processing many arrays of the same type can avoid determining the array type on each call.
+     * Throws an exception if the class is not an array class.
+     * <p>
+     * Example:<pre>{@code
+     *   ArrayOps ops = ArrayUtils.opsFor(int[].class);
+     *   for (Object array : arrays) {
+     *     ops.sort(array, 0, ops.getLength(array));
+     *   }
+     * }</pre>
+     *
+     * @param arrayClass the array class (e.g. {@code int[].class} or {@code String[].class})
+     * @return the operations for the array class
+     */
+    public static ArrayOps opsFor(Class<?> arrayClass) {
+        ArrayOps ops = StandardArrayOps.forArrayClass(arrayClass);
+        if (ops == null) {
+            throw new IllegalArgumentException("Expected an array class but got: " + arrayClass.getName());
+        }
+        return ops;
+    }
+
+    /**
+     * Returns the operations for arrays of the given component type.
+     *
+     * @param componentType the component type
+     * @return the operations for arrays of the component type
+     */
+    public static ArrayOps opsFor(ArrayComponentType componentType) {
+        return StandardArrayOps.forComponentType(componentType);
+    }
+
     /**
      * Delegates to the appropriate method for binary search and returns the result. Depending on the array type,
      * this method calls {@link Arrays#binarySearch(byte[], int, int, byte)},
@@ -59,19 +100,7 @@ public final class ArrayUtils {
      * @return index of the key, or a negative insertion point (refer to {@link Arrays#binarySearch(byte[], byte)})
      */
     public static int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
-        ArrayComponentType comp = getArrayComponentType(array);
-        verifyArgumentMatchesComponentType(key, comp, "key");
-        switch (comp) {
-            case BOOLEAN: return simpleBooleanArrayBinarySearch((boolean[]) array, fromIndex, toIndex, (boolean) key);
-            case BYTE:      return Arrays.binarySearch((byte[]) array,   fromIndex, toIndex, (byte) key);
-            case CHARACTER: return Arrays.binarySearch((char[]) array,   fromIndex, toIndex, (char) key);
-            case SHORT:     return Arrays.binarySearch((short[]) array,  fromIndex, toIndex, (short) key);
-            case INTEGER:   return Arrays.binarySearch((int[]) array,    fromIndex, toIndex, (int) key);
-            case LONG:      return Arrays.binarySearch((long[]) array,   fromIndex, toIndex, (long) key);
-            case FLOAT:     return Arrays.binarySearch((float[]) array,  fromIndex, toIndex, (float) key);
-            case DOUBLE:    return Arrays.binarySearch((double[]) array, fromIndex, toIndex, (double) key);
-            default:        return Arrays.binarySearch((Object[]) array, fromIndex, toIndex, key);
-        }
+        return getOps(array).binarySearch(array, fromIndex, toIndex, key);
     }
 
     /**
@@ -83,18 +112,7 @@ public final class ArrayUtils {
      * @return copied array of the same type as the original
      */
     public static Object copyOf(Object original, int newLength) {
-        ArrayComponentType comp = getArrayComponentType(original);
-        switch (comp) {
-            case BOOLEAN:   return Arrays.copyOf((boolean[]) original, newLength);
-            case BYTE:      return Arrays.copyOf((byte[]) original,    newLength);
-            case CHARACTER: return Arrays.copyOf((char[]) original,    newLength);
-            case SHORT:     return Arrays.copyOf((short[]) original,   newLength);
-            case INTEGER:   return Arrays.copyOf((int[]) original,     newLength);
-            case LONG:      return Arrays.copyOf((long[]) original,    newLength);
-            case FLOAT:     return Arrays.copyOf((float[]) original,   newLength);
-            case DOUBLE:    return Arrays.copyOf((double[]) original,  newLength);
-            default:        return Arrays.copyOf((Object[]) original,  newLength);
-        }
+        return getOps(original).copyOf(original, newLength);
     }
 
     /**
@@ -108,18 +126,7 @@ public final class ArrayUtils {
      * @return copy of the specified range, of the same type as the original
      */
     public static Object copyOfRange(Object original, int from, int to) {
-        ArrayComponentType comp = getArrayComponentType(original);
-        switch (comp) {
-            case BOOLEAN:   return Arrays.copyOfRange((boolean[]) original, from, to);
-            case BYTE:      return Arrays.copyOfRange((byte[]) original,    from, to);
-            case CHARACTER: return Arrays.copyOfRange((char[]) original,    from, to);
-            case SHORT:     return Arrays.copyOfRange((short[]) original,   from, to);
-            case INTEGER:   return Arrays.copyOfRange((int[]) original,     from, to);
-            case LONG:      return Arrays.copyOfRange((long[]) original,    from, to);
-            case FLOAT:     return Arrays.copyOfRange((float[]) original,   from, to);
-            case DOUBLE:    return Arrays.copyOfRange((double[]) original,  from, to);
-            default:        return Arrays.copyOfRange((Object[]) original,  from, to);
-        }
+        return getOps(original).copyOfRange(original, from, to);
     }
 
     /**
@@ -132,18 +139,193 @@ public final class ArrayUtils {
      * @return whether the two arrays are equal
      */
     public static boolean equals(Object a, Object a2) {
-        ArrayComponentType comp = getArrayComponentType(a);
-        switch (comp) {
-            case BOOLEAN:   return Arrays.equals((boolean[]) a, (boolean[]) a2);
-            case BYTE:      return Arrays.equals((byte[]) a,    (byte[]) a2);
-            case CHARACTER: return Arrays.equals((char[]) a,    (char[]) a2);
-            case SHORT:     return Arrays.equals((short[]) a,   (short[]) a2);
-            case INTEGER:   return Arrays.equals((int[]) a,     (int[]) a2);
-            case LONG:      return Arrays.equals((long[]) a,    (long[]) a2);
-            case FLOAT:     return Arrays.equals((float[]) a,   (float[]) a2);
-            case DOUBLE:    return Arrays.equals((double[]) a,  (double[]) a2);
-            default:        return Arrays.equals((Object[]) a,  (Object[]) a2);
+        return getOps(a).equals(a, a2);
+    }
+
+    /**
+     * Returns whether the two ranges have the same length and the same elements. The arrays must be of the same
+     * primitive type, or both be arrays of a reference type (e.g. {@code String[]} and {@code Object[]}). Elements of
+     * Object arrays are compared with {@link java.util.Objects#equals}; floating-point values are compared like in
+     * {@link Arrays#equals(double[], double[])}. Corresponds to {@code Arrays#equals} with ranges, added in Java 9.
+     *
+     * @param a the first array (e.g. String[] or double[])
+     * @param aFromIndex start index of the range in the first array (inclusive)
+     * @param aToIndex end index of the range in the first array (exclusive)
+     * @param b the second array
+     * @param bFromIndex start index of the range in the second array (inclusive)
+     * @param bToIndex end index of the range in the second array (exclusive)
+     * @return true if the ranges are equal, false otherwise
+     */
+    public static boolean equals(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+        return getOps(a).mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex) < 0;
+    }
+
+    /**
+     * Returns the index of the first element that differs between the two arrays, or -1 if they are equal. If one
+     * array is a prefix of the other, the length of the shorter array is returned. See
+     * {@link #mismatch(Object, int, int, Object, int, int)}.
+     *
+     * @param a the first array (e.g. String[] or double[])
+     * @param b the second array
+     * @return index of the first mismatch, or -1
+     */
+    public static int mismatch(Object a, Object b) {
+        ArrayOps ops = getOps(a);
+        return ops.mismatch(a, 0, ops.getLength(a), b, 0, getOps(b).getLength(b));
+    }
+
+    /**
+     * Returns the index of the first element that differs between the two ranges, relative to the start of the
+     * ranges, or -1 if the ranges have the same length and elements. If one range is a prefix of the other, the
+     * length of the shorter range is returned. The arrays must be of the same type; see {@link #equals(Object, int,
+     * int, Object, int, int) equals} for details. Corresponds to {@code Arrays#mismatch}, added in Java 9.
+     * <p>
+     * On Java 9 and newer, the mismatch of primitive arrays is determined with {@code Arrays#mismatch}, which is
+     * vectorized by the JVM. On Java 8, the elements are compared in a loop.
+     *
+     * @param a the first array (e.g. String[] or double[])
+     * @param aFromIndex start index of the range in the first array (inclusive)
+     * @param aToIndex end index of the range in the first array (exclusive)
+     * @param b the second array
+     * @param bFromIndex start index of the range in the second array (inclusive)
+     * @param bToIndex end index of the range in the second array (exclusive)
+     * @return relative index of the first mismatch, or -1
+     */
+    public static int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+        return getOps(a).mismatch(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+
+    /**
+     * Compares the two arrays lexicographically. See {@link #compare(Object, int, int, Object, int, int)}.
+     *
+     * @param a the first array (e.g. String[] or double[])
+     * @param b the second array
+     * @return negative number, zero, or positive number if the first array is less, equal, or greater
+     */
+    public static int compare(Object a, Object b) {
+        ArrayOps ops = getOps(a);
+        return ops.compare(a, 0, ops.getLength(a), b, 0, getOps(b).getLength(b));
+    }
+
+    /**
+     * Compares the two ranges lexicographically: the elements at the first mismatch are compared, or the lengths of
+     * the ranges if one range is a prefix of the other. Primitive values are compared with the {@code compare}
+     * method of their wrapper class (e.g. {@link Integer#compare}), so bytes are compared as signed values. Elements
+     * of Object arrays must be {@link Comparable} to each other; null is less than any other element. Corresponds to
+     * {@code Arrays#compare}, added in Java 9.
+     *
+     * @param a the first array (e.g. String[] or double[])
+     * @param aFromIndex start index of the range in the first array (inclusive)
+     * @param aToIndex end index of the range in the first array (exclusive)
+     * @param b the second array
+     * @param bFromIndex start index of the range in the second array (inclusive)
+     * @param bToIndex end index of the range in the second array (exclusive)
+     * @return negative number, zero, or positive number if the first range is less, equal, or greater
+     */
+    public static int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+        return getOps(a).compare(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+    }
+
+    /**
+     * Creates a copy of the given array and all of its sub-arrays, e.g. a {@code double[][][]} is copied with all of
+     * its {@code double[][]} and {@code double[]} arrays. The levels of the array are determined by the array's class,
+     * i.e. arrays that are elements of an {@code Object[]} are not copied. Null sub-arrays remain null.
+     *
+     * @param array the array to copy (e.g. int[][] or String[][][])
+     * @param <T> the array type
+     * @return deep copy of the array
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T array) {
+        return (T) DeepArrays.deepCopy(array);
+    }
+
+    /**
+     * Returns whether the two arrays are deeply equal, i.e. whether they have the same dimensions and the same
+     * elements in all innermost arrays. The result is the same as {@link java.util.Objects#deepEquals}, but arrays
+     * of the same type are compared without inspecting the type of each sub-array: the innermost arrays are
+     * compared directly with the method for their component type (e.g. {@link Arrays#equals(double[], double[])}).
+     *
+     * @param a the first array (e.g. int[][] or String[][][]), or null
+     * @param b the second array, or null
+     * @return true if the arrays are deeply equal, false otherwise
+     */
+    public static boolean deepEquals(@Nullable Object a, @Nullable Object b) {
+        return a == null ? b == null : DeepArrays.deepEquals(a, b);
+    }
+
+    /**
+     * Returns a hash code based on the elements of all innermost arrays. For Object arrays, the result is the same
+     * as {@link Arrays#deepHashCode}; the innermost arrays of primitive arrays are hashed directly with the method for
+     * their component type (e.g. {@link Arrays#hashCode(double[])}).
+     *
+     * @param array the array to process (e.g. int[][] or String[][][]), or null
+     * @return hash code of the array, or 0 if the array is null
+     */
+    public static int deepHashCode(@Nullable Object array) {
+        return array == null ? 0 : DeepArrays.deepHashCode(array);
+    }
+
+    /**
+     * Fills all innermost arrays of the given array with the value. For example, all {@code double[]} arrays of a
+     * {@code double[][][]} are filled. The value must match the component type, as with {@link #fill(Object, Object)}.
+     *
+     * @param array the array to fill (e.g. int[][] or String[][][])
+     * @param val the value to fill the innermost arrays with
+     */
+    public static void deepFill(Object array, @Nullable Object val) {
+        DeepArrays.deepFill(array, val);
+    }
+
+    /**
+     * Copies the elements of all innermost arrays into a new one-dimensional array, in the order of their indices.
+     * For example, the {@code int[][]} {@code [[1, 2], null, [3]]} is flattened to the {@code int[]} {@code [1, 2, 3]}.
+     * Sub-arrays may have different lengths; null sub-arrays are skipped.
+     *
+     * @param array the array to flatten (e.g. int[][] or String[][][])
+     * @return new one-dimensional array with the array's component type
+     * @see #unflattenInto
+     */
+    public static Object flatten(Object array) {
+        return DeepArrays.flatten(array);
+    }
+
+    /**
+     * Creates a multi-dimensional array with the given dimensions, whose innermost arrays are filled with the elements
+     * of the given one-dimensional array. For example, an {@code int[]} of length 6 can be unflattened to an
+     * {@code int[2][3]}. The product of the dimensions must be equal to the length of the given array.
+     *
+     * @param flat the one-dimensional array to take the elements from (e.g. int[] or String[])
+     * @param dimensions the lengths of each level of the array to create
+     * @return new multi-dimensional array with the elements
+     */
+    public static Object unflatten(Object flat, int... dimensions) {
+        int flatLength = getOps(flat).getLength(flat);
+        long totalLength = 1;
+        for (int dimension : dimensions) {
+            totalLength *= dimension;
+        }
+        if (dimensions.length == 0 || totalLength != flatLength) {
+            throw new IllegalArgumentException("The flat array has " + flatLength + " elements, which does not "
+                + "match the dimensions " + Arrays.toString(dimensions));
         }
+
+        Object target = Array.newInstance(flat.getClass().getComponentType(), dimensions);
+        DeepArrays.unflattenInto(flat, target);
+        return target;
+    }
+
+    /**
+     * Copies the elements of the given one-dimensional array into the innermost arrays of the target array, in the
+     * order of their indices. This is the inverse operation of {@link #flatten}: the target can have any shape, such
+     * as the array that was flattened. The total length of the innermost arrays must be equal to the length of the
+     * one-dimensional array.
+     *
+     * @param flat the one-dimensional array to take the elements from (e.g. int[] or String[])
+     * @param target the array whose innermost arrays should be set (e.g. int[][] or String[][][])
+     */
+    public static void unflattenInto(Object flat, Object target) {
+        DeepArrays.unflattenInto(flat, target);
     }
 
     /**
@@ -168,20 +350,70 @@ public final class ArrayUtils {
      * @param val the value to fill the array with
      */
     public static void fill(Object a, int fromIndex, int toIndex, Object val) {
-        ArrayComponentType comp = getArrayComponentType(a);
-        verifyArgumentMatchesComponentType(val, comp, "val");
-
-        switch (comp) {
-            case BOOLEAN:   Arrays.fill((boolean[]) a, fromIndex, toIndex, (boolean) val); break;
-            case BYTE:      Arrays.fill((byte[]) a,    fromIndex, toIndex, (byte) val);    break;
-            case CHARACTER: Arrays.fill((char[]) a,    fromIndex, toIndex, (char) val);    break;
-            case SHORT:     Arrays.fill((short[]) a,   fromIndex, toIndex, (short) val);   break;
-            case INTEGER:   Arrays.fill((int[]) a,     fromIndex, toIndex, (int) val);     break;
-            case LONG:      Arrays.fill((long[]) a,    fromIndex, toIndex, (long) val);    break;
-            case FLOAT:     Arrays.fill((float[]) a,   fromIndex, toIndex, (float) val);   break;
-            case DOUBLE:    Arrays.fill((double[]) a,  fromIndex, toIndex, (double) val);  break;
-            default:        Arrays.fill((Object[]) a,  fromIndex, toIndex, val);
-        }
+        getOps(a).fill(a, fromIndex, toIndex, val);
+    }
+
+    /**
+     * Fills the array with the given value in parallel, for arrays of any type. Large arrays are split into ranges
+     * that are filled concurrently on the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+     * Use {@link ParallelArrayOps} to configure the size up to which ranges are filled sequentially.
+     *
+     * @param a the array to fill (e.g. String[] or double[])
+     * @param val the value to fill the array with
+     */
+    public static void parallelFill(Object a, Object val) {
+        ParallelArrayOps.getDefault().fill(a, val);
+    }
+
+    /**
+     * Fills the given range of the array with the given value in parallel. See {@link #parallelFill(Object, Object)}.
+     *
+     * @param a the array to fill (e.g. String[] or double[])
+     * @param fromIndex start index of the range to fill with the value (inclusive)
+     * @param toIndex end index of the range to fill with the value (exclusive)
+     * @param val the value to fill the array with
+     */
+    public static void parallelFill(Object a, int fromIndex, int toIndex, Object val) {
+        ParallelArrayOps.getDefault().fill(a, fromIndex, toIndex, val);
+    }
+
+    /**
+     * Sets each element of the array in parallel to the value returned by the generator for its index. The values
+     * must match the array's component type. Use the methods of {@link ParallelArrayOps} with primitive generators,
+     * such as {@link ParallelArrayOps#setAllInt}, to initialize primitive arrays without boxing.
+     *
+     * @param array the array to initialize (e.g. String[] or double[])
+     * @param generator function returning the value for an index
+     */
+    public static void parallelSetAll(Object array, IntFunction<?> generator) {
+        ParallelArrayOps.getDefault().setAll(array, generator);
+    }
+
+    /**
+     * Cumulates each element of the array in place with the given associative function, in parallel. Use the methods
+     * of {@link ParallelArrayOps} with primitive functions, such as {@link ParallelArrayOps#prefixInt}, to process
+     * primitive arrays without boxing. See {@link ParallelArrayOps#prefix}.
+     *
+     * @param array the array to cumulate (e.g. String[] or double[])
+     * @param op the associative function to combine two elements with
+     * @param <T> the element type
+     */
+    public static <T> void parallelPrefix(Object array, BinaryOperator<T> op) {
+        ParallelArrayOps.getDefault().prefix(array, op);
+    }
+
+    /**
+     * Copies the given number of elements from the source array to the destination array in parallel. See
+     * {@link ParallelArrayOps#copy}.
+     *
+     * @param src the source array
+     * @param srcPos start index in the source array
+     * @param dest the destination array
+     * @param destPos start index in the destination array
+     * @param length the number of elements to copy
+     */
+    public static void parallelCopy(Object src, int srcPos, Object dest, int destPos, int length) {
+        ParallelArrayOps.getDefault().copy(src, srcPos, dest, destPos, length);
     }
 
     /**
@@ -192,18 +424,7 @@ public final class ArrayUtils {
      * @return hash code for the array
      */
     public static int hashCode(Object a) {
-        ArrayComponentType comp = getArrayComponentType(a);
-        switch (comp) {
-            case BOOLEAN:   return Arrays.hashCode((boolean[]) a);
-            case BYTE:      return Arrays.hashCode((byte[]) a);
-            case CHARACTER: return Arrays.hashCode((char[]) a);
-            case SHORT:     return Arrays.hashCode((short[]) a);
-            case INTEGER:   return Arrays.hashCode((int[]) a);
-            case LONG:      return Arrays.hashCode((long[]) a);
-            case FLOAT:     return Arrays.hashCode((float[]) a);
-            case DOUBLE:    return Arrays.hashCode((double[]) a);
-            default:        return Arrays.hashCode((Object[]) a);
-        }
+        return getOps(a).hashCode(a);
     }
 
     /**
@@ -241,40 +462,107 @@ public final class ArrayUtils {
      * @param toIndex end index (exclusive) of the range that should be sorted
      */
     public static void parallelSort(Object a, int fromIndex, int toIndex) {
-        ArrayComponentType comp = getArrayComponentType(a);
-        switch (comp) {
-            case BOOLEAN: simpleBooleanArraySort((boolean[]) a, fromIndex, toIndex); break;
-            case BYTE:      Arrays.parallelSort((byte[]) a,   fromIndex, toIndex); break;
-            case CHARACTER: Arrays.parallelSort((char[]) a,   fromIndex, toIndex); break;
-            case SHORT:     Arrays.parallelSort((short[]) a,  fromIndex, toIndex); break;
-            case INTEGER:   Arrays.parallelSort((int[]) a,    fromIndex, toIndex); break;
-            case LONG:      Arrays.parallelSort((long[]) a,   fromIndex, toIndex); break;
-            case FLOAT:     Arrays.parallelSort((float[]) a,  fromIndex, toIndex); break;
-            case DOUBLE:    Arrays.parallelSort((double[]) a, fromIndex, toIndex); break;
-            default:    Arrays.parallelSort((Comparable[]) a, fromIndex, toIndex);
-        }
+        getOps(a).parallelSort(a, fromIndex, toIndex);
+    }
+
+    /**
+     * Parallel-sorts the given array with the given strategy. With {@link SortStrategy#DEFAULT}, this method is
+     * equivalent to {@link #parallelSort(Object)}. See {@link ParallelArrayOps#sort(Object, int, int, SortStrategy)}.
+     *
+     * @param a the array to sort (e.g. String[] or double[])
+     * @param strategy the sort strategy
+     */
+    public static void parallelSort(Object a, SortStrategy strategy) {
+        ParallelArrayOps.getDefault().sort(a, strategy);
+    }
+
+    /**
+     * Parallel-sorts the given range of the array with the given strategy. With {@link SortStrategy#DEFAULT}, this
+     * method is equivalent to {@link #parallelSort(Object, int, int)}. See
+     * {@link ParallelArrayOps#sort(Object, int, int, SortStrategy)}.
+     *
+     * @param a the array to sort (e.g. String[] or double[])
+     * @param fromIndex start index (inclusive) of the range that should be sorted
+     * @param toIndex end index (exclusive) of the range that should be sorted
+     * @param strategy the sort strategy
+     */
+    public static void parallelSort(Object a, int fromIndex, int toIndex, SortStrategy strategy) {
+        ParallelArrayOps.getDefault().sort(a, fromIndex, toIndex, strategy);
     }
 
     /**
      * Returns a stream of the objects in the given array. Because the streaming methods in {@code Arrays}, such as
-     * {@link Arrays#stream(int[])}, return different types of streams, this method returns an object stream which is
-     * constructed by getting the elements of the array by index.
+     * {@link Arrays#stream(int[])}, return different types of streams, this method returns an object stream, in which
+     * the elements of primitive arrays are boxed.
      * <p>
-     * It may be more efficient to handle array types individually with their respective stream types when performance
-     * is crucial.
+     * To process primitive arrays without boxing, use {@link #intStream}, {@link #longStream} or
+     * {@link #doubleStream}.
      *
      * @param array the array to stream over
      * @return stream of the array's elements (as reference types)
      */
     public static Stream<Object> stream(Object array) {
-        ArrayComponentType comp = getArrayComponentType(array);
-        if (comp == ArrayComponentType.OBJECT) {
-            return Arrays.stream((Object[]) array);
+        return getOps(array).stream(array);
+    }
+
+    /**
+     * Returns a spliterator over the objects in the given array, with the elements of primitive arrays boxed. The
+     * spliterator is {@link Spliterator#SIZED sized} and splits into sized halves, so that parallel streams based on
+     * it are balanced.
+     *
+     * @param array the array to create a spliterator for
+     * @return spliterator over the array's elements (as reference types)
+     */
+    public static Spliterator<Object> spliterator(Object array) {
+        return getOps(array).spliterator(array);
+    }
+
+    /**
+     * Returns an int stream of the elements of the given array, which may be a {@code byte[]}, {@code short[]},
+     * {@code char[]} or {@code int[]}. The elements are widened to int without boxing. The stream splits evenly when
+     * it is processed in parallel.
+     *
+     * @param array the array to stream over
+     * @return int stream of the array's elements
+     */
+    public static IntStream intStream(Object array) {
+        Spliterator.OfInt spliterator = ArraySpliterators.ofInt(array);
+        if (spliterator == null) {
+            throw newUnsupportedStreamException(array, "IntStream");
         }
+        return StreamSupport.intStream(spliterator, false);
+    }
 
-        int length = Array.getLength(array);
-        return IntStream.range(0, length)
-            .mapToObj(idx -> Array.get(array, idx));
+    /**
+     * Returns a long stream of the elements of the given array, which may be a {@code byte[]}, {@code short[]},
+     * {@code char[]}, {@code int[]} or {@code long[]}. The elements are widened to long without boxing. The stream
+     * splits evenly when it is processed in parallel.
+     *
+     * @param array the array to stream over
+     * @return long stream of the array's elements
+     */
+    public static LongStream longStream(Object array) {
+        Spliterator.OfLong spliterator = ArraySpliterators.ofLong(array);
+        if (spliterator == null) {
+            throw newUnsupportedStreamException(array, "LongStream");
+        }
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    /**
+     * Returns a double stream of the elements of the given array, which may be an array of any primitive type
+     * except {@code boolean}. The elements are converted to double without boxing; {@code long} values of a large
+     * magnitude may lose precision. The stream splits evenly when it is processed in parallel.
+     *
+     * @param array the array to stream over
+     * @return double stream of the array's elements
+     */
+    public static DoubleStream doubleStream(Object array) {
+        Spliterator.OfDouble spliterator = ArraySpliterators.ofDouble(array);
+        if (spliterator == null) {
+            throw newUnsupportedStreamException(array, "DoubleStream");
+        }
+        return StreamSupport.doubleStream(spliterator, false);
     }
 
     /**
@@ -310,20 +598,190 @@ public final class ArrayUtils {
      * @param toIndex end index (exclusive) of the range that should be sorted
      */
     public static void sort(Object a, int fromIndex, int toIndex) {
-        ArrayComponentType comp = getArrayComponentType(a);
-        switch (comp) {
-            case BOOLEAN: simpleBooleanArraySort((boolean[]) a, fromIndex, toIndex); break;
-            case BYTE:      Arrays.sort((byte[]) a,   fromIndex, toIndex); break;
-            case CHARACTER: Arrays.sort((char[]) a,   fromIndex, toIndex); break;
-            case SHORT:     Arrays.sort((short[]) a,  fromIndex, toIndex); break;
-            case INTEGER:   Arrays.sort((int[]) a,    fromIndex, toIndex); break;
-            case LONG:      Arrays.sort((long[]) a,   fromIndex, toIndex); break;
-            case FLOAT:     Arrays.sort((float[]) a,  fromIndex, toIndex); break;
-            case DOUBLE:    Arrays.sort((double[]) a, fromIndex, toIndex); break;
-            default:        Arrays.sort((Object[]) a, fromIndex, toIndex);
+        getOps(a).sort(a, fromIndex, toIndex);
+    }
+
+    /**
+     * Sorts the given array with the given strategy. With {@link SortStrategy#DEFAULT}, this method is equivalent to
+     * {@link #sort(Object)}. {@link SortStrategy#RADIX} sorts primitive arrays in the same order without comparing
+     * the elements, and throws an exception for Object arrays.
+     *
+     * @param a the array to sort (e.g. String[] or double[])
+     * @param strategy the sort strategy
+     */
+    public static void sort(Object a, SortStrategy strategy) {
+        sort(a, 0, Array.getLength(a), strategy);
+    }
+
+    /**
+     * Sorts the given range of the array with the given strategy. See {@link #sort(Object, SortStrategy)}.
+     *
+     * @param a the array to sort (e.g. String[] or double[])
+     * @param fromIndex start index (inclusive) of the range that should be sorted
+     * @param toIndex end index (exclusive) of the range that should be sorted
+     * @param strategy the sort strategy
+     */
+    public static void sort(Object a, int fromIndex, int toIndex, SortStrategy strategy) {
+        if (strategy == SortStrategy.RADIX) {
+            RadixSort.sort(a, fromIndex, toIndex);
+        } else {
+            sort(a, fromIndex, toIndex);
         }
     }
 
+    /**
+     * Sorts the given array by the comparator, without boxing the values. The sort is stable: values that are equal
+     * according to the comparator keep their relative order. For example,
+     * {@code sort(array, IntComparator.naturalOrder().reversed())} sorts the array in descending order.
+     *
+     * @param a the array to sort
+     * @param comparator the comparator defining the order
+     */
+    public static void sort(int[] a, IntComparator comparator) {
+        ComparatorSorting.sort(a, 0, a.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the array by the comparator, without boxing the values. The sort is stable.
+     *
+     * @param a the array to sort
+     * @param fromIndex start index (inclusive) of the range that should be sorted
+     * @param toIndex end index (exclusive) of the range that should be sorted
+     * @param comparator the comparator defining the order
+     */
+    public static void sort(int[] a, int fromIndex, int toIndex, IntComparator comparator) {
+        ComparatorSorting.sort(a, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts the given array by the comparator, without boxing the values. The sort is stable: values that are equal
+     * according to the comparator keep their relative order. For example,
+     * {@code sort(array, LongComparator.naturalOrder().reversed())} sorts the array in descending order.
+     *
+     * @param a the array to sort
+     * @param comparator the comparator defining the order
+     */
+    public static void sort(long[] a, LongComparator comparator) {
+        ComparatorSorting.sort(a, 0, a.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the array by the comparator, without boxing the values. The sort is stable.
+     *
+     * @param a the array to sort
+     * @param fromIndex start index (inclusive) of the range that should be sorted
+     * @param toIndex end index (exclusive) of the range that should be sorted
+     * @param comparator the comparator defining the order
+     */
+    public static void sort(long[] a, int fromIndex, int toIndex, LongComparator comparator) {
+        ComparatorSorting.sort(a, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts the given array by the comparator, without boxing the values. The sort is stable: values that are equal
+     * according to the comparator keep their relative order. For example,
+     * {@code sort(array, DoubleComparator.naturalOrder().reversed())} sorts the array in descending order.
+     *
+     * @param a the array to sort
+     * @param comparator the comparator defining the order
+     */
+    public static void sort(double[] a, DoubleComparator comparator) {
+        ComparatorSorting.sort(a, 0, a.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the array by the comparator, without boxing the values. The sort is stable.
+     *
+     * @param a the array to sort
+     * @param fromIndex start index (inclusive) of the range that should be sorted
+     * @param toIndex end index (exclusive) of the range that should be sorted
+     * @param comparator the comparator defining the order
+     */
+    public static void sort(double[] a, int fromIndex, int toIndex, DoubleComparator comparator) {
+        ComparatorSorting.sort(a, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the given array by its natural order, i.e. the indices of the elements
+     * in the order in which {@link #sort(Object)} arranges them. The array itself is not modified. Elements that are
+     * equal keep their relative order. The elements of Object arrays must be mutually {@link Comparable}.
+     * <p>
+     * The permutation can be applied to the array and to other arrays of the same length with
+     * {@link #applyPermutation}, e.g. to reorder several columns of a table by the values of one column.
+     *
+     * @param array the array to compute the sort permutation for (e.g. String[] or double[])
+     * @return indices of the array in sorted order
+     */
+    public static int[] argsort(Object array) {
+        return ComparatorSorting.argsort(array);
+    }
+
+    /**
+     * Returns the permutation that sorts the given array by the comparator, i.e. the indices of the elements in
+     * sorted order. The array itself is not modified. See {@link #argsort(Object)}.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @return indices of the array in sorted order
+     */
+    public static int[] argsort(int[] array, IntComparator comparator) {
+        return ComparatorSorting.argsort(array, comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the given array by the comparator, i.e. the indices of the elements in
+     * sorted order. The array itself is not modified. See {@link #argsort(Object)}.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @return indices of the array in sorted order
+     */
+    public static int[] argsort(long[] array, LongComparator comparator) {
+        return ComparatorSorting.argsort(array, comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the given array by the comparator, i.e. the indices of the elements in
+     * sorted order. The array itself is not modified. See {@link #argsort(Object)}.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @return indices of the array in sorted order
+     */
+    public static int[] argsort(double[] array, DoubleComparator comparator) {
+        return ComparatorSorting.argsort(array, comparator);
+    }
+
+    /**
+     * Returns the permutation that sorts the given array by the comparator, i.e. the indices of the elements in
+     * sorted order. The array itself is not modified. See {@link #argsort(Object)}.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @param <T> the component type
+     * @return indices of the array in sorted order
+     */
+    public static <T> int[] argsort(T[] array, Comparator<? super T> comparator) {
+        return ComparatorSorting.argsort(array, comparator);
+    }
+
+    /**
+     * Reorders the given array in place so that the element at index {@code i} is the element that was previously
+     * at index {@code permutation[i]}. Applying the result of {@link #argsort} sorts the array.
+     * <p>
+     * Example:<pre>{@code
+     *   int[] order = ArrayUtils.argsort(prices, DoubleComparator.naturalOrder().reversed());
+     *   ArrayUtils.applyPermutation(prices, order);
+     *   ArrayUtils.applyPermutation(productIds, order); // same order as the prices
+     * }</pre>
+     *
+     * @param array the array to reorder (e.g. String[] or double[])
+     * @param permutation the new order of the indices (must contain each index of the array exactly once)
+     */
+    public static void applyPermutation(Object array, int[] permutation) {
+        ComparatorSorting.applyPermutation(array, permutation);
+    }
+
     /**
      * Delegates to the appropriate method to generate a String representation of the given array. Depending on the
      * array type, this method calls {@link Arrays#toString(byte[])}, {@link Arrays#toString(char[])}, etc.
@@ -332,18 +790,52 @@ public final class ArrayUtils {
      * @return toString of the array
      */
     public static String toString(Object a) {
-        ArrayComponentType comp = getArrayComponentType(a);
-        switch (comp) {
-            case BOOLEAN:   return Arrays.toString((boolean[]) a);
-            case BYTE:      return Arrays.toString((byte[]) a);
-            case CHARACTER: return Arrays.toString((char[]) a);
-            case SHORT:     return Arrays.toString((short[]) a);
-            case INTEGER:   return Arrays.toString((int[]) a);
-            case LONG:      return Arrays.toString((long[]) a);
-            case FLOAT:     return Arrays.toString((float[]) a);
-            case DOUBLE:    return Arrays.toString((double[]) a);
-            default:        return Arrays.toString((Object[]) a);
+        return getOps(a).toString(a);
+    }
+
+    /**
+     * Appends the string representation of the given array to the appendable, in the same format as
+     * {@link #toString(Object)}, and returns the appendable. Arrays with more elements than {@code maxElements} are
+     * truncated, with the number of omitted elements indicated at the end, e.g. {@code [1, 2, 3, ... (997 more)]}.
+     * <p>
+     * Unlike {@link #toString(Object)}, the representation of the array is not built up in memory as a whole: elements
+     * of primitive arrays are appended without boxing, directly if the appendable is a {@link StringBuilder}, or via
+     * a small buffer otherwise (e.g. for a {@link java.io.Writer}). An {@link IOException} thrown by the appendable
+     * is wrapped into an {@link UncheckedIOException}.
+     *
+     * @param appendable the appendable to append to (e.g. StringBuilder or Writer)
+     * @param array the array to append (e.g. String[] or double[]), or null
+     * @param maxElements max number of elements to append
+     * @param <A> the type of the appendable
+     * @return the appendable
+     */
+    public static <A extends Appendable> A appendTo(A appendable, @Nullable Object array, int maxElements) {
+        try {
+            ArrayAppender.append(appendable, array, maxElements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return appendable;
+    }
+
+    /**
+     * Appends the string representation of the given array to the appendable, appending elements that are arrays
+     * recursively in the format of {@link Arrays#deepToString}, and returns the appendable. The max number of
+     * elements applies to each array individually. See {@link #appendTo} for details.
+     *
+     * @param appendable the appendable to append to (e.g. StringBuilder or Writer)
+     * @param array the array to append (e.g. Object[][] or int[][][]), or null
+     * @param maxElements max number of elements to append per array
+     * @param <A> the type of the appendable
+     * @return the appendable
+     */
+    public static <A extends Appendable> A deepAppendTo(A appendable, @Nullable Object array, int maxElements) {
+        try {
+            ArrayAppender.deepAppend(appendable, array, maxElements);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return appendable;
     }
 
     /**
@@ -398,14 +890,23 @@ public final class ArrayUtils {
         Arrays.fill(array, fromIndex + numberOfFalse, toIndex, true);
     }
 
-    private static void verifyArgumentMatchesComponentType(Object argument, ArrayComponentType componentType,
-                                                           String argumentName) {
-        if (argument == null) {
-            throw new NullPointerException(argumentName);
-        }
-        if (!ClassUtils.isInstance(argument, componentType.getComponentClass())) {
-            throw new ClassCastException("Expected " + argumentName + " to be a "
-                + componentType.name().toLowerCase(Locale.ROOT) + ", instead found: " + argument.getClass());
+    /**
+     * Returns the array operations for the given array. Throws an exception if the argument is not an array.
+     *
+     * @param array the array
+     * @return the operations for the array's type
+     */
+    static ArrayOps getOps(@Nullable Object array) {
+        ArrayOps ops = array == null ? null : StandardArrayOps.forArrayClass(array.getClass());
+        if (ops == null) {
+            throw new IllegalArgumentException("Expected an array but got an object of type: "
+                + ClassUtils.getClassName(array));
         }
+        return ops;
+    }
+
+    private static IllegalArgumentException newUnsupportedStreamException(@Nullable Object array, String streamType) {
+        return new IllegalArgumentException("Cannot create " + streamType + " for an object of type: "
+            + ClassUtils.getSemanticName(array));
     }
 }
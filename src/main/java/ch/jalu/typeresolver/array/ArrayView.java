@@ -0,0 +1,266 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * View of a sequence of elements of an {@link ArrayComponentType}, backed either by a Java array or by a
+ * {@link ByteBuffer}. Buffer-backed views make it possible to use the operations of {@link ArrayUtils} on data that
+ * is stored off-heap, such as in a {@link ByteBuffer#allocateDirect direct buffer} or in a file that is mapped into
+ * memory ({@link MappedByteBuffer}), without copying the data into an array first.
+ * <p>
+ * All operations work on the backing storage directly: changes to the view are visible in the array or buffer, and
+ * vice versa. The operations have the same semantics as their counterparts in {@link ArrayUtils}: for example,
+ * {@link #sort} orders floating-point values like {@link Arrays#sort(double[])}, and two views are {@link #equals
+ * equal} if they have the same component type and their elements are equal according to {@link Arrays#equals}
+ * (regardless of how the views are backed). The hash code of a view is the same as the one of an array with the
+ * same elements.
+ * <p>
+ * Example:<pre>{@code
+ *   try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+ *     MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+ *     ArrayView view = ArrayView.of(buffer, ArrayComponentType.DOUBLE);
+ *     view.sort();
+ *     double max = view.doubleStream().max().orElse(Double.NaN);
+ *   }
+ * }</pre>
+ * A buffer holds at most {@code Integer.MAX_VALUE} bytes, so larger files need to be mapped in multiple segments,
+ * each with its own view.
+ */
+public abstract class ArrayView {
+
+    ArrayView() {
+    }
+
+    /**
+     * Creates a view that is backed by the given array.
+     *
+     * @param array the array (e.g. int[] or String[])
+     * @return view of the array
+     */
+    public static ArrayView of(Object array) {
+        return new HeapArrayView(array, ArrayUtils.getOps(array));
+    }
+
+    /**
+     * Creates a view whose elements are the contents of the given buffer, from its position up to its limit,
+     * in the buffer's {@link ByteBuffer#order() byte order}. The number of elements is the number of remaining bytes
+     * divided by the size of the component type. The position and limit of the buffer are not used afterwards.
+     * Booleans are stored as one byte each, with any value other than 0 being interpreted as true.
+     *
+     * @param buffer the buffer to back the view with (e.g. a direct or memory-mapped buffer)
+     * @param componentType the component type of the elements (may not be {@link ArrayComponentType#OBJECT OBJECT})
+     * @return view of the buffer
+     */
+    public static ArrayView of(ByteBuffer buffer, ArrayComponentType componentType) {
+        return BufferArrayView.create(buffer, componentType);
+    }
+
+    /**
+     * Creates a view of a new {@link ByteBuffer#allocateDirect direct buffer}, whose memory is not part of the heap.
+     * The buffer uses the platform's native byte order.
+     *
+     * @param componentType the component type of the elements (may not be {@link ArrayComponentType#OBJECT OBJECT})
+     * @param length the number of elements
+     * @return view of a new direct buffer
+     */
+    public static ArrayView allocateDirect(ArrayComponentType componentType, int length) {
+        long byteSize = (long) BufferArrayView.getElementSize(componentType) * length;
+        if (length < 0 || byteSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cannot allocate buffer for " + length + " elements of type "
+                + componentType);
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) byteSize).order(ByteOrder.nativeOrder());
+        return BufferArrayView.create(buffer, componentType);
+    }
+
+    /**
+     * @return the component type of the elements
+     */
+    public abstract ArrayComponentType getComponentType();
+
+    /**
+     * @return the number of elements
+     */
+    public abstract int length();
+
+    /**
+     * Returns the element at the given index, boxed if the component type is primitive.
+     *
+     * @param index the index of the element
+     * @return the element at the given index
+     */
+    public abstract @Nullable Object get(int index);
+
+    /**
+     * Sets the element at the given index.
+     *
+     * @param index the index of the element
+     * @param value the value to set (must match the component type; may only be null for reference types)
+     */
+    public abstract void set(int index, @Nullable Object value);
+
+    /**
+     * Fills the view with the given value. See {@link ArrayUtils#fill(Object, Object)}.
+     *
+     * @param val the value to fill the view with
+     */
+    public void fill(Object val) {
+        fill(0, length(), val);
+    }
+
+    /**
+     * Fills the given range of the view with the given value. See {@link ArrayUtils#fill(Object, int, int, Object)}.
+     *
+     * @param fromIndex start index of the range to fill (inclusive)
+     * @param toIndex end index of the range to fill (exclusive)
+     * @param val the value to fill the range with
+     */
+    public abstract void fill(int fromIndex, int toIndex, Object val);
+
+    /**
+     * Performs a binary search for the given key. The view must be sorted. See
+     * {@link ArrayUtils#binarySearch(Object, Object)}.
+     *
+     * @param key the key to search for
+     * @return index of the key, or a negative insertion point
+     */
+    public int binarySearch(Object key) {
+        return binarySearch(0, length(), key);
+    }
+
+    /**
+     * Performs a binary search for the given key in the given range. The range must be sorted. See
+     * {@link ArrayUtils#binarySearch(Object, int, int, Object)}.
+     *
+     * @param fromIndex start index of the range to search in (inclusive)
+     * @param toIndex end index of the range to search in (exclusive)
+     * @param key the key to search for
+     * @return index of the key, or a negative insertion point
+     */
+    public abstract int binarySearch(int fromIndex, int toIndex, Object key);
+
+    /**
+     * Sorts the view in ascending order. See {@link ArrayUtils#sort(Object)}.
+     */
+    public void sort() {
+        sort(0, length());
+    }
+
+    /**
+     * Sorts the given range of the view in ascending order. See {@link ArrayUtils#sort(Object, int, int)}.
+     * Buffer-backed views are sorted in place and without any allocations, but the sort is not stable.
+     *
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     */
+    public abstract void sort(int fromIndex, int toIndex);
+
+    /**
+     * Returns a stream of the elements, boxed if the component type is primitive. See {@link ArrayUtils#stream}.
+     *
+     * @return stream of the elements
+     */
+    public abstract Stream<Object> stream();
+
+    /**
+     * Returns an int stream of the elements, for views of type byte, char, short and int. See
+     * {@link ArrayUtils#intStream}.
+     *
+     * @return int stream of the elements
+     */
+    public abstract IntStream intStream();
+
+    /**
+     * Returns a long stream of the elements, for views of type byte, char, short, int and long. See
+     * {@link ArrayUtils#longStream}.
+     *
+     * @return long stream of the elements
+     */
+    public abstract LongStream longStream();
+
+    /**
+     * Returns a double stream of the elements, for views of any primitive type except boolean. See
+     * {@link ArrayUtils#doubleStream}.
+     *
+     * @return double stream of the elements
+     */
+    public abstract DoubleStream doubleStream();
+
+    /**
+     * Copies the elements into a new array of the component type, e.g. an {@code int[]} for views of type
+     * {@link ArrayComponentType#INTEGER INTEGER}. For views backed by an array, a copy of the array is returned.
+     *
+     * @return new array with the elements
+     */
+    public abstract Object toArray();
+
+    /**
+     * Returns whether the given object is a view with the same component type and the same elements as this view,
+     * regardless of how the views are backed.
+     *
+     * @param obj the object to compare with
+     * @return true if the object is an equal view, false otherwise
+     */
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj instanceof ArrayView) {
+            ArrayView that = (ArrayView) obj;
+            return this.getComponentType() == that.getComponentType()
+                && this.length() == that.length()
+                && hasSameElements(that);
+        }
+        return false;
+    }
+
+    /**
+     * Returns the hash code of the elements, which is the same as the hash code of an array with the same elements
+     * (see {@link ArrayUtils#hashCode}).
+     *
+     * @return hash code based on the elements
+     */
+    @Override
+    public abstract int hashCode();
+
+    @Override
+    public String toString() {
+        return "ArrayView[type=" + getComponentType() + ", length=" + length() + "]";
+    }
+
+    /**
+     * Returns whether the given view, which has the same component type and length, has the same elements.
+     * Compares the elements based on their {@link PrimitiveBits bits} by default.
+     *
+     * @param other the view to compare with
+     * @return true if all elements are equal, false otherwise
+     */
+    boolean hasSameElements(ArrayView other) {
+        for (int i = 0; i < length(); ++i) {
+            if (PrimitiveBits.canonicalize(getComponentType(), getBits(i))
+                != PrimitiveBits.canonicalize(getComponentType(), other.getBits(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the raw bits of the primitive value at the given index (see {@link PrimitiveBits}). Not supported by
+     * views of component type {@link ArrayComponentType#OBJECT OBJECT}.
+     *
+     * @param index the index of the element
+     * @return bits of the value
+     */
+    abstract long getBits(int index);
+
+}
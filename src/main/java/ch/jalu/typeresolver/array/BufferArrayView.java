@@ -0,0 +1,450 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Array view that is backed by a {@link ByteBuffer}. Subclasses only read and write the {@link PrimitiveBits bits}
+ * of elements; all operations are implemented on the bits, so that they are shared by all component types. Float
+ * and double values are accessed through int and long buffers, respectively, so that the bits of NaN values are
+ * preserved when elements are moved.
+ * <p>
+ * Sorting is done in place with an introsort (quicksort that falls back to heapsort if the recursion is too deep),
+ * so that sorting a memory-mapped file does not need an amount of heap memory proportional to its size.
+ */
+abstract class BufferArrayView extends ArrayView {
+
+    private static final int HASH_MULTIPLIER = 31;
+    /** Ranges up to this size are sorted with insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final ArrayComponentType componentType;
+    private final int length;
+
+    BufferArrayView(ArrayComponentType componentType, int length) {
+        this.componentType = componentType;
+        this.length = length;
+    }
+
+    /**
+     * Creates a view of the remaining bytes of the buffer. See {@link ArrayView#of(ByteBuffer, ArrayComponentType)}.
+     *
+     * @param buffer the buffer to create a view of
+     * @param componentType the component type of the elements
+     * @return view of the buffer
+     */
+    static BufferArrayView create(ByteBuffer buffer, ArrayComponentType componentType) {
+        getElementSize(componentType); // validates that the component type is supported
+        ByteBuffer slice = buffer.slice().order(buffer.order());
+        switch (componentType) {
+            case BOOLEAN:
+            case BYTE:
+                return new ByteBufferArrayView(componentType, slice);
+            case CHARACTER:
+                return new CharBufferArrayView(slice.asCharBuffer());
+            case SHORT:
+                return new ShortBufferArrayView(slice.asShortBuffer());
+            case INTEGER:
+            case FLOAT:
+                return new IntBufferArrayView(componentType, slice.asIntBuffer());
+            default: // LONG, DOUBLE
+                return new LongBufferArrayView(componentType, slice.asLongBuffer());
+        }
+    }
+
+    /**
+     * Returns the number of bytes an element of the given component type takes up in a buffer.
+     *
+     * @param componentType the component type
+     * @return size of an element in bytes
+     */
+    static int getElementSize(ArrayComponentType componentType) {
+        switch (componentType) {
+            case BOOLEAN:
+            case BYTE:
+                return Byte.BYTES;
+            case CHARACTER:
+                return Character.BYTES;
+            case SHORT:
+                return Short.BYTES;
+            case INTEGER:
+            case FLOAT:
+                return Integer.BYTES;
+            case LONG:
+            case DOUBLE:
+                return Long.BYTES;
+            default:
+                throw new IllegalArgumentException("Buffer-backed views do not support the component type "
+                    + componentType);
+        }
+    }
+
+    @Override
+    public ArrayComponentType getComponentType() {
+        return componentType;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        return PrimitiveBits.fromBits(componentType, getBits(index));
+    }
+
+    @Override
+    public void set(int index, @Nullable Object value) {
+        checkIndex(index);
+        StandardArrayOps.verifyArgumentMatchesComponentType(value, componentType, "value");
+        setBits(index, PrimitiveBits.toBits(componentType, value));
+    }
+
+    @Override
+    public void fill(int fromIndex, int toIndex, Object val) {
+        StandardArrayOps.verifyArgumentMatchesComponentType(val, componentType, "val");
+        StandardArrayOps.checkRange(length, fromIndex, toIndex);
+        long bits = PrimitiveBits.toBits(componentType, val);
+        for (int i = fromIndex; i < toIndex; ++i) {
+            setBits(i, bits);
+        }
+    }
+
+    @Override
+    public int binarySearch(int fromIndex, int toIndex, Object key) {
+        StandardArrayOps.verifyArgumentMatchesComponentType(key, componentType, "key");
+        StandardArrayOps.checkRange(length, fromIndex, toIndex);
+        long searchKey = PrimitiveBits.toSortKey(componentType, PrimitiveBits.toBits(componentType, key));
+
+        // Same algorithm as Arrays#binarySearch so that the same index is returned if the key occurs multiple times
+        int low = fromIndex;
+        int high = toIndex - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midKey = getSortKey(mid);
+            if (midKey < searchKey) {
+                low = mid + 1;
+            } else if (midKey > searchKey) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        StandardArrayOps.checkRange(length, fromIndex, toIndex);
+        int depthLimit = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(toIndex - fromIndex));
+        introSort(fromIndex, toIndex - 1, depthLimit);
+    }
+
+    @Override
+    public Stream<Object> stream() {
+        return StreamSupport.stream(
+            ArraySpliterators.boxed(i -> PrimitiveBits.fromBits(componentType, getBits(i)), length), false);
+    }
+
+    @Override
+    public IntStream intStream() {
+        switch (componentType) {
+            case BYTE:
+            case CHARACTER:
+            case SHORT:
+            case INTEGER:
+                return StreamSupport.intStream(ArraySpliterators.ofInt(i -> (int) getBits(i), length), false);
+            default:
+                throw newUnsupportedStreamException("IntStream");
+        }
+    }
+
+    @Override
+    public LongStream longStream() {
+        switch (componentType) {
+            case BYTE:
+            case CHARACTER:
+            case SHORT:
+            case INTEGER:
+            case LONG:
+                return StreamSupport.longStream(ArraySpliterators.ofLong(this::getBits, length), false);
+            default:
+                throw newUnsupportedStreamException("LongStream");
+        }
+    }
+
+    @Override
+    public DoubleStream doubleStream() {
+        switch (componentType) {
+            case BOOLEAN:
+                throw newUnsupportedStreamException("DoubleStream");
+            case FLOAT:
+                return StreamSupport.doubleStream(
+                    ArraySpliterators.ofDouble(i -> Float.intBitsToFloat((int) getBits(i)), length), false);
+            case DOUBLE:
+                return StreamSupport.doubleStream(
+                    ArraySpliterators.ofDouble(i -> Double.longBitsToDouble(getBits(i)), length), false);
+            default:
+                return StreamSupport.doubleStream(ArraySpliterators.ofDouble(i -> getBits(i), length), false);
+        }
+    }
+
+    @Override
+    public Object toArray() {
+        Object array = Array.newInstance(componentType.getComponentClass(), length);
+        for (int i = 0; i < length; ++i) {
+            PrimitiveBits.setBits(componentType, array, i, getBits(i));
+        }
+        return array;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < length; ++i) {
+            result = HASH_MULTIPLIER * result + PrimitiveBits.hashCode(componentType, getBits(i));
+        }
+        return result;
+    }
+
+    /**
+     * Sets the element at the given index to the value of the given bits.
+     *
+     * @param index the index of the element
+     * @param bits the bits of the value
+     */
+    abstract void setBits(int index, long bits);
+
+    private long getSortKey(int index) {
+        return PrimitiveBits.toSortKey(componentType, getBits(index));
+    }
+
+    private void swap(int i, int j) {
+        long bits = getBits(i);
+        setBits(i, getBits(j));
+        setBits(j, bits);
+    }
+
+    private void introSort(int low, int high, int depthLimit) {
+        int lo = low;
+        int hi = high;
+        int depth = depthLimit;
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            if (depth == 0) {
+                heapSort(lo, hi);
+                return;
+            }
+            --depth;
+            int pivotIndex = partition(lo, hi);
+            // Recurse into the smaller part and loop over the larger one to bound the stack depth
+            if (pivotIndex - lo < hi - pivotIndex) {
+                introSort(lo, pivotIndex - 1, depth);
+                lo = pivotIndex + 1;
+            } else {
+                introSort(pivotIndex + 1, hi, depth);
+                hi = pivotIndex - 1;
+            }
+        }
+        insertionSort(lo, hi);
+    }
+
+    private int partition(int lo, int hi) {
+        // Median of three: order lo, mid, hi and use the middle value as pivot, stored at hi - 1
+        int mid = (lo + hi) >>> 1;
+        if (getSortKey(mid) < getSortKey(lo)) {
+            swap(mid, lo);
+        }
+        if (getSortKey(hi) < getSortKey(lo)) {
+            swap(hi, lo);
+        }
+        if (getSortKey(hi) < getSortKey(mid)) {
+            swap(hi, mid);
+        }
+        swap(mid, hi - 1);
+        long pivot = getSortKey(hi - 1);
+
+        int i = lo;
+        int j = hi - 1;
+        while (true) {
+            do {
+                ++i;
+            } while (getSortKey(i) < pivot);
+            do {
+                --j;
+            } while (getSortKey(j) > pivot);
+            if (i >= j) {
+                break;
+            }
+            swap(i, j);
+        }
+        swap(i, hi - 1);
+        return i;
+    }
+
+    private void insertionSort(int lo, int hi) {
+        for (int i = lo + 1; i <= hi; ++i) {
+            long bits = getBits(i);
+            long key = PrimitiveBits.toSortKey(componentType, bits);
+            int j = i - 1;
+            while (j >= lo && getSortKey(j) > key) {
+                setBits(j + 1, getBits(j));
+                --j;
+            }
+            setBits(j + 1, bits);
+        }
+    }
+
+    private void heapSort(int lo, int hi) {
+        int size = hi - lo + 1;
+        for (int i = size / 2 - 1; i >= 0; --i) {
+            siftDown(lo, i, size);
+        }
+        for (int end = size - 1; end > 0; --end) {
+            swap(lo, lo + end);
+            siftDown(lo, 0, end);
+        }
+    }
+
+    private void siftDown(int offset, int start, int size) {
+        int root = start;
+        int child;
+        while ((child = 2 * root + 1) < size) {
+            if (child + 1 < size && getSortKey(offset + child) < getSortKey(offset + child + 1)) {
+                ++child;
+            }
+            if (getSortKey(offset + root) >= getSortKey(offset + child)) {
+                return;
+            }
+            swap(offset + root, offset + child);
+            root = child;
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    private IllegalArgumentException newUnsupportedStreamException(String streamType) {
+        return new IllegalArgumentException("Cannot create " + streamType + " for a view of type: " + componentType);
+    }
+
+    /** View of booleans or bytes, stored as one byte per element. */
+    private static final class ByteBufferArrayView extends BufferArrayView {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferArrayView(ArrayComponentType componentType, ByteBuffer buffer) {
+            super(componentType, buffer.remaining());
+            this.buffer = buffer;
+        }
+
+        @Override
+        long getBits(int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        void setBits(int index, long bits) {
+            buffer.put(index, (byte) bits);
+        }
+    }
+
+    /** View of chars. */
+    private static final class CharBufferArrayView extends BufferArrayView {
+
+        private final CharBuffer buffer;
+
+        CharBufferArrayView(CharBuffer buffer) {
+            super(ArrayComponentType.CHARACTER, buffer.remaining());
+            this.buffer = buffer;
+        }
+
+        @Override
+        long getBits(int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        void setBits(int index, long bits) {
+            buffer.put(index, (char) bits);
+        }
+    }
+
+    /** View of shorts. */
+    private static final class ShortBufferArrayView extends BufferArrayView {
+
+        private final ShortBuffer buffer;
+
+        ShortBufferArrayView(ShortBuffer buffer) {
+            super(ArrayComponentType.SHORT, buffer.remaining());
+            this.buffer = buffer;
+        }
+
+        @Override
+        long getBits(int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        void setBits(int index, long bits) {
+            buffer.put(index, (short) bits);
+        }
+    }
+
+    /** View of ints or floats, the latter being accessed by their raw int bits. */
+    private static final class IntBufferArrayView extends BufferArrayView {
+
+        private final IntBuffer buffer;
+
+        IntBufferArrayView(ArrayComponentType componentType, IntBuffer buffer) {
+            super(componentType, buffer.remaining());
+            this.buffer = buffer;
+        }
+
+        @Override
+        long getBits(int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        void setBits(int index, long bits) {
+            buffer.put(index, (int) bits);
+        }
+    }
+
+    /** View of longs or doubles, the latter being accessed by their raw long bits. */
+    private static final class LongBufferArrayView extends BufferArrayView {
+
+        private final LongBuffer buffer;
+
+        LongBufferArrayView(ArrayComponentType componentType, LongBuffer buffer) {
+            super(componentType, buffer.remaining());
+            this.buffer = buffer;
+        }
+
+        @Override
+        long getBits(int index) {
+            return buffer.get(index);
+        }
+
+        @Override
+        void setBits(int index, long bits) {
+            buffer.put(index, bits);
+        }
+    }
+}
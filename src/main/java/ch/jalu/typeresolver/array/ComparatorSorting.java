@@ -0,0 +1,358 @@
+package ch.jalu.typeresolver.array;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Implements the sorting of primitive arrays with a custom comparator, and the indirect sorting ("argsort") of
+ * arrays of any type. Primitive values are never boxed.
+ * <p>
+ * Sorting is done with a merge sort, which is stable like {@link Arrays#sort(Object[], Comparator)}: values that are
+ * equal according to the comparator keep their relative order. Stability is relevant for primitive values, too, as
+ * a comparator may consider different values to be equal (e.g. when comparing by a key). As a consequence, argsort
+ * returns the same permutation for equal values regardless of the sort, and sorting several times by different keys
+ * yields a multi-key ordering.
+ */
+final class ComparatorSorting {
+
+    /** Ranges smaller than this are sorted with insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private ComparatorSorting() {
+    }
+
+    /**
+     * Sorts the given range of the array by the comparator.
+     *
+     * @param array the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     * @param comparator the comparator defining the order
+     */
+    static void sort(int[] array, int fromIndex, int toIndex, IntComparator comparator) {
+        StandardArrayOps.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            int[] aux = Arrays.copyOfRange(array, fromIndex, toIndex);
+            mergeSort(aux, array, fromIndex, toIndex, -fromIndex, comparator);
+        }
+    }
+
+    /**
+     * Sorts the given range of the array by the comparator.
+     *
+     * @param array the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     * @param comparator the comparator defining the order
+     */
+    static void sort(long[] array, int fromIndex, int toIndex, LongComparator comparator) {
+        StandardArrayOps.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            long[] aux = Arrays.copyOfRange(array, fromIndex, toIndex);
+            mergeSort(aux, array, fromIndex, toIndex, -fromIndex, comparator);
+        }
+    }
+
+    /**
+     * Sorts the given range of the array by the comparator.
+     *
+     * @param array the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     * @param comparator the comparator defining the order
+     */
+    static void sort(double[] array, int fromIndex, int toIndex, DoubleComparator comparator) {
+        StandardArrayOps.checkRange(array.length, fromIndex, toIndex);
+        if (toIndex - fromIndex > 1) {
+            double[] aux = Arrays.copyOfRange(array, fromIndex, toIndex);
+            mergeSort(aux, array, fromIndex, toIndex, -fromIndex, comparator);
+        }
+    }
+
+    /**
+     * Returns the indices of the array's elements in the order by which the elements are sorted by their natural
+     * order, i.e. the order of {@link ArrayUtils#sort(Object)}. Elements of Object arrays must be mutually
+     * {@link Comparable}.
+     *
+     * @param array the array to compute the sort permutation for
+     * @return permutation that sorts the array
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static int[] argsort(Object array) {
+        switch (ArrayUtils.getOps(array).getComponentType()) {
+            case BOOLEAN:
+                boolean[] booleans = (boolean[]) array;
+                return argsort(booleans.length, (i, j) -> Boolean.compare(booleans[i], booleans[j]));
+            case BYTE:
+                byte[] bytes = (byte[]) array;
+                return argsort(bytes.length, (i, j) -> Byte.compare(bytes[i], bytes[j]));
+            case CHARACTER:
+                char[] chars = (char[]) array;
+                return argsort(chars.length, (i, j) -> Character.compare(chars[i], chars[j]));
+            case SHORT:
+                short[] shorts = (short[]) array;
+                return argsort(shorts.length, (i, j) -> Short.compare(shorts[i], shorts[j]));
+            case INTEGER:
+                return argsort((int[]) array, IntComparator.naturalOrder());
+            case LONG:
+                return argsort((long[]) array, LongComparator.naturalOrder());
+            case FLOAT:
+                float[] floats = (float[]) array;
+                return argsort(floats.length, (i, j) -> Float.compare(floats[i], floats[j]));
+            case DOUBLE:
+                return argsort((double[]) array, DoubleComparator.naturalOrder());
+            default:
+                return argsort((Object[]) array, (Comparator) Comparator.naturalOrder());
+        }
+    }
+
+    /**
+     * Returns the indices of the array's elements in the order by which the elements are sorted by the comparator.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @return permutation that sorts the array
+     */
+    static int[] argsort(int[] array, IntComparator comparator) {
+        return argsort(array.length, (i, j) -> comparator.compare(array[i], array[j]));
+    }
+
+    /**
+     * Returns the indices of the array's elements in the order by which the elements are sorted by the comparator.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @return permutation that sorts the array
+     */
+    static int[] argsort(long[] array, LongComparator comparator) {
+        return argsort(array.length, (i, j) -> comparator.compare(array[i], array[j]));
+    }
+
+    /**
+     * Returns the indices of the array's elements in the order by which the elements are sorted by the comparator.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @return permutation that sorts the array
+     */
+    static int[] argsort(double[] array, DoubleComparator comparator) {
+        return argsort(array.length, (i, j) -> comparator.compare(array[i], array[j]));
+    }
+
+    /**
+     * Returns the indices of the array's elements in the order by which the elements are sorted by the comparator.
+     *
+     * @param array the array to compute the sort permutation for
+     * @param comparator the comparator defining the order
+     * @param <T> the component type
+     * @return permutation that sorts the array
+     */
+    static <T> int[] argsort(T[] array, Comparator<? super T> comparator) {
+        return argsort(array.length, (i, j) -> comparator.compare(array[i], array[j]));
+    }
+
+    /**
+     * Reorders the array in place so that the element at index {@code i} is the element that was at index
+     * {@code permutation[i]}.
+     *
+     * @param array the array to reorder
+     * @param permutation the permutation to apply (each index of the array exactly once)
+     */
+    static void applyPermutation(Object array, int[] permutation) {
+        ArrayOps ops = ArrayUtils.getOps(array);
+        verifyIsPermutation(permutation, ops.getLength(array));
+        Object source = ops.copyOf(array, permutation.length);
+
+        switch (ops.getComponentType()) {
+            case BOOLEAN:
+                boolean[] booleans = (boolean[]) array;
+                boolean[] booleanSource = (boolean[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    booleans[i] = booleanSource[permutation[i]];
+                }
+                break;
+            case BYTE:
+                byte[] bytes = (byte[]) array;
+                byte[] byteSource = (byte[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    bytes[i] = byteSource[permutation[i]];
+                }
+                break;
+            case CHARACTER:
+                char[] chars = (char[]) array;
+                char[] charSource = (char[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    chars[i] = charSource[permutation[i]];
+                }
+                break;
+            case SHORT:
+                short[] shorts = (short[]) array;
+                short[] shortSource = (short[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    shorts[i] = shortSource[permutation[i]];
+                }
+                break;
+            case INTEGER:
+                int[] ints = (int[]) array;
+                int[] intSource = (int[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    ints[i] = intSource[permutation[i]];
+                }
+                break;
+            case LONG:
+                long[] longs = (long[]) array;
+                long[] longSource = (long[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    longs[i] = longSource[permutation[i]];
+                }
+                break;
+            case FLOAT:
+                float[] floats = (float[]) array;
+                float[] floatSource = (float[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    floats[i] = floatSource[permutation[i]];
+                }
+                break;
+            case DOUBLE:
+                double[] doubles = (double[]) array;
+                double[] doubleSource = (double[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    doubles[i] = doubleSource[permutation[i]];
+                }
+                break;
+            default:
+                Object[] objects = (Object[]) array;
+                Object[] objectSource = (Object[]) source;
+                for (int i = 0; i < permutation.length; ++i) {
+                    objects[i] = objectSource[permutation[i]];
+                }
+        }
+    }
+
+    private static int[] argsort(int length, IntComparator indexComparator) {
+        int[] indices = new int[length];
+        for (int i = 0; i < length; ++i) {
+            indices[i] = i;
+        }
+        sort(indices, 0, length, indexComparator);
+        return indices;
+    }
+
+    private static void verifyIsPermutation(int[] permutation, int length) {
+        if (permutation.length != length) {
+            throw new IllegalArgumentException("The permutation has " + permutation.length
+                + " entries, but the array has " + length + " elements");
+        }
+        boolean[] isUsed = new boolean[length];
+        for (int index : permutation) {
+            if (index < 0 || index >= length || isUsed[index]) {
+                throw new IllegalArgumentException("The permutation must contain every index from 0 to "
+                    + (length - 1) + " exactly once, but found: " + index);
+            }
+            isUsed[index] = true;
+        }
+    }
+
+    // Merge sort as in Java's legacy merge sort for objects: the range [low, high) of dest is sorted, with src
+    // holding the same elements at an offset of off. src and dest are swapped at each level of the recursion.
+
+    private static void mergeSort(int[] src, int[] dest, int low, int high, int off, IntComparator comparator) {
+        int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low; i < high; ++i) {
+                for (int j = i; j > low && comparator.compare(dest[j - 1], dest[j]) > 0; --j) {
+                    int tmp = dest[j];
+                    dest[j] = dest[j - 1];
+                    dest[j - 1] = tmp;
+                }
+            }
+            return;
+        }
+
+        int destLow = low;
+        int srcLow = low + off;
+        int srcHigh = high + off;
+        int mid = (srcLow + srcHigh) >>> 1;
+        mergeSort(dest, src, srcLow, mid, -off, comparator);
+        mergeSort(dest, src, mid, srcHigh, -off, comparator);
+
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, srcLow, dest, destLow, length);
+            return;
+        }
+        for (int i = destLow, p = srcLow, q = mid; i < high; ++i) {
+            if (q >= srcHigh || p < mid && comparator.compare(src[p], src[q]) <= 0) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    private static void mergeSort(long[] src, long[] dest, int low, int high, int off, LongComparator comparator) {
+        int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low; i < high; ++i) {
+                for (int j = i; j > low && comparator.compare(dest[j - 1], dest[j]) > 0; --j) {
+                    long tmp = dest[j];
+                    dest[j] = dest[j - 1];
+                    dest[j - 1] = tmp;
+                }
+            }
+            return;
+        }
+
+        int destLow = low;
+        int srcLow = low + off;
+        int srcHigh = high + off;
+        int mid = (srcLow + srcHigh) >>> 1;
+        mergeSort(dest, src, srcLow, mid, -off, comparator);
+        mergeSort(dest, src, mid, srcHigh, -off, comparator);
+
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, srcLow, dest, destLow, length);
+            return;
+        }
+        for (int i = destLow, p = srcLow, q = mid; i < high; ++i) {
+            if (q >= srcHigh || p < mid && comparator.compare(src[p], src[q]) <= 0) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+
+    private static void mergeSort(double[] src, double[] dest, int low, int high, int off,
+                                  DoubleComparator comparator) {
+        int length = high - low;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low; i < high; ++i) {
+                for (int j = i; j > low && comparator.compare(dest[j - 1], dest[j]) > 0; --j) {
+                    double tmp = dest[j];
+                    dest[j] = dest[j - 1];
+                    dest[j - 1] = tmp;
+                }
+            }
+            return;
+        }
+
+        int destLow = low;
+        int srcLow = low + off;
+        int srcHigh = high + off;
+        int mid = (srcLow + srcHigh) >>> 1;
+        mergeSort(dest, src, srcLow, mid, -off, comparator);
+        mergeSort(dest, src, mid, srcHigh, -off, comparator);
+
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, srcLow, dest, destLow, length);
+            return;
+        }
+        for (int i = destLow, p = srcLow, q = mid; i < high; ++i) {
+            if (q >= srcHigh || p < mid && comparator.compare(src[p], src[q]) <= 0) {
+                dest[i] = src[p++];
+            } else {
+                dest[i] = src[q++];
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Implements the deep operations of {@link ArrayUtils} on multi-dimensional arrays. The dimension of an array is
+ * determined from its class with {@link ArrayTypeUtils#getArrayProperty(Class)}: all levels above the innermost one
+ * are known to be {@code Object[]} arrays of sub-arrays, and the innermost arrays are processed directly with the
+ * {@link ArrayOps} of the array's component type. Unlike {@link Arrays#deepEquals} and similar methods, the type of
+ * each element does not have to be inspected to determine how to process it.
+ * <p>
+ * The dimension is based on the array class: the elements of an {@code Object[]} are not considered to be a level
+ * of the array, even if they are arrays themselves. Null sub-arrays are supported by all methods.
+ */
+final class DeepArrays {
+
+    private static final int HASH_MULTIPLIER = 31;
+
+    private DeepArrays() {
+    }
+
+    /**
+     * Creates a copy of the given array and all of its sub-arrays.
+     *
+     * @param array the array to copy
+     * @return the copy
+     */
+    static Object deepCopy(Object array) {
+        return deepCopy(array, getDimension(array), getLeafOps(array));
+    }
+
+    /**
+     * Returns whether the two arrays are equal, including all of their sub-arrays. The result is the same as
+     * {@link Objects#deepEquals}.
+     *
+     * @param a the first array (not null)
+     * @param b the second array, or null
+     * @return true if the arrays are deeply equal, false otherwise
+     */
+    static boolean deepEquals(Object a, @Nullable Object b) {
+        if (a == b) {
+            return true;
+        } else if (b == null || a.getClass() != b.getClass()) {
+            getOps(a); // validates that a is an array
+            return Objects.deepEquals(a, b);
+        }
+        return deepEquals(a, b, getDimension(a), getLeafOps(a));
+    }
+
+    /**
+     * Returns the hash code of the array based on the contents of all of its sub-arrays. For Object arrays, the
+     * result is the same as {@link Arrays#deepHashCode}.
+     *
+     * @param array the array to compute the hash code for
+     * @return hash code of the array
+     */
+    static int deepHashCode(Object array) {
+        return deepHashCode(array, getDimension(array), getLeafOps(array));
+    }
+
+    /**
+     * Fills all innermost arrays with the given value.
+     *
+     * @param array the array to fill
+     * @param value the value to fill the innermost arrays with
+     */
+    static void deepFill(Object array, @Nullable Object value) {
+        int dimension = getDimension(array);
+        ArrayOps leafOps = getLeafOps(array);
+        if (leafOps.getComponentType() != ArrayComponentType.OBJECT) {
+            StandardArrayOps.verifyArgumentMatchesComponentType(value, leafOps.getComponentType(), "val");
+        }
+        forEachLeaf(array, dimension, leaf -> leafOps.fill(leaf, 0, leafOps.getLength(leaf), value));
+    }
+
+    /**
+     * Copies the elements of all innermost arrays into one new one-dimensional array, in the order of the indices.
+     *
+     * @param array the array to flatten
+     * @return new array with all elements of the innermost arrays
+     */
+    static Object flatten(Object array) {
+        int dimension = getDimension(array);
+        ArrayOps leafOps = getLeafOps(array);
+        long totalLength = countLeafElements(array, dimension, leafOps);
+        if (totalLength > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The array has " + totalLength + " elements, which is too many "
+                + "for a one-dimensional array");
+        }
+
+        Object flat = Array.newInstance(getLeafClass(array).getComponentType(), (int) totalLength);
+        int[] offset = new int[1];
+        forEachLeaf(array, dimension, leaf -> {
+            int length = leafOps.getLength(leaf);
+            System.arraycopy(leaf, 0, flat, offset[0], length);
+            offset[0] += length;
+        });
+        return flat;
+    }
+
+    /**
+     * Copies the elements of the one-dimensional array into the innermost arrays of the target, in the order of the
+     * indices. The number of elements must match.
+     *
+     * @param flat the one-dimensional array to take the elements from
+     * @param target the array to copy the elements into
+     */
+    static void unflattenInto(Object flat, Object target) {
+        int flatLength = getOps(flat).getLength(flat);
+        int dimension = getDimension(target);
+        ArrayOps leafOps = getLeafOps(target);
+        long totalLength = countLeafElements(target, dimension, leafOps);
+        if (totalLength != flatLength) {
+            throw new IllegalArgumentException("The flat array has " + flatLength + " elements, but the target "
+                + "array has " + totalLength + " elements");
+        }
+
+        int[] offset = new int[1];
+        forEachLeaf(target, dimension, leaf -> {
+            int length = leafOps.getLength(leaf);
+            System.arraycopy(flat, offset[0], leaf, 0, length);
+            offset[0] += length;
+        });
+    }
+
+    private static Object deepCopy(Object array, int dimension, ArrayOps leafOps) {
+        if (dimension == 1) {
+            return leafOps.copyOf(array, leafOps.getLength(array));
+        }
+        Object[] copy = ((Object[]) array).clone();
+        for (int i = 0; i < copy.length; ++i) {
+            if (copy[i] != null) {
+                copy[i] = deepCopy(copy[i], dimension - 1, leafOps);
+            }
+        }
+        return copy;
+    }
+
+    private static boolean deepEquals(Object a, Object b, int dimension, ArrayOps leafOps) {
+        if (dimension == 1) {
+            return leafOps.getComponentType() == ArrayComponentType.OBJECT
+                ? Arrays.deepEquals((Object[]) a, (Object[]) b)
+                : leafOps.equals(a, b);
+        }
+
+        Object[] arrA = (Object[]) a;
+        Object[] arrB = (Object[]) b;
+        if (arrA.length != arrB.length) {
+            return false;
+        }
+        for (int i = 0; i < arrA.length; ++i) {
+            Object elemA = arrA[i];
+            Object elemB = arrB[i];
+            if (elemA != elemB) {
+                // Sub-arrays of reference types may have a more specific type, e.g. Integer[] in a Number[][]
+                boolean isEqual = elemA == null || elemB == null || elemA.getClass() != elemB.getClass()
+                    ? Objects.deepEquals(elemA, elemB)
+                    : deepEquals(elemA, elemB, dimension - 1, leafOps);
+                if (!isEqual) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int deepHashCode(Object array, int dimension, ArrayOps leafOps) {
+        if (dimension == 1) {
+            return leafOps.getComponentType() == ArrayComponentType.OBJECT
+                ? Arrays.deepHashCode((Object[]) array)
+                : leafOps.hashCode(array);
+        }
+
+        int result = 1;
+        for (Object element : (Object[]) array) {
+            result = HASH_MULTIPLIER * result + (element == null ? 0 : deepHashCode(element, dimension - 1, leafOps));
+        }
+        return result;
+    }
+
+    private static long countLeafElements(Object array, int dimension, ArrayOps leafOps) {
+        if (dimension == 1) {
+            return leafOps.getLength(array);
+        }
+        long count = 0;
+        for (Object element : (Object[]) array) {
+            if (element != null) {
+                count += countLeafElements(element, dimension - 1, leafOps);
+            }
+        }
+        return count;
+    }
+
+    private static void forEachLeaf(Object array, int dimension, Consumer<Object> action) {
+        if (dimension == 1) {
+            action.accept(array);
+        } else {
+            for (Object element : (Object[]) array) {
+                if (element != null) {
+                    forEachLeaf(element, dimension - 1, action);
+                }
+            }
+        }
+    }
+
+    private static int getDimension(Object array) {
+        getOps(array); // validates that the argument is an array
+        return ArrayTypeUtils.getArrayProperty(array.getClass()).getDimension();
+    }
+
+    private static Class<?> getLeafClass(Object array) {
+        return ArrayTypeUtils.createArrayClass(ArrayTypeUtils.getArrayProperty(array.getClass()).getComponentType());
+    }
+
+    private static ArrayOps getLeafOps(Object array) {
+        return ArrayUtils.opsFor(getLeafClass(array));
+    }
+
+    private static ArrayOps getOps(Object array) {
+        return ArrayUtils.getOps(array);
+    }
+}
@@ -0,0 +1,100 @@
+package ch.jalu.typeresolver.array;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Array view that is backed by a Java array. All operations delegate to the array's {@link ArrayOps}.
+ */
+final class HeapArrayView extends ArrayView {
+
+    private final Object array;
+    private final ArrayOps ops;
+
+    HeapArrayView(Object array, ArrayOps ops) {
+        this.array = array;
+        this.ops = ops;
+    }
+
+    @Override
+    public ArrayComponentType getComponentType() {
+        return ops.getComponentType();
+    }
+
+    @Override
+    public int length() {
+        return ops.getLength(array);
+    }
+
+    @Override
+    public @Nullable Object get(int index) {
+        return ops.get(array, index);
+    }
+
+    @Override
+    public void set(int index, @Nullable Object value) {
+        ops.set(array, index, value);
+    }
+
+    @Override
+    public void fill(int fromIndex, int toIndex, Object val) {
+        ops.fill(array, fromIndex, toIndex, val);
+    }
+
+    @Override
+    public int binarySearch(int fromIndex, int toIndex, Object key) {
+        return ops.binarySearch(array, fromIndex, toIndex, key);
+    }
+
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        ops.sort(array, fromIndex, toIndex);
+    }
+
+    @Override
+    public Stream<Object> stream() {
+        return ops.stream(array);
+    }
+
+    @Override
+    public IntStream intStream() {
+        return ArrayUtils.intStream(array);
+    }
+
+    @Override
+    public LongStream longStream() {
+        return ArrayUtils.longStream(array);
+    }
+
+    @Override
+    public DoubleStream doubleStream() {
+        return ArrayUtils.doubleStream(array);
+    }
+
+    @Override
+    public Object toArray() {
+        return ops.copyOf(array, length());
+    }
+
+    @Override
+    public int hashCode() {
+        return ops.hashCode(array);
+    }
+
+    @Override
+    boolean hasSameElements(ArrayView other) {
+        if (other instanceof HeapArrayView) {
+            return ops.equals(array, ((HeapArrayView) other).array);
+        }
+        return super.hasSameElements(other);
+    }
+
+    @Override
+    long getBits(int index) {
+        return PrimitiveBits.getBits(ops.getComponentType(), array, index);
+    }
+}
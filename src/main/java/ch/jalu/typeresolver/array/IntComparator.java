@@ -0,0 +1,39 @@
+package ch.jalu.typeresolver.array;
+
+import java.util.Comparator;
+
+/**
+ * Comparison function for {@code int} values, analogous to {@link Comparator} but without boxing. Used by the
+ * comparator-based sorting methods of {@link ArrayUtils}.
+ */
+@FunctionalInterface
+public interface IntComparator {
+
+    /**
+     * Compares the two values for order. Returns a negative integer, zero, or a positive integer as the first value
+     * is less than, equal to, or greater than the second. See {@link Comparator#compare}.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return negative, zero or positive integer as the first value is less than, equal to, or greater than the second
+     */
+    int compare(int a, int b);
+
+    /**
+     * Returns a comparator that imposes the reverse order of this comparator.
+     *
+     * @return reversed comparator
+     */
+    default IntComparator reversed() {
+        return (a, b) -> compare(b, a);
+    }
+
+    /**
+     * Returns a comparator that compares values by their natural order, as defined by {@link Integer#compare}.
+     *
+     * @return natural order comparator
+     */
+    static IntComparator naturalOrder() {
+        return Integer::compare;
+    }
+}
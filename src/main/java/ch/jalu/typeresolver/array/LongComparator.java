@@ -0,0 +1,39 @@
+package ch.jalu.typeresolver.array;
+
+import java.util.Comparator;
+
+/**
+ * Comparison function for {@code long} values, analogous to {@link Comparator} but without boxing. Used by the
+ * comparator-based sorting methods of {@link ArrayUtils}.
+ */
+@FunctionalInterface
+public interface LongComparator {
+
+    /**
+     * Compares the two values for order. Returns a negative integer, zero, or a positive integer as the first value
+     * is less than, equal to, or greater than the second. See {@link Comparator#compare}.
+     *
+     * @param a the first value
+     * @param b the second value
+     * @return negative, zero or positive integer as the first value is less than, equal to, or greater than the second
+     */
+    int compare(long a, long b);
+
+    /**
+     * Returns a comparator that imposes the reverse order of this comparator.
+     *
+     * @return reversed comparator
+     */
+    default LongComparator reversed() {
+        return (a, b) -> compare(b, a);
+    }
+
+    /**
+     * Returns a comparator that compares values by their natural order, as defined by {@link Long#compare}.
+     *
+     * @return natural order comparator
+     */
+    static LongComparator naturalOrder() {
+        return Long::compare;
+    }
+}
@@ -0,0 +1,402 @@
+package ch.jalu.typeresolver.array;
+
+import ch.jalu.typeresolver.classutil.ClassUtils;
+import ch.jalu.typeresolver.numbers.NumberType;
+import ch.jalu.typeresolver.numbers.StandardNumberType;
+import ch.jalu.typeresolver.numbers.ValueRangeComparison;
+import ch.jalu.typeresolver.primitives.PrimitiveType;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Array;
+
+/**
+ * Converts arrays of numbers from one type to another, e.g. {@code int[]} to {@code long[]}, {@code Integer[]} to
+ * {@code int[]}, or {@code double[]} to {@code short[]}. Arrays of the primitive number types byte, short, int, long,
+ * float and double, and arrays of their wrapper types (e.g. {@code Integer[]}), are supported as source and target.
+ * <p>
+ * Values are converted like by the methods of {@link StandardNumberType}, but without boxing each value: the source
+ * is processed in chunks, which are read into a {@code long[]} or {@code double[]} buffer, checked against the value
+ * range of the target type, and then written to the target, each in a tight loop. The range check is skipped if the
+ * target type can represent all values of the source type (e.g. int to long). Values that are out of range are
+ * handled according to the given {@link OutOfRangePolicy}, and are counted in the returned
+ * {@link ArrayConversionReport}.
+ * <p>
+ * Example:<pre>{@code
+ *   double[] measurements = {12.7, -3.2, 40_000.0, Double.NaN};
+ *   short[] column = new short[measurements.length];
+ *   ArrayConversionReport report = NumberArrayConverter.convertInto(
+ *       measurements, 0, measurements.length, column, 0, OutOfRangePolicy.TO_BOUNDS);
+ *   // column = [12, -3, 32767, 0], report.getOutOfRangeCount() = 2
+ * }</pre>
+ */
+public final class NumberArrayConverter {
+
+    /** Number of elements that are processed at once. */
+    private static final int CHUNK_SIZE = 1024;
+    private static final double LONG_MIN_AS_DOUBLE = (double) Long.MIN_VALUE;
+    private static final double LONG_MAX_AS_DOUBLE = (double) Long.MAX_VALUE;
+
+    private NumberArrayConverter() {
+    }
+
+    /**
+     * Converts all elements of the source array to a new array of the given type.
+     *
+     * @param source the array to convert (e.g. {@code int[]} or {@code Integer[]})
+     * @param targetArrayClass the type of array to create (e.g. {@code long[].class} or {@code Long[].class})
+     * @param policy defines how to handle values that are out of range of the target type
+     * @param <A> the array type
+     * @return new array with the converted elements
+     */
+    public static <A> A convert(Object source, Class<A> targetArrayClass, OutOfRangePolicy policy) {
+        getNumberType(ClassUtils.getSemanticName(source), source == null ? null : source.getClass());
+        getNumberType(ClassUtils.getSemanticName(targetArrayClass), targetArrayClass);
+
+        int length = Array.getLength(source);
+        A target = targetArrayClass.cast(Array.newInstance(targetArrayClass.getComponentType(), length));
+        convertInto(source, 0, length, target, 0, policy);
+        return target;
+    }
+
+    /**
+     * Converts the elements of the given range of the source array and writes them into the target array, starting
+     * at the given position. If the policy is {@link OutOfRangePolicy#FAIL FAIL} and a value is out of range, an
+     * exception is thrown and the elements before the failing one may already have been written to the target.
+     *
+     * @param source the array to convert from (e.g. {@code int[]} or {@code Integer[]})
+     * @param fromIndex start index of the range to convert (inclusive)
+     * @param toIndex end index of the range to convert (exclusive)
+     * @param target the array to write the converted elements to (e.g. {@code long[]} or {@code Long[]})
+     * @param targetPos the index in the target array at which the first converted element is written
+     * @param policy defines how to handle values that are out of range of the target type
+     * @return report of the conversion
+     */
+    public static ArrayConversionReport convertInto(Object source, int fromIndex, int toIndex,
+                                                    Object target, int targetPos, OutOfRangePolicy policy) {
+        StandardNumberType sourceType = getNumberType(ClassUtils.getSemanticName(source),
+            source == null ? null : source.getClass());
+        StandardNumberType targetType = getNumberType(ClassUtils.getSemanticName(target),
+            target == null ? null : target.getClass());
+        int length = toIndex - fromIndex;
+        StandardArrayOps.checkRange(Array.getLength(source), fromIndex, toIndex);
+        StandardArrayOps.checkRange(Array.getLength(target), targetPos, targetPos + length);
+
+        if (source.getClass() == target.getClass() && source.getClass().getComponentType().isPrimitive()) {
+            System.arraycopy(source, fromIndex, target, targetPos, length);
+            return new ArrayConversionReport(length, 0, -1);
+        }
+
+        Conversion conversion = new Conversion(sourceType, target, targetType, policy);
+        if (source == target) { // Ranges may overlap, so the chunks must not be read from the target
+            Object sourceCopy = ArrayUtils.getOps(source).copyOfRange(source, fromIndex, toIndex);
+            conversion.convert(sourceCopy, 0, length, targetPos, fromIndex);
+        } else {
+            conversion.convert(source, fromIndex, toIndex, targetPos, 0);
+        }
+        return new ArrayConversionReport(length, conversion.outOfRangeCount, conversion.firstOutOfRangeIndex);
+    }
+
+    private static StandardNumberType getNumberType(String name, @Nullable Class<?> arrayClass) {
+        Class<?> componentType = arrayClass == null ? null : arrayClass.getComponentType();
+        StandardNumberType numberType = componentType == null ? null : StandardNumberType.fromClass(componentType);
+        if (numberType == null || numberType == StandardNumberType.BIG_INTEGER
+                || numberType == StandardNumberType.BIG_DECIMAL) {
+            throw new IllegalArgumentException("Expected an array of a primitive number type or its wrapper "
+                + "(e.g. int[] or Integer[]), but got: " + name);
+        }
+        return numberType;
+    }
+
+    private static boolean isIntegral(StandardNumberType numberType) {
+        return numberType != StandardNumberType.FLOAT && numberType != StandardNumberType.DOUBLE;
+    }
+
+    /**
+     * Conversion of a range from a source array to a target array. Holds the buffers and the out-of-range
+     * statistics.
+     */
+    private static final class Conversion {
+
+        private final StandardNumberType sourceType;
+        private final Object target;
+        private final StandardNumberType targetType;
+        private final boolean isTargetBoxed;
+        private final OutOfRangePolicy policy;
+        /** Min value of the target type, if it is integral. */
+        private final long minValue;
+        /** Max value of the target type, if it is integral. */
+        private final long maxValue;
+
+        private final long[] longs;
+        private final double @Nullable [] doubles;
+        private Object source;
+        private boolean isSourceBoxed;
+        /** Offset to add to indices of the source to get the index in the original source array. */
+        private int sourceIndexOffset;
+        private int outOfRangeCount;
+        private int firstOutOfRangeIndex = -1;
+
+        Conversion(StandardNumberType sourceType, Object target, StandardNumberType targetType,
+                   OutOfRangePolicy policy) {
+            this.sourceType = sourceType;
+            this.target = target;
+            this.targetType = targetType;
+            this.isTargetBoxed = !PrimitiveType.isRealPrimitive(target.getClass().getComponentType());
+            this.policy = policy;
+            this.minValue = ((Number) targetType.getValueRange().getMinInOwnType()).longValue();
+            this.maxValue = ((Number) targetType.getValueRange().getMaxInOwnType()).longValue();
+            this.longs = new long[CHUNK_SIZE];
+            this.doubles = isIntegral(sourceType) ? null : new double[CHUNK_SIZE];
+        }
+
+        void convert(Object source, int fromIndex, int toIndex, int targetPos, int sourceIndexOffset) {
+            this.source = source;
+            this.isSourceBoxed = !PrimitiveType.isRealPrimitive(source.getClass().getComponentType());
+            this.sourceIndexOffset = sourceIndexOffset;
+
+            boolean needsRangeCheck = !((NumberType<?>) targetType).supportsAllValuesOf(sourceType);
+            for (int offset = fromIndex; offset < toIndex; offset += CHUNK_SIZE) {
+                int length = Math.min(CHUNK_SIZE, toIndex - offset);
+                int targetOffset = targetPos + (offset - fromIndex);
+                if (doubles == null) {
+                    readLongs(offset, length);
+                    if (needsRangeCheck) {
+                        limitLongsToTargetRange(offset, length);
+                    }
+                    storeLongs(targetOffset, length);
+                } else {
+                    readDoubles(doubles, offset, length);
+                    if (isIntegral(targetType)) {
+                        convertDoublesToLongs(doubles, offset, length);
+                        storeLongs(targetOffset, length);
+                    } else {
+                        if (needsRangeCheck) {
+                            limitDoublesToFloatRange(doubles, offset, length);
+                        }
+                        storeDoubles(doubles, targetOffset, length);
+                    }
+                }
+            }
+        }
+
+        private void limitLongsToTargetRange(int offset, int length) {
+            long min = minValue;
+            long max = maxValue;
+            for (int i = 0; i < length; ++i) {
+                long value = longs[i];
+                if (value < min || value > max) {
+                    recordOutOfRange(offset + i);
+                    if (policy == OutOfRangePolicy.TO_BOUNDS) {
+                        longs[i] = value < min ? min : max;
+                    }
+                }
+            }
+        }
+
+        private void convertDoublesToLongs(double[] values, int offset, int length) {
+            long min = minValue;
+            long max = maxValue;
+            for (int i = 0; i < length; ++i) {
+                double value = values[i];
+                // Comparison is false for NaN and infinity
+                if (value >= LONG_MIN_AS_DOUBLE && value <= LONG_MAX_AS_DOUBLE) {
+                    long longValue = (long) value;
+                    if (longValue >= min && longValue <= max) {
+                        longs[i] = longValue;
+                        continue;
+                    }
+                }
+
+                recordOutOfRange(offset + i);
+                if (policy == OutOfRangePolicy.TO_BOUNDS) {
+                    longs[i] = Double.isNaN(value) ? 0 : value < 0 ? min : max;
+                } else {
+                    // Same as a cast to the target type, which goes through int for byte and short
+                    longs[i] = targetType == StandardNumberType.LONG ? (long) value : (int) value;
+                }
+            }
+        }
+
+        private void limitDoublesToFloatRange(double[] values, int offset, int length) {
+            for (int i = 0; i < length; ++i) {
+                double value = values[i];
+                if (Math.abs(value) > Float.MAX_VALUE && !Double.isInfinite(value)) {
+                    recordOutOfRange(offset + i);
+                    if (policy == OutOfRangePolicy.TO_BOUNDS) {
+                        values[i] = value < 0 ? -Float.MAX_VALUE : Float.MAX_VALUE;
+                    }
+                }
+            }
+        }
+
+        private void recordOutOfRange(int index) {
+            int sourceIndex = index + sourceIndexOffset;
+            if (outOfRangeCount == 0) {
+                firstOutOfRangeIndex = sourceIndex;
+            }
+            ++outOfRangeCount;
+            if (policy == OutOfRangePolicy.FAIL) {
+                Number value = (Number) Array.get(source, index);
+                ValueRangeComparison comparison = ((NumberType<?>) targetType).compareToValueRange(value);
+                throw new IllegalArgumentException("Value " + value + " at index " + sourceIndex
+                    + " cannot be converted to " + target.getClass().getComponentType().getSimpleName()
+                    + " without loss of magnitude (" + comparison + ")");
+            }
+        }
+
+        private void readLongs(int offset, int length) {
+            if (isSourceBoxed) {
+                Object[] array = (Object[]) source;
+                for (int i = 0; i < length; ++i) {
+                    longs[i] = getNonNullElement(array, offset + i).longValue();
+                }
+                return;
+            }
+
+            switch (sourceType) {
+                case BYTE:
+                    byte[] bytes = (byte[]) source;
+                    for (int i = 0; i < length; ++i) {
+                        longs[i] = bytes[offset + i];
+                    }
+                    break;
+                case SHORT:
+                    short[] shorts = (short[]) source;
+                    for (int i = 0; i < length; ++i) {
+                        longs[i] = shorts[offset + i];
+                    }
+                    break;
+                case INTEGER:
+                    int[] ints = (int[]) source;
+                    for (int i = 0; i < length; ++i) {
+                        longs[i] = ints[offset + i];
+                    }
+                    break;
+                default: // LONG
+                    System.arraycopy(source, offset, longs, 0, length);
+            }
+        }
+
+        private void readDoubles(double[] values, int offset, int length) {
+            if (isSourceBoxed) {
+                Object[] array = (Object[]) source;
+                for (int i = 0; i < length; ++i) {
+                    values[i] = getNonNullElement(array, offset + i).doubleValue();
+                }
+            } else if (sourceType == StandardNumberType.FLOAT) {
+                float[] floats = (float[]) source;
+                for (int i = 0; i < length; ++i) {
+                    values[i] = floats[offset + i];
+                }
+            } else {
+                System.arraycopy(source, offset, values, 0, length);
+            }
+        }
+
+        private void storeLongs(int targetOffset, int length) {
+            if (isTargetBoxed) {
+                storeLongsBoxed((Object[]) target, targetOffset, length);
+                return;
+            }
+
+            switch (targetType) {
+                case BYTE:
+                    byte[] bytes = (byte[]) target;
+                    for (int i = 0; i < length; ++i) {
+                        bytes[targetOffset + i] = (byte) longs[i];
+                    }
+                    break;
+                case SHORT:
+                    short[] shorts = (short[]) target;
+                    for (int i = 0; i < length; ++i) {
+                        shorts[targetOffset + i] = (short) longs[i];
+                    }
+                    break;
+                case INTEGER:
+                    int[] ints = (int[]) target;
+                    for (int i = 0; i < length; ++i) {
+                        ints[targetOffset + i] = (int) longs[i];
+                    }
+                    break;
+                case LONG:
+                    System.arraycopy(longs, 0, target, targetOffset, length);
+                    break;
+                case FLOAT:
+                    float[] floats = (float[]) target;
+                    for (int i = 0; i < length; ++i) {
+                        floats[targetOffset + i] = longs[i];
+                    }
+                    break;
+                default: // DOUBLE
+                    double[] doubleArray = (double[]) target;
+                    for (int i = 0; i < length; ++i) {
+                        doubleArray[targetOffset + i] = longs[i];
+                    }
+            }
+        }
+
+        private void storeLongsBoxed(Object[] array, int targetOffset, int length) {
+            switch (targetType) {
+                case BYTE:
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = (byte) longs[i];
+                    }
+                    break;
+                case SHORT:
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = (short) longs[i];
+                    }
+                    break;
+                case INTEGER:
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = (int) longs[i];
+                    }
+                    break;
+                case LONG:
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = longs[i];
+                    }
+                    break;
+                case FLOAT:
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = (float) longs[i];
+                    }
+                    break;
+                default: // DOUBLE
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = (double) longs[i];
+                    }
+            }
+        }
+
+        private void storeDoubles(double[] values, int targetOffset, int length) {
+            if (isTargetBoxed) {
+                Object[] array = (Object[]) target;
+                if (targetType == StandardNumberType.FLOAT) {
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = (float) values[i];
+                    }
+                } else {
+                    for (int i = 0; i < length; ++i) {
+                        array[targetOffset + i] = values[i];
+                    }
+                }
+            } else if (targetType == StandardNumberType.FLOAT) {
+                float[] floats = (float[]) target;
+                for (int i = 0; i < length; ++i) {
+                    floats[targetOffset + i] = (float) values[i];
+                }
+            } else {
+                System.arraycopy(values, 0, target, targetOffset, length);
+            }
+        }
+
+        private static Number getNonNullElement(Object[] array, int index) {
+            Number element = (Number) array[index];
+            if (element == null) {
+                throw new NullPointerException("The element at index " + index + " is null");
+            }
+            return element;
+        }
+    }
+}
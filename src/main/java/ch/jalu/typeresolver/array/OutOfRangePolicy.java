@@ -0,0 +1,30 @@
+package ch.jalu.typeresolver.array;
+
+import ch.jalu.typeresolver.numbers.NumberType;
+
+/**
+ * Defines how {@link NumberArrayConverter} handles values that cannot be represented by the target type without
+ * loss of magnitude, such as 200 when converting to {@code byte}, or NaN when converting to {@code int}. Each entry
+ * corresponds to a conversion method of {@link NumberType}.
+ */
+public enum OutOfRangePolicy {
+
+    /**
+     * Values are cast to the target type, as done by {@link NumberType#convertUnsafe}: for example, 200 is converted
+     * to the byte -56.
+     */
+    UNSAFE,
+
+    /**
+     * Values are converted to the closest value of the target type, as done by {@link NumberType#convertToBounds}:
+     * for example, 200 is converted to the byte 127, and NaN is converted to 0.
+     */
+    TO_BOUNDS,
+
+    /**
+     * An exception is thrown for the first value that is out of range. Analogous to
+     * {@link NumberType#convertIfNoLossOfMagnitude}.
+     */
+    FAIL
+
+}
@@ -0,0 +1,621 @@
+package ch.jalu.typeresolver.array;
+
+import ch.jalu.typeresolver.classutil.ClassUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Parallel operations on arrays of any type, which process large arrays on a {@link ForkJoinPool}. Each operation
+ * splits the array into ranges until a range has no more elements than the <i>sequential threshold</i>; ranges of
+ * this size are processed sequentially. Arrays that are not larger than the threshold are processed entirely on the
+ * calling thread.
+ * <p>
+ * The implementation of each operation is determined by the array's {@link ArrayComponentType}. The methods with
+ * primitive functions, such as {@link #setAllInt}, do not box the array elements. The methods with functions on
+ * objects, such as {@link #setAll}, may be used for arrays of any type, but box the elements of primitive arrays.
+ * <p>
+ * The static methods in {@link ArrayUtils}, such as {@link ArrayUtils#parallelFill(Object, Object)}, use the
+ * {@link #getDefault() default instance}.
+ */
+public final class ParallelArrayOps {
+
+    /** Default sequential threshold, which corresponds to the threshold of {@link java.util.Arrays#parallelSort}. */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private static final ParallelArrayOps DEFAULT =
+        new ParallelArrayOps(DEFAULT_SEQUENTIAL_THRESHOLD, ForkJoinPool.commonPool());
+
+    /** Max number of chunks per thread into which a radix sort pass is split. */
+    private static final int RADIX_CHUNKS_PER_THREAD = 4;
+
+    private final int sequentialThreshold;
+    private final ForkJoinPool pool;
+
+    private ParallelArrayOps(int sequentialThreshold, ForkJoinPool pool) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("The sequential threshold must be positive, but was "
+                + sequentialThreshold);
+        }
+        this.sequentialThreshold = sequentialThreshold;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the default instance, which uses the {@link #DEFAULT_SEQUENTIAL_THRESHOLD default threshold} and the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @return the default instance
+     */
+    public static ParallelArrayOps getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates an instance with the given sequential threshold, which uses the common pool.
+     *
+     * @param sequentialThreshold max number of elements that are processed sequentially (must be positive)
+     * @return new instance with the threshold
+     */
+    public static ParallelArrayOps create(int sequentialThreshold) {
+        return new ParallelArrayOps(sequentialThreshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an instance with the given sequential threshold and pool.
+     *
+     * @param sequentialThreshold max number of elements that are processed sequentially (must be positive)
+     * @param pool the pool to run the tasks on
+     * @return new instance with the given properties
+     */
+    public static ParallelArrayOps create(int sequentialThreshold, ForkJoinPool pool) {
+        return new ParallelArrayOps(sequentialThreshold, pool);
+    }
+
+    /**
+     * @return max number of elements that are processed sequentially
+     */
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * Fills the array with the given value. See {@link ArrayUtils#fill(Object, Object)}.
+     *
+     * @param a the array to fill (e.g. String[] or double[])
+     * @param val the value to fill the array with
+     */
+    public void fill(Object a, Object val) {
+        ArrayOps ops = ArrayUtils.getOps(a);
+        fill(ops, a, 0, ops.getLength(a), val);
+    }
+
+    /**
+     * Fills the given range of the array with the given value. See {@link ArrayUtils#fill(Object, int, int, Object)}.
+     *
+     * @param a the array to fill (e.g. String[] or double[])
+     * @param fromIndex start index of the range to fill with the value (inclusive)
+     * @param toIndex end index of the range to fill with the value (exclusive)
+     * @param val the value to fill the array with
+     */
+    public void fill(Object a, int fromIndex, int toIndex, Object val) {
+        ArrayOps ops = ArrayUtils.getOps(a);
+        StandardArrayOps.checkRange(ops.getLength(a), fromIndex, toIndex);
+        fill(ops, a, fromIndex, toIndex, val);
+    }
+
+    /**
+     * Sets each element of the array to the value returned by the generator for its index. The generator may be
+     * called concurrently. The values must match the array's component type; values for primitive arrays are unboxed.
+     * Use {@link #setAllInt}, {@link #setAllLong}, {@link #setAllDouble} or {@link #setAllBoolean} to initialize
+     * primitive arrays without boxing.
+     *
+     * @param array the array to initialize
+     * @param generator function returning the value for an index
+     */
+    public void setAll(Object array, IntFunction<?> generator) {
+        ArrayOps ops = ArrayUtils.getOps(array);
+        if (ops.getComponentType() == ArrayComponentType.OBJECT) {
+            Object[] arr = (Object[]) array;
+            forEachRange(0, arr.length, (from, to) -> {
+                for (int i = from; i < to; ++i) {
+                    arr[i] = generator.apply(i);
+                }
+            });
+        } else {
+            forEachRange(0, ops.getLength(array), (from, to) -> {
+                for (int i = from; i < to; ++i) {
+                    ops.set(array, i, generator.apply(i));
+                }
+            });
+        }
+    }
+
+    /**
+     * Sets each element of the array to the value returned by the generator for its index. The generator may be
+     * called concurrently. The array must be a {@code byte[]}, {@code char[]}, {@code short[]} or {@code int[]};
+     * the values are narrowed to the component type with a cast.
+     *
+     * @param array the array to initialize
+     * @param generator function returning the value for an index
+     */
+    public void setAllInt(Object array, IntUnaryOperator generator) {
+        switch (ArrayUtils.getOps(array).getComponentType()) {
+            case BYTE:
+                byte[] bytes = (byte[]) array;
+                forEachRange(0, bytes.length, (from, to) -> {
+                    for (int i = from; i < to; ++i) {
+                        bytes[i] = (byte) generator.applyAsInt(i);
+                    }
+                });
+                break;
+            case CHARACTER:
+                char[] chars = (char[]) array;
+                forEachRange(0, chars.length, (from, to) -> {
+                    for (int i = from; i < to; ++i) {
+                        chars[i] = (char) generator.applyAsInt(i);
+                    }
+                });
+                break;
+            case SHORT:
+                short[] shorts = (short[]) array;
+                forEachRange(0, shorts.length, (from, to) -> {
+                    for (int i = from; i < to; ++i) {
+                        shorts[i] = (short) generator.applyAsInt(i);
+                    }
+                });
+                break;
+            case INTEGER:
+                int[] ints = (int[]) array;
+                forEachRange(0, ints.length, (from, to) -> {
+                    for (int i = from; i < to; ++i) {
+                        ints[i] = generator.applyAsInt(i);
+                    }
+                });
+                break;
+            default:
+                throw newUnsupportedArrayException(array, "byte[], char[], short[] or int[]");
+        }
+    }
+
+    /**
+     * Sets each element of the array to the value returned by the generator for its index. The generator may be
+     * called concurrently. The array must be a {@code long[]}.
+     *
+     * @param array the array to initialize
+     * @param generator function returning the value for an index
+     */
+    public void setAllLong(Object array, IntToLongFunction generator) {
+        if (!(array instanceof long[])) {
+            throw newUnsupportedArrayException(array, "long[]");
+        }
+        long[] longs = (long[]) array;
+        forEachRange(0, longs.length, (from, to) -> {
+            for (int i = from; i < to; ++i) {
+                longs[i] = generator.applyAsLong(i);
+            }
+        });
+    }
+
+    /**
+     * Sets each element of the array to the value returned by the generator for its index. The generator may be
+     * called concurrently. The array must be a {@code float[]} or {@code double[]}; the values are narrowed to
+     * float with a cast for {@code float[]}.
+     *
+     * @param array the array to initialize
+     * @param generator function returning the value for an index
+     */
+    public void setAllDouble(Object array, IntToDoubleFunction generator) {
+        if (array instanceof float[]) {
+            float[] floats = (float[]) array;
+            forEachRange(0, floats.length, (from, to) -> {
+                for (int i = from; i < to; ++i) {
+                    floats[i] = (float) generator.applyAsDouble(i);
+                }
+            });
+        } else if (array instanceof double[]) {
+            double[] doubles = (double[]) array;
+            forEachRange(0, doubles.length, (from, to) -> {
+                for (int i = from; i < to; ++i) {
+                    doubles[i] = generator.applyAsDouble(i);
+                }
+            });
+        } else {
+            throw newUnsupportedArrayException(array, "float[] or double[]");
+        }
+    }
+
+    /**
+     * Sets each element of the array to the value returned by the generator for its index. The generator may be
+     * called concurrently. The array must be a {@code boolean[]}.
+     *
+     * @param array the array to initialize
+     * @param generator function returning the value for an index
+     */
+    public void setAllBoolean(Object array, IntPredicate generator) {
+        if (!(array instanceof boolean[])) {
+            throw newUnsupportedArrayException(array, "boolean[]");
+        }
+        boolean[] booleans = (boolean[]) array;
+        forEachRange(0, booleans.length, (from, to) -> {
+            for (int i = from; i < to; ++i) {
+                booleans[i] = generator.test(i);
+            }
+        });
+    }
+
+    /**
+     * Cumulates each element of the array in place with the given function, such that each element is replaced by
+     * the combination of all elements up to and including it. For example, the array {@code [2, 1, 0, 3]} becomes
+     * {@code [2, 3, 3, 6]} with addition. The function must be associative and free of side effects, as it is
+     * applied to ranges of the array concurrently. See {@link java.util.Arrays#parallelPrefix(Object[],
+     * BinaryOperator)}.
+     * <p>
+     * This method can be used for arrays of any type but boxes the elements of primitive arrays. Use
+     * {@link #prefixInt}, {@link #prefixLong} or {@link #prefixDouble} to avoid boxing.
+     *
+     * @param array the array to cumulate
+     * @param op the associative function to combine two elements with
+     * @param <T> the element type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void prefix(Object array, BinaryOperator<T> op) {
+        ArrayOps ops = ArrayUtils.getOps(array);
+        if (ops.getComponentType() == ArrayComponentType.OBJECT) {
+            T[] arr = (T[]) array;
+            prefix(arr.length, (carryIndex, from, to, running) -> {
+                T carry = arr[carryIndex];
+                for (int i = from; i < to; ++i) {
+                    T value = op.apply(carry, arr[i]);
+                    arr[i] = value;
+                    carry = running ? value : carry;
+                }
+            });
+        } else {
+            prefix(ops.getLength(array), (carryIndex, from, to, running) -> {
+                T carry = (T) ops.get(array, carryIndex);
+                for (int i = from; i < to; ++i) {
+                    T value = op.apply(carry, (T) ops.get(array, i));
+                    ops.set(array, i, value);
+                    carry = running ? value : carry;
+                }
+            });
+        }
+    }
+
+    /**
+     * Cumulates each element of the array in place with the given function. See {@link #prefix} for details.
+     * The array must be a {@code byte[]}, {@code char[]}, {@code short[]} or {@code int[]}; the result of each
+     * function call is narrowed to the component type with a cast. The function must therefore also be associative
+     * with respect to the narrowing (which is the case for addition, multiplication, min, max and bit operations).
+     *
+     * @param array the array to cumulate
+     * @param op the associative function to combine two elements with
+     */
+    public void prefixInt(Object array, IntBinaryOperator op) {
+        switch (ArrayUtils.getOps(array).getComponentType()) {
+            case BYTE:
+                byte[] bytes = (byte[]) array;
+                prefix(bytes.length, (carryIndex, from, to, running) -> {
+                    byte carry = bytes[carryIndex];
+                    for (int i = from; i < to; ++i) {
+                        byte value = (byte) op.applyAsInt(carry, bytes[i]);
+                        bytes[i] = value;
+                        carry = running ? value : carry;
+                    }
+                });
+                break;
+            case CHARACTER:
+                char[] chars = (char[]) array;
+                prefix(chars.length, (carryIndex, from, to, running) -> {
+                    char carry = chars[carryIndex];
+                    for (int i = from; i < to; ++i) {
+                        char value = (char) op.applyAsInt(carry, chars[i]);
+                        chars[i] = value;
+                        carry = running ? value : carry;
+                    }
+                });
+                break;
+            case SHORT:
+                short[] shorts = (short[]) array;
+                prefix(shorts.length, (carryIndex, from, to, running) -> {
+                    short carry = shorts[carryIndex];
+                    for (int i = from; i < to; ++i) {
+                        short value = (short) op.applyAsInt(carry, shorts[i]);
+                        shorts[i] = value;
+                        carry = running ? value : carry;
+                    }
+                });
+                break;
+            case INTEGER:
+                int[] ints = (int[]) array;
+                prefix(ints.length, (carryIndex, from, to, running) -> {
+                    int carry = ints[carryIndex];
+                    for (int i = from; i < to; ++i) {
+                        int value = op.applyAsInt(carry, ints[i]);
+                        ints[i] = value;
+                        carry = running ? value : carry;
+                    }
+                });
+                break;
+            default:
+                throw newUnsupportedArrayException(array, "byte[], char[], short[] or int[]");
+        }
+    }
+
+    /**
+     * Cumulates each element of the array in place with the given function. See {@link #prefix} for details.
+     * The array must be a {@code long[]}.
+     *
+     * @param array the array to cumulate
+     * @param op the associative function to combine two elements with
+     */
+    public void prefixLong(Object array, LongBinaryOperator op) {
+        if (!(array instanceof long[])) {
+            throw newUnsupportedArrayException(array, "long[]");
+        }
+        long[] longs = (long[]) array;
+        prefix(longs.length, (carryIndex, from, to, running) -> {
+            long carry = longs[carryIndex];
+            for (int i = from; i < to; ++i) {
+                long value = op.applyAsLong(carry, longs[i]);
+                longs[i] = value;
+                carry = running ? value : carry;
+            }
+        });
+    }
+
+    /**
+     * Cumulates each element of the array in place with the given function. See {@link #prefix} for details.
+     * The array must be a {@code float[]} or {@code double[]}; the result of each function call is narrowed to float
+     * with a cast for {@code float[]}. Note that floating-point addition is not strictly associative, so the result
+     * may differ slightly from a sequential computation.
+     *
+     * @param array the array to cumulate
+     * @param op the associative function to combine two elements with
+     */
+    public void prefixDouble(Object array, DoubleBinaryOperator op) {
+        if (array instanceof float[]) {
+            float[] floats = (float[]) array;
+            prefix(floats.length, (carryIndex, from, to, running) -> {
+                float carry = floats[carryIndex];
+                for (int i = from; i < to; ++i) {
+                    float value = (float) op.applyAsDouble(carry, floats[i]);
+                    floats[i] = value;
+                    carry = running ? value : carry;
+                }
+            });
+        } else if (array instanceof double[]) {
+            double[] doubles = (double[]) array;
+            prefix(doubles.length, (carryIndex, from, to, running) -> {
+                double carry = doubles[carryIndex];
+                for (int i = from; i < to; ++i) {
+                    double value = op.applyAsDouble(carry, doubles[i]);
+                    doubles[i] = value;
+                    carry = running ? value : carry;
+                }
+            });
+        } else {
+            throw newUnsupportedArrayException(array, "float[] or double[]");
+        }
+    }
+
+    /**
+     * Copies the given number of elements from the source array to the destination array, like
+     * {@link System#arraycopy}. If the source and destination ranges overlap in the same array, the elements are
+     * copied sequentially.
+     * <p>
+     * All arguments are validated before any element is copied, with the exception of elements of reference arrays
+     * that cannot be stored in the destination array: in this case, an {@link ArrayStoreException} is thrown and
+     * some elements may have been copied already.
+     *
+     * @param src the source array
+     * @param srcPos start index in the source array
+     * @param dest the destination array
+     * @param destPos start index in the destination array
+     * @param length the number of elements to copy
+     */
+    public void copy(Object src, int srcPos, Object dest, int destPos, int length) {
+        // Verifies that the arguments are arrays of compatible types
+        System.arraycopy(src, srcPos, dest, destPos, 0);
+        int srcLength = ArrayUtils.getOps(src).getLength(src);
+        int destLength = ArrayUtils.getOps(dest).getLength(dest);
+        if (srcPos < 0 || destPos < 0 || length < 0
+            || srcPos > srcLength - length || destPos > destLength - length) {
+            throw new ArrayIndexOutOfBoundsException("Cannot copy " + length + " elements from index " + srcPos
+                + " of an array of length " + srcLength + " to index " + destPos + " of an array of length "
+                + destLength);
+        }
+
+        if (src == dest && Math.abs(srcPos - destPos) < length) {
+            System.arraycopy(src, srcPos, dest, destPos, length);
+        } else {
+            int offset = destPos - srcPos;
+            forEachRange(srcPos, srcPos + length,
+                (from, to) -> System.arraycopy(src, from, dest, from + offset, to - from));
+        }
+    }
+
+    /**
+     * Sorts the array with the given strategy. See {@link #sort(Object, int, int, SortStrategy)}.
+     *
+     * @param a the array to sort (e.g. String[] or double[])
+     * @param strategy the sort strategy
+     */
+    public void sort(Object a, SortStrategy strategy) {
+        sort(a, 0, ArrayUtils.getOps(a).getLength(a), strategy);
+    }
+
+    /**
+     * Sorts the given range of the array with the given strategy. With {@link SortStrategy#DEFAULT}, this method
+     * delegates to {@link ArrayUtils#parallelSort(Object, int, int)}; note that the methods of {@link Arrays} always
+     * run on the {@link ForkJoinPool#commonPool() common pool}. With {@link SortStrategy#RADIX}, each radix pass is
+     * split into chunks of at least the sequential threshold (at most four per thread of the pool), which are
+     * processed in parallel on this instance's pool.
+     *
+     * @param a the array to sort (e.g. String[] or double[])
+     * @param fromIndex start index (inclusive) of the range that should be sorted
+     * @param toIndex end index (exclusive) of the range that should be sorted
+     * @param strategy the sort strategy
+     */
+    public void sort(Object a, int fromIndex, int toIndex, SortStrategy strategy) {
+        if (strategy == SortStrategy.RADIX) {
+            long chunksByThreshold = ((long) toIndex - fromIndex + sequentialThreshold - 1) / sequentialThreshold;
+            int chunkCount = (int) Math.min(chunksByThreshold, (long) pool.getParallelism() * RADIX_CHUNKS_PER_THREAD);
+            RadixSort.sort(a, fromIndex, toIndex, Math.max(chunkCount, 1), (count, action) ->
+                forEachRange(0, count, 1, (fromChunk, toChunk) -> {
+                    for (int chunk = fromChunk; chunk < toChunk; ++chunk) {
+                        action.accept(chunk);
+                    }
+                }));
+        } else {
+            ArrayUtils.getOps(a).parallelSort(a, fromIndex, toIndex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelArrayOps[sequentialThreshold=" + sequentialThreshold + "]";
+    }
+
+    private void fill(ArrayOps ops, Object a, int fromIndex, int toIndex, Object val) {
+        StandardArrayOps.verifyArgumentMatchesComponentType(val, ops.getComponentType(), "val");
+        forEachRange(fromIndex, toIndex, (from, to) -> ops.fill(a, from, to, val));
+    }
+
+    /**
+     * Performs the given action on the range [from, to), which is split into ranges that are processed in parallel
+     * if it is larger than the sequential threshold.
+     *
+     * @param from start of the range (inclusive)
+     * @param to end of the range (exclusive)
+     * @param action the action to perform on each range
+     */
+    private void forEachRange(int from, int to, RangeAction action) {
+        forEachRange(from, to, sequentialThreshold, action);
+    }
+
+    private void forEachRange(int from, int to, int granularity, RangeAction action) {
+        if (to - from <= granularity || pool.getParallelism() <= 1) {
+            action.apply(from, to);
+        } else {
+            pool.invoke(new RangeTask(from, to, granularity, action));
+        }
+    }
+
+    /**
+     * Computes a prefix over an array of the given length in three phases. The array is divided into chunks whose
+     * size is the sequential threshold. First, the prefix within each chunk is computed in parallel. Second, the
+     * last element of each chunk is combined with the (final) last element of the previous chunk, sequentially.
+     * Third, all other elements of each chunk are combined with the last element of the previous chunk in parallel.
+     *
+     * @param length the length of the array
+     * @param action the prefix action for the array's type
+     */
+    private void prefix(int length, PrefixAction action) {
+        int chunkCount = (int) (((long) length + sequentialThreshold - 1) / sequentialThreshold);
+        if (chunkCount <= 1 || pool.getParallelism() <= 1) {
+            if (length > 1) {
+                action.apply(0, 1, length, true);
+            }
+            return;
+        }
+
+        forEachRange(0, chunkCount, 1, (fromChunk, toChunk) -> {
+            for (int chunk = fromChunk; chunk < toChunk; ++chunk) {
+                int start = chunk * sequentialThreshold;
+                action.apply(start, start + 1, getChunkEnd(chunk, length), true);
+            }
+        });
+        for (int chunk = 1; chunk < chunkCount; ++chunk) {
+            int end = getChunkEnd(chunk, length);
+            action.apply(chunk * sequentialThreshold - 1, end - 1, end, false);
+        }
+        forEachRange(1, chunkCount, 1, (fromChunk, toChunk) -> {
+            for (int chunk = fromChunk; chunk < toChunk; ++chunk) {
+                int start = chunk * sequentialThreshold;
+                action.apply(start - 1, start, getChunkEnd(chunk, length) - 1, false);
+            }
+        });
+    }
+
+    private int getChunkEnd(int chunk, int length) {
+        return (int) Math.min((long) (chunk + 1) * sequentialThreshold, length);
+    }
+
+    private static IllegalArgumentException newUnsupportedArrayException(Object array, String expectedTypes) {
+        return new IllegalArgumentException("Expected an array of type " + expectedTypes + ", but got: "
+            + ClassUtils.getSemanticName(array));
+    }
+
+    /**
+     * Action performed on a range of indices.
+     */
+    @FunctionalInterface
+    private interface RangeAction {
+
+        void apply(int from, int to);
+
+    }
+
+    /**
+     * Action that combines elements of an array with a preceding element for the computation of a prefix.
+     */
+    @FunctionalInterface
+    private interface PrefixAction {
+
+        /**
+         * Combines each element in the range [from, to) with the element at the carry index, and stores the result.
+         * If running is true, the carry is the result of the previous element instead (the carry index is then the
+         * index before {@code from}), i.e. a prefix is computed over the range.
+         *
+         * @param carryIndex index of the element to combine the first element with
+         * @param from start of the range (inclusive)
+         * @param to end of the range (exclusive)
+         * @param running whether each element is combined with the result of the previous element
+         */
+        void apply(int carryIndex, int from, int to, boolean running);
+
+    }
+
+    /**
+     * Task that performs an action on a range, splitting it in half until the range has no more elements than the
+     * granularity.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int granularity;
+        private final transient RangeAction action;
+
+        RangeTask(int from, int to, int granularity, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.granularity = granularity;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= granularity) {
+                action.apply(from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RangeTask(from, mid, granularity, action), new RangeTask(mid, to, granularity, action));
+            }
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package ch.jalu.typeresolver.array;
+
+/**
+ * Represents primitive values of any type as a {@code long}, so that operations on elements of different types can
+ * be implemented once. The bits of a value are:
+ * <ul>
+ *   <li>boolean: 1 for true, 0 for false (any other value is also interpreted as true)</li>
+ *   <li>byte, short, int, long: the value itself (sign-extended)</li>
+ *   <li>char: the value itself (zero-extended)</li>
+ *   <li>float, double: the raw bits of the value, as returned by {@link Float#floatToRawIntBits} and
+ *       {@link Double#doubleToRawLongBits} (sign-extended)</li>
+ * </ul>
+ * Raw bits may differ for equal elements (e.g. NaN values with a different payload); the {@link #canonicalize
+ * canonical} bits are equal if and only if the elements are equal according to {@link java.util.Arrays#equals}.
+ */
+final class PrimitiveBits {
+
+    private static final int FLOAT_MAGNITUDE_MASK = 0x7FFF_FFFF;
+    private static final long DOUBLE_MAGNITUDE_MASK = 0x7FFF_FFFF_FFFF_FFFFL;
+    private static final int FLOAT_SIGN_SHIFT = 31;
+    private static final int DOUBLE_SIGN_SHIFT = 63;
+
+    private PrimitiveBits() {
+    }
+
+    /**
+     * Returns the canonical bits of the value: booleans are 0 or 1, and floating-point values are represented as
+     * returned by {@link Float#floatToIntBits} and {@link Double#doubleToLongBits}, which collapse all NaN values.
+     *
+     * @param componentType the component type of the value
+     * @param bits the bits of the value
+     * @return the canonical bits
+     */
+    static long canonicalize(ArrayComponentType componentType, long bits) {
+        switch (componentType) {
+            case BOOLEAN:
+                return bits == 0 ? 0 : 1;
+            case FLOAT:
+                return Float.floatToIntBits(Float.intBitsToFloat((int) bits));
+            case DOUBLE:
+                return Double.doubleToLongBits(Double.longBitsToDouble(bits));
+            default:
+                return bits;
+        }
+    }
+
+    /**
+     * Returns a key for the value, whose signed order is the order in which {@link java.util.Arrays#sort} sorts the
+     * elements. For floating-point types, the key orders {@code -0.0} before {@code 0.0} and NaN after all other
+     * values, like {@link Double#compare}.
+     *
+     * @param componentType the component type of the value
+     * @param bits the bits of the value
+     * @return the sort key
+     */
+    static long toSortKey(ArrayComponentType componentType, long bits) {
+        switch (componentType) {
+            case BOOLEAN:
+                return bits == 0 ? 0 : 1;
+            case FLOAT:
+                int floatBits = Float.floatToIntBits(Float.intBitsToFloat((int) bits));
+                // Negative values have the sign bit set: flip the magnitude so that larger magnitudes sort first
+                return floatBits ^ ((floatBits >> FLOAT_SIGN_SHIFT) & FLOAT_MAGNITUDE_MASK);
+            case DOUBLE:
+                long doubleBits = Double.doubleToLongBits(Double.longBitsToDouble(bits));
+                return doubleBits ^ ((doubleBits >> DOUBLE_SIGN_SHIFT) & DOUBLE_MAGNITUDE_MASK);
+            default:
+                return bits;
+        }
+    }
+
+    /**
+     * Returns the hash code of the value, as used by {@link java.util.Arrays#hashCode}.
+     *
+     * @param componentType the component type of the value
+     * @param bits the bits of the value
+     * @return the hash code of the value
+     */
+    static int hashCode(ArrayComponentType componentType, long bits) {
+        switch (componentType) {
+            case BOOLEAN:
+                return Boolean.hashCode(bits != 0);
+            case LONG:
+            case DOUBLE:
+                return Long.hashCode(canonicalize(componentType, bits));
+            default:
+                return (int) canonicalize(componentType, bits);
+        }
+    }
+
+    /**
+     * Returns the bits of the given boxed value.
+     *
+     * @param componentType the component type of the value
+     * @param value the value, which must match the component type
+     * @return the bits of the value
+     */
+    static long toBits(ArrayComponentType componentType, Object value) {
+        switch (componentType) {
+            case BOOLEAN:
+                return (Boolean) value ? 1 : 0;
+            case BYTE:
+                return (Byte) value;
+            case CHARACTER:
+                return (Character) value;
+            case SHORT:
+                return (Short) value;
+            case INTEGER:
+                return (Integer) value;
+            case LONG:
+                return (Long) value;
+            case FLOAT:
+                return Float.floatToRawIntBits((Float) value);
+            case DOUBLE:
+                return Double.doubleToRawLongBits((Double) value);
+            default:
+                throw newUnsupportedTypeException(componentType);
+        }
+    }
+
+    /**
+     * Returns the boxed value that the given bits represent.
+     *
+     * @param componentType the component type of the value
+     * @param bits the bits of the value
+     * @return the boxed value
+     */
+    static Object fromBits(ArrayComponentType componentType, long bits) {
+        switch (componentType) {
+            case BOOLEAN:
+                return bits != 0;
+            case BYTE:
+                return (byte) bits;
+            case CHARACTER:
+                return (char) bits;
+            case SHORT:
+                return (short) bits;
+            case INTEGER:
+                return (int) bits;
+            case LONG:
+                return bits;
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            default:
+                throw newUnsupportedTypeException(componentType);
+        }
+    }
+
+    /**
+     * Returns the bits of the element at the given index of the primitive array.
+     *
+     * @param componentType the component type of the array
+     * @param array the array
+     * @param index the index of the element
+     * @return the bits of the element
+     */
+    static long getBits(ArrayComponentType componentType, Object array, int index) {
+        switch (componentType) {
+            case BOOLEAN:
+                return ((boolean[]) array)[index] ? 1 : 0;
+            case BYTE:
+                return ((byte[]) array)[index];
+            case CHARACTER:
+                return ((char[]) array)[index];
+            case SHORT:
+                return ((short[]) array)[index];
+            case INTEGER:
+                return ((int[]) array)[index];
+            case LONG:
+                return ((long[]) array)[index];
+            case FLOAT:
+                return Float.floatToRawIntBits(((float[]) array)[index]);
+            case DOUBLE:
+                return Double.doubleToRawLongBits(((double[]) array)[index]);
+            default:
+                throw newUnsupportedTypeException(componentType);
+        }
+    }
+
+    /**
+     * Sets the element at the given index of the primitive array to the value of the given bits.
+     *
+     * @param componentType the component type of the array
+     * @param array the array
+     * @param index the index of the element
+     * @param bits the bits of the value to set
+     */
+    static void setBits(ArrayComponentType componentType, Object array, int index, long bits) {
+        switch (componentType) {
+            case BOOLEAN:
+                ((boolean[]) array)[index] = bits != 0;
+                break;
+            case BYTE:
+                ((byte[]) array)[index] = (byte) bits;
+                break;
+            case CHARACTER:
+                ((char[]) array)[index] = (char) bits;
+                break;
+            case SHORT:
+                ((short[]) array)[index] = (short) bits;
+                break;
+            case INTEGER:
+                ((int[]) array)[index] = (int) bits;
+                break;
+            case LONG:
+                ((long[]) array)[index] = bits;
+                break;
+            case FLOAT:
+                ((float[]) array)[index] = Float.intBitsToFloat((int) bits);
+                break;
+            case DOUBLE:
+                ((double[]) array)[index] = Double.longBitsToDouble(bits);
+                break;
+            default:
+                throw newUnsupportedTypeException(componentType);
+        }
+    }
+
+    private static IllegalArgumentException newUnsupportedTypeException(ArrayComponentType componentType) {
+        return new IllegalArgumentException("Expected a primitive component type, but got: " + componentType);
+    }
+}
@@ -0,0 +1,437 @@
+package ch.jalu.typeresolver.array;
+
+import ch.jalu.typeresolver.classutil.ClassUtils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Implements {@link SortStrategy#RADIX}: sorts primitive arrays without comparing their elements.
+ * <p>
+ * Byte, char and short arrays are sorted by counting the occurrences of each value. Int, long, float and double
+ * arrays are sorted with a least significant digit radix sort with 8-bit digits, which distributes the elements into
+ * buckets by one digit after the other; each pass is stable, so the order of the previous digits is preserved. A pass
+ * is skipped if all elements have the same digit, which makes arrays with small values faster to sort. Floating-point
+ * values are sorted by a key derived from their bits, which orders them like {@link Arrays#sort(double[])}: negative
+ * numbers are before positive ones, {@code -0.0} is before {@code 0.0}, and NaN values are at the end.
+ * <p>
+ * A radix pass can be split into chunks that are processed in parallel: first, the digits of each chunk are counted;
+ * second, the target index of each chunk's first element per digit is computed sequentially; third, each chunk moves
+ * its elements to the computed indices. The sequential sort is the same algorithm with one chunk. Counting sorts are
+ * always performed sequentially, as they are limited by memory bandwidth rather than by computation.
+ */
+final class RadixSort {
+
+    /** Ranges smaller than this are sorted with {@link Arrays#sort(int[], int, int)} etc. */
+    private static final int RADIX_SORT_THRESHOLD = 64;
+    /** Char and short ranges smaller than this are sorted with {@link Arrays#sort(char[], int, int)} etc. */
+    private static final int COUNTING_SORT_16_BIT_THRESHOLD = 1 << 12;
+
+    private static final int DIGIT_BITS = 8;
+    private static final int DIGIT_COUNT = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = DIGIT_COUNT - 1;
+    /** Flips the sign bit of the most significant digit so that negative values are sorted before positive ones. */
+    private static final int SIGNED_DIGIT_FLIP = DIGIT_COUNT >>> 1;
+
+    private static final int FLOAT_ABS_MASK = Integer.MAX_VALUE;
+    private static final int FLOAT_INFINITY_BITS = Float.floatToRawIntBits(Float.POSITIVE_INFINITY);
+    private static final long DOUBLE_ABS_MASK = Long.MAX_VALUE;
+    private static final long DOUBLE_INFINITY_BITS = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+
+    /** Executor that processes all chunks on the calling thread. */
+    static final ChunkExecutor SEQUENTIAL = (chunkCount, action) -> {
+        for (int chunk = 0; chunk < chunkCount; ++chunk) {
+            action.accept(chunk);
+        }
+    };
+
+    private RadixSort() {
+    }
+
+    /**
+     * Sorts the given range of the array sequentially.
+     *
+     * @param array the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     */
+    static void sort(Object array, int fromIndex, int toIndex) {
+        sort(array, fromIndex, toIndex, 1, SEQUENTIAL);
+    }
+
+    /**
+     * Sorts the given range of the array, splitting each radix pass into the given number of chunks.
+     *
+     * @param array the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     * @param chunkCount the number of chunks to split the range into (positive)
+     * @param executor the executor to process the chunks with
+     */
+    static void sort(Object array, int fromIndex, int toIndex, int chunkCount, ChunkExecutor executor) {
+        ArrayOps ops = ArrayUtils.getOps(array);
+        StandardArrayOps.checkRange(ops.getLength(array), fromIndex, toIndex);
+        ArrayComponentType componentType = ops.getComponentType();
+        if (componentType == ArrayComponentType.OBJECT) {
+            throw new IllegalArgumentException("Radix sort is not supported for arrays of type: "
+                + ClassUtils.getSemanticName(array));
+        }
+
+        int length = toIndex - fromIndex;
+        int effectiveChunkCount = Math.max(1, Math.min(chunkCount, length / RADIX_SORT_THRESHOLD));
+        switch (componentType) {
+            case BOOLEAN:
+                ArrayUtils.simpleBooleanArraySort((boolean[]) array, fromIndex, toIndex);
+                break;
+            case BYTE:
+                countingSort((byte[]) array, fromIndex, toIndex);
+                break;
+            case CHARACTER:
+                if (length < COUNTING_SORT_16_BIT_THRESHOLD) {
+                    Arrays.sort((char[]) array, fromIndex, toIndex);
+                } else {
+                    countingSort((char[]) array, fromIndex, toIndex);
+                }
+                break;
+            case SHORT:
+                if (length < COUNTING_SORT_16_BIT_THRESHOLD) {
+                    Arrays.sort((short[]) array, fromIndex, toIndex);
+                } else {
+                    countingSort((short[]) array, fromIndex, toIndex);
+                }
+                break;
+            case INTEGER:
+                if (length < RADIX_SORT_THRESHOLD) {
+                    Arrays.sort((int[]) array, fromIndex, toIndex);
+                } else {
+                    radixSort((int[]) array, fromIndex, toIndex, true, effectiveChunkCount, executor);
+                }
+                break;
+            case LONG:
+                if (length < RADIX_SORT_THRESHOLD) {
+                    Arrays.sort((long[]) array, fromIndex, toIndex);
+                } else {
+                    radixSort((long[]) array, fromIndex, toIndex, true, effectiveChunkCount, executor);
+                }
+                break;
+            case FLOAT:
+                if (length < RADIX_SORT_THRESHOLD) {
+                    Arrays.sort((float[]) array, fromIndex, toIndex);
+                } else {
+                    radixSort((float[]) array, fromIndex, toIndex, effectiveChunkCount, executor);
+                }
+                break;
+            case DOUBLE:
+                if (length < RADIX_SORT_THRESHOLD) {
+                    Arrays.sort((double[]) array, fromIndex, toIndex);
+                } else {
+                    radixSort((double[]) array, fromIndex, toIndex, effectiveChunkCount, executor);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unhandled component type: " + componentType);
+        }
+    }
+
+    private static void countingSort(byte[] array, int fromIndex, int toIndex) {
+        int[] counts = new int[1 << Byte.SIZE];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            ++counts[array[i] - Byte.MIN_VALUE];
+        }
+        int index = fromIndex;
+        for (int value = 0; value < counts.length; ++value) {
+            int end = index + counts[value];
+            Arrays.fill(array, index, end, (byte) (value + Byte.MIN_VALUE));
+            index = end;
+        }
+    }
+
+    private static void countingSort(char[] array, int fromIndex, int toIndex) {
+        int[] counts = new int[1 << Character.SIZE];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            ++counts[array[i]];
+        }
+        int index = fromIndex;
+        for (int value = 0; value < counts.length; ++value) {
+            int end = index + counts[value];
+            Arrays.fill(array, index, end, (char) value);
+            index = end;
+        }
+    }
+
+    private static void countingSort(short[] array, int fromIndex, int toIndex) {
+        int[] counts = new int[1 << Short.SIZE];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            ++counts[array[i] - Short.MIN_VALUE];
+        }
+        int index = fromIndex;
+        for (int value = 0; value < counts.length; ++value) {
+            int end = index + counts[value];
+            Arrays.fill(array, index, end, (short) (value + Short.MIN_VALUE));
+            index = end;
+        }
+    }
+
+    private static void radixSort(float[] array, int fromIndex, int toIndex, int chunkCount, ChunkExecutor executor) {
+        int length = toIndex - fromIndex;
+        int chunkSize = getChunkSize(length, chunkCount);
+        int[] keys = new int[length];
+        executor.forEachChunk(chunkCount, chunk -> {
+            int end = getChunkEnd(chunk, chunkSize, length);
+            for (int i = chunk * chunkSize; i < end; ++i) {
+                keys[i] = toSortKey(Float.floatToRawIntBits(array[fromIndex + i]));
+            }
+        });
+        radixSort(keys, 0, length, false, chunkCount, executor);
+        executor.forEachChunk(chunkCount, chunk -> {
+            int end = getChunkEnd(chunk, chunkSize, length);
+            for (int i = chunk * chunkSize; i < end; ++i) {
+                array[fromIndex + i] = Float.intBitsToFloat(fromSortKey(keys[i]));
+            }
+        });
+    }
+
+    private static void radixSort(double[] array, int fromIndex, int toIndex, int chunkCount,
+                                  ChunkExecutor executor) {
+        int length = toIndex - fromIndex;
+        int chunkSize = getChunkSize(length, chunkCount);
+        long[] keys = new long[length];
+        executor.forEachChunk(chunkCount, chunk -> {
+            int end = getChunkEnd(chunk, chunkSize, length);
+            for (int i = chunk * chunkSize; i < end; ++i) {
+                keys[i] = toSortKey(Double.doubleToRawLongBits(array[fromIndex + i]));
+            }
+        });
+        radixSort(keys, 0, length, false, chunkCount, executor);
+        executor.forEachChunk(chunkCount, chunk -> {
+            int end = getChunkEnd(chunk, chunkSize, length);
+            for (int i = chunk * chunkSize; i < end; ++i) {
+                array[fromIndex + i] = Double.longBitsToDouble(fromSortKey(keys[i]));
+            }
+        });
+    }
+
+    /**
+     * Returns a key for the bits of a float whose unsigned order corresponds to the order of the float values. The
+     * sign bit is cleared from NaN values so that they are sorted at the end; all other bits are kept so that the
+     * values can be restored by {@link #fromSortKey(int)}.
+     *
+     * @param bits the raw bits of the float
+     * @return the key to sort by
+     */
+    private static int toSortKey(int bits) {
+        int nonNegativeNanBits = (bits & FLOAT_ABS_MASK) > FLOAT_INFINITY_BITS ? bits & FLOAT_ABS_MASK : bits;
+        // Negative values: all bits are flipped; positive values: the sign bit is set
+        return nonNegativeNanBits ^ ((nonNegativeNanBits >> (Integer.SIZE - 1)) | Integer.MIN_VALUE);
+    }
+
+    private static int fromSortKey(int key) {
+        return key < 0 ? key ^ Integer.MIN_VALUE : ~key;
+    }
+
+    private static long toSortKey(long bits) {
+        long nonNegativeNanBits = (bits & DOUBLE_ABS_MASK) > DOUBLE_INFINITY_BITS ? bits & DOUBLE_ABS_MASK : bits;
+        return nonNegativeNanBits ^ ((nonNegativeNanBits >> (Long.SIZE - 1)) | Long.MIN_VALUE);
+    }
+
+    private static long fromSortKey(long key) {
+        return key < 0 ? key ^ Long.MIN_VALUE : ~key;
+    }
+
+    /**
+     * Sorts the given range of the array with a radix sort.
+     *
+     * @param array the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     * @param signed true to sort by the signed order, false to sort by the unsigned order
+     * @param chunkCount the number of chunks each pass is split into
+     * @param executor the executor to process the chunks with
+     */
+    private static void radixSort(int[] array, int fromIndex, int toIndex, boolean signed, int chunkCount,
+                                  ChunkExecutor executor) {
+        int length = toIndex - fromIndex;
+        int[] buffer = new int[length];
+        int[][] offsets = new int[chunkCount][DIGIT_COUNT];
+
+        int[] src = array;
+        int srcOffset = fromIndex;
+        int[] dest = buffer;
+        int destOffset = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+            int digitFlip = signed && shift == Integer.SIZE - DIGIT_BITS ? SIGNED_DIGIT_FLIP : 0;
+            if (radixPass(src, srcOffset, dest, destOffset, length, shift, digitFlip, offsets, executor)) {
+                int[] tmp = src;
+                src = dest;
+                dest = tmp;
+                int tmpOffset = srcOffset;
+                srcOffset = destOffset;
+                destOffset = tmpOffset;
+            }
+        }
+        if (src != array) {
+            System.arraycopy(src, srcOffset, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Distributes the elements of the source range into the destination range by the digit at the given shift,
+     * unless all elements have the same digit.
+     *
+     * @param src the source array
+     * @param srcOffset start index of the range in the source array
+     * @param dest the destination array
+     * @param destOffset start index of the range in the destination array
+     * @param length the number of elements to distribute
+     * @param shift the number of bits to shift the elements by to get the digit
+     * @param digitFlip value to xor the digit with
+     * @param offsets array (one per chunk) to compute the digits' target indices in
+     * @param executor the executor to process the chunks with
+     * @return true if the elements were moved to the destination, false if the pass was skipped
+     */
+    private static boolean radixPass(int[] src, int srcOffset, int[] dest, int destOffset, int length, int shift,
+                                     int digitFlip, int[][] offsets, ChunkExecutor executor) {
+        int chunkSize = getChunkSize(length, offsets.length);
+        executor.forEachChunk(offsets.length, chunk -> {
+            int[] counts = offsets[chunk];
+            Arrays.fill(counts, 0);
+            int end = srcOffset + getChunkEnd(chunk, chunkSize, length);
+            for (int i = srcOffset + chunk * chunkSize; i < end; ++i) {
+                ++counts[((src[i] >>> shift) & DIGIT_MASK) ^ digitFlip];
+            }
+        });
+        if (!computeOffsets(offsets, length, destOffset)) {
+            return false;
+        }
+
+        executor.forEachChunk(offsets.length, chunk -> {
+            int[] chunkOffsets = offsets[chunk];
+            int end = srcOffset + getChunkEnd(chunk, chunkSize, length);
+            for (int i = srcOffset + chunk * chunkSize; i < end; ++i) {
+                int value = src[i];
+                dest[chunkOffsets[((value >>> shift) & DIGIT_MASK) ^ digitFlip]++] = value;
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Sorts the given range of the array with a radix sort.
+     *
+     * @param array the array to sort
+     * @param fromIndex start index of the range to sort (inclusive)
+     * @param toIndex end index of the range to sort (exclusive)
+     * @param signed true to sort by the signed order, false to sort by the unsigned order
+     * @param chunkCount the number of chunks each pass is split into
+     * @param executor the executor to process the chunks with
+     */
+    private static void radixSort(long[] array, int fromIndex, int toIndex, boolean signed, int chunkCount,
+                                  ChunkExecutor executor) {
+        int length = toIndex - fromIndex;
+        long[] buffer = new long[length];
+        int[][] offsets = new int[chunkCount][DIGIT_COUNT];
+
+        long[] src = array;
+        int srcOffset = fromIndex;
+        long[] dest = buffer;
+        int destOffset = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+            int digitFlip = signed && shift == Long.SIZE - DIGIT_BITS ? SIGNED_DIGIT_FLIP : 0;
+            if (radixPass(src, srcOffset, dest, destOffset, length, shift, digitFlip, offsets, executor)) {
+                long[] tmp = src;
+                src = dest;
+                dest = tmp;
+                int tmpOffset = srcOffset;
+                srcOffset = destOffset;
+                destOffset = tmpOffset;
+            }
+        }
+        if (src != array) {
+            System.arraycopy(src, srcOffset, array, fromIndex, length);
+        }
+    }
+
+    private static boolean radixPass(long[] src, int srcOffset, long[] dest, int destOffset, int length, int shift,
+                                     int digitFlip, int[][] offsets, ChunkExecutor executor) {
+        int chunkSize = getChunkSize(length, offsets.length);
+        executor.forEachChunk(offsets.length, chunk -> {
+            int[] counts = offsets[chunk];
+            Arrays.fill(counts, 0);
+            int end = srcOffset + getChunkEnd(chunk, chunkSize, length);
+            for (int i = srcOffset + chunk * chunkSize; i < end; ++i) {
+                ++counts[((int) (src[i] >>> shift) & DIGIT_MASK) ^ digitFlip];
+            }
+        });
+        if (!computeOffsets(offsets, length, destOffset)) {
+            return false;
+        }
+
+        executor.forEachChunk(offsets.length, chunk -> {
+            int[] chunkOffsets = offsets[chunk];
+            int end = srcOffset + getChunkEnd(chunk, chunkSize, length);
+            for (int i = srcOffset + chunk * chunkSize; i < end; ++i) {
+                long value = src[i];
+                dest[chunkOffsets[((int) (value >>> shift) & DIGIT_MASK) ^ digitFlip]++] = value;
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Replaces the digit counts of each chunk by the index at which the chunk's first element with the digit should
+     * be stored. Elements are ordered by digit, then by chunk, so that the pass is stable.
+     *
+     * @param offsets the digit counts per chunk, replaced by the target indices
+     * @param length the total number of elements
+     * @param destOffset the start index of the range in the destination array
+     * @return true if the offsets were computed, false if all elements have the same digit (pass can be skipped)
+     */
+    private static boolean computeOffsets(int[][] offsets, int length, int destOffset) {
+        for (int digit = 0; digit < DIGIT_COUNT; ++digit) {
+            int total = 0;
+            for (int[] chunkCounts : offsets) {
+                total += chunkCounts[digit];
+            }
+            if (total == length) {
+                return false;
+            } else if (total > 0) {
+                break;
+            }
+        }
+
+        int index = destOffset;
+        for (int digit = 0; digit < DIGIT_COUNT; ++digit) {
+            for (int[] chunkCounts : offsets) {
+                int count = chunkCounts[digit];
+                chunkCounts[digit] = index;
+                index += count;
+            }
+        }
+        return true;
+    }
+
+    private static int getChunkSize(int length, int chunkCount) {
+        return (int) (((long) length + chunkCount - 1) / chunkCount);
+    }
+
+    private static int getChunkEnd(int chunk, int chunkSize, int length) {
+        return (int) Math.min((long) (chunk + 1) * chunkSize, length);
+    }
+
+    /**
+     * Processes the chunks of a radix sort pass.
+     */
+    @FunctionalInterface
+    interface ChunkExecutor {
+
+        /**
+         * Calls the action for each chunk index in [0, chunkCount) and returns once all chunks have been processed.
+         * The action may be called concurrently for different chunks.
+         *
+         * @param chunkCount the number of chunks
+         * @param action the action to perform for each chunk index
+         */
+        void forEachChunk(int chunkCount, IntConsumer action);
+
+    }
+}
@@ -0,0 +1,31 @@
+package ch.jalu.typeresolver.array;
+
+import java.util.Arrays;
+
+/**
+ * Algorithm used to sort an array, as passed to {@link ArrayUtils#sort(Object, SortStrategy)},
+ * {@link ArrayUtils#parallelSort(Object, SortStrategy)} and {@link ParallelArrayOps#sort(Object, SortStrategy)}.
+ * All strategies produce the same order: primitive values are ordered like {@link Arrays#sort(double[])} does, i.e.
+ * {@code -0.0} is smaller than {@code 0.0} and NaN is greater than any other value.
+ */
+public enum SortStrategy {
+
+    /**
+     * Sorts the array with the methods of {@link Arrays}, such as {@link Arrays#sort(int[])} and
+     * {@link Arrays#parallelSort(int[])}.
+     */
+    DEFAULT,
+
+    /**
+     * Sorts primitive arrays without comparing their elements: byte, char and short arrays are sorted by counting
+     * the occurrences of each value, while int, long, float and double arrays are sorted by a radix sort on the
+     * values' bits. Requires a temporary array of the same size as the range to sort (except for counting sorts).
+     * Radix sorts are typically faster than comparison sorts for large arrays of random values; small ranges are
+     * sorted with {@link Arrays#sort(int[])} etc.
+     * <p>
+     * Not supported for arrays of objects. Boolean arrays are sorted with
+     * {@link ArrayUtils#simpleBooleanArraySort(boolean[], int, int)}.
+     */
+    RADIX
+
+}
@@ -0,0 +1,996 @@
+package ch.jalu.typeresolver.array;
+
+import ch.jalu.typeresolver.classutil.ClassUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Contains the {@link ArrayOps} implementation for each {@link ArrayComponentType}. The implementation for an array
+ * class is determined once and cached.
+ */
+final class StandardArrayOps {
+
+    private static final ArrayOps[] OPS_BY_COMPONENT_TYPE = {
+        new BooleanArrayOps(), new ByteArrayOps(), new CharArrayOps(), new ShortArrayOps(), new IntArrayOps(),
+        new LongArrayOps(), new FloatArrayOps(), new DoubleArrayOps(), new ObjectArrayOps() };
+
+    private static final ClassValue<ArrayOps> OPS_BY_ARRAY_CLASS = new ClassValue<ArrayOps>() {
+        @Override
+        protected @Nullable ArrayOps computeValue(Class<?> type) {
+            if (!type.isArray()) {
+                return null;
+            }
+            Class<?> componentClass = type.getComponentType();
+            for (ArrayComponentType componentType : ArrayComponentType.values()) {
+                if (componentType.getComponentClass() == componentClass) {
+                    return forComponentType(componentType);
+                }
+            }
+            return forComponentType(ArrayComponentType.OBJECT);
+        }
+    };
+
+    private StandardArrayOps() {
+    }
+
+    /**
+     * Returns the array operations for the given component type.
+     *
+     * @param componentType the component type
+     * @return the array operations for the component type
+     */
+    static ArrayOps forComponentType(ArrayComponentType componentType) {
+        return OPS_BY_COMPONENT_TYPE[componentType.ordinal()];
+    }
+
+    /**
+     * Returns the array operations for the given array class, or null if the class is not an array.
+     *
+     * @param arrayClass the array class
+     * @return the array operations, or null if not applicable
+     */
+    static @Nullable ArrayOps forArrayClass(Class<?> arrayClass) {
+        return OPS_BY_ARRAY_CLASS.get(arrayClass);
+    }
+
+    /**
+     * Throws an exception if the given argument is null or does not match the given component type.
+     *
+     * @param argument the argument to check
+     * @param componentType the component type the argument should match
+     * @param argumentName the name of the argument (used in the exception message)
+     */
+    static void verifyArgumentMatchesComponentType(@Nullable Object argument, ArrayComponentType componentType,
+                                                   String argumentName) {
+        if (argument == null) {
+            throw new NullPointerException(argumentName);
+        }
+        if (!ClassUtils.isInstance(argument, componentType.getComponentClass())) {
+            throw new ClassCastException("Expected " + argumentName + " to be a "
+                + componentType.name().toLowerCase(Locale.ROOT) + ", instead found: " + argument.getClass());
+        }
+    }
+
+    /**
+     * Throws an exception if the given range is not valid for an array of the given length, with the same exceptions
+     * as the range-based methods in {@link Arrays}.
+     *
+     * @param length the length of the array
+     * @param fromIndex start index of the range (inclusive)
+     * @param toIndex end index of the range (exclusive)
+     */
+    static void checkRange(int length, int fromIndex, int toIndex) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+        } else if (fromIndex < 0) {
+            throw new ArrayIndexOutOfBoundsException(fromIndex);
+        } else if (toIndex > length) {
+            throw new ArrayIndexOutOfBoundsException(toIndex);
+        }
+    }
+
+    /** Array operations for {@code boolean[]}. */
+    private static final class BooleanArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.BOOLEAN;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((boolean[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((boolean[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.BOOLEAN, "value");
+            ((boolean[]) array)[index] = (boolean) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.BOOLEAN, "key");
+            return ArrayUtils.simpleBooleanArrayBinarySearch((boolean[]) array, fromIndex, toIndex, (boolean) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            boolean[] arrA = (boolean[]) a;
+            boolean[] arrB = (boolean[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((boolean[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((boolean[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((boolean[]) a, (boolean[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.BOOLEAN, "val");
+            Arrays.fill((boolean[]) a, fromIndex, toIndex, (boolean) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((boolean[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            boolean[] arrA = (boolean[]) a;
+            boolean[] arrB = (boolean[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            ArrayUtils.simpleBooleanArraySort((boolean[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            ArrayUtils.simpleBooleanArraySort((boolean[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.boxed(this, array);
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((boolean[]) a);
+        }
+    }
+
+    /** Array operations for {@code byte[]}. */
+    private static final class ByteArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.BYTE;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((byte[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((byte[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.BYTE, "value");
+            ((byte[]) array)[index] = (byte) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.BYTE, "key");
+            return Arrays.binarySearch((byte[]) array, fromIndex, toIndex, (byte) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            byte[] arrA = (byte[]) a;
+            byte[] arrB = (byte[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((byte[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((byte[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((byte[]) a, (byte[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.BYTE, "val");
+            Arrays.fill((byte[]) a, fromIndex, toIndex, (byte) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((byte[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            byte[] arrA = (byte[]) a;
+            byte[] arrB = (byte[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((byte[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((byte[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.boxed(this, array);
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((byte[]) a);
+        }
+    }
+
+    /** Array operations for {@code char[]}. */
+    private static final class CharArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.CHARACTER;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((char[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((char[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.CHARACTER, "value");
+            ((char[]) array)[index] = (char) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.CHARACTER, "key");
+            return Arrays.binarySearch((char[]) array, fromIndex, toIndex, (char) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            char[] arrA = (char[]) a;
+            char[] arrB = (char[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((char[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((char[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((char[]) a, (char[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.CHARACTER, "val");
+            Arrays.fill((char[]) a, fromIndex, toIndex, (char) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((char[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            char[] arrA = (char[]) a;
+            char[] arrB = (char[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((char[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((char[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.boxed(this, array);
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((char[]) a);
+        }
+    }
+
+    /** Array operations for {@code short[]}. */
+    private static final class ShortArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.SHORT;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((short[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((short[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.SHORT, "value");
+            ((short[]) array)[index] = (short) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.SHORT, "key");
+            return Arrays.binarySearch((short[]) array, fromIndex, toIndex, (short) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            short[] arrA = (short[]) a;
+            short[] arrB = (short[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((short[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((short[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((short[]) a, (short[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.SHORT, "val");
+            Arrays.fill((short[]) a, fromIndex, toIndex, (short) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((short[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            short[] arrA = (short[]) a;
+            short[] arrB = (short[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((short[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((short[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.boxed(this, array);
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((short[]) a);
+        }
+    }
+
+    /** Array operations for {@code int[]}. */
+    private static final class IntArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.INTEGER;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((int[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((int[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.INTEGER, "value");
+            ((int[]) array)[index] = (int) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.INTEGER, "key");
+            return Arrays.binarySearch((int[]) array, fromIndex, toIndex, (int) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            int[] arrA = (int[]) a;
+            int[] arrB = (int[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((int[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((int[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((int[]) a, (int[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.INTEGER, "val");
+            Arrays.fill((int[]) a, fromIndex, toIndex, (int) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((int[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            int[] arrA = (int[]) a;
+            int[] arrB = (int[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((int[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((int[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.toObjectSpliterator(Arrays.spliterator((int[]) array));
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((int[]) a);
+        }
+    }
+
+    /** Array operations for {@code long[]}. */
+    private static final class LongArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.LONG;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((long[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((long[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.LONG, "value");
+            ((long[]) array)[index] = (long) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.LONG, "key");
+            return Arrays.binarySearch((long[]) array, fromIndex, toIndex, (long) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            long[] arrA = (long[]) a;
+            long[] arrB = (long[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((long[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((long[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((long[]) a, (long[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.LONG, "val");
+            Arrays.fill((long[]) a, fromIndex, toIndex, (long) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((long[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            long[] arrA = (long[]) a;
+            long[] arrB = (long[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((long[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((long[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.toObjectSpliterator(Arrays.spliterator((long[]) array));
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((long[]) a);
+        }
+    }
+
+    /** Array operations for {@code float[]}. */
+    private static final class FloatArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.FLOAT;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((float[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((float[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.FLOAT, "value");
+            ((float[]) array)[index] = (float) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.FLOAT, "key");
+            return Arrays.binarySearch((float[]) array, fromIndex, toIndex, (float) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            float[] arrA = (float[]) a;
+            float[] arrB = (float[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((float[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((float[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((float[]) a, (float[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.FLOAT, "val");
+            Arrays.fill((float[]) a, fromIndex, toIndex, (float) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((float[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            float[] arrA = (float[]) a;
+            float[] arrB = (float[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((float[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((float[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.boxed(this, array);
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((float[]) a);
+        }
+    }
+
+    /** Array operations for {@code double[]}. */
+    private static final class DoubleArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.DOUBLE;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((double[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((double[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            verifyArgumentMatchesComponentType(value, ArrayComponentType.DOUBLE, "value");
+            ((double[]) array)[index] = (double) value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.DOUBLE, "key");
+            return Arrays.binarySearch((double[]) array, fromIndex, toIndex, (double) key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            double[] arrA = (double[]) a;
+            double[] arrB = (double[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((double[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((double[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((double[]) a, (double[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.DOUBLE, "val");
+            Arrays.fill((double[]) a, fromIndex, toIndex, (double) val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((double[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            double[] arrA = (double[]) a;
+            double[] arrB = (double[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((double[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((double[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return ArraySpliterators.toObjectSpliterator(Arrays.spliterator((double[]) array));
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((double[]) a);
+        }
+    }
+
+    /** Array operations for arrays of reference types, such as {@code Object[]} or {@code String[]}. */
+    private static final class ObjectArrayOps extends ArrayOps {
+
+        @Override
+        public ArrayComponentType getComponentType() {
+            return ArrayComponentType.OBJECT;
+        }
+
+        @Override
+        public int getLength(Object array) {
+            return ((Object[]) array).length;
+        }
+
+        @Override
+        public @Nullable Object get(Object array, int index) {
+            return ((Object[]) array)[index];
+        }
+
+        @Override
+        public void set(Object array, int index, @Nullable Object value) {
+            ((Object[]) array)[index] = value;
+        }
+
+        @Override
+        public int binarySearch(Object array, int fromIndex, int toIndex, Object key) {
+            verifyArgumentMatchesComponentType(key, ArrayComponentType.OBJECT, "key");
+            return Arrays.binarySearch((Object[]) array, fromIndex, toIndex, key);
+        }
+
+        @Override
+        public int compare(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            Object[] arrA = (Object[]) a;
+            Object[] arrB = (Object[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.compare(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        public Object copyOf(Object original, int newLength) {
+            return Arrays.copyOf((Object[]) original, newLength);
+        }
+
+        @Override
+        public Object copyOfRange(Object original, int from, int to) {
+            return Arrays.copyOfRange((Object[]) original, from, to);
+        }
+
+        @Override
+        public boolean equals(Object a, Object a2) {
+            return Arrays.equals((Object[]) a, (Object[]) a2);
+        }
+
+        @Override
+        public void fill(Object a, int fromIndex, int toIndex, Object val) {
+            verifyArgumentMatchesComponentType(val, ArrayComponentType.OBJECT, "val");
+            Arrays.fill((Object[]) a, fromIndex, toIndex, val);
+        }
+
+        @Override
+        public int hashCode(Object a) {
+            return Arrays.hashCode((Object[]) a);
+        }
+
+        @Override
+        public int mismatch(Object a, int aFromIndex, int aToIndex, Object b, int bFromIndex, int bToIndex) {
+            Object[] arrA = (Object[]) a;
+            Object[] arrB = (Object[]) b;
+            checkRange(arrA.length, aFromIndex, aToIndex);
+            checkRange(arrB.length, bFromIndex, bToIndex);
+            return ArrayRangeComparisons.mismatch(arrA, aFromIndex, aToIndex, arrB, bFromIndex, bToIndex);
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public void parallelSort(Object a, int fromIndex, int toIndex) {
+            Arrays.parallelSort((Comparable[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public void sort(Object a, int fromIndex, int toIndex) {
+            Arrays.sort((Object[]) a, fromIndex, toIndex);
+        }
+
+        @Override
+        public Spliterator<Object> spliterator(Object array) {
+            return Arrays.spliterator((Object[]) array);
+        }
+
+        @Override
+        public Stream<Object> stream(Object array) {
+            return StreamSupport.stream(spliterator(array), false);
+        }
+
+        @Override
+        public String toString(Object a) {
+            return Arrays.toString((Object[]) a);
+        }
+    }
+}
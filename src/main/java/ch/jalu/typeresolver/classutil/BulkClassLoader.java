@@ -0,0 +1,126 @@
+package ch.jalu.typeresolver.classutil;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Internal helper to load many classes by name at once, in parallel if the class loader supports it.
+ * <p>
+ * Classes are loaded without being initialized: initializing classes concurrently can dead-lock if the static
+ * initializers of the classes depend on each other. The names are split into one batch per thread of the executor,
+ * and the classes are loaded through {@link ClassLoadingCache}.
+ */
+// Justification: MethodHandle#invokeExact declares Throwable
+@SuppressWarnings("checkstyle:IllegalCatch")
+final class BulkClassLoader {
+
+    /** Handle to ClassLoader#isRegisteredAsParallelCapable, which exists since Java 9. Null if not available. */
+    private static final @Nullable MethodHandle IS_PARALLEL_CAPABLE_HANDLE = createIsParallelCapableHandle();
+
+    private BulkClassLoader() {
+    }
+
+    /**
+     * Loads the classes with the given names. Classes are loaded in parallel with the given executor if the class
+     * loader is parallel capable; otherwise, the classes are loaded sequentially on the calling thread.
+     *
+     * @param names the names of the classes to load
+     * @param loader the class loader to use (null for the bootstrap class loader)
+     * @param executor the executor to load the classes with
+     * @return result per name, in the order of the given collection
+     */
+    static List<ClassLoadResult> loadClasses(Collection<String> names, @Nullable ClassLoader loader,
+                                             Executor executor) {
+        if (names.size() <= 1 || !isParallelCapable(loader)) {
+            return loadClassesSequentially(names, loader);
+        }
+
+        List<String> nameList = new ArrayList<>(names);
+        int batchCount = Math.min(nameList.size(), getParallelism(executor));
+        List<CompletableFuture<List<ClassLoadResult>>> futures = new ArrayList<>(batchCount);
+        for (int batch = 0; batch < batchCount; ++batch) {
+            // Split into contiguous batches of (nearly) equal size so that the results keep the order of the names
+            List<String> batchNames = nameList.subList(
+                (int) ((long) nameList.size() * batch / batchCount),
+                (int) ((long) nameList.size() * (batch + 1) / batchCount));
+            futures.add(CompletableFuture.supplyAsync(() -> loadClassesSequentially(batchNames, loader), executor));
+        }
+        List<ClassLoadResult> results = new ArrayList<>(nameList.size());
+        for (CompletableFuture<List<ClassLoadResult>> future : futures) {
+            results.addAll(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * Returns the number of threads the executor is expected to run tasks with. For thread pools, this is the core
+     * pool size or the number of available processors, whichever is larger, but no more than the maximum pool size.
+     * For executors whose size cannot be determined, the number of available processors is returned.
+     *
+     * @param executor the executor to inspect
+     * @return the executor's parallelism, at least 1
+     */
+    static int getParallelism(Executor executor) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int parallelism;
+        if (executor instanceof ForkJoinPool) {
+            parallelism = ((ForkJoinPool) executor).getParallelism();
+        } else if (executor instanceof ThreadPoolExecutor) {
+            // The maximum pool size of a cached thread pool is Integer.MAX_VALUE, so it is capped
+            ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+            parallelism = Math.min(threadPool.getMaximumPoolSize(),
+                Math.max(threadPool.getCorePoolSize(), processors));
+        } else {
+            parallelism = processors;
+        }
+        return Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns whether the given class loader is registered as parallel capable, i.e. whether it can load multiple
+     * classes concurrently. Before Java 9, this cannot be determined and true is returned, since the JDK's
+     * class loaders for the class path are parallel capable. Loaders that are not parallel capable are still
+     * safe to use concurrently, but they load one class at a time.
+     *
+     * @param loader the class loader to inspect (null for the bootstrap class loader)
+     * @return true if the class loader is (assumed to be) parallel capable
+     */
+    static boolean isParallelCapable(@Nullable ClassLoader loader) {
+        if (loader == null || IS_PARALLEL_CAPABLE_HANDLE == null) {
+            return true;
+        }
+        try {
+            return (boolean) IS_PARALLEL_CAPABLE_HANDLE.invokeExact(loader);
+        } catch (Throwable t) {
+            return false;
+        }
+    }
+
+    private static List<ClassLoadResult> loadClassesSequentially(Collection<String> names,
+                                                                 @Nullable ClassLoader loader) {
+        List<ClassLoadResult> results = new ArrayList<>(names.size());
+        for (String name : names) {
+            results.add(ClassLoadingCache.loadClass(name, loader));
+        }
+        return results;
+    }
+
+    private static @Nullable MethodHandle createIsParallelCapableHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(ClassLoader.class, "isRegisteredAsParallelCapable",
+                MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
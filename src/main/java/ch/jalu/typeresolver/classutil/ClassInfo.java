@@ -0,0 +1,110 @@
+package ch.jalu.typeresolver.classutil;
+
+import ch.jalu.typeresolver.EnumUtils;
+import ch.jalu.typeresolver.array.ArrayClassProperties;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Internal holder of information about a class that is costly to determine. Instances are created once per class
+ * and cached, so that classes that are processed repeatedly are only inspected once.
+ */
+final class ClassInfo {
+
+    private static final ClassValue<ClassInfo> INFO_BY_CLASS = new ClassValue<ClassInfo>() {
+        @Override
+        protected ClassInfo computeValue(Class<?> type) {
+            return new ClassInfo(type);
+        }
+    };
+
+    private final Class<?> clazz;
+    private final ClassType type;
+    private final @Nullable Class<? extends Enum<?>> associatedEnumType;
+    private volatile @Nullable String semanticName;
+
+    private ClassInfo(Class<?> clazz) {
+        this.clazz = clazz;
+        this.type = determineType(clazz);
+        this.associatedEnumType = EnumUtils.getAssociatedEnumType(clazz).orElse(null);
+    }
+
+    /**
+     * Returns the info of the given class.
+     *
+     * @param clazz the class whose info should be returned
+     * @return the (cached) class info
+     */
+    static ClassInfo of(Class<?> clazz) {
+        return INFO_BY_CLASS.get(clazz);
+    }
+
+    /**
+     * @return the type of the class
+     */
+    ClassType getType() {
+        return type;
+    }
+
+    /**
+     * @return the enum class if the class is an enum or an enum entry, null otherwise
+     */
+    @Nullable Class<? extends Enum<?>> getAssociatedEnumType() {
+        return associatedEnumType;
+    }
+
+    /**
+     * Returns the semantic name of the class, as defined by {@link ClassUtils#getSemanticName(Class)}.
+     * The name is created on the first call.
+     *
+     * @return the semantic name of the class
+     */
+    String getSemanticName() {
+        String name = semanticName;
+        if (name == null) {
+            name = associatedEnumType != null && associatedEnumType != clazz
+                ? of(associatedEnumType).getSemanticName()
+                : createSemanticName(clazz);
+            semanticName = name;
+        }
+        return name;
+    }
+
+    private static String createSemanticName(Class<?> clazz) {
+        if (clazz.isAnnotation()) {
+            return "@" + getNameWithoutPackage(clazz);
+        } else if (clazz.isArray()) {
+            ArrayClassProperties arrayProperties = new ArrayClassProperties(clazz);
+            StringBuilder stringBuilder = new StringBuilder(getNameWithoutPackage(arrayProperties.getComponentType()));
+            for (int i = 0; i < arrayProperties.getDimension(); ++i) {
+                stringBuilder.append("[]");
+            }
+            return stringBuilder.toString();
+        }
+        return getNameWithoutPackage(clazz);
+    }
+
+    private static String getNameWithoutPackage(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static ClassType determineType(Class<?> clazz) {
+        if (Enum.class.isAssignableFrom(clazz)) {
+            return clazz.isEnum() ? ClassType.ENUM : ClassType.ENUM_ENTRY;
+        } else if (clazz.isPrimitive()) {
+            return ClassType.PRIMITIVE;
+        } else if (Proxy.isProxyClass(clazz)) {
+            return ClassType.PROXY_CLASS;
+        } else if (clazz.isAnnotation()) {
+            return ClassType.ANNOTATION;
+        } else if (clazz.isInterface()) {
+            return ClassType.INTERFACE;
+        } else if (clazz.isArray()) {
+            return ClassType.ARRAY;
+        }
+
+        return ClassType.REGULAR_CLASS;
+    }
+}
@@ -0,0 +1,93 @@
+package ch.jalu.typeresolver.classutil;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Result of loading a class by name, as returned by {@link ClassUtils#loadClasses}. Either contains the loaded class
+ * or the exception that was thrown when trying to load it.
+ */
+public final class ClassLoadResult {
+
+    private final String name;
+    private final @Nullable Class<?> loadedClass;
+    private final @Nullable Throwable failure;
+
+    private ClassLoadResult(String name, @Nullable Class<?> loadedClass, @Nullable Throwable failure) {
+        this.name = name;
+        this.loadedClass = loadedClass;
+        this.failure = failure;
+    }
+
+    /**
+     * Creates a result for a class that was successfully loaded.
+     *
+     * @param name the name of the class
+     * @param loadedClass the class that was loaded
+     * @return the result
+     */
+    static ClassLoadResult loaded(String name, Class<?> loadedClass) {
+        return new ClassLoadResult(name, loadedClass, null);
+    }
+
+    /**
+     * Creates a result for a class that could not be loaded.
+     *
+     * @param name the name of the class
+     * @param failure the exception that was thrown
+     * @return the result
+     */
+    static ClassLoadResult failed(String name, Throwable failure) {
+        return new ClassLoadResult(name, null, failure);
+    }
+
+    /**
+     * @return the name of the class that was loaded
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true if the class could be loaded, false otherwise
+     */
+    public boolean isLoaded() {
+        return loadedClass != null;
+    }
+
+    /**
+     * @return the loaded class, or null if it could not be loaded
+     */
+    public @Nullable Class<?> getLoadedClass() {
+        return loadedClass;
+    }
+
+    /**
+     * Returns the exception that was thrown when the class was loaded, or null if the class was loaded successfully.
+     * This is typically a {@link ClassNotFoundException}, but may also be a {@link LinkageError}.
+     *
+     * @return the exception, or null if the class was loaded
+     */
+    public @Nullable Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns the loaded class, or throws an {@link IllegalArgumentException} if the class could not be loaded,
+     * analogous to {@link ClassUtils#loadClassOrThrow}.
+     *
+     * @return the loaded class, never null
+     */
+    public Class<?> getLoadedClassOrThrow() {
+        if (loadedClass == null) {
+            throw new IllegalArgumentException("Class '" + name + "' could not be loaded", failure);
+        }
+        return loadedClass;
+    }
+
+    @Override
+    public String toString() {
+        return loadedClass == null
+            ? "ClassLoadResult[" + name + ": failed with " + failure + "]"
+            : "ClassLoadResult[" + name + ": loaded]";
+    }
+}
@@ -0,0 +1,184 @@
+package ch.jalu.typeresolver.classutil;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal cache of the results of loading classes by name, per class loader. Positive and negative results are
+ * cached, so that probing for the same class name repeatedly only calls {@link Class#forName} once.
+ * <p>
+ * Class loaders are referenced weakly, as are the loaded classes, so the cache does not prevent a class loader from
+ * being garbage collected. The bootstrap class loader is represented by {@code null}. Negative results keep one
+ * exception without stack trace, which is returned for every cached miss.
+ */
+final class ClassLoadingCache {
+
+    private static final Map<ClassLoader, Map<String, LoadResult>> RESULTS_BY_LOADER =
+        Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Map<String, LoadResult> BOOTSTRAP_LOADER_RESULTS = new ConcurrentHashMap<>();
+
+    /** Results of the class loader that was used last, so that probes with the same loader do not lock. */
+    private static volatile @Nullable LoaderResults lastLoaderResults;
+
+    private ClassLoadingCache() {
+    }
+
+    /**
+     * Returns an optional with the class of the given name as loaded by the given class loader, or an empty optional
+     * if the class could not be found. The result is cached per class loader, including if the class was not found.
+     *
+     * @param name the name of the class to load
+     * @param loader the class loader to load the class with (null for the bootstrap class loader)
+     * @param initialize whether the class should be initialized if it is found
+     * @return optional with the class, or empty optional if the class does not exist
+     */
+    static Optional<Class<?>> tryLoadClass(String name, @Nullable ClassLoader loader, boolean initialize) {
+        Map<String, LoadResult> resultsByName = getResultsByName(loader);
+        LoadResult result = resultsByName.get(name);
+        if (result == null) {
+            result = load(name, loader, initialize);
+            resultsByName.putIfAbsent(name, result);
+        } else if (initialize) {
+            result.ensureInitialized(loader);
+        }
+        return Optional.ofNullable(result.getLoadedClass());
+    }
+
+    /**
+     * Loads the class of the given name without initializing it, using the cached result if available. Classes
+     * that cannot be found are cached like in {@link #tryLoadClass}; a {@link LinkageError} is returned in the
+     * result and not cached.
+     *
+     * @param name the name of the class to load
+     * @param loader the class loader to load the class with (null for the bootstrap class loader)
+     * @return the result of loading the class
+     */
+    static ClassLoadResult loadClass(String name, @Nullable ClassLoader loader) {
+        Map<String, LoadResult> resultsByName = getResultsByName(loader);
+        LoadResult result = resultsByName.get(name);
+        if (result == null) {
+            try {
+                Class<?> loadedClass = Class.forName(name, false, loader);
+                resultsByName.putIfAbsent(name, new LoadResult(loadedClass, false));
+                return ClassLoadResult.loaded(name, loadedClass);
+            } catch (ClassNotFoundException e) {
+                resultsByName.putIfAbsent(name, LoadResult.notFound(name));
+                return ClassLoadResult.failed(name, e);
+            } catch (LinkageError e) {
+                return ClassLoadResult.failed(name, e);
+            }
+        }
+
+        Class<?> loadedClass = result.getLoadedClass();
+        return loadedClass == null
+            ? ClassLoadResult.failed(name, result.getNotFoundException(name))
+            : ClassLoadResult.loaded(name, loadedClass);
+    }
+
+    private static Map<String, LoadResult> getResultsByName(@Nullable ClassLoader loader) {
+        if (loader == null) {
+            return BOOTSTRAP_LOADER_RESULTS;
+        }
+        LoaderResults lastResults = lastLoaderResults;
+        if (lastResults != null && lastResults.loader.get() == loader) {
+            return lastResults.resultsByName;
+        }
+        Map<String, LoadResult> resultsByName =
+            RESULTS_BY_LOADER.computeIfAbsent(loader, l -> new ConcurrentHashMap<>());
+        lastLoaderResults = new LoaderResults(loader, resultsByName);
+        return resultsByName;
+    }
+
+    private static LoadResult load(String name, @Nullable ClassLoader loader, boolean initialize) {
+        try {
+            return new LoadResult(Class.forName(name, initialize, loader), initialize);
+        } catch (ClassNotFoundException ignored) {
+            return LoadResult.notFound(name);
+        }
+    }
+
+    /**
+     * Result of loading a class by name. The class is referenced weakly since it references its class loader,
+     * which would otherwise be kept alive by the cache.
+     */
+    private static final class LoadResult {
+
+        private final @Nullable WeakReference<Class<?>> loadedClass;
+        private final @Nullable ClassNotFoundException notFoundException;
+        private volatile boolean initialized;
+
+        LoadResult(Class<?> loadedClass, boolean initialized) {
+            this.loadedClass = new WeakReference<>(loadedClass);
+            this.notFoundException = null;
+            this.initialized = initialized;
+        }
+
+        private LoadResult(ClassNotFoundException notFoundException) {
+            this.loadedClass = null;
+            this.notFoundException = notFoundException;
+        }
+
+        static LoadResult notFound(String name) {
+            return new LoadResult(new CachedClassNotFoundException(name));
+        }
+
+        @Nullable Class<?> getLoadedClass() {
+            return loadedClass == null ? null : loadedClass.get();
+        }
+
+        ClassNotFoundException getNotFoundException(String name) {
+            // Exception is null if the loaded class was found but has been garbage collected since
+            return notFoundException == null ? new CachedClassNotFoundException(name) : notFoundException;
+        }
+
+        void ensureInitialized(@Nullable ClassLoader loader) {
+            Class<?> clazz = getLoadedClass();
+            if (!initialized && clazz != null) {
+                try {
+                    Class.forName(clazz.getName(), true, loader);
+                } catch (ClassNotFoundException e) {
+                    throw new IllegalStateException("Class '" + clazz.getName() + "' could not be initialized", e);
+                }
+                initialized = true;
+            }
+        }
+    }
+
+    /**
+     * Results of a class loader, referencing the class loader weakly.
+     */
+    private static final class LoaderResults {
+
+        private final WeakReference<ClassLoader> loader;
+        private final Map<String, LoadResult> resultsByName;
+
+        LoaderResults(ClassLoader loader, Map<String, LoadResult> resultsByName) {
+            this.loader = new WeakReference<>(loader);
+            this.resultsByName = resultsByName;
+        }
+    }
+
+    /**
+     * Exception for a cached negative result. It has no stack trace, so that it is cheap to create and does not
+     * reference the classes that were on the stack when it was created.
+     */
+    private static final class CachedClassNotFoundException extends ClassNotFoundException {
+
+        private static final long serialVersionUID = 1L;
+
+        CachedClassNotFoundException(String name) {
+            super(name);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ch.jalu.typeresolver.classutil;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Dispatches classes to the method of a {@link ClassTypeCallback} that corresponds to their {@link ClassType}.
+ * This class is equivalent to {@link ClassUtils#processClassByType}, but binds the callback once: the handler for
+ * each class type is determined on creation, and the type of a class is looked up from a cache. This makes the
+ * dispatcher suitable for processing many classes with the same callback.
+ * <p>
+ * Example:<pre>{@code
+ *   ClassTypeDispatcher<String> dispatcher = new ClassTypeDispatcher<>(new MyCallback());
+ *   for (Object obj : objects) {
+ *     String result = dispatcher.dispatch(obj.getClass());
+ *   }
+ * }</pre>
+ *
+ * @param <R> the result type of the callback
+ */
+public final class ClassTypeDispatcher<R> {
+
+    private final ClassTypeCallback<? extends R> callback;
+    private final Handler<R>[] handlersByType;
+
+    /**
+     * Constructor.
+     *
+     * @param callback the callback to dispatch classes to
+     */
+    public ClassTypeDispatcher(ClassTypeCallback<? extends R> callback) {
+        this.callback = callback;
+        this.handlersByType = createHandlers(callback);
+    }
+
+    /**
+     * Calls the method on the callback that corresponds to the given class's type and returns the result.
+     *
+     * @param clazz the class to inspect and process
+     * @return the result from the callback (may be null); null if the class was null
+     */
+    public @Nullable R dispatch(@Nullable Class<?> clazz) {
+        if (clazz == null) {
+            return null;
+        }
+        ClassInfo classInfo = ClassInfo.of(clazz);
+        return handlersByType[classInfo.getType().ordinal()].handle(clazz, classInfo);
+    }
+
+    /**
+     * @return the callback classes are dispatched to
+     */
+    public ClassTypeCallback<? extends R> getCallback() {
+        return callback;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <R> Handler<R>[] createHandlers(ClassTypeCallback<? extends R> callback) {
+        Handler<R>[] handlers = new Handler[ClassType.values().length];
+        for (ClassType type : ClassType.values()) {
+            handlers[type.ordinal()] = createHandler(type, callback);
+        }
+        return handlers;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Handler<R> createHandler(ClassType type, ClassTypeCallback<? extends R> callback) {
+        switch (type) {
+            case ENUM:
+                return (clazz, info) -> callback.forEnum((Class<? extends Enum<?>>) clazz);
+            case ENUM_ENTRY:
+                return (clazz, info) -> callback.forEnumEntry(
+                    info.getAssociatedEnumType(), (Class<? extends Enum<?>>) clazz);
+            case ANNOTATION:
+                return (clazz, info) -> callback.forAnnotation((Class<? extends Annotation>) clazz);
+            case PRIMITIVE:
+                return (clazz, info) -> callback.forPrimitiveType(clazz);
+            case ARRAY:
+                return (clazz, info) -> callback.forArrayType(clazz);
+            case INTERFACE:
+                return (clazz, info) -> callback.forInterface(clazz);
+            case PROXY_CLASS:
+                return (clazz, info) -> callback.forProxyClass(clazz);
+            case REGULAR_CLASS:
+                return (clazz, info) -> callback.forRegularClass(clazz);
+            default:
+                throw new IllegalStateException("Unexpected value: " + type);
+        }
+    }
+
+    /**
+     * Handles a class of a specific class type.
+     *
+     * @param <R> the result type
+     */
+    @FunctionalInterface
+    private interface Handler<R> {
+
+        @Nullable R handle(Class<?> clazz, ClassInfo classInfo);
+
+    }
+}
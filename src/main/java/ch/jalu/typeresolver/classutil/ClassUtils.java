@@ -1,13 +1,18 @@
 package ch.jalu.typeresolver.classutil;
 
 import ch.jalu.typeresolver.EnumUtils;
-import ch.jalu.typeresolver.array.ArrayClassProperties;
 import ch.jalu.typeresolver.primitives.PrimitiveType;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Various utilities to load and inspect {@link Class} objects.
@@ -18,18 +23,33 @@ public final class ClassUtils {
     }
 
     /**
-     * Returns whether the class exists and can be loaded by the current class loader.
+     * Returns whether the class exists and can be loaded by the class loader of this class. The class is not
+     * initialized. The result is cached, see {@link #tryLoadClass(String, ClassLoader, boolean)}.
      *
      * @param name the name of the class to try to load
      * @return true if the class exists, false otherwise
      */
     public static boolean classExists(String name) {
-        return tryLoadClass(name).isPresent();
+        return classExists(name, ClassUtils.class.getClassLoader());
+    }
+
+    /**
+     * Returns whether the class exists and can be loaded by the given class loader. The class is not initialized.
+     * The result is cached, see {@link #tryLoadClass(String, ClassLoader, boolean)}.
+     *
+     * @param name the name of the class to try to load
+     * @param loader the class loader to use (null for the bootstrap class loader)
+     * @return true if the class exists, false otherwise
+     */
+    public static boolean classExists(String name, @Nullable ClassLoader loader) {
+        return tryLoadClass(name, loader, false).isPresent();
     }
 
     /**
      * Wraps {@link Class#forName(String)} and swallows the {@link ClassNotFoundException} it potentially throws:
-     * allows to load a class by name if possible, otherwise returns an empty optional.
+     * allows to load a class by name if possible, otherwise returns an empty optional. The class is loaded with
+     * the class loader of this class and initialized. The result is cached, see
+     * {@link #tryLoadClass(String, ClassLoader, boolean)}.
      * <p>
      * Note that errors thrown by {@link Class#forName(String)} (e.g. {@link LinkageError}) are not caught as they
      * typically indicate more severe issues.
@@ -38,11 +58,28 @@ public final class ClassUtils {
      * @return optional with the class if possible, otherwise an empty optional
      */
     public static Optional<Class<?>> tryLoadClass(String name) {
-        try {
-            return Optional.of(Class.forName(name));
-        } catch (ClassNotFoundException ignored) {
-            return Optional.empty();
-        }
+        return tryLoadClass(name, ClassUtils.class.getClassLoader(), true);
+    }
+
+    /**
+     * Wraps {@link Class#forName(String, boolean, ClassLoader)} and swallows the {@link ClassNotFoundException} it
+     * potentially throws: allows to load a class by name if possible, otherwise returns an empty optional.
+     * <p>
+     * Results are cached per class loader, including negative results: {@link Class#forName} is only called once
+     * for a given name and class loader, even if the class does not exist. If the class was first loaded without
+     * being initialized, it is initialized when this method is called for it with {@code initialize = true}.
+     * Class loaders are referenced weakly by the cache.
+     * <p>
+     * Note that errors thrown by {@link Class#forName} (e.g. {@link LinkageError}) are not caught as they
+     * typically indicate more severe issues. Such errors are not cached.
+     *
+     * @param name the class name to try to load
+     * @param loader the class loader to use (null for the bootstrap class loader)
+     * @param initialize whether the class should be initialized (i.e. its static initializers run)
+     * @return optional with the class if possible, otherwise an empty optional
+     */
+    public static Optional<Class<?>> tryLoadClass(String name, @Nullable ClassLoader loader, boolean initialize) {
+        return ClassLoadingCache.tryLoadClass(name, loader, initialize);
     }
 
     /**
@@ -60,6 +97,39 @@ public final class ClassUtils {
         }
     }
 
+    /**
+     * Loads the classes with the given names using the given class loader, in parallel on the
+     * {@link ForkJoinPool#commonPool() common fork-join pool}.
+     * See {@link #loadClasses(Collection, ClassLoader, Executor)}.
+     *
+     * @param names the names of the classes to load
+     * @param loader the class loader to use (null for the bootstrap class loader)
+     * @return result per name, in the order of the given collection
+     */
+    public static List<ClassLoadResult> loadClasses(Collection<String> names, @Nullable ClassLoader loader) {
+        return loadClasses(names, loader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads the classes with the given names using the given class loader. The classes are loaded in parallel with
+     * the given executor if the class loader is registered as parallel capable; otherwise, they are loaded one after
+     * another on the calling thread. The classes are not initialized, as initializing classes concurrently may cause
+     * dead-locks if their static initializers depend on each other.
+     * <p>
+     * A result is returned for each name, in the order of the given collection. Classes that cannot be loaded do
+     * not abort the loading of other classes: their result contains the exception that was thrown. Like
+     * {@link #tryLoadClass(String, ClassLoader, boolean)}, results are cached per class loader.
+     *
+     * @param names the names of the classes to load
+     * @param loader the class loader to use (null for the bootstrap class loader)
+     * @param executor the executor to load the classes with
+     * @return result per name, in the order of the given collection
+     */
+    public static List<ClassLoadResult> loadClasses(Collection<String> names, @Nullable ClassLoader loader,
+                                                    Executor executor) {
+        return BulkClassLoader.loadClasses(names, loader, executor);
+    }
+
     /**
      * Returns whether the given object is an instance of the given target type. This method, unlike
      * {@link Class#isInstance}, boxes primitive classes, such that {@code isInstance(5, int.class)}
@@ -223,8 +293,7 @@ public final class ClassUtils {
      * @return most relevant type of the object as class name, or "null" as string (never null itself)
      */
     public static String getSemanticName(@Nullable Object object) {
-        Class<?> semanticType = getSemanticType(object);
-        return createNameOfSemanticType(semanticType);
+        return getSemanticName(getSemanticType(object));
     }
 
     /**
@@ -234,14 +303,49 @@ public final class ClassUtils {
      * <p>
      * Prefer using {@link #getSemanticName(Object)} whenever possible, as more semantic types can be inferred based
      * on an object.
+     * <p>
+     * The name is created once per class and cached.
      *
      * @param clazz the class to provide a user-friendly string for of its type
      * @return semantic type as class name, or "null" as string (never null itself)
      */
     public static String getSemanticName(@Nullable Class<?> clazz) {
-        return EnumUtils.getAssociatedEnumType(clazz)
-            .map(ClassUtils::createNameOfSemanticType)
-            .orElseGet(() -> createNameOfSemanticType(clazz));
+        return clazz == null ? "null" : ClassInfo.of(clazz).getSemanticName();
+    }
+
+    /**
+     * Appends the semantic name of the given object's type to the given appendable, as returned by
+     * {@link #getSemanticName(Object)}. No intermediate strings are created for classes whose name has been
+     * computed before.
+     *
+     * @param appendable the appendable to add the name to (e.g. a {@link StringBuilder})
+     * @param object the object whose semantic type name should be appended
+     * @param <A> the appendable type
+     * @return the given appendable
+     * @throws UncheckedIOException if the appendable throws an IOException
+     */
+    public static <A extends Appendable> A appendSemanticName(A appendable, @Nullable Object object) {
+        return appendSemanticName(appendable, getSemanticType(object));
+    }
+
+    /**
+     * Appends the semantic name of the given class to the given appendable, as returned by
+     * {@link #getSemanticName(Class)}. No intermediate strings are created for classes whose name has been
+     * computed before.
+     *
+     * @param appendable the appendable to add the name to (e.g. a {@link StringBuilder})
+     * @param clazz the class whose semantic name should be appended
+     * @param <A> the appendable type
+     * @return the given appendable
+     * @throws UncheckedIOException if the appendable throws an IOException
+     */
+    public static <A extends Appendable> A appendSemanticName(A appendable, @Nullable Class<?> clazz) {
+        try {
+            appendable.append(getSemanticName(clazz));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return appendable;
     }
 
     /**
@@ -262,28 +366,13 @@ public final class ClassUtils {
     /**
      * Returns the type of the given class (see {@link ClassType}). A class is considered as a
      * {@link ClassType#REGULAR_CLASS regular class} if no other {@link ClassType} entry applies to it.
+     * The type is determined once per class and cached.
      *
      * @param clazz the class to inspect, or null
      * @return the type of the class, or null if the class was null
      */
     public static ClassType getType(Class<?> clazz) {
-        if (clazz == null) {
-            return null;
-        } else if (Enum.class.isAssignableFrom(clazz)) {
-            return clazz.isEnum() ? ClassType.ENUM : ClassType.ENUM_ENTRY;
-        } else if (clazz.isPrimitive()) {
-            return ClassType.PRIMITIVE;
-        } else if (Proxy.isProxyClass(clazz)) {
-            return ClassType.PROXY_CLASS;
-        } else if (clazz.isAnnotation()) {
-            return ClassType.ANNOTATION;
-        } else if (clazz.isInterface()) {
-            return ClassType.INTERFACE;
-        } else if (clazz.isArray()) {
-            return ClassType.ARRAY;
-        }
-
-        return ClassType.REGULAR_CLASS;
+        return clazz == null ? null : ClassInfo.of(clazz).getType();
     }
 
     /**
@@ -294,20 +383,22 @@ public final class ClassUtils {
      * @param typeCallback the type callback to generate a result with
      * @param <R> the callback's result type
      * @return the result from the callback (may be null)
+     * @see ClassTypeDispatcher
      */
     public static <R> @Nullable R processClassByType(@Nullable Class<?> clazz,
                                                      ClassTypeCallback<? extends R> typeCallback) {
-        ClassType type = getType(clazz);
-        if (type == null) {
+        if (clazz == null) {
             return null;
         }
 
+        ClassInfo classInfo = ClassInfo.of(clazz);
+        ClassType type = classInfo.getType();
         switch (type) {
             case ENUM:
                 return typeCallback.forEnum((Class<? extends Enum<?>>) clazz);
             case ENUM_ENTRY:
                 return typeCallback.forEnumEntry(
-                    (Class<? extends Enum<?>>) clazz.getEnclosingClass(), (Class<? extends Enum<?>>) clazz);
+                    classInfo.getAssociatedEnumType(), (Class<? extends Enum<?>>) clazz);
             case ANNOTATION:
                 return typeCallback.forAnnotation((Class<? extends Annotation>) clazz);
             case PRIMITIVE:
@@ -324,29 +415,4 @@ public final class ClassUtils {
                 throw new IllegalStateException("Unexpected value: " + type);
         }
     }
-
-    private static String createNameOfSemanticType(@Nullable Class<?> semanticType) {
-        if (semanticType == null) {
-            return "null";
-        } else if (semanticType.isAnnotation()) {
-            return "@" + getNameWithoutPackage(semanticType);
-        } else if (semanticType.isArray()) {
-            ArrayClassProperties arrayProperties = new ArrayClassProperties(semanticType);
-            StringBuilder stringBuilder = new StringBuilder(getNameWithoutPackage(arrayProperties.getComponentType()));
-            appendArraySuffix(arrayProperties.getDimension(), stringBuilder);
-            return stringBuilder.toString();
-        }
-        return getNameWithoutPackage(semanticType);
-    }
-
-    private static String getNameWithoutPackage(Class<?> clazz) {
-        String name = clazz.getName();
-        return name.substring(name.lastIndexOf('.') + 1);
-    }
-
-    private static void appendArraySuffix(int dimension, StringBuilder stringBuilder) {
-        for (int i = 0; i < dimension; ++i) {
-            stringBuilder.append("[]");
-        }
-    }
 }
@@ -0,0 +1,127 @@
+package ch.jalu.typeresolver.enumutil;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counter with one count per enum entry, indexed by the entries' ordinal. Each entry is counted with a
+ * {@link LongAdder}, which spreads concurrent updates over padded cells. This makes updates from many threads
+ * cheap, in contrast to {@code EnumMap<E, AtomicLong>}, whose values are contended under load.
+ * <p>
+ * Reading a count is more costly than updating it, as the cells of the entry are summed up. The counts returned
+ * while other threads update the counter are not an atomic snapshot.
+ *
+ * @param <E> the enum type
+ */
+public final class EnumCounter<E extends Enum<E>> {
+
+    private final Class<E> enumClass;
+    private final LongAdder[] counts;
+
+    private EnumCounter(Class<E> enumClass) {
+        this.enumClass = enumClass;
+        this.counts = new LongAdder[enumClass.getEnumConstants().length];
+        for (int i = 0; i < counts.length; ++i) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Creates a counter for the given enum, with all counts set to 0. The class of an enum entry may be provided,
+     * in which case the counter is created for its enum type.
+     *
+     * @param enumClass the enum class, or the class of an enum entry
+     * @param <E> the enum type
+     * @return new counter for the enum
+     */
+    public static <E extends Enum<E>> EnumCounter<E> create(Class<? extends E> enumClass) {
+        return new EnumCounter<>(EnumLongArray.resolveEnumClass(enumClass));
+    }
+
+    /**
+     * @return the enum class of this counter
+     */
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    /**
+     * Increments the count of the given entry by one.
+     *
+     * @param entry the entry to count
+     */
+    public void increment(E entry) {
+        counts[entry.ordinal()].increment();
+    }
+
+    /**
+     * Adds the given delta to the count of the given entry.
+     *
+     * @param entry the entry to count
+     * @param delta the value to add
+     */
+    public void add(E entry, long delta) {
+        counts[entry.ordinal()].add(delta);
+    }
+
+    /**
+     * Returns the current count of the given entry.
+     *
+     * @param entry the entry whose count should be returned
+     * @return the count of the entry
+     */
+    public long get(E entry) {
+        return counts[entry.ordinal()].sum();
+    }
+
+    /**
+     * @return the sum of the counts of all entries
+     */
+    public long sum() {
+        long sum = 0;
+        for (LongAdder count : counts) {
+            sum += count.sum();
+        }
+        return sum;
+    }
+
+    /**
+     * Sets all counts to 0. Updates that happen concurrently may be lost.
+     */
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+    }
+
+    /**
+     * Returns the current counts in a new array.
+     *
+     * @return array with the count of each entry
+     */
+    public EnumLongArray<E> snapshot() {
+        EnumLongArray<E> snapshot = EnumLongArray.create(enumClass);
+        for (E entry : enumClass.getEnumConstants()) {
+            snapshot.set(entry, get(entry));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the current counts in a new array and resets the counts. Updates that happen concurrently may be lost,
+     * as with {@link #reset}.
+     *
+     * @return array with the count of each entry before the reset
+     */
+    public EnumLongArray<E> snapshotAndReset() {
+        EnumLongArray<E> snapshot = EnumLongArray.create(enumClass);
+        for (E entry : enumClass.getEnumConstants()) {
+            snapshot.set(entry, counts[entry.ordinal()].sumThenReset());
+        }
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return "EnumCounter" + snapshot().toEnumMap();
+    }
+}
@@ -0,0 +1,50 @@
+package ch.jalu.typeresolver.enumutil;
+
+import java.lang.reflect.Array;
+
+/**
+ * Internal helper methods shared by the enum indexes and codecs of this package.
+ */
+final class EnumHelper {
+
+    private static final int MIX_MULTIPLIER = 0x9E3779B9;
+    private static final int MIX_SHIFT = 16;
+
+    private EnumHelper() {
+    }
+
+    /**
+     * Creates a new array with the same component type as the given array.
+     *
+     * @param template the array whose component type should be used
+     * @param size the size of the new array
+     * @param <E> the component type
+     * @return new array of the given size
+     */
+    @SuppressWarnings("unchecked")
+    static <E> E[] newArray(E[] template, int size) {
+        return (E[]) Array.newInstance(template.getClass().getComponentType(), size);
+    }
+
+    /**
+     * Returns a representation of the entry for error messages, such as "TimeUnit.SECONDS".
+     *
+     * @param entry the entry to format
+     * @return the entry's simple class name and name
+     */
+    static String formatEntry(Enum<?> entry) {
+        return entry.getDeclaringClass().getSimpleName() + "." + entry.name();
+    }
+
+    /**
+     * Spreads the bits of a hash code or key so that similar values are not placed in adjacent slots of an
+     * open-addressing hash table.
+     *
+     * @param hash the hash to process
+     * @return the mixed hash
+     */
+    static int mix(int hash) {
+        int h = hash * MIX_MULTIPLIER;
+        return h ^ (h >>> MIX_SHIFT);
+    }
+}
@@ -0,0 +1,120 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Immutable index of an enum's entries by a custom key, such as a short code that is used in an external format.
+ * Each entry must have a different key. For keys of type {@code int}, use {@link EnumIntIndex}, which avoids boxing.
+ * <p>
+ * Example:<pre>{@code
+ *   EnumIndex<String, Currency> index = EnumIndex.of(Currency.class, Currency::getCode);
+ *   Currency euro = index.get("EUR");
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <E> the enum type
+ */
+public final class EnumIndex<K, E extends Enum<E>> {
+
+    private static final EnumIndexCache<Function<?, ?>, EnumIndex<?, ?>> CACHE = new EnumIndexCache<>();
+
+    private final Class<E> enumClass;
+    private final Map<K, E> entriesByKey;
+    private final Object[] keysByOrdinal;
+
+    private EnumIndex(Class<E> enumClass, Function<? super E, ? extends K> keyExtractor) {
+        E[] entries = enumClass.getEnumConstants();
+        Map<K, E> entriesByKey = new HashMap<>(entries.length * 2);
+        this.keysByOrdinal = new Object[entries.length];
+
+        for (E entry : entries) {
+            K key = keyExtractor.apply(entry);
+            if (key == null) {
+                throw new IllegalArgumentException("The key of " + EnumHelper.formatEntry(entry) + " is null");
+            }
+            E previous = entriesByKey.putIfAbsent(key, entry);
+            if (previous != null) {
+                throw new IllegalArgumentException("Duplicate key '" + key + "' for "
+                    + EnumHelper.formatEntry(previous) + " and " + EnumHelper.formatEntry(entry));
+            }
+            keysByOrdinal[entry.ordinal()] = key;
+        }
+        this.enumClass = enumClass;
+        this.entriesByKey = Collections.unmodifiableMap(entriesByKey);
+    }
+
+    /**
+     * Returns the index of the given enum's entries by the key that the given function returns for each entry.
+     * The index is cached per key extractor if the key extractor is a lambda or method reference that does not
+     * capture any values; otherwise, a new index is created on each call, so keep the index. An exception is thrown
+     * if two entries have the same key, or if the key of an entry is null.
+     *
+     * @param enumClass the enum class to index
+     * @param keyExtractor function returning the key of an entry
+     * @param <K> the key type
+     * @param <E> the enum type
+     * @return index of the enum entries by key
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, E extends Enum<E>> EnumIndex<K, E> of(Class<E> enumClass,
+                                                           Function<? super E, ? extends K> keyExtractor) {
+        return (EnumIndex<K, E>) CACHE.getOrCreate(enumClass, keyExtractor,
+            extractor -> new EnumIndex<>(enumClass, (Function<? super E, ? extends K>) extractor));
+    }
+
+    /**
+     * @return the enum class this index is for
+     */
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    /**
+     * Returns the entry with the given key, or null if no entry has the key.
+     *
+     * @param key the key to look up
+     * @return the entry with the key, or null
+     */
+    public @Nullable E get(@Nullable Object key) {
+        return key == null ? null : entriesByKey.get(key);
+    }
+
+    /**
+     * Returns an optional with the entry with the given key, or an empty optional if no entry has the key.
+     *
+     * @param key the key to look up
+     * @return optional of the entry with the key
+     */
+    public Optional<E> find(@Nullable Object key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    /**
+     * Returns the key of the given entry.
+     *
+     * @param entry the entry whose key should be returned
+     * @return the key of the entry
+     */
+    @SuppressWarnings("unchecked")
+    public K getKey(E entry) {
+        return (K) keysByOrdinal[entry.ordinal()];
+    }
+
+    /**
+     * @return unmodifiable map of all entries by their key
+     */
+    public Map<K, E> asMap() {
+        return entriesByKey;
+    }
+
+    @Override
+    public String toString() {
+        return "EnumIndex[" + enumClass.getSimpleName() + ", " + entriesByKey.size() + " keys]";
+    }
+}
@@ -0,0 +1,54 @@
+package ch.jalu.typeresolver.enumutil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Internal cache of the indexes created for an enum, by the key extractor they were created with. Each kind of index
+ * has its own cache instance.
+ * <p>
+ * Only key extractors that are non-capturing lambdas or method references are cached: the JVM creates one instance
+ * per such expression, so the number of cached indexes is bounded by the code that creates them. Any other key
+ * extractor (e.g. a lambda capturing a variable) may be a new instance on each call and is not cached.
+ *
+ * @param <X> the key extractor type
+ * @param <I> the index type
+ */
+final class EnumIndexCache<X, I> {
+
+    private final ClassValue<Map<X, I>> indexesByEnumClass = new ClassValue<Map<X, I>>() {
+        @Override
+        protected Map<X, I> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns the index of the given enum class that is associated with the given key extractor, creating it with
+     * the given function if it does not exist yet or if the key extractor cannot be cached.
+     *
+     * @param enumClass the enum class the index is for
+     * @param keyExtractor the key extractor the index is created with
+     * @param indexCreator function creating the index if needed
+     * @return the cached or newly created index
+     */
+    I getOrCreate(Class<?> enumClass, X keyExtractor, Function<X, I> indexCreator) {
+        if (!isNonCapturingLambda(keyExtractor)) {
+            return indexCreator.apply(keyExtractor);
+        }
+        return indexesByEnumClass.get(enumClass).computeIfAbsent(keyExtractor, indexCreator);
+    }
+
+    /**
+     * Returns whether the given object is an instance of a lambda or method reference that does not capture any
+     * values. Such classes are synthetic and have no fields.
+     *
+     * @param keyExtractor the key extractor to inspect
+     * @return true if the object is a non-capturing lambda, false otherwise
+     */
+    private static boolean isNonCapturingLambda(Object keyExtractor) {
+        Class<?> extractorClass = keyExtractor.getClass();
+        return extractorClass.isSynthetic() && extractorClass.getDeclaredFields().length == 0;
+    }
+}
@@ -0,0 +1,178 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable index of an enum's entries by an {@code int} key, such as a code that is used in a wire format.
+ * Each entry must have a different key. Lookups are performed in constant time without boxing: if the keys are
+ * dense (i.e. the range between the smallest and the largest key is not much larger than the number of entries),
+ * the entries are stored in an array indexed by key; otherwise, an open-addressing hash table is used.
+ * <p>
+ * Example:<pre>{@code
+ *   EnumIntIndex<Status> index = EnumIntIndex.of(Status.class, Status::getCode);
+ *   Status status = index.get(404);
+ * }</pre>
+ *
+ * @param <E> the enum type
+ */
+public final class EnumIntIndex<E extends Enum<E>> {
+
+    /** Factor by which the key range may be larger than the number of entries for keys to be considered dense. */
+    private static final int DENSE_RANGE_FACTOR = 4;
+    /** Key range that is always considered dense, regardless of the number of entries. */
+    private static final int MIN_DENSE_RANGE = 64;
+    private static final EnumIndexCache<ToIntFunction<?>, EnumIntIndex<?>> CACHE = new EnumIndexCache<>();
+
+    private final Class<E> enumClass;
+    private final int[] keysByOrdinal;
+    private final int minKey;
+    /** Entries by (key - minKey) if the keys are dense; null otherwise. */
+    private final E @Nullable [] entriesByOffset;
+    /** Keys of the hash table, used if the keys are not dense. */
+    private final int @Nullable [] hashTableKeys;
+    /** Entries of the hash table, used if the keys are not dense. Null denotes an empty slot. */
+    private final E @Nullable [] hashTableEntries;
+    private final int mask;
+
+    private EnumIntIndex(Class<E> enumClass, ToIntFunction<? super E> keyExtractor) {
+        E[] entries = enumClass.getEnumConstants();
+        this.enumClass = enumClass;
+        this.keysByOrdinal = new int[entries.length];
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (E entry : entries) {
+            int key = keyExtractor.applyAsInt(entry);
+            keysByOrdinal[entry.ordinal()] = key;
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        this.minKey = min;
+
+        long range = entries.length == 0 ? 0 : (long) max - min + 1;
+        if (range <= Math.max((long) DENSE_RANGE_FACTOR * entries.length, MIN_DENSE_RANGE)) {
+            this.entriesByOffset = createDenseTable(entries, (int) range);
+            this.hashTableKeys = null;
+            this.hashTableEntries = null;
+            this.mask = 0;
+        } else {
+            int tableSize = Integer.highestOneBit(entries.length * 2 - 1) << 1;
+            this.entriesByOffset = null;
+            this.hashTableKeys = new int[tableSize];
+            this.hashTableEntries = EnumHelper.newArray(entries, tableSize);
+            this.mask = tableSize - 1;
+            fillHashTable(entries);
+        }
+    }
+
+    /**
+     * Returns the index of the given enum's entries by the int key that the given function returns for each entry.
+     * The index is cached per key extractor if the key extractor is a lambda or method reference that does not
+     * capture any values; otherwise, a new index is created on each call, so keep the index. An exception is thrown
+     * if two entries have the same key.
+     *
+     * @param enumClass the enum class to index
+     * @param keyExtractor function returning the key of an entry
+     * @param <E> the enum type
+     * @return index of the enum entries by key
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumIntIndex<E> of(Class<E> enumClass, ToIntFunction<? super E> keyExtractor) {
+        return (EnumIntIndex<E>) CACHE.getOrCreate(enumClass, keyExtractor,
+            extractor -> new EnumIntIndex<>(enumClass, (ToIntFunction<? super E>) extractor));
+    }
+
+    /**
+     * @return the enum class this index is for
+     */
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    /**
+     * Returns the entry with the given key, or null if no entry has the key.
+     *
+     * @param key the key to look up
+     * @return the entry with the key, or null
+     */
+    public @Nullable E get(int key) {
+        if (entriesByOffset != null) {
+            long offset = (long) key - minKey;
+            return offset >= 0 && offset < entriesByOffset.length ? entriesByOffset[(int) offset] : null;
+        }
+
+        for (int slot = EnumHelper.mix(key) & mask; hashTableEntries[slot] != null; slot = (slot + 1) & mask) {
+            if (hashTableKeys[slot] == key) {
+                return hashTableEntries[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns an optional with the entry with the given key, or an empty optional if no entry has the key.
+     *
+     * @param key the key to look up
+     * @return optional of the entry with the key
+     */
+    public Optional<E> find(int key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    /**
+     * Returns the key of the given entry.
+     *
+     * @param entry the entry whose key should be returned
+     * @return the key of the entry
+     */
+    public int getKey(E entry) {
+        return keysByOrdinal[entry.ordinal()];
+    }
+
+    /**
+     * @return true if the entries are stored in an array indexed by key, false if a hash table is used
+     */
+    public boolean isArrayBacked() {
+        return entriesByOffset != null;
+    }
+
+    @Override
+    public String toString() {
+        return "EnumIntIndex[" + enumClass.getSimpleName() + ", " + (isArrayBacked() ? "array" : "hash") + "]";
+    }
+
+    private E[] createDenseTable(E[] entries, int size) {
+        E[] table = EnumHelper.newArray(entries, size);
+        for (E entry : entries) {
+            int offset = keysByOrdinal[entry.ordinal()] - minKey;
+            verifyNoDuplicate(table[offset], entry);
+            table[offset] = entry;
+        }
+        return table;
+    }
+
+    private void fillHashTable(E[] entries) {
+        for (E entry : entries) {
+            int key = keysByOrdinal[entry.ordinal()];
+            int slot = EnumHelper.mix(key) & mask;
+            while (hashTableEntries[slot] != null) {
+                if (hashTableKeys[slot] == key) {
+                    verifyNoDuplicate(hashTableEntries[slot], entry);
+                }
+                slot = (slot + 1) & mask;
+            }
+            hashTableKeys[slot] = key;
+            hashTableEntries[slot] = entry;
+        }
+    }
+
+    private void verifyNoDuplicate(@Nullable E existingEntry, E entry) {
+        if (existingEntry != null) {
+            throw new IllegalArgumentException("Duplicate key '" + keysByOrdinal[entry.ordinal()] + "' for "
+                + EnumHelper.formatEntry(existingEntry) + " and " + EnumHelper.formatEntry(entry));
+        }
+    }
+}
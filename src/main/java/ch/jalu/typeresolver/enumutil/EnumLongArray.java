@@ -0,0 +1,158 @@
+package ch.jalu.typeresolver.enumutil;
+
+import ch.jalu.typeresolver.EnumUtils;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Array of {@code long} values with one value per enum entry, indexed by the entries' ordinal. Replaces maps such as
+ * {@code EnumMap<E, Long>} without boxing the values. This class is not thread-safe; use {@link EnumCounter} to
+ * count occurrences from multiple threads.
+ *
+ * @param <E> the enum type
+ */
+public final class EnumLongArray<E extends Enum<E>> {
+
+    private final Class<E> enumClass;
+    private final E[] entries;
+    private final long[] values;
+
+    private EnumLongArray(Class<E> enumClass) {
+        this.enumClass = enumClass;
+        this.entries = enumClass.getEnumConstants();
+        this.values = new long[entries.length];
+    }
+
+    /**
+     * Creates an array for the given enum, with all values set to 0. The class of an enum entry may be provided,
+     * in which case the array is created for its enum type (see {@link EnumUtils#getAssociatedEnumType}).
+     *
+     * @param enumClass the enum class, or the class of an enum entry
+     * @param <E> the enum type
+     * @return new array for the enum
+     */
+    public static <E extends Enum<E>> EnumLongArray<E> create(Class<? extends E> enumClass) {
+        return new EnumLongArray<>(resolveEnumClass(enumClass));
+    }
+
+    /**
+     * @return the enum class of this array
+     */
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    /**
+     * @return the number of values, which is the number of entries of the enum
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value of the given entry.
+     *
+     * @param entry the entry whose value should be returned
+     * @return the value of the entry
+     */
+    public long get(E entry) {
+        return values[entry.ordinal()];
+    }
+
+    /**
+     * Sets the value of the given entry.
+     *
+     * @param entry the entry whose value should be set
+     * @param value the value to set
+     */
+    public void set(E entry, long value) {
+        values[entry.ordinal()] = value;
+    }
+
+    /**
+     * Adds the given delta to the value of the given entry and returns the new value.
+     *
+     * @param entry the entry whose value should be changed
+     * @param delta the value to add
+     * @return the new value of the entry
+     */
+    public long add(E entry, long delta) {
+        return values[entry.ordinal()] += delta;
+    }
+
+    /**
+     * Increments the value of the given entry by one and returns the new value.
+     *
+     * @param entry the entry whose value should be incremented
+     * @return the new value of the entry
+     */
+    public long increment(E entry) {
+        return ++values[entry.ordinal()];
+    }
+
+    /**
+     * @return the sum of all values
+     */
+    public long sum() {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Sets all values to 0.
+     */
+    public void reset() {
+        Arrays.fill(values, 0L);
+    }
+
+    /**
+     * Calls the given consumer with each entry and its value, in the order of the entries' ordinal.
+     *
+     * @param consumer the consumer to call for each entry
+     */
+    public void forEach(ObjLongConsumer<? super E> consumer) {
+        for (int i = 0; i < entries.length; ++i) {
+            consumer.accept(entries[i], values[i]);
+        }
+    }
+
+    /**
+     * @return copy of the values, indexed by the entries' ordinal
+     */
+    public long[] toArray() {
+        return values.clone();
+    }
+
+    /**
+     * @return new map with the value of each entry
+     */
+    public EnumMap<E, Long> toEnumMap() {
+        EnumMap<E, Long> map = new EnumMap<>(enumClass);
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "EnumLongArray" + toEnumMap();
+    }
+
+    /**
+     * Returns the enum class of the given class, which may be an enum or the class of an enum entry. Throws an
+     * exception if the class is not enum-related.
+     *
+     * @param enumClass the enum class or the class of an enum entry
+     * @param <E> the enum type
+     * @return the enum class
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> Class<E> resolveEnumClass(Class<? extends E> enumClass) {
+        return (Class<E>) EnumUtils.getAssociatedEnumType(enumClass)
+            .orElseThrow(() -> new IllegalArgumentException("Class '" + enumClass.getName() + "' is not an enum"));
+    }
+}
@@ -0,0 +1,241 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lookup index of an enum's entries by name, created once per enum class. Names are stored in two
+ * open-addressing hash tables: one for the exact names and one for the case-folded names. Lookups can be performed
+ * with any {@link CharSequence} or with a range of bytes, and do not throw if there is no match.
+ * <p>
+ * Case-insensitive matching behaves like {@link String#equalsIgnoreCase}: two characters are considered equal if
+ * they are equal after applying {@link Character#toUpperCase(char)} and then {@link Character#toLowerCase(char)}.
+ *
+ * @param <E> the enum type
+ */
+public final class EnumNameIndex<E extends Enum<E>> {
+
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final ClassValue<EnumNameIndex<?>> INDEX_BY_ENUM_CLASS = new ClassValue<EnumNameIndex<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumNameIndex<?> computeValue(Class<?> type) {
+            return new EnumNameIndex(type);
+        }
+    };
+
+    private final E[] entries;
+    private final int[] nameHashes;
+    private final int[] foldedNameHashes;
+    /** Ordinal + 1 of the entry per slot; 0 if the slot is empty. */
+    private final int[] exactTable;
+    /** Ordinal + 1 of the entry per slot; 0 if the slot is empty. */
+    private final int[] foldedTable;
+    private final int mask;
+
+    private EnumNameIndex(Class<E> enumClass) {
+        this.entries = enumClass.getEnumConstants();
+        this.nameHashes = new int[entries.length];
+        this.foldedNameHashes = new int[entries.length];
+
+        int tableSize = Integer.highestOneBit(Math.max(entries.length, 1) * 2 - 1) << 1;
+        this.exactTable = new int[tableSize];
+        this.foldedTable = new int[tableSize];
+        this.mask = tableSize - 1;
+
+        for (E entry : entries) {
+            String name = entry.name();
+            nameHashes[entry.ordinal()] = hash(name);
+            foldedNameHashes[entry.ordinal()] = foldedHash(name);
+            insert(exactTable, nameHashes[entry.ordinal()], entry.ordinal());
+            // Only the first entry of case-insensitively equal names is kept
+            if (findFolded(name) == null) {
+                insert(foldedTable, foldedNameHashes[entry.ordinal()], entry.ordinal());
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the given enum class.
+     *
+     * @param enumClass the enum class (must be an enum, i.e. {@link Class#isEnum()} must be true)
+     * @param <E> the enum type
+     * @return the index of the enum
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumNameIndex<E> of(Class<E> enumClass) {
+        return (EnumNameIndex<E>) INDEX_BY_ENUM_CLASS.get(enumClass);
+    }
+
+    /**
+     * Returns the entry whose name is equal to the given characters, or null if there is no match.
+     *
+     * @param name the name to look up
+     * @return the matching entry, or null
+     */
+    public @Nullable E find(CharSequence name) {
+        int hash = hash(name);
+        for (int slot = EnumHelper.mix(hash) & mask; exactTable[slot] != 0; slot = (slot + 1) & mask) {
+            int ordinal = exactTable[slot] - 1;
+            if (nameHashes[ordinal] == hash && matches(entries[ordinal].name(), name)) {
+                return entries[ordinal];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the entry whose name is equal to the given bytes, each byte being interpreted as one ISO-8859-1
+     * character. Returns null if there is no match.
+     *
+     * @param bytes the array with the name to look up
+     * @param from start index of the name (inclusive)
+     * @param to end index of the name (exclusive)
+     * @return the matching entry, or null
+     */
+    public @Nullable E find(byte[] bytes, int from, int to) {
+        int hash = hash(bytes, from, to);
+        for (int slot = EnumHelper.mix(hash) & mask; exactTable[slot] != 0; slot = (slot + 1) & mask) {
+            int ordinal = exactTable[slot] - 1;
+            if (nameHashes[ordinal] == hash && matches(entries[ordinal].name(), bytes, from, to)) {
+                return entries[ordinal];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first entry whose name is equal to the given characters, ignoring case, or null if there is
+     * no match.
+     *
+     * @param name the name to look up
+     * @return the matching entry, or null
+     */
+    public @Nullable E findFolded(CharSequence name) {
+        int hash = foldedHash(name);
+        for (int slot = EnumHelper.mix(hash) & mask; foldedTable[slot] != 0; slot = (slot + 1) & mask) {
+            int ordinal = foldedTable[slot] - 1;
+            if (foldedNameHashes[ordinal] == hash && matchesFolded(entries[ordinal].name(), name)) {
+                return entries[ordinal];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first entry whose name is equal to the given bytes, ignoring case. Each byte is interpreted as one
+     * ISO-8859-1 character. Returns null if there is no match.
+     *
+     * @param bytes the array with the name to look up
+     * @param from start index of the name (inclusive)
+     * @param to end index of the name (exclusive)
+     * @return the matching entry, or null
+     */
+    public @Nullable E findFolded(byte[] bytes, int from, int to) {
+        int hash = foldedHash(bytes, from, to);
+        for (int slot = EnumHelper.mix(hash) & mask; foldedTable[slot] != 0; slot = (slot + 1) & mask) {
+            int ordinal = foldedTable[slot] - 1;
+            if (foldedNameHashes[ordinal] == hash && matchesFolded(entries[ordinal].name(), bytes, from, to)) {
+                return entries[ordinal];
+            }
+        }
+        return null;
+    }
+
+    private void insert(int[] table, int hash, int ordinal) {
+        int slot = EnumHelper.mix(hash) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = ordinal + 1;
+    }
+
+    private static int hash(CharSequence name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); ++i) {
+            hash = HASH_MULTIPLIER * hash + name.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; ++i) {
+            hash = HASH_MULTIPLIER * hash + toChar(bytes[i]);
+        }
+        return hash;
+    }
+
+    private static int foldedHash(CharSequence name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); ++i) {
+            hash = HASH_MULTIPLIER * hash + fold(name.charAt(i));
+        }
+        return hash;
+    }
+
+    private static int foldedHash(byte[] bytes, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; ++i) {
+            hash = HASH_MULTIPLIER * hash + fold(toChar(bytes[i]));
+        }
+        return hash;
+    }
+
+    private static boolean matches(String name, CharSequence chars) {
+        if (name.length() != chars.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); ++i) {
+            if (name.charAt(i) != chars.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String name, byte[] bytes, int from, int to) {
+        if (name.length() != to - from) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); ++i) {
+            if (name.charAt(i) != toChar(bytes[from + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesFolded(String name, CharSequence chars) {
+        if (name.length() != chars.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); ++i) {
+            if (fold(name.charAt(i)) != fold(chars.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matchesFolded(String name, byte[] bytes, int from, int to) {
+        if (name.length() != to - from) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); ++i) {
+            if (fold(name.charAt(i)) != fold(toChar(bytes[from + i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toChar(byte latin1Byte) {
+        return (char) (latin1Byte & BYTE_MASK);
+    }
+
+    private static char fold(char chr) {
+        return Character.toLowerCase(Character.toUpperCase(chr));
+    }
+}
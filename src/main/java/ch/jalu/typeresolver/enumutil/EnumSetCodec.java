@@ -0,0 +1,320 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Converts sets of enum entries to and from compact bitmasks, where each entry is represented by one bit.
+ * <p>
+ * The codec created by {@link #byOrdinal} uses the ordinal of each entry as bit index. Such bitmasks are invalid
+ * once the entries of the enum are reordered. For bitmasks that are stored or transmitted, {@link #byNames} creates
+ * a codec with a fixed bit index per entry name, so that bitmasks remain valid if entries are reordered or removed.
+ * <p>
+ * Bitmasks as {@code byte[]} have the same layout as {@link java.util.BitSet#toByteArray()}: bit {@code i} is stored
+ * in the byte at index {@code i / 8}, with bit 0 as least significant bit. Likewise, bit {@code i} is in the
+ * {@code long} at index {@code i / 64} for bitmasks as {@code long[]}.
+ * <p>
+ * Example:<pre>{@code
+ *   EnumSetCodec<TimeUnit> codec = EnumSetCodec.byOrdinal(TimeUnit.class);
+ *   long mask = codec.toLong(EnumSet.of(TimeUnit.SECONDS, TimeUnit.HOURS)); // 0b0101000
+ *   EnumSet<TimeUnit> units = codec.fromLong(mask);
+ * }</pre>
+ *
+ * @param <E> the enum type
+ */
+public final class EnumSetCodec<E extends Enum<E>> {
+
+    private static final int BITS_PER_LONG = Long.SIZE;
+    private static final int BITS_PER_BYTE = Byte.SIZE;
+    private static final int BYTE_MASK = 0xFF;
+
+    private static final ClassValue<EnumSetCodec<?>> ORDINAL_CODEC_BY_CLASS = new ClassValue<EnumSetCodec<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumSetCodec<?> computeValue(Class<?> type) {
+            return new EnumSetCodec(type, null);
+        }
+    };
+
+    private final Class<E> enumClass;
+    /** Bit index per ordinal; -1 if the entry has no bit. */
+    private final int[] bitByOrdinal;
+    /** Entry per bit index; null if no entry corresponds to the bit. */
+    private final E[] entryByBit;
+
+    private EnumSetCodec(Class<E> enumClass, @Nullable List<String> bitNames) {
+        E[] entries = enumClass.getEnumConstants();
+        this.enumClass = enumClass;
+        this.bitByOrdinal = new int[entries.length];
+
+        if (bitNames == null) {
+            this.entryByBit = entries;
+            for (int i = 0; i < entries.length; ++i) {
+                bitByOrdinal[i] = i;
+            }
+        } else {
+            Arrays.fill(bitByOrdinal, -1);
+            this.entryByBit = EnumHelper.newArray(entries, bitNames.size());
+            for (int bit = 0; bit < bitNames.size(); ++bit) {
+                E entry = findEntry(entries, bitNames.get(bit));
+                if (entry != null) {
+                    if (bitByOrdinal[entry.ordinal()] >= 0) {
+                        throw new IllegalArgumentException("Name '" + bitNames.get(bit)
+                            + "' is present multiple times");
+                    }
+                    bitByOrdinal[entry.ordinal()] = bit;
+                    entryByBit[bit] = entry;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the codec for the given enum that uses the ordinal of each entry as bit index. The codec is cached.
+     * Bitmasks created by this codec are not valid if the entries of the enum are reordered.
+     *
+     * @param enumClass the enum class
+     * @param <E> the enum type
+     * @return codec by ordinal
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumSetCodec<E> byOrdinal(Class<E> enumClass) {
+        return (EnumSetCodec<E>) ORDINAL_CODEC_BY_CLASS.get(enumClass);
+    }
+
+    /**
+     * Creates a codec for the given enum that uses the position of an entry's name in the given list as bit index.
+     * Names in the list that do not correspond to any entry (e.g. entries that were removed) are ignored, i.e. the
+     * bit is never set when encoding and is skipped when decoding. Entries whose name is not in the list cannot be
+     * encoded.
+     * <p>
+     * To keep bitmasks valid, names must only ever be appended to the list. Names may not be present multiple times.
+     *
+     * @param enumClass the enum class
+     * @param bitNames the names of the entries in the order of their bit index
+     * @param <E> the enum type
+     * @return codec by the given names
+     */
+    public static <E extends Enum<E>> EnumSetCodec<E> byNames(Class<E> enumClass, List<String> bitNames) {
+        return new EnumSetCodec<>(enumClass, bitNames);
+    }
+
+    /**
+     * @return the enum class of this codec
+     */
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    /**
+     * @return the number of bits this codec uses, i.e. the highest bit index plus one
+     */
+    public int getBitCount() {
+        return entryByBit.length;
+    }
+
+    /**
+     * Returns the bit index of the given entry.
+     *
+     * @param entry the entry to get the bit index for
+     * @return the bit index of the entry
+     */
+    public int getBitIndex(E entry) {
+        int bit = bitByOrdinal[entry.ordinal()];
+        if (bit < 0) {
+            throw new IllegalArgumentException("Entry '" + entry.name() + "' has no bit index in this codec");
+        }
+        return bit;
+    }
+
+    /**
+     * Returns whether the given bitmask contains the given entry.
+     *
+     * @param bitmask the bitmask to check
+     * @param entry the entry to look for
+     * @return true if the entry's bit is set, false otherwise
+     */
+    public boolean contains(long bitmask, E entry) {
+        int bit = bitByOrdinal[entry.ordinal()];
+        return bit >= 0 && bit < BITS_PER_LONG && (bitmask & (1L << bit)) != 0;
+    }
+
+    /**
+     * Returns whether the given bitmask contains the given entry.
+     *
+     * @param bitmask the bitmask to check
+     * @param entry the entry to look for
+     * @return true if the entry's bit is set, false otherwise
+     */
+    public boolean contains(long[] bitmask, E entry) {
+        int bit = bitByOrdinal[entry.ordinal()];
+        return bit >= 0 && bit / BITS_PER_LONG < bitmask.length
+            && (bitmask[bit / BITS_PER_LONG] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Converts the given entries to a bitmask as long. Throws an exception if an entry's bit index is 64 or greater.
+     *
+     * @param entries the entries to convert
+     * @return bitmask of the entries
+     */
+    public long toLong(Collection<? extends E> entries) {
+        long bitmask = 0;
+        for (E entry : entries) {
+            bitmask |= toLongBit(entry);
+        }
+        return bitmask;
+    }
+
+    /**
+     * Converts the given bitmask to a set of entries. Bits that do not correspond to any entry are ignored.
+     *
+     * @param bitmask the bitmask to convert
+     * @return set of the entries whose bits are set
+     */
+    public EnumSet<E> fromLong(long bitmask) {
+        EnumSet<E> result = EnumSet.noneOf(enumClass);
+        addEntries(bitmask, 0, result);
+        return result;
+    }
+
+    /**
+     * Converts the given entries to a bitmask as long array. The array's length is the number of longs needed to
+     * represent {@link #getBitCount()} bits.
+     *
+     * @param entries the entries to convert
+     * @return bitmask of the entries
+     */
+    public long[] toLongArray(Collection<? extends E> entries) {
+        long[] bitmask = new long[(entryByBit.length + BITS_PER_LONG - 1) / BITS_PER_LONG];
+        for (E entry : entries) {
+            int bit = getBitIndex(entry);
+            bitmask[bit / BITS_PER_LONG] |= 1L << bit;
+        }
+        return bitmask;
+    }
+
+    /**
+     * Converts the given bitmask to a set of entries. Bits that do not correspond to any entry are ignored.
+     *
+     * @param bitmask the bitmask to convert
+     * @return set of the entries whose bits are set
+     */
+    public EnumSet<E> fromLongArray(long[] bitmask) {
+        EnumSet<E> result = EnumSet.noneOf(enumClass);
+        for (int i = 0; i < bitmask.length; ++i) {
+            addEntries(bitmask[i], i * BITS_PER_LONG, result);
+        }
+        return result;
+    }
+
+    /**
+     * Converts the given entries to a bitmask as byte array. The array's length is the number of bytes needed to
+     * represent {@link #getBitCount()} bits.
+     *
+     * @param entries the entries to convert
+     * @return bitmask of the entries
+     */
+    public byte[] toByteArray(Collection<? extends E> entries) {
+        byte[] bitmask = new byte[(entryByBit.length + BITS_PER_BYTE - 1) / BITS_PER_BYTE];
+        for (E entry : entries) {
+            int bit = getBitIndex(entry);
+            bitmask[bit / BITS_PER_BYTE] |= (byte) (1 << (bit % BITS_PER_BYTE));
+        }
+        return bitmask;
+    }
+
+    /**
+     * Converts the given bitmask to a set of entries. Bits that do not correspond to any entry are ignored.
+     *
+     * @param bitmask the bitmask to convert
+     * @return set of the entries whose bits are set
+     */
+    public EnumSet<E> fromByteArray(byte[] bitmask) {
+        EnumSet<E> result = EnumSet.noneOf(enumClass);
+        for (int i = 0; i < bitmask.length; ++i) {
+            addEntries(bitmask[i] & BYTE_MASK, i * BITS_PER_BYTE, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a collector that combines the entries of a stream directly into a bitmask as long, without creating
+     * a set of the entries.
+     *
+     * @return collector to a bitmask
+     * @see #toLong
+     */
+    public Collector<E, ?, Long> toLongCollector() {
+        return Collector.of(() -> new long[1],
+            (bitmask, entry) -> bitmask[0] |= toLongBit(entry),
+            (bitmask1, bitmask2) -> {
+                bitmask1[0] |= bitmask2[0];
+                return bitmask1;
+            },
+            bitmask -> bitmask[0],
+            Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector that combines the entries of a stream directly into a bitmask as long array, without
+     * creating a set of the entries.
+     *
+     * @return collector to a bitmask
+     * @see #toLongArray
+     */
+    public Collector<E, ?, long[]> toLongArrayCollector() {
+        int length = (entryByBit.length + BITS_PER_LONG - 1) / BITS_PER_LONG;
+        return Collector.of(() -> new long[length],
+            (bitmask, entry) -> {
+                int bit = getBitIndex(entry);
+                bitmask[bit / BITS_PER_LONG] |= 1L << bit;
+            },
+            (bitmask1, bitmask2) -> {
+                for (int i = 0; i < length; ++i) {
+                    bitmask1[i] |= bitmask2[i];
+                }
+                return bitmask1;
+            },
+            Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    @Override
+    public String toString() {
+        return "EnumSetCodec[" + enumClass.getSimpleName() + ", " + entryByBit.length + " bits]";
+    }
+
+    private long toLongBit(E entry) {
+        int bit = getBitIndex(entry);
+        if (bit >= BITS_PER_LONG) {
+            throw new IllegalArgumentException("Entry '" + entry.name() + "' has bit index " + bit
+                + ", which does not fit into a long");
+        }
+        return 1L << bit;
+    }
+
+    private void addEntries(long bits, int bitOffset, EnumSet<E> result) {
+        long remainingBits = bits;
+        while (remainingBits != 0) {
+            int bit = bitOffset + Long.numberOfTrailingZeros(remainingBits);
+            remainingBits &= remainingBits - 1;
+            if (bit < entryByBit.length && entryByBit[bit] != null) {
+                result.add(entryByBit[bit]);
+            }
+        }
+    }
+
+    private static <E extends Enum<E>> @Nullable E findEntry(E[] entries, String name) {
+        for (E entry : entries) {
+            if (entry.name().equals(name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,211 @@
+package ch.jalu.typeresolver.reflect;
+
+import ch.jalu.typeresolver.primitives.PrimitiveType;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Internal index of the declared constructors of a class. Instances are created once per class and cached
+ * by {@link ConstructorUtils}, so that constructor lookups neither throw exceptions on a miss nor copy the
+ * constructors and their parameter types for each candidate.
+ * <p>
+ * The indexed {@link Constructor} objects are never returned: like {@link Class#getDeclaredConstructor}, this class
+ * returns a new copy of the matched constructor, so that changing its accessibility does not affect other callers.
+ */
+final class ConstructorIndex {
+
+    private static final ClassValue<ConstructorIndex> INDEX_BY_CLASS = new ClassValue<ConstructorIndex>() {
+        @Override
+        protected ConstructorIndex computeValue(Class<?> type) {
+            return new ConstructorIndex(type);
+        }
+    };
+
+    /** Numeric primitive types, ordered so that each type can be widened to all types after it. */
+    private static final List<Class<?>> NUMERIC_PRIMITIVES_BY_WIDTH = Arrays.asList(
+        byte.class, short.class, int.class, long.class, float.class, double.class);
+
+    private final Constructor<?>[] constructors;
+    private final Class<?>[][] parameterTypes;
+    private final Map<List<Class<?>>, Integer> constructorIndexBySignature;
+
+    private ConstructorIndex(Class<?> clazz) {
+        this.constructors = clazz.getDeclaredConstructors();
+        this.parameterTypes = new Class<?>[constructors.length][];
+        this.constructorIndexBySignature = new HashMap<>();
+        for (int i = 0; i < constructors.length; ++i) {
+            parameterTypes[i] = constructors[i].getParameterTypes();
+            constructorIndexBySignature.put(Arrays.asList(parameterTypes[i]), i);
+        }
+    }
+
+    /**
+     * Returns the constructor index of the given class.
+     *
+     * @param clazz the class whose index should be returned
+     * @return the (cached) constructor index
+     */
+    static ConstructorIndex of(Class<?> clazz) {
+        return INDEX_BY_CLASS.get(clazz);
+    }
+
+    /**
+     * Returns a copy of the constructor whose parameter types are exactly the given types, or null if there is no
+     * match.
+     *
+     * @param parameterTypes the parameter types of the constructor
+     * @return the matching constructor, or null
+     */
+    @Nullable Constructor<?> getConstructor(Class<?> @Nullable [] parameterTypes) {
+        Integer index = parameterTypes == null
+            ? constructorIndexBySignature.get(Collections.emptyList())
+            : constructorIndexBySignature.get(Arrays.asList(parameterTypes));
+        return index == null ? null : copy(index);
+    }
+
+    /**
+     * Returns a copy of the constructor that can be called with arguments of the given types, or null if no
+     * constructor matches or if the match is ambiguous. See {@link ConstructorUtils#getMatchingConstructorOrNull}.
+     *
+     * @param argumentTypes the types of the arguments (null entries stand for null arguments)
+     * @return the matching constructor, or null
+     */
+    @Nullable Constructor<?> findConstructorForArguments(@Nullable Class<?> @Nullable [] argumentTypes) {
+        if (argumentTypes == null) {
+            return getConstructor(null);
+        }
+        // JLS 15.12.2.2: applicable without boxing; JLS 15.12.2.3: applicable with boxing and unboxing
+        int match = findMostSpecificApplicable(argumentTypes, false);
+        if (match == -1) {
+            match = findMostSpecificApplicable(argumentTypes, true);
+        }
+        return match < 0 ? null : copy(match);
+    }
+
+    /**
+     * Returns the index of the most specific constructor that is applicable to the given argument types.
+     *
+     * @param argumentTypes the types of the arguments
+     * @param allowBoxing whether boxing and unboxing conversions may be applied to the arguments
+     * @return index of the most specific constructor, -1 if no constructor is applicable, -2 if it is ambiguous
+     */
+    private int findMostSpecificApplicable(@Nullable Class<?>[] argumentTypes, boolean allowBoxing) {
+        int result = -1;
+        for (int i = 0; i < constructors.length; ++i) {
+            if (isApplicable(parameterTypes[i], argumentTypes, allowBoxing)
+                && (result == -1 || isMoreSpecific(parameterTypes[i], parameterTypes[result]))) {
+                result = i;
+            }
+        }
+        if (result == -1) {
+            return -1;
+        }
+
+        // The result must be more specific than all other applicable constructors, otherwise the call is ambiguous
+        for (int i = 0; i < constructors.length; ++i) {
+            if (i != result && isApplicable(parameterTypes[i], argumentTypes, allowBoxing)
+                && !isMoreSpecific(parameterTypes[result], parameterTypes[i])) {
+                return -2;
+            }
+        }
+        return result;
+    }
+
+    private Constructor<?> copy(int index) {
+        Constructor<?> constructor = constructors[index];
+        try {
+            return constructor.getDeclaringClass().getDeclaredConstructor(parameterTypes[index]);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Indexed constructor '" + ConstructorUtils.simpleToString(constructor)
+                + "' not found", e);
+        }
+    }
+
+    private static boolean isApplicable(Class<?>[] parameterTypes, @Nullable Class<?>[] argumentTypes,
+                                        boolean allowBoxing) {
+        if (parameterTypes.length != argumentTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            Class<?> argumentType = argumentTypes[i];
+            if (argumentType == null) {
+                if (parameterTypes[i].isPrimitive()) {
+                    return false;
+                }
+            } else if (!isConvertible(argumentType, parameterTypes[i], allowBoxing)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether a value of the given type can be passed to a parameter of the given type by a strict
+     * invocation conversion (JLS 5.3), or by a loose invocation conversion if boxing is allowed.
+     *
+     * @param argumentType the type of the argument
+     * @param parameterType the type of the parameter
+     * @param allowBoxing whether boxing and unboxing conversions may be applied
+     * @return true if the argument type is convertible to the parameter type, false otherwise
+     */
+    private static boolean isConvertible(Class<?> argumentType, Class<?> parameterType, boolean allowBoxing) {
+        if (isSubtype(argumentType, parameterType)) {
+            return true;
+        } else if (!allowBoxing || argumentType.isPrimitive() == parameterType.isPrimitive()) {
+            return false;
+        } else if (argumentType.isPrimitive()) {
+            // Boxing, followed by a widening reference conversion
+            return parameterType.isAssignableFrom(PrimitiveType.toReferenceType(argumentType));
+        }
+        // Unboxing, followed by a widening primitive conversion
+        Class<?> unboxedType = PrimitiveType.toPrimitiveType(argumentType);
+        return unboxedType.isPrimitive() && isSubtype(unboxedType, parameterType);
+    }
+
+    /**
+     * Returns whether the first constructor signature is more specific than the second one (JLS 15.12.2.5),
+     * i.e. whether each of its parameter types is a subtype of the other's parameter type at the same position.
+     *
+     * @param parameterTypes the parameter types of the first constructor
+     * @param otherParameterTypes the parameter types of the second constructor
+     * @return true if the first signature is more specific than the second one
+     */
+    private static boolean isMoreSpecific(Class<?>[] parameterTypes, Class<?>[] otherParameterTypes) {
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            if (!isSubtype(parameterTypes[i], otherParameterTypes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the first type is a subtype of the second one (JLS 4.10): for primitive types, this is the
+     * case if the type is identical or can be widened to the other type (e.g. int to long).
+     *
+     * @param type the type to check
+     * @param otherType the potential supertype
+     * @return true if the type is a subtype of the other type, false otherwise
+     */
+    private static boolean isSubtype(Class<?> type, Class<?> otherType) {
+        if (type == otherType) {
+            return true;
+        } else if (type.isPrimitive() != otherType.isPrimitive()) {
+            return false;
+        } else if (!type.isPrimitive()) {
+            return otherType.isAssignableFrom(type);
+        }
+        int otherIndex = NUMERIC_PRIMITIVES_BY_WIDTH.indexOf(otherType);
+        if (type == char.class) {
+            return otherIndex >= NUMERIC_PRIMITIVES_BY_WIDTH.indexOf(int.class);
+        }
+        int index = NUMERIC_PRIMITIVES_BY_WIDTH.indexOf(type);
+        return index >= 0 && index < otherIndex;
+    }
+}
@@ -8,6 +8,10 @@ import java.util.stream.Collectors;
 
 /**
  * Utils class for constructors.
+ * <p>
+ * The declared constructors of a class are indexed once and cached. Like {@link Class#getDeclaredConstructor}, the
+ * methods of this class return a new {@link Constructor} instance on each call, so changing the accessibility of a
+ * returned constructor does not affect other callers.
  */
 public final class ConstructorUtils {
 
@@ -24,12 +28,9 @@ public final class ConstructorUtils {
      */
     // Optional<Constructor<T>> would be a nicer return type, but generics don't play well when the incoming `clazz`
     // parameter is typed as Class<?>
+    @SuppressWarnings("unchecked")
     public static <T> @Nullable Constructor<T> getConstructorOrNull(Class<T> clazz, Class<?>... parameterTypes) {
-        try {
-            return clazz.getDeclaredConstructor(parameterTypes);
-        } catch (NoSuchMethodException ignore) {
-            return null;
-        }
+        return (Constructor<T>) ConstructorIndex.of(clazz).getConstructor(parameterTypes);
     }
 
     /**
@@ -41,12 +42,37 @@ public final class ConstructorUtils {
      * @return the matching constructor
      */
     public static <T> Constructor<T> getConstructorOrThrow(Class<T> clazz, Class<?>... parameterTypes) {
-        try {
-            return clazz.getDeclaredConstructor(parameterTypes);
-        } catch (NoSuchMethodException e) {
+        Constructor<T> constructor = getConstructorOrNull(clazz, parameterTypes);
+        if (constructor == null) {
             throw new IllegalStateException("No constructor on '" + clazz
-                + "' matches the parameter types: [" + createListOfParamTypes(parameterTypes) + "]", e);
+                + "' matches the parameter types: [" + createListOfParamTypes(parameterTypes) + "]");
         }
+        return constructor;
+    }
+
+    /**
+     * Returns the constructor that can be invoked with arguments of the given types, or null if there is none.
+     * Unlike {@link #getConstructorOrNull}, the parameter types do not need to match exactly: the constructor is
+     * chosen like the Java compiler resolves a constructor call (JLS 15.12.2) for arguments of the given types.
+     * First, constructors are considered whose parameters can be assigned the arguments without boxing, including
+     * widening primitive conversions (e.g. an {@code int.class} argument matches a {@code long.class} parameter).
+     * If there are none, boxing and unboxing conversions are also applied (e.g. an argument of type
+     * {@code Integer.class} matches a parameter of type {@code int.class} or {@code long.class}). Varargs
+     * constructors are only matched with the array as argument. A null entry in the argument types stands for a null
+     * argument, which matches any non-primitive parameter.
+     * <p>
+     * If multiple constructors match in the same phase, the constructor with the most specific parameter types is
+     * returned. Null is returned if the match is ambiguous.
+     *
+     * @param clazz the class to search in
+     * @param argumentTypes the types of the arguments the constructor should be called with
+     * @param <T> class type
+     * @return the matching constructor, or null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @Nullable Constructor<T> getMatchingConstructorOrNull(Class<T> clazz,
+                                                                            Class<?>... argumentTypes) {
+        return (Constructor<T>) ConstructorIndex.of(clazz).findConstructorForArguments(argumentTypes);
     }
 
     /**
@@ -72,22 +98,15 @@ public final class ConstructorUtils {
     /**
      * Creates a new object from the specified class's zero-args constructor. The constructor may be private.
      * An exception is thrown if the class does not have a zero-args constructor.
+     * <p>
+     * The constructor is resolved once per class and invoked via its (cached) {@link Instantiator}.
      *
      * @param clazz the class to instantiate
      * @param <T> the class type
      * @return new instance of the class
      */
     public static <T> T newInstanceFromZeroArgsConstructor(Class<T> clazz) {
-        try {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            if (!constructor.isAccessible()) {
-                constructor.setAccessible(true);
-            }
-            return invokeConstructor(constructor);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalStateException(
-                "Expected class '" + clazz.getName() + "' to have a zero-args constructor", e);
-        }
+        return Instantiator.forZeroArgsConstructor(clazz).newInstance();
     }
 
     /**
@@ -0,0 +1,449 @@
+package ch.jalu.typeresolver.reflect;
+
+import ch.jalu.typeresolver.primitives.PrimitiveType;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes the value of a field through {@link MethodHandle method handles}. Unlike {@link Field#get} and
+ * {@link Field#set}, no access checks are performed on each call, and the primitive-specific methods such as
+ * {@link #getInt} and {@link #setInt} do not box the value.
+ * <p>
+ * Instances are created with {@link #of(Field)}, which caches the accessor per field. The primitive-specific methods
+ * may only be called if the field's type is exactly the corresponding primitive type (see {@link #getPrimitiveType});
+ * no widening is performed. For static fields, the {@code target} parameter of all methods is ignored and may be null.
+ * <p>
+ * Example:<pre>{@code
+ *   for (Field field : FieldUtils.collectAllRegularInstanceFields(Point.class)) {
+ *     FieldAccessor accessor = FieldAccessor.of(field);
+ *     if (accessor.getPrimitiveType() == PrimitiveType.INTEGER) {
+ *       accessor.setInt(point, accessor.getInt(point) + 1);
+ *     }
+ *   }
+ * }</pre>
+ */
+// Justification: MethodHandle#invokeExact declares Throwable; only runtime exceptions are thrown for field access
+@SuppressWarnings("checkstyle:IllegalCatch")
+public final class FieldAccessor {
+
+    private static final ClassValue<Map<Field, FieldAccessor>> ACCESSORS_BY_DECLARING_CLASS =
+        new ClassValue<Map<Field, FieldAccessor>>() {
+            @Override
+            protected Map<Field, FieldAccessor> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private final Field field;
+    private final @Nullable PrimitiveType primitiveType;
+    private final MethodHandle getter;
+    private final MethodHandle boxingGetter;
+    private final @Nullable MethodHandle setter;
+    private final @Nullable MethodHandle boxingSetter;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        Class<?> fieldType = field.getType();
+        this.primitiveType = fieldType.isPrimitive() ? PrimitiveType.from(fieldType) : null;
+
+        // Make a private copy accessible so that the caller's (possibly shared) Field object is not modified
+        Field accessibleField = FieldIndex.of(field.getDeclaringClass()).getDeclaredField(field.getName());
+        accessibleField.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        this.getter = createGetter(lookup, accessibleField);
+        this.boxingGetter = getter.asType(MethodType.methodType(Object.class, Object.class));
+        this.setter = createSetterOrNull(lookup, accessibleField);
+        this.boxingSetter = setter == null
+            ? null
+            : setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * Returns the accessor for the given field. Accessors are cached, so the same instance is returned when this
+     * method is called again with the same field. The given field is not modified: the accessor makes a private copy
+     * of the field accessible.
+     *
+     * @param field the field to get an accessor for
+     * @return accessor for the field
+     */
+    public static FieldAccessor of(Field field) {
+        return ACCESSORS_BY_DECLARING_CLASS.get(field.getDeclaringClass())
+            .computeIfAbsent(field, FieldAccessor::new);
+    }
+
+    /**
+     * @return the field this accessor reads and writes
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns the primitive type of the field, or null if the field's type is a reference type. The value indicates
+     * which primitive-specific getter and setter can be used, e.g. {@link #getLong} and {@link #setLong} for
+     * {@link PrimitiveType#LONG}.
+     *
+     * @return the field's primitive type, null if not applicable
+     */
+    public @Nullable PrimitiveType getPrimitiveType() {
+        return primitiveType;
+    }
+
+    /**
+     * @return true if the field can be written to, false otherwise (e.g. for static final fields)
+     */
+    public boolean isWritable() {
+        return setter != null;
+    }
+
+    /**
+     * Returns the value of the field, boxing primitive values.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public @Nullable Object get(@Nullable Object target) {
+        try {
+            return boxingGetter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of the field. Primitive fields require a value of the corresponding reference type.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void set(@Nullable Object target, @Nullable Object value) {
+        try {
+            getBoxingSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of a boolean field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public boolean getBoolean(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.BOOLEAN);
+        try {
+            return (boolean) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a boolean field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setBoolean(@Nullable Object target, boolean value) {
+        verifyPrimitiveType(PrimitiveType.BOOLEAN);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of a byte field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public byte getByte(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.BYTE);
+        try {
+            return (byte) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a byte field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setByte(@Nullable Object target, byte value) {
+        verifyPrimitiveType(PrimitiveType.BYTE);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of a char field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public char getChar(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.CHARACTER);
+        try {
+            return (char) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a char field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setChar(@Nullable Object target, char value) {
+        verifyPrimitiveType(PrimitiveType.CHARACTER);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of a short field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public short getShort(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.SHORT);
+        try {
+            return (short) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a short field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setShort(@Nullable Object target, short value) {
+        verifyPrimitiveType(PrimitiveType.SHORT);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of an int field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public int getInt(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.INTEGER);
+        try {
+            return (int) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of an int field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setInt(@Nullable Object target, int value) {
+        verifyPrimitiveType(PrimitiveType.INTEGER);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of a long field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public long getLong(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.LONG);
+        try {
+            return (long) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a long field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setLong(@Nullable Object target, long value) {
+        verifyPrimitiveType(PrimitiveType.LONG);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of a float field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public float getFloat(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.FLOAT);
+        try {
+            return (float) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a float field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setFloat(@Nullable Object target, float value) {
+        verifyPrimitiveType(PrimitiveType.FLOAT);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Returns the value of a double field.
+     *
+     * @param target the object to read the field from (ignored for static fields)
+     * @return the field's value
+     */
+    public double getDouble(@Nullable Object target) {
+        verifyPrimitiveType(PrimitiveType.DOUBLE);
+        try {
+            return (double) getter.invokeExact(target);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Sets the value of a double field.
+     *
+     * @param target the object to write the field to (ignored for static fields)
+     * @param value the value to set
+     */
+    public void setDouble(@Nullable Object target, double value) {
+        verifyPrimitiveType(PrimitiveType.DOUBLE);
+        try {
+            getSetterOrThrow().invokeExact(target, value);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FieldAccessor[" + FieldUtils.formatField(field) + "]";
+    }
+
+    private void verifyPrimitiveType(PrimitiveType expectedType) {
+        if (primitiveType != expectedType) {
+            throw new IllegalArgumentException("Field '" + FieldUtils.formatField(field) + "' is of type "
+                + field.getType().getName() + ", but " + expectedType.getPrimitiveType() + " was expected");
+        }
+    }
+
+    private MethodHandle getSetterOrThrow() {
+        if (setter == null) {
+            throw new IllegalStateException("Field '" + FieldUtils.formatField(field) + "' cannot be written to");
+        }
+        return setter;
+    }
+
+    private MethodHandle getBoxingSetterOrThrow() {
+        getSetterOrThrow();
+        return boxingSetter;
+    }
+
+    /**
+     * Creates a getter for the field of the type (Object)fieldType, regardless of whether the field is static.
+     *
+     * @param lookup the lookup to use
+     * @param field the field to create a getter for
+     * @return method handle to get the field's value
+     */
+    private static MethodHandle createGetter(MethodHandles.Lookup lookup, Field field) {
+        MethodHandle getter;
+        try {
+            getter = lookup.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not create getter for '" + FieldUtils.formatField(field) + "'", e);
+        }
+
+        if (Modifier.isStatic(field.getModifiers())) {
+            return MethodHandles.dropArguments(getter, 0, Object.class);
+        }
+        return getter.asType(MethodType.methodType(field.getType(), Object.class));
+    }
+
+    /**
+     * Creates a setter for the field of the type (Object, fieldType)void, regardless of whether the field is static.
+     * Returns null if the field cannot be written to.
+     *
+     * @param lookup the lookup to use
+     * @param field the field to create a setter for
+     * @return method handle to set the field's value, or null if not possible
+     */
+    private static @Nullable MethodHandle createSetterOrNull(MethodHandles.Lookup lookup, Field field) {
+        MethodHandle setter;
+        try {
+            setter = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException ignore) {
+            return null;
+        }
+
+        if (Modifier.isStatic(field.getModifiers())) {
+            return MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+        return setter.asType(MethodType.methodType(void.class, Object.class, field.getType()));
+    }
+
+    private static RuntimeException handleException(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+}
@@ -0,0 +1,122 @@
+package ch.jalu.typeresolver.reflect;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Internal index of the fields of a class and its superclasses. Instances are created once per class and cached
+ * by {@link FieldUtils}, so that field lookups do not need to go through reflection (and its exceptions) each time.
+ * <p>
+ * The indexed {@link Field} objects are never returned: like {@link Class#getDeclaredField}, this class returns new
+ * copies of the fields, so that changing the accessibility of a returned field does not affect other callers.
+ * <p>
+ * The index is built on top of the index of the superclass, which is retrieved from the same cache.
+ */
+final class FieldIndex {
+
+    private static final ClassValue<FieldIndex> INDEX_BY_CLASS = new ClassValue<FieldIndex>() {
+        @Override
+        protected FieldIndex computeValue(Class<?> type) {
+            Class<?> superclass = type.getSuperclass();
+            return new FieldIndex(type, superclass == null ? null : INDEX_BY_CLASS.get(superclass));
+        }
+    };
+
+    private final Map<String, Field> declaredFieldsByName;
+    private final Map<String, Field> fieldsInHierarchyByName;
+    private final Class<?>[] classesParentFirst;
+    private final Class<?>[] classesParentLast;
+
+    private FieldIndex(Class<?> clazz, @Nullable FieldIndex parentIndex) {
+        this.declaredFieldsByName = createNameToFieldMap(clazz.getDeclaredFields());
+
+        if (parentIndex == null) {
+            this.fieldsInHierarchyByName = declaredFieldsByName;
+            this.classesParentFirst = new Class<?>[]{ clazz };
+            this.classesParentLast = classesParentFirst;
+        } else {
+            Map<String, Field> fieldsInHierarchy = new HashMap<>(parentIndex.fieldsInHierarchyByName);
+            fieldsInHierarchy.putAll(declaredFieldsByName);
+            this.fieldsInHierarchyByName = fieldsInHierarchy;
+
+            int parentCount = parentIndex.classesParentFirst.length;
+            this.classesParentFirst = Arrays.copyOf(parentIndex.classesParentFirst, parentCount + 1);
+            classesParentFirst[parentCount] = clazz;
+            this.classesParentLast = new Class<?>[parentCount + 1];
+            classesParentLast[0] = clazz;
+            System.arraycopy(parentIndex.classesParentLast, 0, classesParentLast, 1, parentCount);
+        }
+    }
+
+    /**
+     * Returns the field index of the given class.
+     *
+     * @param clazz the class whose index should be returned
+     * @return the (cached) field index
+     */
+    static FieldIndex of(Class<?> clazz) {
+        return INDEX_BY_CLASS.get(clazz);
+    }
+
+    /**
+     * Returns a copy of the field with the given name that is declared by the indexed class, or null if not
+     * applicable.
+     *
+     * @param name the name of the field
+     * @return the declared field, or null
+     */
+    @Nullable Field getDeclaredField(String name) {
+        return copy(declaredFieldsByName.get(name));
+    }
+
+    /**
+     * Returns a copy of the field with the given name that is declared by the indexed class or one of its
+     * superclasses. If multiple classes declare a field of the given name, the field of the class lowest in the
+     * hierarchy is returned. Null is returned if no field matched.
+     *
+     * @param name the name of the field
+     * @return the field, or null
+     */
+    @Nullable Field getFieldInClassOrParent(String name) {
+        return copy(fieldsInHierarchyByName.get(name));
+    }
+
+    /**
+     * Returns all fields of the indexed class and its superclasses, as new copies.
+     *
+     * @param topParentFirst true if the top-most parent's fields should come first, false for last
+     * @return all fields in the specified order
+     */
+    Stream<Field> getAllFields(boolean topParentFirst) {
+        return Arrays.stream(topParentFirst ? classesParentFirst : classesParentLast)
+            .flatMap(clazz -> Arrays.stream(clazz.getDeclaredFields()));
+    }
+
+    private static @Nullable Field copy(@Nullable Field field) {
+        if (field == null) {
+            return null;
+        }
+        try {
+            return field.getDeclaringClass().getDeclaredField(field.getName());
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Indexed field '" + FieldUtils.formatField(field) + "' not found", e);
+        }
+    }
+
+    private static Map<String, Field> createNameToFieldMap(Field[] fields) {
+        if (fields.length == 0) {
+            return Collections.emptyMap();
+        }
+        Map<String, Field> fieldsByName = new HashMap<>(fields.length * 2);
+        for (Field field : fields) {
+            fieldsByName.put(field.getName(), field);
+        }
+        return fieldsByName;
+    }
+}
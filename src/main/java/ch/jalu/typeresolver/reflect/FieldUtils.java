@@ -4,19 +4,20 @@ import ch.jalu.typeresolver.classutil.ClassUtils;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
-import java.util.function.Consumer;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Class with utilities for processing fields.
+ * <p>
+ * The fields of a class are indexed once and cached. Like {@link Class#getDeclaredField}, the methods of this class
+ * return new {@link Field} instances on each call, so changing the accessibility of a returned field does not affect
+ * other callers.
  */
 public final class FieldUtils {
 
@@ -75,15 +76,12 @@ public final class FieldUtils {
      * @return a stream of all fields, in the specified order
      */
     public static Stream<Field> getAllFields(Class<?> clazz, boolean topParentFirst) {
-        LinkedList<Class<?>> classes = new LinkedList<>();
-        collectParents(clazz, topParentFirst ? classes::addFirst : classes::addLast);
-
-        return classes.stream()
-            .flatMap(clz -> Arrays.stream(clz.getDeclaredFields()));
+        return FieldIndex.of(clazz).getAllFields(topParentFirst);
     }
 
     /**
      * Returns all non-synthetic, non-static fields of the given class, including all fields from superclasses.
+     * The fields of the top-most parent are returned first.
      *
      * @param clazz the class whose instance fields should be retrieved
      * @return all non-synthetic instance fields
@@ -103,11 +101,7 @@ public final class FieldUtils {
      * @return optional with the field in the class, or empty optional if there is no match
      */
     public static Optional<Field> tryFindField(Class<?> clazz, String name) {
-        try {
-            return Optional.of(clazz.getDeclaredField(name));
-        } catch (NoSuchFieldException ignore) {
-            return Optional.empty();
-        }
+        return Optional.ofNullable(FieldIndex.of(clazz).getDeclaredField(name));
     }
 
     /**
@@ -120,15 +114,7 @@ public final class FieldUtils {
      * @return optional with a field of the given name
      */
     public static Optional<Field> tryFindFieldInClassOrParent(Class<?> clazz, String name) {
-        Class<?> currentClass = clazz;
-        while (currentClass != null) {
-            Optional<Field> field = tryFindField(currentClass, name);
-            if (field.isPresent()) {
-                return field;
-            }
-            currentClass = currentClass.getSuperclass();
-        }
-        return Optional.empty();
+        return Optional.ofNullable(FieldIndex.of(clazz).getFieldInClassOrParent(name));
     }
 
     /**
@@ -157,12 +143,4 @@ public final class FieldUtils {
                 throw new UnsupportedOperationException();
             });
     }
-
-    private static void collectParents(Class<?> clazz, Consumer<Class<?>> classAdder) {
-        Class<?> currentClass = clazz;
-        while (currentClass != null) {
-            classAdder.accept(currentClass);
-            currentClass = currentClass.getSuperclass();
-        }
-    }
 }
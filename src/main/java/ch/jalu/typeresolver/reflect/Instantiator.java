@@ -0,0 +1,173 @@
+package ch.jalu.typeresolver.reflect;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates new instances of a class from a given constructor. The constructor is resolved and converted to a
+ * {@link MethodHandle} once, so creating objects does not perform any access checks or constructor lookups.
+ * <p>
+ * Instantiators are cached: use {@link #of(Constructor)} to get an instantiator for a specific constructor, or
+ * {@link #forZeroArgsConstructor(Class)} for the zero-args constructor of a class. Instantiators can be created for
+ * private constructors: a private copy of the constructor is made accessible, so the given constructor is not
+ * modified.
+ *
+ * @param <T> the type of the objects that are created
+ */
+// Justification: MethodHandle#invokeExact declares Throwable
+@SuppressWarnings("checkstyle:IllegalCatch")
+public final class Instantiator<T> {
+
+    private static final ClassValue<Map<Constructor<?>, Instantiator<?>>> INSTANTIATORS_BY_CLASS =
+        new ClassValue<Map<Constructor<?>, Instantiator<?>>>() {
+            @Override
+            protected Map<Constructor<?>, Instantiator<?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private static final ClassValue<Optional<Instantiator<?>>> ZERO_ARGS_INSTANTIATOR_BY_CLASS =
+        new ClassValue<Optional<Instantiator<?>>>() {
+            @Override
+            protected Optional<Instantiator<?>> computeValue(Class<?> type) {
+                Constructor<?> constructor = ConstructorUtils.getConstructorOrNull(type);
+                return Optional.ofNullable(constructor == null ? null : of(constructor));
+            }
+        };
+
+    private final Constructor<T> constructor;
+    private final int parameterCount;
+    private final MethodHandle handle;
+    private final MethodHandle spreadingHandle;
+
+    private Instantiator(Constructor<T> constructor) {
+        this.constructor = constructor;
+        this.parameterCount = constructor.getParameterCount();
+
+        try {
+            // Make a private copy accessible so that the caller's (possibly shared) constructor is not modified
+            Constructor<T> accessibleConstructor =
+                constructor.getDeclaringClass().getDeclaredConstructor(constructor.getParameterTypes());
+            accessibleConstructor.setAccessible(true);
+            this.handle = MethodHandles.lookup().unreflectConstructor(accessibleConstructor).asFixedArity()
+                .asType(MethodType.genericMethodType(parameterCount));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Could not create instantiator for '"
+                + ConstructorUtils.simpleToString(constructor) + "'", e);
+        }
+        this.spreadingHandle = handle.asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * Returns the instantiator for the given constructor. The same instance is returned when this method is called
+     * again with the same constructor.
+     *
+     * @param constructor the constructor to create objects with
+     * @param <T> the type of the objects that are created
+     * @return instantiator for the constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Instantiator<T> of(Constructor<T> constructor) {
+        return (Instantiator<T>) INSTANTIATORS_BY_CLASS.get(constructor.getDeclaringClass())
+            .computeIfAbsent(constructor, Instantiator::new);
+    }
+
+    /**
+     * Returns the instantiator for the given class's zero-args constructor. The constructor may be private.
+     * An exception is thrown if the class does not have a zero-args constructor.
+     *
+     * @param clazz the class to get the instantiator for
+     * @param <T> the class type
+     * @return instantiator for the class's zero-args constructor
+     */
+    public static <T> Instantiator<T> forZeroArgsConstructor(Class<T> clazz) {
+        return findZeroArgsConstructor(clazz).orElseThrow(() -> new IllegalStateException(
+            "Expected class '" + clazz.getName() + "' to have a zero-args constructor"));
+    }
+
+    /**
+     * Returns an optional with the instantiator for the given class's zero-args constructor, or an empty optional if
+     * the class does not have a zero-args constructor. The constructor may be private.
+     *
+     * @param clazz the class to get the instantiator for
+     * @param <T> the class type
+     * @return optional with the instantiator, empty if the class has no zero-args constructor
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Optional<Instantiator<T>> findZeroArgsConstructor(Class<T> clazz) {
+        return (Optional) ZERO_ARGS_INSTANTIATOR_BY_CLASS.get(clazz);
+    }
+
+    /**
+     * @return the constructor used by this instantiator
+     */
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * @return the number of parameters the constructor has
+     */
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    /**
+     * Creates a new instance with the constructor, which must have no parameters. Throws a runtime exception if any
+     * exception occurs.
+     *
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance() {
+        verifyArgumentCount(0);
+        try {
+            return (T) handle.invokeExact();
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    /**
+     * Creates a new instance with the constructor, passing the given arguments. The number of arguments must match
+     * the number of parameters the constructor has. Throws a runtime exception if any exception occurs.
+     *
+     * @param args the arguments to pass to the constructor
+     * @return the new instance
+     */
+    @SuppressWarnings("unchecked")
+    public T newInstance(@Nullable Object... args) {
+        verifyArgumentCount(args == null ? 0 : args.length);
+        try {
+            return (T) spreadingHandle.invokeExact(args);
+        } catch (Throwable t) {
+            throw handleException(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Instantiator[" + ConstructorUtils.simpleToString(constructor) + "]";
+    }
+
+    private void verifyArgumentCount(int argumentCount) {
+        if (argumentCount != parameterCount) {
+            throw new IllegalArgumentException("Expected " + parameterCount + " argument(s) for constructor '"
+                + ConstructorUtils.simpleToString(constructor) + "', but got " + argumentCount);
+        }
+    }
+
+    private RuntimeException handleException(Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException("Failed to call constructor for '" + constructor.getDeclaringClass() + "'", t);
+    }
+}
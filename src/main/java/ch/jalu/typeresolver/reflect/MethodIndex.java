@@ -0,0 +1,252 @@
+package ch.jalu.typeresolver.reflect;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal index of the methods of a class, including inherited methods. Instances are created once per class and
+ * cached by {@link MethodUtils}.
+ * <p>
+ * Methods are identified by their name and parameter types: a method declared in a class "hides" any method of the
+ * same signature that is declared in a parent. Bridge methods and synthetic methods are not indexed, and neither are
+ * private methods of parents, as they are not inherited.
+ */
+final class MethodIndex {
+
+    /** Maximum number of types per class whose resolved methods are cached, so that the cache cannot grow forever. */
+    private static final int MAX_CACHED_RESOLVED_TYPES = 64;
+
+    private static final ClassValue<MethodIndex> INDEX_BY_CLASS = new ClassValue<MethodIndex>() {
+        @Override
+        protected MethodIndex computeValue(Class<?> type) {
+            return new MethodIndex(type);
+        }
+    };
+
+    private final Map<MethodSignature, Method> methodsBySignature;
+    private final List<Method> methods;
+    private final Map<Type, List<ResolvedMethod>> resolvedMethodsByType = new ConcurrentHashMap<>();
+
+    private MethodIndex(Class<?> clazz) {
+        Map<MethodSignature, Method> methodsBySignature = new LinkedHashMap<>();
+        Set<MethodSignature> bridgeSignatures = new HashSet<>();
+
+        Queue<Class<?>> interfaces = new ArrayDeque<>();
+        Class<?> currentClass = clazz;
+        while (currentClass != null) {
+            addMethods(currentClass, currentClass == clazz, methodsBySignature, bridgeSignatures);
+            interfaces.addAll(Arrays.asList(currentClass.getInterfaces()));
+            currentClass = currentClass.getSuperclass();
+        }
+
+        Set<Class<?>> processedInterfaces = new HashSet<>();
+        while (!interfaces.isEmpty()) {
+            Class<?> currentInterface = interfaces.poll();
+            if (processedInterfaces.add(currentInterface)) {
+                addMethods(currentInterface, currentInterface == clazz, methodsBySignature, bridgeSignatures);
+                interfaces.addAll(Arrays.asList(currentInterface.getInterfaces()));
+            }
+        }
+
+        this.methodsBySignature = new HashMap<>(methodsBySignature);
+        this.methods = Collections.unmodifiableList(new ArrayList<>(methodsBySignature.values()));
+    }
+
+    /**
+     * Returns the method index of the given class.
+     *
+     * @param clazz the class whose index should be returned
+     * @return the (cached) method index
+     */
+    static MethodIndex of(Class<?> clazz) {
+        return INDEX_BY_CLASS.get(clazz);
+    }
+
+    /**
+     * Returns copies of all methods of the class, with the methods of the class itself coming first.
+     *
+     * @return unmodifiable list of copies of all methods of the class
+     */
+    List<Method> getMethods() {
+        Method[] copies = methods.stream()
+            .map(MethodIndex::copy)
+            .toArray(Method[]::new);
+        return Collections.unmodifiableList(Arrays.asList(copies));
+    }
+
+    /**
+     * Returns a copy of the method with the given name and parameter types, or null if not applicable.
+     *
+     * @param name the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return the matching method, or null
+     */
+    @Nullable Method getMethod(String name, Class<?>[] parameterTypes) {
+        Method method = methodsBySignature.get(new MethodSignature(name, parameterTypes));
+        return method == null ? null : copy(method);
+    }
+
+    /**
+     * Returns a new instance of the given method, so that changes to its accessibility are not shared with other
+     * callers.
+     *
+     * @param method the method to copy
+     * @return new method instance
+     */
+    static Method copy(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        try {
+            Method copy = declaringClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+            if (copy.getReturnType() == method.getReturnType()) {
+                return copy;
+            }
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Indexed method '" + MethodUtils.simpleToString(method) + "' not found",
+                e);
+        }
+        // getDeclaredMethod may return a bridge method with the same parameter types but a different return type
+        for (Method declaredMethod : declaringClass.getDeclaredMethods()) {
+            if (declaredMethod.equals(method)) {
+                return declaredMethod;
+            }
+        }
+        throw new IllegalStateException("Indexed method '" + MethodUtils.simpleToString(method) + "' not found");
+    }
+
+    /**
+     * Returns the methods of the indexed class, resolved for the given type. The type's raw type must be the
+     * indexed class. The result is cached per type; once the resolved methods of
+     * {@link #MAX_CACHED_RESOLVED_TYPES} types are cached, the methods of further types are resolved on each call.
+     *
+     * @param type the type to resolve the method signatures with
+     * @return unmodifiable list of resolved methods
+     */
+    List<ResolvedMethod> getResolvedMethods(Type type) {
+        List<ResolvedMethod> resolvedMethods = resolvedMethodsByType.get(type);
+        if (resolvedMethods == null) {
+            resolvedMethods = resolveMethods(type);
+            if (resolvedMethodsByType.size() < MAX_CACHED_RESOLVED_TYPES) {
+                List<ResolvedMethod> existing = resolvedMethodsByType.putIfAbsent(type, resolvedMethods);
+                return existing == null ? resolvedMethods : existing;
+            }
+        }
+        return resolvedMethods;
+    }
+
+    private List<ResolvedMethod> resolveMethods(Type type) {
+        ResolvedMethod[] resolvedMethods = methods.stream()
+            .map(method -> new ResolvedMethod(type, method))
+            .toArray(ResolvedMethod[]::new);
+        return Collections.unmodifiableList(Arrays.asList(resolvedMethods));
+    }
+
+    private static void addMethods(Class<?> clazz, boolean isIndexedClass,
+                                   Map<MethodSignature, Method> methodsBySignature,
+                                   Set<MethodSignature> bridgeSignatures) {
+        boolean isInterface = clazz.isInterface();
+        Method[] declaredMethods = clazz.getDeclaredMethods();
+        List<MethodSignature> bridgeSignaturesOfClass = new ArrayList<>();
+        for (Method method : declaredMethods) {
+            MethodSignature signature = new MethodSignature(method.getName(), method.getParameterTypes());
+            int modifiers = method.getModifiers();
+            if (!MethodUtils.isRegularMethod(method)) {
+                if (isOverrideBridge(declaredMethods, method)) {
+                    bridgeSignaturesOfClass.add(signature);
+                }
+            } else if (!(isInterface && Modifier.isStatic(modifiers))
+                && (isIndexedClass || !Modifier.isPrivate(modifiers))
+                && !bridgeSignatures.contains(signature)) {
+                methodsBySignature.putIfAbsent(signature, method);
+            }
+        }
+        bridgeSignatures.addAll(bridgeSignaturesOfClass);
+    }
+
+    /**
+     * Returns whether the given bridge method delegates to a method of the same class, i.e. whether it is generated
+     * for a generic or covariant override. Parent methods with the bridge's signature are then overridden and must
+     * not be indexed. Otherwise, the bridge is a visibility bridge, which delegates to the parent's method (e.g. a
+     * public class inheriting a public method from a package-private class): the parent's method is kept.
+     *
+     * @param declaredMethods the methods declared by the bridge method's class
+     * @param bridgeMethod the bridge method to process
+     * @return true if a regular method of the class can be called by the bridge, false otherwise
+     */
+    private static boolean isOverrideBridge(Method[] declaredMethods, Method bridgeMethod) {
+        for (Method method : declaredMethods) {
+            if (MethodUtils.isRegularMethod(method) && method.getName().equals(bridgeMethod.getName())
+                && isBridgeTarget(method, bridgeMethod)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the given bridge method may delegate to the given method, i.e. whether the bridge's parameter
+     * types and return type are the same as or a supertype of the method's.
+     *
+     * @param method the regular method to check
+     * @param bridgeMethod the bridge method
+     * @return true if the method's signature is assignable to the bridge's, false otherwise
+     */
+    private static boolean isBridgeTarget(Method method, Method bridgeMethod) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Class<?>[] bridgeParameterTypes = bridgeMethod.getParameterTypes();
+        if (parameterTypes.length != bridgeParameterTypes.length
+            || !bridgeMethod.getReturnType().isAssignableFrom(method.getReturnType())) {
+            return false;
+        }
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            if (!bridgeParameterTypes[i].isAssignableFrom(parameterTypes[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Identifies a method by name and parameter types.
+     */
+    private static final class MethodSignature {
+
+        private final String name;
+        private final Class<?>[] parameterTypes;
+
+        MethodSignature(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            } else if (obj instanceof MethodSignature) {
+                MethodSignature that = (MethodSignature) obj;
+                return this.name.equals(that.name) && Arrays.equals(this.parameterTypes, that.parameterTypes);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package ch.jalu.typeresolver.reflect;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Invokes a method through a {@link MethodHandle}, which is created once per method. Unlike {@link Method#invoke},
+ * no access checks are performed on each call.
+ * <p>
+ * Invokers are cached: use {@link #of(Method)} to get the invoker of a method. A private copy of the method is made
+ * accessible if necessary, so the given method is not modified. For static methods, the {@code target} parameter of
+ * {@link #invoke} is ignored and may be null.
+ */
+// Justification: MethodHandle#invokeExact declares Throwable
+@SuppressWarnings("checkstyle:IllegalCatch")
+public final class MethodInvoker {
+
+    private static final ClassValue<Map<Method, MethodInvoker>> INVOKERS_BY_DECLARING_CLASS =
+        new ClassValue<Map<Method, MethodInvoker>>() {
+            @Override
+            protected Map<Method, MethodInvoker> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private final Method method;
+    private final int parameterCount;
+    private final MethodHandle spreadingHandle;
+
+    private MethodInvoker(Method method) {
+        this.method = method;
+        this.parameterCount = method.getParameterCount();
+
+        MethodHandle handle;
+        try {
+            // Make a private copy accessible so that the caller's (possibly shared) method is not modified
+            Method accessibleMethod =
+                method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+            accessibleMethod.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(accessibleMethod).asFixedArity();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Could not create invoker for '"
+                + MethodUtils.simpleToString(method) + "'", e);
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        this.spreadingHandle = handle.asType(MethodType.genericMethodType(parameterCount + 1))
+            .asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * Returns the invoker for the given method. The same instance is returned when this method is called again
+     * with the same method.
+     *
+     * @param method the method to invoke
+     * @return invoker for the method
+     */
+    public static MethodInvoker of(Method method) {
+        return INVOKERS_BY_DECLARING_CLASS.get(method.getDeclaringClass())
+            .computeIfAbsent(method, MethodInvoker::new);
+    }
+
+    /**
+     * Returns the method this invoker calls. A new instance is returned on each call.
+     *
+     * @return the method this invoker calls
+     */
+    public Method getMethod() {
+        return MethodIndex.copy(method);
+    }
+
+    /**
+     * Invokes the method on the given target with the provided arguments and returns the result. The number of
+     * arguments must match the number of parameters the method has. Throws a runtime exception if any exception
+     * occurs.
+     *
+     * @param target the object to invoke the method on (ignored for static methods)
+     * @param args the arguments to pass to the method
+     * @return the result of the method (boxed if primitive, null for void methods)
+     */
+    public @Nullable Object invoke(@Nullable Object target, @Nullable Object... args) {
+        int argumentCount = args == null ? 0 : args.length;
+        if (argumentCount != parameterCount) {
+            throw new IllegalArgumentException("Expected " + parameterCount + " argument(s) for method '"
+                + MethodUtils.simpleToString(method) + "', but got " + argumentCount);
+        }
+
+        try {
+            return spreadingHandle.invokeExact(target, args);
+        } catch (Throwable t) {
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new IllegalStateException("Failed to invoke method '" + MethodUtils.simpleToString(method) + "'", t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodInvoker[" + MethodUtils.simpleToString(method) + "]";
+    }
+}
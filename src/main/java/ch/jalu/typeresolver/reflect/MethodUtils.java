@@ -0,0 +1,93 @@
+package ch.jalu.typeresolver.reflect;
+
+import ch.jalu.typeresolver.TypeInfo;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Class with utilities for processing methods.
+ * <p>
+ * The methods of a class are looked up once and cached. Like {@link Class#getDeclaredMethod}, the methods of this
+ * class return new {@link Method} instances on each call, so changing the accessibility of a returned method does not
+ * affect other callers. Methods are identified by their name and parameter types: if a class and its parent declare
+ * a method with the same signature, only the method of the class is returned.
+ */
+public final class MethodUtils {
+
+    private MethodUtils() {
+    }
+
+    /**
+     * Specifies whether a method is a "regular" method, i.e. neither a bridge method nor a synthetic method.
+     *
+     * @param method the method to process
+     * @return true if the method is neither a bridge method nor synthetic, false otherwise
+     */
+    public static boolean isRegularMethod(Method method) {
+        return !method.isBridge() && !method.isSynthetic();
+    }
+
+    /**
+     * Returns all regular methods (see {@link #isRegularMethod}) of the given class, its parents and its interfaces.
+     * Methods that are overridden are not included. Static methods of interfaces and private methods of parents are
+     * skipped as they are not inherited. The methods of the class itself are returned first, followed by the methods
+     * of its superclasses and then those of the interfaces. The returned list is unmodifiable.
+     *
+     * @param clazz the class whose methods should be returned
+     * @return all methods of the class
+     */
+    public static List<Method> getAllMethods(Class<?> clazz) {
+        return MethodIndex.of(clazz).getMethods();
+    }
+
+    /**
+     * Returns all methods of the given type (see {@link #getAllMethods}) with their return type and parameter
+     * types resolved in the context of the given type. For example, for the type {@code List<String>}, the method
+     * {@code List#get} is returned with {@code String} as return type.
+     * The result is cached per type. The returned list is unmodifiable.
+     *
+     * @param type the type whose methods should be returned (e.g. a class or a parameterized type)
+     * @return all methods of the type, resolved for the type
+     */
+    public static List<ResolvedMethod> getAllResolvedMethods(Type type) {
+        Class<?> rawType = TypeInfo.of(type).toClass();
+        if (rawType == null) {
+            throw new IllegalArgumentException("Cannot get methods for type '" + type.getTypeName() + "'");
+        }
+        return MethodIndex.of(rawType).getResolvedMethods(type);
+    }
+
+    /**
+     * Returns an optional with the method of the given name and parameter types in the class or its parents, or an
+     * empty optional if there is no match. The parameter types must match exactly.
+     *
+     * @param clazz the class to search in
+     * @param name the name of the method
+     * @param parameterTypes the parameter types the method must match
+     * @return optional with the method, or empty optional if there is no match
+     */
+    public static Optional<Method> tryFindMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        return Optional.ofNullable(MethodIndex.of(clazz).getMethod(name, parameterTypes));
+    }
+
+    /**
+     * Creates a textual representation of the given method, using the involved types' simple name,
+     * {@link Class#getSimpleName()}.
+     * <p>
+     * Examples: "String#length()", "Map#put(Object, Object)"
+     *
+     * @param method the method
+     * @return string representation of the method
+     */
+    public static String simpleToString(Method method) {
+        String parameters = Arrays.stream(method.getParameterTypes())
+            .map(Class::getSimpleName)
+            .collect(Collectors.joining(", "));
+        return method.getDeclaringClass().getSimpleName() + "#" + method.getName() + "(" + parameters + ")";
+    }
+}
@@ -0,0 +1,84 @@
+package ch.jalu.typeresolver.reflect;
+
+import ch.jalu.typeresolver.TypeInfo;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A method with its return type and parameter types resolved in the context of a given type. For example, the method
+ * {@code List#get} returns {@code E}; if resolved for {@code List<String>}, its return type is {@code String}.
+ *
+ * @see MethodUtils#getAllResolvedMethods
+ */
+public final class ResolvedMethod {
+
+    private final Type ownerType;
+    private final Method method;
+    private final Type returnType;
+    private final List<Type> parameterTypes;
+
+    /**
+     * Constructor.
+     *
+     * @param ownerType the type the method signature is resolved with
+     * @param method the method
+     */
+    ResolvedMethod(Type ownerType, Method method) {
+        TypeInfo ownerTypeInfo = TypeInfo.of(ownerType);
+        this.ownerType = ownerType;
+        this.method = method;
+        this.returnType = ownerTypeInfo.resolve(method.getGenericReturnType()).getType();
+        Type[] resolvedParameterTypes = Arrays.stream(method.getGenericParameterTypes())
+            .map(paramType -> ownerTypeInfo.resolve(paramType).getType())
+            .toArray(Type[]::new);
+        this.parameterTypes = Collections.unmodifiableList(Arrays.asList(resolvedParameterTypes));
+    }
+
+    /**
+     * @return the type in whose context this method's signature was resolved
+     */
+    public Type getOwnerType() {
+        return ownerType;
+    }
+
+    /**
+     * Returns the method whose signature is resolved. A new instance is returned on each call.
+     *
+     * @return the method whose signature is resolved
+     */
+    public Method getMethod() {
+        return MethodIndex.copy(method);
+    }
+
+    /**
+     * @return the resolved return type of the method
+     */
+    public Type getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * @return unmodifiable list of the resolved parameter types of the method
+     */
+    public List<Type> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * Returns the invoker of this method, which is cached per method.
+     *
+     * @return invoker for this method
+     */
+    public MethodInvoker getInvoker() {
+        return MethodInvoker.of(method);
+    }
+
+    @Override
+    public String toString() {
+        return "ResolvedMethod[" + MethodUtils.simpleToString(method) + " in " + ownerType.getTypeName() + "]";
+    }
+}
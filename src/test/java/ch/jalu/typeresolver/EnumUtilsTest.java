@@ -3,9 +3,12 @@ package ch.jalu.typeresolver;
 import org.junit.jupiter.api.Test;
 
 import java.awt.font.NumericShaper;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -15,6 +18,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -105,6 +109,55 @@ class EnumUtilsTest {
         assertThat(EnumUtils.tryValueOfCaseInsensitive(TimeUnit.class, "WRONG"), equalTo(Optional.empty()));
     }
 
+    @Test
+    void shouldFindEntryByCharSequence() {
+        // given / when / then
+        assertThat(EnumUtils.findEntryOrNull(TestEnum.class, "FIRST"), equalTo(TestEnum.FIRST));
+        assertThat(EnumUtils.findEntryOrNull(TestEnum.class, new StringBuilder("THIRD")), equalTo(TestEnum.THIRD));
+        assertThat(EnumUtils.findEntryOrNull(TestEnum.class, CharBuffer.wrap("xSECONDx", 1, 7)), equalTo(TestEnum.SECOND));
+        assertThat(EnumUtils.findEntryOrNull(EnumWithNonStandardEntryNames.class, "tHird"), equalTo(EnumWithNonStandardEntryNames.tHird));
+
+        assertThat(EnumUtils.findEntryOrNull(TestEnum.class, "first"), nullValue());
+        assertThat(EnumUtils.findEntryOrNull(TestEnum.class, ""), nullValue());
+        assertThat(EnumUtils.findEntryOrNull(EmptyEnum.class, "FIRST"), nullValue());
+    }
+
+    @Test
+    void shouldFindEntryByCharSequenceCaseInsensitively() {
+        // given / when / then
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(TestEnum.class, "first"), equalTo(TestEnum.FIRST));
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(TestEnum.class, new StringBuilder("tHIRD")), equalTo(TestEnum.THIRD));
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(EnumWithNonStandardEntryNames.class, "THIRD"), equalTo(EnumWithNonStandardEntryNames.Third));
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(EnumWithNonStandardEntryNames.class, "First"), equalTo(EnumWithNonStandardEntryNames.first));
+
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(TestEnum.class, "fourth"), nullValue());
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(EmptyEnum.class, "first"), nullValue());
+    }
+
+    @Test
+    void shouldFindEntryByByteRange() {
+        // given
+        byte[] bytes = "type=SECOND;unit=minutes".getBytes(StandardCharsets.US_ASCII);
+
+        // when / then
+        assertThat(EnumUtils.findEntryOrNull(TestEnum.class, bytes, 5, 11), equalTo(TestEnum.SECOND));
+        assertThat(EnumUtils.findEntryOrNull(TimeUnit.class, bytes, 17, 24), nullValue());
+        assertThat(EnumUtils.findEntryOrNull(TestEnum.class, bytes, 5, 10), nullValue());
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(TimeUnit.class, bytes, 17, 24), equalTo(TimeUnit.MINUTES));
+        assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(TestEnum.class, bytes, 0, 4), nullValue());
+    }
+
+    @Test
+    void shouldFindAllEntriesOfLargeEnum() {
+        // given / when / then
+        for (Character.UnicodeScript script : Character.UnicodeScript.values()) {
+            byte[] nameBytes = script.name().getBytes(StandardCharsets.US_ASCII);
+            assertThat(EnumUtils.findEntryOrNull(Character.UnicodeScript.class, script.name()), equalTo(script));
+            assertThat(EnumUtils.findEntryOrNull(Character.UnicodeScript.class, nameBytes, 0, nameBytes.length), equalTo(script));
+            assertThat(EnumUtils.findEntryCaseInsensitiveOrNull(Character.UnicodeScript.class, script.name().toLowerCase(Locale.ROOT)), equalTo(script));
+        }
+    }
+
     @Test
     void shouldDefineWhetherIsEnumRelatedClass() {
         // given / when / then
@@ -201,6 +254,17 @@ class EnumUtilsTest {
         assertThat(result3, empty());
     }
 
+    @Test
+    void shouldProvideCollectorToOrdinalBitmask() {
+        // given / when
+        long result1 = Stream.of(TestEnum.FIRST, TestEnum.THIRD).collect(EnumUtils.toOrdinalBitmask(TestEnum.class));
+        long result2 = Stream.<TestEnum>empty().collect(EnumUtils.toOrdinalBitmask(TestEnum.class));
+
+        // then
+        assertThat(result1, equalTo(0b101L));
+        assertThat(result2, equalTo(0L));
+    }
+
     private enum TestEnum {
 
         FIRST,
@@ -232,6 +296,9 @@ class EnumUtilsTest {
         }
     }
 
+    private enum EmptyEnum {
+    }
+
     private enum EnumWithNonStandardEntryNames {
 
         first,
@@ -0,0 +1,184 @@
+package ch.jalu.typeresolver.array;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.reflect.Array;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static ch.jalu.typeresolver.array.ArrayTestUtil.createArray;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ArrayBuilder}.
+ */
+class ArrayBuilderTest {
+
+    @ParameterizedTest
+    @EnumSource(ArrayComponentType.class)
+    void shouldBuildArrayForEachComponentType(ArrayComponentType componentType) {
+        // given
+        Class<?> componentClass = componentType == ArrayComponentType.OBJECT
+            ? String.class
+            : componentType.getComponentClass();
+        Object values = createArray(componentType, 40);
+        ArrayBuilder builder = ArrayBuilder.forComponent(componentClass, 2);
+
+        // when
+        for (int i = 0; i < 30; ++i) {
+            builder.add(Array.get(values, i));
+        }
+        builder.addAll(values, 30, 40);
+
+        // then
+        Object result = builder.toArray();
+        assertThat(result.getClass(), equalTo(values.getClass()));
+        assertThat(ArrayUtils.equals(result, values), equalTo(true));
+        assertThat(builder.getComponentType(), equalTo(componentType));
+        assertThat(builder.size(), equalTo(40));
+        assertThat(builder.get(39), equalTo(Array.get(values, 39)));
+    }
+
+    @Test
+    void shouldReturnTypedBuilders() {
+        // given / when / then
+        assertThat(ArrayBuilder.forComponent(boolean.class), instanceOf(ArrayBuilder.OfBoolean.class));
+        assertThat(ArrayBuilder.forComponent(byte.class), instanceOf(ArrayBuilder.OfByte.class));
+        assertThat(ArrayBuilder.forComponent(char.class), instanceOf(ArrayBuilder.OfChar.class));
+        assertThat(ArrayBuilder.forComponent(short.class), instanceOf(ArrayBuilder.OfShort.class));
+        assertThat(ArrayBuilder.forComponent(int.class), instanceOf(ArrayBuilder.OfInt.class));
+        assertThat(ArrayBuilder.forComponent(long.class), instanceOf(ArrayBuilder.OfLong.class));
+        assertThat(ArrayBuilder.forComponent(float.class), instanceOf(ArrayBuilder.OfFloat.class));
+        assertThat(ArrayBuilder.forComponent(double.class), instanceOf(ArrayBuilder.OfDouble.class));
+        assertThat(ArrayBuilder.forComponent(Integer.class), instanceOf(ArrayBuilder.OfObject.class));
+        assertThat(ArrayBuilder.forComponent(int[].class).toArray(), instanceOf(int[][].class));
+    }
+
+    @Test
+    void shouldAppendPrimitiveValuesAndStreams() {
+        // given
+        ArrayBuilder.OfInt ints = ArrayBuilder.ofInt();
+        ArrayBuilder.OfLong longs = ArrayBuilder.ofLong();
+        ArrayBuilder.OfDouble doubles = ArrayBuilder.ofDouble();
+        ArrayBuilder.OfChar chars = ArrayBuilder.ofChar();
+
+        // when
+        ints.add(-1).addAll(IntStream.range(0, 100)).addAll(new int[]{ 7, 8 });
+        ints.addAll(IntStream.iterate(1, i -> i * 2).limit(5));
+        longs.add(5L).addAll(LongStream.of(6L, 7L)).addAll(Stream.of(8L));
+        doubles.addAll(DoubleStream.of(0.5, 1.5)).add(2.5);
+        chars.add('x').addAll("yz").addAll(new char[]{ '!' });
+
+        // then
+        int[] expectedInts = IntStream.concat(IntStream.concat(IntStream.of(-1), IntStream.range(0, 100)),
+            IntStream.of(7, 8, 1, 2, 4, 8, 16)).toArray();
+        assertThat(ints.toArray(), equalTo(expectedInts));
+        assertThat(ints.getInt(101), equalTo(7));
+        assertThat(longs.toArray(), equalTo(new long[]{ 5, 6, 7, 8 }));
+        assertThat(doubles.toArray(), equalTo(new double[]{ 0.5, 1.5, 2.5 }));
+        assertThat(doubles.getDouble(2), equalTo(2.5));
+        assertThat(chars.toArray(), equalTo(new char[]{ 'x', 'y', 'z', '!' }));
+    }
+
+    @Test
+    void shouldGrowAndTrimCapacity() {
+        // given
+        ArrayBuilder.OfShort builder = ArrayBuilder.ofShort();
+
+        // when
+        for (int i = 0; i < 17; ++i) {
+            builder.add((short) i);
+        }
+        int grownCapacity = builder.capacity();
+        builder.trimToSize();
+        int trimmedCapacity = builder.capacity();
+        builder.ensureCapacity(100);
+
+        // then
+        assertThat(grownCapacity, equalTo(24));
+        assertThat(trimmedCapacity, equalTo(17));
+        assertThat(builder.capacity(), equalTo(100));
+        assertThat(builder.getShort(16), equalTo((short) 16));
+        assertThat(builder.toString(), equalTo("ArrayBuilder[type=SHORT, size=17, capacity=100]"));
+    }
+
+    @Test
+    void shouldClearBuilder() {
+        // given
+        ArrayBuilder.OfObject<String> builder = ArrayBuilder.ofObject(String.class);
+        builder.add("a").add(null);
+
+        // when
+        builder.clear();
+        builder.add("b");
+
+        // then
+        assertThat(builder.toArray(), arrayContaining("b"));
+        assertThat(builder.get(0), equalTo("b"));
+        assertThat(builder.capacity(), equalTo(ArrayBuilder.DEFAULT_CAPACITY));
+        assertThat(builder.isEmpty(), equalTo(false));
+    }
+
+    @Test
+    void shouldAddValuesFluentlyToObjectBuilder() {
+        // given
+        ArrayBuilder.OfObject<String> builder = ArrayBuilder.ofObject(String.class);
+
+        // when
+        String[] result = builder.add("a").addAll(new String[]{ "b", "c", "d" }, 1, 3).addAll(Stream.of("e"))
+            .addAll(new String[]{ "f" }).toArray();
+
+        // then
+        assertThat(result, arrayContaining("a", "c", "d", "e", "f"));
+    }
+
+    @Test
+    void shouldKeepValidElementsBeforeArrayStoreException() {
+        // given
+        ArrayBuilder.OfObject<Integer> builder = ArrayBuilder.ofObject(Integer.class);
+        Object[] values = { 1, null, 3, "four", 5 };
+
+        // when
+        assertThrows(ArrayStoreException.class, () -> builder.addAll(values));
+        assertThrows(ArrayStoreException.class, () -> builder.add(4L));
+
+        // then
+        assertThat(builder.toArray(), arrayContaining(1, null, 3));
+        assertThat(builder.get(1), nullValue());
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        // given
+        ArrayBuilder.OfLong builder = ArrayBuilder.ofLong();
+        builder.add(3L);
+
+        // when
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+            () -> builder.addAll(new int[]{ 1 }));
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+            () -> ArrayBuilder.forComponent(void.class));
+        IllegalArgumentException ex3 = assertThrows(IllegalArgumentException.class,
+            () -> ArrayBuilder.forComponent(int.class, -1));
+        assertThrows(ClassCastException.class, () -> builder.add(Integer.valueOf(4)));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> builder.getLong(1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> builder.get(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.addAll(new long[2], 2, 1));
+        assertThrows(IllegalArgumentException.class, () -> ArrayBuilder.ofObject(int.class));
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Expected an array of type LONG, but got: int[]"));
+        assertThat(ex2.getMessage(), equalTo("The component type may not be void"));
+        assertThat(ex3.getMessage(), equalTo("The initial capacity may not be negative, but was -1"));
+        assertThat(builder.toArray(), equalTo(new long[]{ 3 }));
+    }
+}
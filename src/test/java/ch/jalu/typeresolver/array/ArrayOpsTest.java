@@ -0,0 +1,102 @@
+package ch.jalu.typeresolver.array;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ArrayOps} implementations, obtained via {@link ArrayUtils#opsFor}.
+ */
+class ArrayOpsTest {
+
+    @ParameterizedTest
+    @EnumSource(ArrayComponentType.class)
+    void shouldReturnOpsForComponentType(ArrayComponentType componentType) {
+        // given
+        Class<?> arrayClass = Array.newInstance(componentType.getComponentClass(), 0).getClass();
+
+        // when
+        ArrayOps ops = ArrayUtils.opsFor(arrayClass);
+
+        // then
+        assertThat(ops.getComponentType(), equalTo(componentType));
+        assertThat(ArrayUtils.opsFor(componentType), sameInstance(ops));
+    }
+
+    @Test
+    void shouldReturnObjectOpsForReferenceTypeArrays() {
+        // given / when / then
+        assertThat(ArrayUtils.opsFor(String[].class).getComponentType(), equalTo(ArrayComponentType.OBJECT));
+        assertThat(ArrayUtils.opsFor(int[][].class).getComponentType(), equalTo(ArrayComponentType.OBJECT));
+    }
+
+    @Test
+    void shouldGetAndSetElements() {
+        // given
+        int[] ints = {3, 1, 4};
+        String[] strings = {"a", "b"};
+        ArrayOps intOps = ArrayUtils.opsFor(int[].class);
+        ArrayOps objectOps = ArrayUtils.opsFor(String[].class);
+
+        // when
+        intOps.set(ints, 1, 7);
+        objectOps.set(strings, 0, null);
+
+        // then
+        assertThat(ints, equalTo(new int[]{3, 7, 4}));
+        assertThat(intOps.get(ints, 2), equalTo(4));
+        assertThat(intOps.getLength(ints), equalTo(3));
+        assertThat(strings, equalTo(new String[]{null, "b"}));
+        assertThat(objectOps.get(strings, 1), equalTo("b"));
+    }
+
+    @Test
+    void shouldPerformOperationsOnArrays() {
+        // given
+        char[] chars = {'d', 'a', 'c', 'b'};
+        ArrayOps ops = ArrayUtils.opsFor(char[].class);
+
+        // when
+        ops.sort(chars, 0, 4);
+        int index = ops.binarySearch(chars, 0, 4, 'c');
+        char[] copy = (char[]) ops.copyOf(chars, 5);
+        ops.fill(copy, 4, 5, 'z');
+
+        // then
+        assertThat(chars, equalTo(new char[]{'a', 'b', 'c', 'd'}));
+        assertThat(index, equalTo(2));
+        assertThat(ops.toString(copy), equalTo("[a, b, c, d, z]"));
+        assertThat(ops.equals(chars, ops.copyOfRange(copy, 0, 4)), equalTo(true));
+        assertThat(ops.hashCode(chars), equalTo(Arrays.hashCode(chars)));
+        assertThat(ops.stream(chars).map(String::valueOf).collect(Collectors.joining()), equalTo("abcd"));
+    }
+
+    @Test
+    void shouldThrowForInvalidArguments() {
+        // given
+        ArrayOps ops = ArrayUtils.opsFor(long[].class);
+
+        // when
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+            () -> ArrayUtils.opsFor(String.class));
+        ClassCastException ex2 = assertThrows(ClassCastException.class,
+            () -> ops.set(new long[1], 0, 3));
+        NullPointerException ex3 = assertThrows(NullPointerException.class,
+            () -> ops.set(new long[1], 0, null));
+        assertThrows(ClassCastException.class, () -> ops.getLength(new int[0]));
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Expected an array class but got: java.lang.String"));
+        assertThat(ex2.getMessage(), equalTo("Expected value to be a long, instead found: class java.lang.Integer"));
+        assertThat(ex3.getMessage(), equalTo("value"));
+    }
+}
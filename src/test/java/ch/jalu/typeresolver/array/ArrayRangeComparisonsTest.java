@@ -0,0 +1,63 @@
+package ch.jalu.typeresolver.array;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link ArrayRangeComparisons}, in particular the loops that are used on Java 8.
+ */
+class ArrayRangeComparisonsTest {
+
+    @Test
+    void shouldFindMismatchWithLoop() {
+        // given / when / then
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new boolean[]{ true, false, true }, 0, new boolean[]{ true, false, false }, 0, 3), equalTo(2));
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new byte[]{ 1, 2, 3 }, 1, new byte[]{ 2, 3 }, 0, 2), equalTo(-1));
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new char[]{ 'a', 'b', 'c' }, 0, new char[]{ 'a', 'c' }, 0, 2), equalTo(1));
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new short[]{ 4, 5 }, 0, new short[]{ 0, 4, 5 }, 1, 2), equalTo(-1));
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new int[]{ 7, 8, 9 }, 0, new int[]{ 6, 8, 9 }, 0, 3), equalTo(0));
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new long[]{ 7L, 8L }, 0, new long[]{ 7L, 8L }, 0, 2), equalTo(-1));
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new float[]{ Float.NaN, 0.0f }, 0, new float[]{ Float.NaN, -0.0f }, 0, 2), equalTo(1));
+        assertThat(ArrayRangeComparisons.mismatchWithLoop(
+            new double[]{ Double.NaN, 0.0 }, 0, new double[]{ Double.NaN, 0.0 }, 0, 2), equalTo(-1));
+    }
+
+    @Test
+    void shouldMatchArraysMismatchForDifferentLengths() {
+        // given
+        int[] a = { 1, 2, 3, 4 };
+        int[] b = { 1, 2, 3 };
+
+        // when / then
+        assertThat(ArrayRangeComparisons.mismatch(a, 0, 4, b, 0, 3), equalTo(3));
+        assertThat(ArrayRangeComparisons.mismatch(b, 0, 3, a, 0, 4), equalTo(3));
+        assertThat(ArrayRangeComparisons.mismatch(a, 0, 0, b, 0, 0), equalTo(-1));
+        assertThat(ArrayRangeComparisons.compare(a, 0, 4, b, 0, 3), equalTo(1));
+        assertThat(ArrayRangeComparisons.compare(a, 1, 2, b, 0, 3), equalTo(1));
+    }
+
+    @Test
+    void shouldCompareObjectsWithCompareToInsteadOfEquals() {
+        // given
+        BigDecimal[] a = { new BigDecimal("1.0"), BigDecimal.ONE };
+        BigDecimal[] b = { new BigDecimal("1.00"), new BigDecimal("2") };
+
+        // when / then
+        assertThat(ArrayRangeComparisons.compare(a, 0, 2, b, 0, 2), equalTo(-1));
+        assertThat(ArrayUtils.compare(a, b), equalTo(-1));
+        assertThat(ArrayUtils.compare(b, a), equalTo(1));
+        assertThat(ArrayRangeComparisons.compare(a, 0, 1, b, 0, 1), equalTo(0));
+        assertThat(ArrayRangeComparisons.compare(new BigDecimal[]{ null }, 0, 1, a, 0, 2), equalTo(-1));
+    }
+}
@@ -0,0 +1,51 @@
+package ch.jalu.typeresolver.array;
+
+import java.lang.reflect.Array;
+
+final class ArrayTestUtil {
+
+    private ArrayTestUtil() {
+    }
+
+    /**
+     * Creates an array of the given component type with the values of {@link #createValue}. Arrays of the
+     * component type {@link ArrayComponentType#OBJECT OBJECT} are created as {@code String[]}.
+     *
+     * @param componentType the component type of the array
+     * @param length the length of the array
+     * @return new array with test values
+     */
+    static Object createArray(ArrayComponentType componentType, int length) {
+        Object array = Array.newInstance(componentType == ArrayComponentType.OBJECT
+            ? String.class : componentType.getComponentClass(), length);
+        for (int i = 0; i < length; ++i) {
+            Array.set(array, i, createValue(componentType, i));
+        }
+        return array;
+    }
+
+    /**
+     * Creates the test value for the given index. The values include negative numbers and, for floating-point
+     * types, NaN and -0.0.
+     *
+     * @param componentType the component type to create a value for
+     * @param i the index of the value
+     * @return the value (boxed if the component type is primitive)
+     */
+    static Object createValue(ArrayComponentType componentType, int i) {
+        int value = i % 3 == 0 ? -i : i;
+        switch (componentType) {
+            case BOOLEAN:   return i % 3 == 0;
+            case BYTE:      return (byte) value;
+            case CHARACTER: return (char) (value * 7);
+            case SHORT:     return (short) (value * 300);
+            case INTEGER:   return value * 70_000;
+            case LONG:      return value * 10_000_000_000L;
+            case FLOAT:     return i % 50 == 1 ? Float.NaN : value / 2f;
+            case DOUBLE:    return i % 50 == 1 ? Double.NaN : i % 11 == 0 ? -0.0 : value / 4.0;
+            case OBJECT:    return "s" + i;
+            default:
+                throw new IllegalStateException("Unexpected value: " + componentType);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -58,6 +59,22 @@ class ArrayTypeUtilsTest {
     void shouldThrowForVoidAsComponent() {
         // given / when / then
         assertThrows(IllegalArgumentException.class, () -> ArrayTypeUtils.createArrayClass(void.class));
+        assertThrows(IllegalArgumentException.class, () -> ArrayTypeUtils.createArrayClass(void.class, 2));
+    }
+
+    @Test
+    void shouldReturnCachedArrayClassProperties() {
+        // given / when
+        ArrayClassProperties properties1 = ArrayTypeUtils.getArrayProperty(String[][].class);
+        ArrayClassProperties properties2 = ArrayTypeUtils.getArrayProperty(String[][].class);
+        ArrayTypeProperties properties3 = ArrayTypeUtils.getArrayProperty((Type) String[].class);
+        ArrayClassProperties properties4 = ArrayTypeUtils.getArrayProperty(int.class);
+
+        // then
+        assertThat(properties1, sameInstance(properties2));
+        assertThat(properties1, equalTo(new ArrayClassProperties(String.class, 2)));
+        assertThat(properties3, equalTo(new ArrayClassProperties(String.class, 1)));
+        assertThat(properties4, equalTo(new ArrayClassProperties(int.class, 0)));
     }
 
     @Test
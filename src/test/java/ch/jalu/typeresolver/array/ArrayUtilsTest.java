@@ -7,13 +7,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
 import java.util.function.IntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayContaining;
@@ -23,6 +32,7 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -302,6 +312,27 @@ class ArrayUtilsTest {
             assertThat(toStringViaStream, equalTo(expectedArrString));
         }
 
+        @ParameterizedTest
+        @EnumSource(ArrayComponentType.class)
+        void shouldCreateSizedSpliteratorForArray(ArrayComponentType componentType) {
+            // given
+            Object fiveArr = createArray(componentType, ArrayType.FIVE_ITEMS, false);
+
+            // when
+            Spliterator<Object> spliterator = ArrayUtils.spliterator(fiveArr);
+            Spliterator<Object> prefix = spliterator.trySplit();
+
+            // then
+            assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), equalTo(true));
+            assertThat(prefix.estimateSize(), equalTo(2L));
+            assertThat(spliterator.estimateSize(), equalTo(3L));
+            List<Object> elements = new ArrayList<>();
+            prefix.forEachRemaining(elements::add);
+            spliterator.forEachRemaining(elements::add);
+            assertThat(elements, equalTo(ArrayUtils.stream(fiveArr).collect(Collectors.toList())));
+            assertThat(ArrayUtils.stream(fiveArr).parallel().collect(Collectors.toList()), equalTo(elements));
+        }
+
         private String getExpectedToString(ArrayComponentType componentType) {
             switch (componentType) {
                 case BOOLEAN:   return "[true, false, true, false, true]";
@@ -319,6 +350,607 @@ class ArrayUtilsTest {
         }
     }
 
+    @Nested
+    class PrimitiveStreams {
+
+        @Test
+        void shouldCreateIntStreams() {
+            // given / when / then
+            assertThat(ArrayUtils.intStream(new byte[]{ -3, 120 }).toArray(), equalTo(new int[]{ -3, 120 }));
+            assertThat(ArrayUtils.intStream(new short[]{ 400, -44 }).toArray(), equalTo(new int[]{ 400, -44 }));
+            assertThat(ArrayUtils.intStream(new char[]{ 'a', '\uffff' }).toArray(), equalTo(new int[]{ 97, 65535 }));
+            assertThat(ArrayUtils.intStream(new int[]{ 17, -4050 }).toArray(), equalTo(new int[]{ 17, -4050 }));
+        }
+
+        @Test
+        void shouldCreateLongStreams() {
+            // given / when / then
+            assertThat(ArrayUtils.longStream(new byte[]{ -3, 120 }).toArray(), equalTo(new long[]{ -3, 120 }));
+            assertThat(ArrayUtils.longStream(new short[]{ 400, -44 }).toArray(), equalTo(new long[]{ 400, -44 }));
+            assertThat(ArrayUtils.longStream(new char[]{ 'a' }).toArray(), equalTo(new long[]{ 97 }));
+            assertThat(ArrayUtils.longStream(new int[]{ Integer.MIN_VALUE }).toArray(),
+                equalTo(new long[]{ Integer.MIN_VALUE }));
+            assertThat(ArrayUtils.longStream(new long[]{ 562398L }).toArray(), equalTo(new long[]{ 562398L }));
+        }
+
+        @Test
+        void shouldCreateDoubleStreams() {
+            // given / when / then
+            assertThat(ArrayUtils.doubleStream(new byte[]{ -3 }).toArray(), equalTo(new double[]{ -3 }));
+            assertThat(ArrayUtils.doubleStream(new short[]{ 400 }).toArray(), equalTo(new double[]{ 400 }));
+            assertThat(ArrayUtils.doubleStream(new char[]{ 'a' }).toArray(), equalTo(new double[]{ 97 }));
+            assertThat(ArrayUtils.doubleStream(new int[]{ -4050 }).toArray(), equalTo(new double[]{ -4050 }));
+            assertThat(ArrayUtils.doubleStream(new long[]{ 562398L }).toArray(), equalTo(new double[]{ 562398 }));
+            assertThat(ArrayUtils.doubleStream(new float[]{ -2.75f }).toArray(), equalTo(new double[]{ -2.75 }));
+            assertThat(ArrayUtils.doubleStream(new double[]{ 0.33 }).toArray(), equalTo(new double[]{ 0.33 }));
+        }
+
+        @Test
+        void shouldSplitEvenlyInParallel() {
+            // given
+            short[] array = new short[10_000];
+            for (int i = 0; i < array.length; ++i) {
+                array[i] = (short) i;
+            }
+
+            // when
+            Spliterator.OfInt spliterator = ArrayUtils.intStream(array).spliterator();
+            Spliterator.OfInt prefix = spliterator.trySplit();
+            long sum = ArrayUtils.longStream(array).parallel().sum();
+            double[] doubles = ArrayUtils.doubleStream(array).parallel().toArray();
+
+            // then
+            assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED), equalTo(true));
+            assertThat(prefix.estimateSize(), equalTo(5000L));
+            assertThat(spliterator.estimateSize(), equalTo(5000L));
+            assertThat(sum, equalTo(49_995_000L));
+            assertThat(doubles[9999], equalTo(9999.0));
+        }
+
+        @Test
+        void shouldThrowForUnsupportedArrayTypes() {
+            // given / when
+            IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.intStream(new long[0]));
+            IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.longStream(new float[0]));
+            IllegalArgumentException ex3 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.doubleStream(new boolean[0]));
+            IllegalArgumentException ex4 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.intStream("test"));
+
+            // then
+            assertThat(ex1.getMessage(), equalTo("Cannot create IntStream for an object of type: long[]"));
+            assertThat(ex2.getMessage(), equalTo("Cannot create LongStream for an object of type: float[]"));
+            assertThat(ex3.getMessage(), equalTo("Cannot create DoubleStream for an object of type: boolean[]"));
+            assertThat(ex4.getMessage(), equalTo("Cannot create IntStream for an object of type: String"));
+        }
+    }
+
+    @Nested
+    class RangeComparisons {
+
+        @ParameterizedTest
+        @EnumSource(ArrayComponentType.class)
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void shouldFindMismatchAndCompare(ArrayComponentType componentType) {
+            // given
+            Object fiveArr = createArray(componentType, ArrayType.FIVE_ITEMS, false);
+            Object changedArr = ArrayUtils.copyOf(fiveArr, 5);
+            Array.set(changedArr, 3, Array.get(fiveArr, 4));
+            Object emptyArr = createArray(componentType, ArrayType.EMPTY, false);
+
+            // when / then
+            assertThat(ArrayUtils.mismatch(fiveArr, ArrayUtils.copyOf(fiveArr, 5)), equalTo(-1));
+            assertThat(ArrayUtils.mismatch(fiveArr, changedArr), equalTo(3));
+            assertThat(ArrayUtils.mismatch(fiveArr, 1, 5, changedArr, 1, 3), equalTo(2));
+            assertThat(ArrayUtils.mismatch(fiveArr, emptyArr), equalTo(0));
+            assertThat(ArrayUtils.mismatch(emptyArr, emptyArr), equalTo(-1));
+
+            assertThat(ArrayUtils.equals(fiveArr, 0, 3, changedArr, 0, 3), equalTo(true));
+            assertThat(ArrayUtils.equals(fiveArr, 0, 4, changedArr, 0, 4), equalTo(false));
+            assertThat(ArrayUtils.equals(fiveArr, 0, 3, changedArr, 0, 2), equalTo(false));
+            assertThat(ArrayUtils.equals(fiveArr, 4, 5, changedArr, 3, 4), equalTo(true));
+
+            int expectedSign = Integer.signum(((Comparable) Array.get(fiveArr, 3)).compareTo(Array.get(fiveArr, 4)));
+            assertThat(Integer.signum(ArrayUtils.compare(fiveArr, changedArr)), equalTo(expectedSign));
+            assertThat(Integer.signum(ArrayUtils.compare(changedArr, fiveArr)), equalTo(-expectedSign));
+            assertThat(ArrayUtils.compare(fiveArr, 0, 3, changedArr, 0, 3), equalTo(0));
+            assertThat(ArrayUtils.compare(fiveArr, 0, 3, changedArr, 0, 5), lessThan(0));
+            assertThat(ArrayUtils.compare(fiveArr, emptyArr), greaterThanOrEqualTo(1));
+        }
+
+        @Test
+        void shouldHandleSpecialValues() {
+            // given
+            double[] doubles = { 1.0, Double.NaN, 0.0 };
+            float[] floats = { Float.NaN, -0.0f };
+            String[] strings = { "a", null, "c" };
+
+            // when / then
+            assertThat(ArrayUtils.mismatch(doubles, new double[]{ 1.0, Double.NaN, -0.0 }), equalTo(2));
+            assertThat(ArrayUtils.compare(doubles, new double[]{ 1.0, Double.NaN, -0.0 }), equalTo(1));
+            assertThat(ArrayUtils.mismatch(floats, new float[]{ Float.NaN, -0.0f }), equalTo(-1));
+            assertThat(ArrayUtils.mismatch(strings, new Object[]{ "a", null, "d" }), equalTo(2));
+            assertThat(ArrayUtils.compare(strings, new String[]{ "a", "b" }), equalTo(-1));
+            assertThat(ArrayUtils.compare(new byte[]{ -1 }, new byte[]{ 1 }), lessThan(0));
+        }
+
+        @Test
+        void shouldValidateRanges() {
+            // given
+            int[] ints = new int[5];
+
+            // when / then
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.mismatch(ints, 3, 2, ints, 0, 1));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> ArrayUtils.equals(ints, 0, 6, ints, 0, 1));
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> ArrayUtils.compare(ints, 0, 1, ints, -1, 1));
+            assertThrows(ClassCastException.class, () -> ArrayUtils.mismatch(ints, new long[5]));
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.compare(ints, "test"));
+        }
+    }
+
+    @Nested
+    class CustomOrderSorting {
+
+        @Test
+        void shouldSortWithPrimitiveComparators() {
+            // given
+            int[] ints = IntStream.range(0, 100).map(i -> (i * 37) % 100).toArray();
+            long[] longs = { 5, -3, 12, 7, -20, 0, 1 };
+            double[] doubles = { 2.5, Double.NaN, -1.0, 0.0, -0.0, 7.0 };
+
+            // when
+            ArrayUtils.sort(ints, IntComparator.naturalOrder().reversed());
+            ArrayUtils.sort(longs, 1, 6, (a, b) -> Long.compare(Math.abs(a), Math.abs(b)));
+            ArrayUtils.sort(doubles, DoubleComparator.naturalOrder());
+
+            // then
+            assertThat(ints, equalTo(IntStream.range(0, 100).map(i -> 99 - i).toArray()));
+            assertThat(longs, equalTo(new long[]{ 5, 0, -3, 7, 12, -20, 1 }));
+            double[] expectedDoubles = { 2.5, Double.NaN, -1.0, 0.0, -0.0, 7.0 };
+            Arrays.sort(expectedDoubles);
+            assertThat(doubles, equalTo(expectedDoubles));
+        }
+
+        @Test
+        void shouldSortStably() {
+            // given
+            int[] ints = IntStream.range(0, 50).toArray();
+
+            // when
+            ArrayUtils.sort(ints, (a, b) -> Integer.compare(a % 3, b % 3));
+
+            // then
+            int[] expected = IntStream.concat(IntStream.concat(
+                IntStream.range(0, 50).filter(i -> i % 3 == 0),
+                IntStream.range(0, 50).filter(i -> i % 3 == 1)),
+                IntStream.range(0, 50).filter(i -> i % 3 == 2)).toArray();
+            assertThat(ints, equalTo(expected));
+        }
+
+        @ParameterizedTest
+        @EnumSource(ArrayComponentType.class)
+        void shouldArgsortAndApplyPermutation(ArrayComponentType componentType) {
+            // given
+            Object array = createArray(componentType, ArrayType.FIVE_ITEMS, false);
+            Object sorted = ArrayUtils.copyOf(array, 5);
+            ArrayUtils.sort(sorted);
+
+            // when
+            int[] permutation = ArrayUtils.argsort(array);
+            ArrayUtils.applyPermutation(array, permutation);
+
+            // then
+            assertThat(ArrayUtils.equals(array, sorted), equalTo(true));
+        }
+
+        @Test
+        void shouldReorderParallelColumns() {
+            // given
+            double[] prices = { 4.5, 1.0, 9.99, 1.0, 3.0 };
+            String[] names = { "d", "a", "e", "b", "c" };
+            long[] ids = { 40, 10, 50, 20, 30 };
+
+            // when
+            int[] permutation = ArrayUtils.argsort(prices, DoubleComparator.naturalOrder().reversed());
+            ArrayUtils.applyPermutation(prices, permutation);
+            ArrayUtils.applyPermutation(names, permutation);
+            ArrayUtils.applyPermutation(ids, permutation);
+
+            // then
+            assertThat(permutation, equalTo(new int[]{ 2, 0, 4, 1, 3 }));
+            assertThat(prices, equalTo(new double[]{ 9.99, 4.5, 3.0, 1.0, 1.0 }));
+            assertThat(names, arrayContaining("e", "d", "c", "a", "b"));
+            assertThat(ids, equalTo(new long[]{ 50, 40, 30, 10, 20 }));
+        }
+
+        @Test
+        void shouldArgsortWithComparators() {
+            // given
+            int[] ints = { 3, -7, 5, 0 };
+            long[] longs = { 3L, 1L, 2L };
+            String[] strings = { "ccc", "a", "bb" };
+
+            // when
+            int[] intOrder = ArrayUtils.argsort(ints, (a, b) -> Integer.compare(Math.abs(a), Math.abs(b)));
+            int[] longOrder = ArrayUtils.argsort(longs, LongComparator.naturalOrder());
+            int[] stringOrder = ArrayUtils.argsort(strings, Comparator.comparing(String::length).reversed());
+
+            // then
+            assertThat(intOrder, equalTo(new int[]{ 3, 0, 2, 1 }));
+            assertThat(longOrder, equalTo(new int[]{ 1, 2, 0 }));
+            assertThat(stringOrder, equalTo(new int[]{ 0, 2, 1 }));
+            assertThat(ints, equalTo(new int[]{ 3, -7, 5, 0 }));
+        }
+
+        @Test
+        void shouldRejectInvalidPermutation() {
+            // given
+            int[] array = { 1, 2, 3 };
+
+            // when
+            IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.applyPermutation(array, new int[]{ 0, 1 }));
+            IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.applyPermutation(array, new int[]{ 0, 2, 2 }));
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.applyPermutation(array, new int[]{ 0, 1, 3 }));
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.applyPermutation("test", new int[0]));
+
+            // then
+            assertThat(ex1.getMessage(), equalTo("The permutation has 2 entries, but the array has 3 elements"));
+            assertThat(ex2.getMessage(),
+                equalTo("The permutation must contain every index from 0 to 2 exactly once, but found: 2"));
+            assertThat(array, equalTo(new int[]{ 1, 2, 3 }));
+        }
+    }
+
+    @Nested
+    class RadixSorting {
+
+        @ParameterizedTest
+        @EnumSource(value = ArrayComponentType.class, names = "OBJECT", mode = EnumSource.Mode.EXCLUDE)
+        void shouldSortLikeDefaultStrategy(ArrayComponentType componentType) {
+            for (int length : new int[]{ 0, 5, 63, 64, 1000, 5000 }) {
+                // given
+                Object array = createRandomArray(componentType, length, length);
+                Object expected = ArrayUtils.copyOf(array, length);
+                ArrayUtils.sort(expected);
+                Object rangeArray = ArrayUtils.copyOf(array, length);
+                Object expectedRange = ArrayUtils.copyOf(array, length);
+                ArrayUtils.sort(expectedRange, length / 4, length / 2);
+
+                // when
+                ArrayUtils.sort(array, SortStrategy.RADIX);
+                ArrayUtils.sort(rangeArray, length / 4, length / 2, SortStrategy.RADIX);
+
+                // then
+                assertThat(componentType + ", length=" + length, ArrayUtils.equals(array, expected), equalTo(true));
+                assertThat(componentType + ", length=" + length,
+                    ArrayUtils.equals(rangeArray, expectedRange), equalTo(true));
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = ArrayComponentType.class, names = "OBJECT", mode = EnumSource.Mode.EXCLUDE)
+        void shouldParallelSortLikeDefaultStrategy(ArrayComponentType componentType) {
+            // given
+            Object array = createRandomArray(componentType, 100_000, 3);
+            Object expected = ArrayUtils.copyOf(array, 100_000);
+            ArrayUtils.parallelSort(expected, 10, 99_000, SortStrategy.DEFAULT);
+
+            // when
+            ArrayUtils.parallelSort(array, 10, 99_000, SortStrategy.RADIX);
+
+            // then
+            assertThat(ArrayUtils.equals(array, expected), equalTo(true));
+        }
+
+        @Test
+        void shouldOrderSpecialFloatingPointValues() {
+            // given
+            double[] doubles = { Double.NaN, 0.0, -0.0, Double.NEGATIVE_INFINITY, Double.longBitsToDouble(-1L),
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.POSITIVE_INFINITY, -Double.MAX_VALUE, 1.5, -1.5 };
+            double[] doubleArray = LongStream.range(0, 200).mapToDouble(i -> doubles[(int) (i % doubles.length)])
+                .toArray();
+            double[] expectedDoubles = doubleArray.clone();
+            Arrays.sort(expectedDoubles);
+            float[] floatArray = new float[doubleArray.length];
+            for (int i = 0; i < floatArray.length; ++i) {
+                floatArray[i] = (float) doubleArray[i];
+            }
+            float[] expectedFloats = floatArray.clone();
+            Arrays.sort(expectedFloats);
+
+            // when
+            ArrayUtils.sort(doubleArray, SortStrategy.RADIX);
+            ArrayUtils.sort(floatArray, SortStrategy.RADIX);
+
+            // then
+            assertThat(doubleArray, equalTo(expectedDoubles));
+            assertThat(floatArray, equalTo(expectedFloats));
+            assertThat(doubleArray[0], equalTo(Double.NEGATIVE_INFINITY));
+            assertThat(Double.isNaN(doubleArray[doubleArray.length - 1]), equalTo(true));
+        }
+
+        @Test
+        void shouldRejectObjectArrays() {
+            // given
+            String[] strings = { "b", "a" };
+
+            // when
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.sort(strings, SortStrategy.RADIX));
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.parallelSort(strings, SortStrategy.RADIX));
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.sort(new int[3], 2, 1, SortStrategy.RADIX));
+
+            // then
+            assertThat(ex.getMessage(), equalTo("Radix sort is not supported for arrays of type: String[]"));
+            assertThat(strings, arrayContaining("b", "a"));
+        }
+
+        private Object createRandomArray(ArrayComponentType componentType, int length, long seed) {
+            Random random = new Random(seed);
+            Object array = Array.newInstance(componentType.getComponentClass(), length);
+            for (int i = 0; i < length; ++i) {
+                // Mix small values, which only differ in the lowest digits, with values spanning the full range
+                long bits = random.nextBoolean() ? random.nextInt(1000) - 500 : random.nextLong();
+                switch (componentType) {
+                    case BOOLEAN:
+                        Array.setBoolean(array, i, bits % 2 == 0);
+                        break;
+                    case BYTE:
+                        Array.setByte(array, i, (byte) bits);
+                        break;
+                    case CHARACTER:
+                        Array.setChar(array, i, (char) bits);
+                        break;
+                    case SHORT:
+                        Array.setShort(array, i, (short) bits);
+                        break;
+                    case INTEGER:
+                        Array.setInt(array, i, (int) bits);
+                        break;
+                    case LONG:
+                        Array.setLong(array, i, bits);
+                        break;
+                    case FLOAT:
+                        Array.setFloat(array, i, random.nextBoolean() ? bits / 7f : Float.intBitsToFloat((int) bits));
+                        break;
+                    case DOUBLE:
+                        Array.setDouble(array, i, random.nextBoolean() ? bits / 7.0 : Double.longBitsToDouble(bits));
+                        break;
+                    default:
+                        throw new IllegalStateException("Unexpected component type: " + componentType);
+                }
+            }
+            return array;
+        }
+    }
+
+    @Nested
+    class DeepOperations {
+
+        @Test
+        void shouldCreateDeepCopy() {
+            // given
+            double[][][] doubles = { { { 1.5, 2.5 }, null }, { { 3.5 } } };
+            Number[][] numbers = { new Integer[]{ 1, 2 }, { 3.0 } };
+
+            // when
+            double[][][] doublesCopy = ArrayUtils.deepCopy(doubles);
+            Number[][] numbersCopy = ArrayUtils.deepCopy(numbers);
+
+            // then
+            assertThat(Arrays.deepEquals(doublesCopy, doubles), equalTo(true));
+            assertThat(doublesCopy[0], not(sameInstance(doubles[0])));
+            assertThat(doublesCopy[0][0], not(sameInstance(doubles[0][0])));
+            assertThat(doublesCopy[0][1], nullValue());
+            assertThat(numbersCopy[0], not(sameInstance(numbers[0])));
+            assertThat(numbersCopy[0], instanceOf(Integer[].class));
+            assertThat(Arrays.deepEquals(numbersCopy, numbers), equalTo(true));
+            assertThat(ArrayUtils.deepCopy(new int[]{ 3, 4 }), equalTo(new int[]{ 3, 4 }));
+        }
+
+        @Test
+        void shouldCompareDeeply() {
+            // given
+            int[][] ints1 = { { 1, 2 }, null, {} };
+            int[][] ints2 = { { 1, 2 }, null, {} };
+            int[][] ints3 = { { 1, 2 }, {}, null };
+            Object[] objects1 = { new int[]{ 1 }, new String[][]{ { "a" } } };
+            Object[] objects2 = { new int[]{ 1 }, new String[][]{ { "a" } } };
+
+            // when / then
+            assertThat(ArrayUtils.deepEquals(ints1, ints2), equalTo(true));
+            assertThat(ArrayUtils.deepEquals(ints1, ints3), equalTo(false));
+            assertThat(ArrayUtils.deepEquals(ints1, new long[][]{ { 1, 2 }, null, {} }), equalTo(false));
+            assertThat(ArrayUtils.deepEquals(ints1, new Object[]{ new int[]{ 1, 2 }, null, new int[0] }),
+                equalTo(true));
+            assertThat(ArrayUtils.deepEquals(objects1, objects2), equalTo(true));
+            assertThat(ArrayUtils.deepEquals(new Number[][]{ new Integer[]{ 3 } }, new Number[][]{ { 3 } }),
+                equalTo(true));
+            assertThat(ArrayUtils.deepEquals(null, null), equalTo(true));
+            assertThat(ArrayUtils.deepEquals(ints1, null), equalTo(false));
+            assertThat(ArrayUtils.deepEquals(null, ints1), equalTo(false));
+        }
+
+        @Test
+        void shouldComputeDeepHashCode() {
+            // given
+            int[][] ints = { { 1, 2 }, null, {} };
+            float[][][] floats = { { { 1.5f }, { -2f, 3f } } };
+            Object[] objects = { new int[]{ 1 }, new String[][]{ { "a" } }, "b" };
+
+            // when / then
+            assertThat(ArrayUtils.deepHashCode(ints), equalTo(Arrays.deepHashCode(ints)));
+            assertThat(ArrayUtils.deepHashCode(floats), equalTo(Arrays.deepHashCode(floats)));
+            assertThat(ArrayUtils.deepHashCode(objects), equalTo(Arrays.deepHashCode(objects)));
+            assertThat(ArrayUtils.deepHashCode(new char[]{ 'a' }), equalTo(Arrays.hashCode(new char[]{ 'a' })));
+            assertThat(ArrayUtils.deepHashCode(null), equalTo(0));
+        }
+
+        @Test
+        void shouldFillDeeply() {
+            // given
+            long[][][] longs = { { new long[2], null }, { new long[1] } };
+            String[][] strings = { new String[2], new String[1] };
+
+            // when
+            ArrayUtils.deepFill(longs, 7L);
+            ArrayUtils.deepFill(strings, "s");
+
+            // then
+            assertThat(Arrays.deepToString(longs), equalTo("[[[7, 7], null], [[7]]]"));
+            assertThat(Arrays.deepToString(strings), equalTo("[[s, s], [s]]"));
+            assertThrows(ClassCastException.class, () -> ArrayUtils.deepFill(longs, 7));
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.deepFill("test", 7));
+        }
+
+        @Test
+        void shouldFlattenAndUnflatten() {
+            // given
+            short[][][] shorts = { { { 1, 2 }, null, { 3 } }, {}, { { 4, 5, 6 } } };
+            String[][] strings = { { "a", "b" }, { "c" } };
+
+            // when
+            Object flatShorts = ArrayUtils.flatten(shorts);
+            Object flatStrings = ArrayUtils.flatten(strings);
+            short[][][] shorts2 = ArrayUtils.deepCopy(shorts);
+            ArrayUtils.deepFill(shorts2, (short) 0);
+            ArrayUtils.unflattenInto(flatShorts, shorts2);
+            Object unflattened = ArrayUtils.unflatten(flatShorts, 2, 3);
+
+            // then
+            assertThat(flatShorts, equalTo(new short[]{ 1, 2, 3, 4, 5, 6 }));
+            assertThat(flatStrings, equalTo(new String[]{ "a", "b", "c" }));
+            assertThat(flatStrings, instanceOf(String[].class));
+            assertThat(ArrayUtils.deepEquals(shorts2, shorts), equalTo(true));
+            assertThat(unflattened, equalTo(new short[][]{ { 1, 2, 3 }, { 4, 5, 6 } }));
+            assertThat(ArrayUtils.unflatten(flatStrings, 1, 1, 3), equalTo(new String[][][]{ { { "a", "b", "c" } } }));
+        }
+
+        @Test
+        void shouldThrowForMismatchingFlatLength() {
+            // given
+            int[] flat = { 1, 2, 3, 4, 5 };
+
+            // when
+            IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.unflatten(flat, 2, 3));
+            IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.unflattenInto(flat, new int[][]{ new int[3], null, new int[1] }));
+
+            // then
+            assertThat(ex1.getMessage(), equalTo("The flat array has 5 elements, which does not match the dimensions [2, 3]"));
+            assertThat(ex2.getMessage(), equalTo("The flat array has 5 elements, but the target array has 4 elements"));
+        }
+    }
+
+    @Nested
+    class AppendTo {
+
+        @ParameterizedTest
+        @EnumSource(ArrayComponentType.class)
+        void shouldAppendArrayLikeToString(ArrayComponentType componentType) {
+            // given
+            Object emptyArr = createArray(componentType, ArrayType.EMPTY, false);
+            Object fiveArr = createArray(componentType, ArrayType.FIVE_ITEMS, false);
+
+            // when
+            String emptyResult = ArrayUtils.appendTo(new StringBuilder(), emptyArr, 10).toString();
+            String fiveResult = ArrayUtils.appendTo(new StringWriter(), fiveArr, 5).toString();
+
+            // then
+            assertThat(emptyResult, equalTo("[]"));
+            assertThat(fiveResult, equalTo(ArrayUtils.toString(fiveArr)));
+        }
+
+        @Test
+        void shouldTruncateArrayWithElisionMarker() {
+            // given
+            int[] ints = IntStream.range(0, 1000).toArray();
+            String[] strings = { "a", "b", null };
+
+            // when / then
+            assertThat(ArrayUtils.appendTo(new StringBuilder("ints="), ints, 3).toString(),
+                equalTo("ints=[0, 1, 2, ... (997 more)]"));
+            assertThat(ArrayUtils.appendTo(new StringBuilder(), strings, 0).toString(), equalTo("[... (3 more)]"));
+            assertThat(ArrayUtils.appendTo(new StringBuilder(), strings, 2).toString(), equalTo("[a, b, ... (1 more)]"));
+            assertThat(ArrayUtils.appendTo(new StringBuilder(), strings, 3).toString(), equalTo("[a, b, null]"));
+            assertThat(ArrayUtils.appendTo(new StringBuilder(), null, 3).toString(), equalTo("null"));
+        }
+
+        @Test
+        void shouldAppendLargeArrayToWriter() {
+            // given
+            long[] longs = LongStream.range(0, 100_000).map(l -> l * 1_000_003L).toArray();
+            StringWriter writer = new StringWriter();
+
+            // when
+            ArrayUtils.appendTo(writer, longs, Integer.MAX_VALUE);
+
+            // then
+            assertThat(writer.toString(), equalTo(Arrays.toString(longs)));
+        }
+
+        @Test
+        void shouldAppendMultiDimensionalArray() {
+            // given
+            Object[] objects = { new int[]{ 1, 2, 3 }, new String[][]{ { "a" }, null, {} }, 'c', null };
+            objects[3] = objects;
+            double[][] doubles = { { 1.5, 2.5 }, { 3.5 } };
+
+            // when / then
+            assertThat(ArrayUtils.deepAppendTo(new StringBuilder(), objects, 10).toString(),
+                equalTo(Arrays.deepToString(objects)));
+            assertThat(ArrayUtils.deepAppendTo(new StringWriter(), objects, 2).toString(),
+                equalTo("[[1, 2, ... (1 more)], [[a], null, ... (1 more)], ... (2 more)]"));
+            assertThat(ArrayUtils.deepAppendTo(new StringBuilder(), doubles, 1).toString(),
+                equalTo("[[1.5, ... (1 more)], ... (1 more)]"));
+            assertThat(ArrayUtils.deepAppendTo(new StringBuilder(), new char[]{ 'x' }, 1).toString(), equalTo("[x]"));
+        }
+
+        @Test
+        void shouldWrapIoException() {
+            // given
+            Writer writer = new Writer() {
+                @Override
+                public void write(char[] cbuf, int off, int len) throws IOException {
+                    throw new IOException("Stream closed");
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+
+            // when
+            UncheckedIOException ex = assertThrows(UncheckedIOException.class,
+                () -> ArrayUtils.appendTo(writer, new int[]{ 1, 2 }, 5));
+
+            // then
+            assertThat(ex.getCause().getMessage(), equalTo("Stream closed"));
+        }
+
+        @Test
+        void shouldThrowForInvalidArguments() {
+            // given / when
+            IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.appendTo(new StringBuilder(), new int[3], -1));
+            IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+                () -> ArrayUtils.deepAppendTo(new StringBuilder(), "test", 3));
+
+            // then
+            assertThat(ex1.getMessage(), equalTo("maxElements may not be negative, but was -1"));
+            assertThat(ex2.getMessage(), equalTo("Expected an array but got an object of type: java.lang.String"));
+        }
+    }
+
     @Nested
     class DelegationMethodErrorHandling {
 
@@ -339,6 +971,7 @@ class ArrayUtilsTest {
             assertThrows(IllegalArgumentException.class, () -> ArrayUtils.parallelSort(object));
             assertThrows(IllegalArgumentException.class, () -> ArrayUtils.parallelSort(object, 0, 2));
             assertThrows(IllegalArgumentException.class, () -> ArrayUtils.stream(object));
+            assertThrows(IllegalArgumentException.class, () -> ArrayUtils.spliterator(object));
             assertThrows(IllegalArgumentException.class, () -> ArrayUtils.sort(object));
             assertThrows(IllegalArgumentException.class, () -> ArrayUtils.sort(object, 0, 3));
             assertThrows(IllegalArgumentException.class, () -> ArrayUtils.toString(object));
@@ -0,0 +1,204 @@
+package ch.jalu.typeresolver.array;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static ch.jalu.typeresolver.array.ArrayTestUtil.createArray;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ArrayView}.
+ */
+class ArrayViewTest {
+
+    @ParameterizedTest
+    @EnumSource(value = ArrayComponentType.class, names = "OBJECT", mode = EnumSource.Mode.EXCLUDE)
+    void shouldHaveSameEqualsAndHashCodeAsArray(ArrayComponentType componentType) {
+        // given
+        Object array = createArray(componentType, 40);
+        ArrayView heapView = ArrayView.of(array);
+        ArrayView bufferView = createBufferView(array);
+
+        // when / then
+        assertThat(bufferView, equalTo(heapView));
+        assertThat(heapView, equalTo(bufferView));
+        assertThat(bufferView.hashCode(), equalTo(ArrayUtils.hashCode(array)));
+        assertThat(heapView.hashCode(), equalTo(ArrayUtils.hashCode(array)));
+        assertThat(ArrayUtils.equals(bufferView.toArray(), array), equalTo(true));
+        assertThat(bufferView.stream().collect(Collectors.toList()),
+            equalTo(ArrayUtils.stream(array).collect(Collectors.toList())));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ArrayComponentType.class, names = "OBJECT", mode = EnumSource.Mode.EXCLUDE)
+    void shouldSortLikeArrays(ArrayComponentType componentType) {
+        // given
+        Object array = createShuffledArray(componentType, 500);
+        ArrayView bufferView = createBufferView(array);
+        Object expected = ArrayUtils.opsFor(componentType).copyOf(array, 500);
+        ArrayUtils.sort(expected, 20, 480);
+
+        // when
+        bufferView.sort(20, 480);
+
+        // then
+        assertThat(ArrayUtils.equals(bufferView.toArray(), expected), equalTo(true));
+    }
+
+    @Test
+    void shouldSortAndSearchSpecialFloatingPointValues() {
+        // given
+        double[] doubles = { 3.0, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -1.5, Double.POSITIVE_INFINITY,
+            0.0, -0.0, Double.NaN, 2.5, -Double.MAX_VALUE, Double.MIN_VALUE, 1.0, -3.0, 0.5, 7.0, -2.0, 4.0 };
+        ArrayView view = createBufferView(doubles);
+        Arrays.sort(doubles);
+
+        // when
+        view.sort();
+
+        // then
+        assertThat(view.toArray(), equalTo(doubles));
+        for (double value : doubles) {
+            assertThat(view.binarySearch(value), equalTo(Arrays.binarySearch(doubles, value)));
+        }
+        assertThat(view.binarySearch(-0.5), equalTo(Arrays.binarySearch(doubles, -0.5)));
+        assertThat(view.binarySearch(100.0), equalTo(Arrays.binarySearch(doubles, 100.0)));
+    }
+
+    @Test
+    void shouldSearchInRange() {
+        // given
+        ArrayView view = ArrayView.allocateDirect(ArrayComponentType.INTEGER, 10);
+        for (int i = 0; i < 10; ++i) {
+            view.set(i, i * 10);
+        }
+
+        // when / then
+        assertThat(view.binarySearch(40), equalTo(4));
+        assertThat(view.binarySearch(2, 8, 20), equalTo(2));
+        assertThat(view.binarySearch(2, 8, 10), equalTo(-3));
+        assertThat(view.binarySearch(2, 8, 95), equalTo(-9));
+    }
+
+    @Test
+    void shouldFillAndSetValues() {
+        // given
+        ArrayView view = ArrayView.allocateDirect(ArrayComponentType.CHARACTER, 6);
+
+        // when
+        view.fill('x');
+        view.fill(1, 3, 'y');
+        view.set(5, '\uFFFF');
+
+        // then
+        assertThat(view.toArray(), equalTo(new char[]{ 'x', 'y', 'y', 'x', 'x', '\uFFFF' }));
+        assertThat(view.get(5), equalTo('\uFFFF'));
+        assertThat(view.intStream().max().getAsInt(), equalTo(0xFFFF));
+        assertThat(view.toString(), equalTo("ArrayView[type=CHARACTER, length=6]"));
+    }
+
+    @Test
+    void shouldWriteThroughToBuffer() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocate(20).order(ByteOrder.BIG_ENDIAN);
+        buffer.position(4);
+        ArrayView view = ArrayView.of(buffer, ArrayComponentType.INTEGER);
+
+        // when
+        view.set(0, 0x01020304);
+        view.set(3, -1);
+
+        // then
+        assertThat(view.length(), equalTo(4));
+        assertThat(buffer.get(4), equalTo((byte) 1));
+        assertThat(buffer.get(7), equalTo((byte) 4));
+        assertThat(buffer.getInt(16), equalTo(-1));
+        assertThat(view.longStream().boxed().collect(Collectors.toList()), contains(0x01020304L, 0L, 0L, -1L));
+    }
+
+    @Test
+    void shouldWriteThroughToArray() {
+        // given
+        String[] array = { "c", "a", "b" };
+        ArrayView view = ArrayView.of(array);
+
+        // when
+        view.sort();
+        view.set(2, "z");
+
+        // then
+        assertThat(array, equalTo(new String[]{ "a", "b", "z" }));
+        assertThat(view.getComponentType(), equalTo(ArrayComponentType.OBJECT));
+        assertThat(view, equalTo(ArrayView.of(new String[]{ "a", "b", "z" })));
+        assertThat(view, not(equalTo(ArrayView.of(new String[]{ "a", "b" }))));
+    }
+
+    @Test
+    void shouldNotBeEqualForDifferentTypes() {
+        // given
+        ArrayView ints = ArrayView.of(new int[]{ 1, 2 });
+        ArrayView longs = ArrayView.of(new long[]{ 1, 2 });
+        ArrayView otherInts = ArrayView.allocateDirect(ArrayComponentType.INTEGER, 2);
+
+        // when / then
+        assertThat(ints, not(equalTo(longs)));
+        assertThat(ints, not(equalTo(otherInts)));
+        otherInts.set(0, 1);
+        otherInts.set(1, 2);
+        assertThat(ints, equalTo(otherInts));
+    }
+
+    @Test
+    void shouldThrowForInvalidArguments() {
+        // given
+        ArrayView view = ArrayView.allocateDirect(ArrayComponentType.LONG, 4);
+
+        // when / then
+        assertThrows(ClassCastException.class, () -> view.fill(3));
+        assertThrows(NullPointerException.class, () -> view.set(0, null));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> view.get(4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> view.sort(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> view.binarySearch(3, 2, 0L));
+        assertThrows(IllegalArgumentException.class, () -> ArrayView.of("test"));
+        assertThrows(IllegalArgumentException.class, () -> ArrayView.allocateDirect(ArrayComponentType.BYTE, -1));
+
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+            () -> ArrayView.allocateDirect(ArrayComponentType.OBJECT, 3));
+        assertThat(ex1.getMessage(), equalTo("Buffer-backed views do not support the component type OBJECT"));
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class, view::intStream);
+        assertThat(ex2.getMessage(), equalTo("Cannot create IntStream for a view of type: LONG"));
+    }
+
+    private static ArrayView createBufferView(Object array) {
+        ArrayOps ops = ArrayUtils.getOps(array);
+        ArrayView view = ArrayView.allocateDirect(ops.getComponentType(), ops.getLength(array));
+        for (int i = 0; i < view.length(); ++i) {
+            view.set(i, ops.get(array, i));
+        }
+        return view;
+    }
+
+    private static Object createShuffledArray(ArrayComponentType componentType, int length) {
+        Object array = createArray(componentType, length);
+        Random random = new Random(7);
+        for (int i = length - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            Object elem = Array.get(array, i);
+            Array.set(array, i, Array.get(array, j));
+            Array.set(array, j, elem);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,185 @@
+package ch.jalu.typeresolver.array;
+
+import ch.jalu.typeresolver.numbers.NumberType;
+import ch.jalu.typeresolver.numbers.StandardNumberType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link NumberArrayConverter}.
+ */
+class NumberArrayConverterTest {
+
+    private static final Class<?>[] ARRAY_TYPES = {
+        byte[].class, short[].class, int[].class, long[].class, float[].class, double[].class,
+        Byte[].class, Short[].class, Integer[].class, Long[].class, Float[].class, Double[].class
+    };
+
+    private static final Number[] VALUES = {
+        0, 1, -1, 127, 128, -129, 200, 40_000, -40_000, Integer.MAX_VALUE, Integer.MIN_VALUE, 3_000_000_000L,
+        Long.MAX_VALUE, Long.MIN_VALUE, 12.7, -3.2, 127.5, -128.9, 1e10, -1e19, 1e19, 1e40, -1e40, 0x1p63,
+        Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Float.MAX_VALUE, -0.0
+    };
+
+    @ParameterizedTest
+    @EnumSource(OutOfRangePolicy.class)
+    void shouldConvertLikeNumberTypeForAllCombinations(OutOfRangePolicy policy) {
+        for (Class<?> sourceClass : ARRAY_TYPES) {
+            Object source = createSource(sourceClass);
+            NumberType<?> sourceType = StandardNumberType.fromClass(sourceClass.getComponentType());
+            for (Class<?> targetClass : ARRAY_TYPES) {
+                NumberType<?> targetType = StandardNumberType.fromClass(targetClass.getComponentType());
+                Object target = Array.newInstance(targetClass.getComponentType(), Array.getLength(source));
+                int expectedOutOfRange = (int) Arrays.stream((Object[]) ArrayUtils.stream(source).toArray())
+                    .filter(v -> !targetType.convertIfNoLossOfMagnitude((Number) v).isPresent())
+                    .count();
+
+                if (policy == OutOfRangePolicy.FAIL && expectedOutOfRange > 0) {
+                    assertThrows(IllegalArgumentException.class, () -> NumberArrayConverter.convertInto(
+                        source, 0, Array.getLength(source), target, 0, policy), sourceType + " -> " + targetType);
+                    continue;
+                }
+
+                // when
+                ArrayConversionReport report = NumberArrayConverter.convertInto(
+                    source, 0, Array.getLength(source), target, 0, policy);
+
+                // then
+                String description = sourceType + " -> " + targetType;
+                assertThat(description, report.getOutOfRangeCount(), equalTo(expectedOutOfRange));
+                assertThat(description, report.getConvertedCount(), equalTo(Array.getLength(source)));
+                for (int i = 0; i < Array.getLength(source); ++i) {
+                    Number value = (Number) Array.get(source, i);
+                    Object expected = policy == OutOfRangePolicy.UNSAFE
+                        ? targetType.convertUnsafe(value)
+                        : targetType.convertToBounds(value);
+                    assertThat(description + " for " + value, Array.get(target, i), equalTo(expected));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldConvertWholeArray() {
+        // given
+        Integer[] integers = { 1, 2, 300 };
+
+        // when
+        int[] ints = NumberArrayConverter.convert(integers, int[].class, OutOfRangePolicy.FAIL);
+        byte[] bytes = NumberArrayConverter.convert(integers, byte[].class, OutOfRangePolicy.TO_BOUNDS);
+        Double[] doubles = NumberArrayConverter.convert(ints, Double[].class, OutOfRangePolicy.UNSAFE);
+
+        // then
+        assertThat(ints, equalTo(new int[]{ 1, 2, 300 }));
+        assertThat(bytes, equalTo(new byte[]{ 1, 2, 127 }));
+        assertThat(doubles, equalTo(new Double[]{ 1.0, 2.0, 300.0 }));
+    }
+
+    @Test
+    void shouldConvertRangeInMultipleChunks() {
+        // given
+        long[] source = IntStream.range(0, 5000).mapToLong(i -> i * 20L).toArray();
+        short[] target = new short[5000];
+
+        // when
+        ArrayConversionReport report = NumberArrayConverter.convertInto(
+            source, 100, 4000, target, 50, OutOfRangePolicy.TO_BOUNDS);
+
+        // then
+        assertThat(report.getConvertedCount(), equalTo(3900));
+        assertThat(report.getOutOfRangeCount(), equalTo(4000 - 1639));
+        assertThat(report.getFirstOutOfRangeIndex(), equalTo(1639));
+        assertThat(report.hasValuesOutOfRange(), equalTo(true));
+        assertThat(target[49], equalTo((short) 0));
+        assertThat(target[50], equalTo((short) 2000));
+        assertThat(target[1588], equalTo((short) 32760));
+        assertThat(target[1589], equalTo(Short.MAX_VALUE));
+        assertThat(target[3949], equalTo(Short.MAX_VALUE));
+        assertThat(target[3950], equalTo((short) 0));
+    }
+
+    @Test
+    void shouldConvertWithinSameArray() {
+        // given
+        Integer[] array = { 1, 2, 3, 4, 5, 6 };
+
+        // when
+        ArrayConversionReport report = NumberArrayConverter.convertInto(
+            array, 0, 4, array, 2, OutOfRangePolicy.FAIL);
+        NumberArrayConverter.convertInto(array, 0, 2, array, 4, OutOfRangePolicy.FAIL);
+
+        // then
+        assertThat(array, equalTo(new Integer[]{ 1, 2, 1, 2, 1, 2 }));
+        assertThat(report.toString(),
+            equalTo("ArrayConversionReport[convertedCount=4, outOfRangeCount=0, firstOutOfRangeIndex=-1]"));
+    }
+
+    @Test
+    void shouldThrowForValueOutOfRange() {
+        // given
+        double[] source = { 1, 2, 3, Double.NaN, 5 };
+        long[] target = new long[5];
+
+        // when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> NumberArrayConverter.convertInto(source, 1, 5, target, 0, OutOfRangePolicy.FAIL));
+
+        // then
+        assertThat(ex.getMessage(),
+            equalTo("Value NaN at index 3 cannot be converted to long without loss of magnitude (UNSUPPORTED_NAN)"));
+    }
+
+    @Test
+    void shouldThrowForNullElement() {
+        // given
+        Long[] source = { 1L, null };
+
+        // when
+        NullPointerException ex = assertThrows(NullPointerException.class,
+            () -> NumberArrayConverter.convert(source, long[].class, OutOfRangePolicy.UNSAFE));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("The element at index 1 is null"));
+    }
+
+    @Test
+    void shouldThrowForUnsupportedArguments() {
+        // given / when
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+            () -> NumberArrayConverter.convert(new char[2], int[].class, OutOfRangePolicy.UNSAFE));
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+            () -> NumberArrayConverter.convert(new int[2], Number[].class, OutOfRangePolicy.UNSAFE));
+        IllegalArgumentException ex3 = assertThrows(IllegalArgumentException.class,
+            () -> NumberArrayConverter.convertInto(new int[2], 0, 2, "test", 0, OutOfRangePolicy.UNSAFE));
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Expected an array of a primitive number type or its wrapper "
+            + "(e.g. int[] or Integer[]), but got: char[]"));
+        assertThat(ex2.getMessage(), equalTo("Expected an array of a primitive number type or its wrapper "
+            + "(e.g. int[] or Integer[]), but got: Number[]"));
+        assertThat(ex3.getMessage(), equalTo("Expected an array of a primitive number type or its wrapper "
+            + "(e.g. int[] or Integer[]), but got: String"));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> NumberArrayConverter.convertInto(
+            new int[5], 0, 5, new long[5], 1, OutOfRangePolicy.UNSAFE));
+        assertThrows(IllegalArgumentException.class, () -> NumberArrayConverter.convertInto(
+            new int[5], 3, 2, new long[5], 0, OutOfRangePolicy.UNSAFE));
+    }
+
+    private static Object createSource(Class<?> arrayClass) {
+        NumberType<?> numberType = StandardNumberType.fromClass(arrayClass.getComponentType());
+        Object array = Array.newInstance(arrayClass.getComponentType(), VALUES.length);
+        for (int i = 0; i < VALUES.length; ++i) {
+            Array.set(array, i, numberType.convertUnsafe(VALUES[i]));
+        }
+        return array;
+    }
+}
@@ -0,0 +1,285 @@
+package ch.jalu.typeresolver.array;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static ch.jalu.typeresolver.array.ArrayTestUtil.createArray;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link ParallelArrayOps}.
+ */
+class ParallelArrayOpsTest {
+
+    private static ForkJoinPool pool;
+    private static ParallelArrayOps parallelOps;
+
+    @BeforeAll
+    static void createPool() {
+        pool = new ForkJoinPool(4);
+        parallelOps = ParallelArrayOps.create(7, pool);
+    }
+
+    @AfterAll
+    static void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ArrayComponentType.class)
+    void shouldFillArray(ArrayComponentType componentType) {
+        // given
+        Object array = createArray(componentType, 100);
+        Object value = Array.get(createArray(componentType, 2), 1);
+        Object expected = createArray(componentType, 100);
+        ArrayUtils.fill(expected, 3, 90, value);
+
+        // when
+        parallelOps.fill(array, 3, 90, value);
+
+        // then
+        assertThat(ArrayUtils.equals(array, expected), equalTo(true));
+    }
+
+    @Test
+    void shouldFillWithDefaultInstance() {
+        // given
+        String[] array = new String[50_000];
+
+        // when
+        ArrayUtils.parallelFill(array, "test");
+
+        // then
+        assertThat(Arrays.stream(array).allMatch("test"::equals), equalTo(true));
+    }
+
+    @Test
+    void shouldValidateFillArguments() {
+        // given
+        int[] array = new int[20];
+
+        // when / then
+        assertThrows(ClassCastException.class, () -> parallelOps.fill(array, 3L));
+        assertThrows(NullPointerException.class, () -> parallelOps.fill(array, null));
+        assertThrows(IllegalArgumentException.class, () -> parallelOps.fill(array, 5, 4, 3));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> parallelOps.fill(array, 0, 21, 3));
+        assertThrows(IllegalArgumentException.class, () -> parallelOps.fill("test", 3));
+        assertThat(array, equalTo(new int[20]));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ArrayComponentType.class)
+    void shouldSetAllWithBoxedGenerator(ArrayComponentType componentType) {
+        // given
+        Object array = ArrayUtils.opsFor(componentType).copyOf(createArray(componentType, 1), 50);
+        Object expected = createArray(componentType, 50);
+
+        // when
+        parallelOps.setAll(array, i -> Array.get(expected, i));
+
+        // then
+        assertThat(ArrayUtils.equals(array, expected), equalTo(true));
+    }
+
+    @Test
+    void shouldSetAllWithPrimitiveGenerators() {
+        // given
+        byte[] bytes = new byte[300];
+        char[] chars = new char[30];
+        short[] shorts = new short[30];
+        int[] ints = new int[30];
+        long[] longs = new long[30];
+        float[] floats = new float[30];
+        double[] doubles = new double[30];
+        boolean[] booleans = new boolean[30];
+
+        // when
+        parallelOps.setAllInt(bytes, i -> i);
+        parallelOps.setAllInt(chars, i -> 'a' + i);
+        parallelOps.setAllInt(shorts, i -> i * 1000);
+        parallelOps.setAllInt(ints, i -> i * i);
+        parallelOps.setAllLong(longs, i -> i * 10_000_000_000L);
+        parallelOps.setAllDouble(floats, i -> i / 4.0);
+        parallelOps.setAllDouble(doubles, i -> i / 3.0);
+        parallelOps.setAllBoolean(booleans, i -> i % 3 == 0);
+
+        // then
+        assertThat(bytes[200], equalTo((byte) 200));
+        assertThat(chars[25], equalTo('z'));
+        assertThat(shorts[29], equalTo((short) 29000));
+        assertThat(ints[29], equalTo(841));
+        assertThat(longs[29], equalTo(290_000_000_000L));
+        assertThat(floats[29], equalTo(7.25f));
+        assertThat(doubles[29], equalTo(29 / 3.0));
+        assertThat(booleans[27], equalTo(true));
+        assertThat(booleans[28], equalTo(false));
+    }
+
+    @Test
+    void shouldThrowForUnsupportedArrayTypeOfPrimitiveGenerator() {
+        // given / when
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+            () -> parallelOps.setAllInt(new long[3], i -> i));
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+            () -> parallelOps.setAllLong(new int[3], i -> i));
+        IllegalArgumentException ex3 = assertThrows(IllegalArgumentException.class,
+            () -> parallelOps.prefixDouble(new String[3], Double::sum));
+
+        // then
+        assertThat(ex1.getMessage(),
+            equalTo("Expected an array of type byte[], char[], short[] or int[], but got: long[]"));
+        assertThat(ex2.getMessage(), equalTo("Expected an array of type long[], but got: int[]"));
+        assertThat(ex3.getMessage(), equalTo("Expected an array of type float[] or double[], but got: String[]"));
+    }
+
+    @Test
+    void shouldComputePrefix() {
+        // given
+        int[] ints = IntStream.range(0, 1000).toArray();
+        long[] longs = new long[50];
+        Arrays.fill(longs, 3L);
+        short[] shorts = new short[]{ 5, 3, 9, 1, 7, 2, 8, 4, 6, 0, 11, 10, 12 };
+        double[] doubles = new double[]{ 0.5, 0.25, 0.25, 1, 1, 1, 1, 1, 1, 1, 1, 1 };
+        String[] strings = "abcdefghijklmnopqrstuvwxyz".split("");
+
+        // when
+        parallelOps.prefixInt(ints, Integer::sum);
+        parallelOps.prefixLong(longs, Long::sum);
+        parallelOps.prefixInt(shorts, Math::max);
+        parallelOps.prefixDouble(doubles, Double::sum);
+        parallelOps.prefix(strings, String::concat);
+
+        // then
+        int[] expectedInts = IntStream.range(0, 1000).toArray();
+        Arrays.parallelPrefix(expectedInts, Integer::sum);
+        assertThat(ints, equalTo(expectedInts));
+        assertThat(longs[0], equalTo(3L));
+        assertThat(longs[49], equalTo(150L));
+        assertThat(shorts, equalTo(new short[]{ 5, 5, 9, 9, 9, 9, 9, 9, 9, 9, 11, 11, 12 }));
+        assertThat(doubles[2], equalTo(1.0));
+        assertThat(doubles[11], equalTo(10.0));
+        assertThat(strings[25], equalTo("abcdefghijklmnopqrstuvwxyz"));
+        assertThat(strings[8], equalTo("abcdefghi"));
+    }
+
+    @Test
+    void shouldComputePrefixOfPrimitiveArrayWithBoxing() {
+        // given
+        char[] chars = new char[]{ 'd', 'a', 'z', 'c', 'e', 'b', 'y', 'x', 'a', 'a' };
+        float[] floats = new float[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+        // when
+        parallelOps.<Character>prefix(chars, (c1, c2) -> c1 < c2 ? c1 : c2);
+        ArrayUtils.parallelPrefix(floats, Float::sum);
+
+        // then
+        assertThat(chars, equalTo("daaaaaaaaa".toCharArray()));
+        assertThat(floats[9], equalTo(55f));
+    }
+
+    @Test
+    void shouldCopyArray() {
+        // given
+        long[] src = new long[100];
+        Arrays.setAll(src, i -> i);
+        long[] dest = new long[120];
+        int[] sameArray = IntStream.range(0, 100).toArray();
+        Integer[] integers = new Integer[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+        Number[] numbers = new Number[12];
+
+        // when
+        parallelOps.copy(src, 10, dest, 15, 90);
+        parallelOps.copy(sameArray, 0, sameArray, 50, 50);
+        ArrayUtils.parallelCopy(integers, 0, numbers, 2, 10);
+
+        // then
+        assertThat(dest[14], equalTo(0L));
+        assertThat(dest[15], equalTo(10L));
+        assertThat(dest[104], equalTo(99L));
+        assertThat(dest[105], equalTo(0L));
+        assertThat(sameArray[49], equalTo(49));
+        assertThat(sameArray[50], equalTo(0));
+        assertThat(sameArray[99], equalTo(49));
+        assertThat(numbers, equalTo(new Number[]{ null, null, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }));
+    }
+
+    @Test
+    void shouldCopyOverlappingRange() {
+        // given
+        int[] array = IntStream.range(0, 100).toArray();
+
+        // when
+        parallelOps.copy(array, 0, array, 10, 90);
+
+        // then
+        assertThat(array[9], equalTo(9));
+        assertThat(array[10], equalTo(0));
+        assertThat(array[99], equalTo(89));
+    }
+
+    @Test
+    void shouldValidateCopyArguments() {
+        // given
+        int[] src = new int[10];
+        int[] dest = new int[10];
+
+        // when / then
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> parallelOps.copy(src, 5, dest, 0, 6));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> parallelOps.copy(src, 0, dest, -1, 6));
+        assertThrows(ArrayStoreException.class, () -> parallelOps.copy(src, 0, new long[10], 0, 6));
+        assertThrows(ArrayStoreException.class, () -> parallelOps.copy("test", 0, dest, 0, 1));
+    }
+
+    @Test
+    void shouldSortWithStrategies() {
+        // given
+        long[] longs = IntStream.range(0, 10_000).mapToLong(i -> (i * 7919L) % 10_007 - 5_000 + (i % 3) * (1L << 40))
+            .toArray();
+        double[] doubles = Arrays.stream(longs).mapToDouble(l -> l % 5 == 0 ? -l / 3.0 : l * 1e-9).toArray();
+        doubles[17] = Double.NaN;
+        doubles[400] = -0.0;
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs, 20, 9_990);
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        String[] strings = { "c", "a", "b" };
+
+        // when
+        parallelOps.sort(longs, 20, 9_990, SortStrategy.RADIX);
+        parallelOps.sort(doubles, SortStrategy.RADIX);
+        parallelOps.sort(strings, SortStrategy.DEFAULT);
+
+        // then
+        assertThat(longs, equalTo(expectedLongs));
+        assertThat(doubles, equalTo(expectedDoubles));
+        assertThat(strings, equalTo(new String[]{ "a", "b", "c" }));
+    }
+
+    @Test
+    void shouldRejectInvalidThreshold() {
+        // given / when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> ParallelArrayOps.create(0));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("The sequential threshold must be positive, but was 0"));
+    }
+
+    @Test
+    void shouldReturnThreshold() {
+        // given / when / then
+        assertThat(ParallelArrayOps.getDefault().getSequentialThreshold(), equalTo(8192));
+        assertThat(ParallelArrayOps.create(100).getSequentialThreshold(), equalTo(100));
+        assertThat(parallelOps.toString(), equalTo("ParallelArrayOps[sequentialThreshold=7]"));
+    }
+}
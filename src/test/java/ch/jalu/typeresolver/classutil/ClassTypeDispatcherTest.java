@@ -0,0 +1,123 @@
+package ch.jalu.typeresolver.classutil;
+
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link ClassTypeDispatcher}.
+ */
+class ClassTypeDispatcherTest {
+
+    @Test
+    void shouldDispatchToCorrectMethod() {
+        // given
+        ClassTypeDispatcher<String> dispatcher = new ClassTypeDispatcher<>(new DescribingCallback());
+        Class<?> proxyClass = getTestAnnotation().getClass();
+
+        // when / then
+        assertThat(dispatcher.dispatch(TimeUnit.class), equalTo("enum[TimeUnit]"));
+        assertThat(dispatcher.dispatch(SampleEnum.EXTENDING.getClass()), equalTo("enumEntry[SampleEnum, " + SampleEnum.EXTENDING.getClass().getName() + "]"));
+        assertThat(dispatcher.dispatch(Override.class), equalTo("annotation[Override]"));
+        assertThat(dispatcher.dispatch(int.class), equalTo("primitive[int]"));
+        assertThat(dispatcher.dispatch(String[].class), equalTo("array[String[]]"));
+        assertThat(dispatcher.dispatch(Runnable.class), equalTo("interface[Runnable]"));
+        assertThat(dispatcher.dispatch(proxyClass), equalTo("proxy[" + proxyClass.getSimpleName() + "]"));
+        assertThat(dispatcher.dispatch(String.class), equalTo("regular[String]"));
+    }
+
+    @Test
+    void shouldReturnSameResultsAsProcessClassByType() {
+        // given
+        DescribingCallback callback = new DescribingCallback();
+        ClassTypeDispatcher<String> dispatcher = new ClassTypeDispatcher<>(callback);
+
+        // when / then
+        Stream.of(TimeUnit.class, SampleEnum.class, SampleEnum.EXTENDING.getClass(), Nullable.class, void.class,
+                int[][].class, Iterable.class, getTestAnnotation().getClass(), Math.class)
+            .forEach(clazz -> assertThat(dispatcher.dispatch(clazz),
+                equalTo(ClassUtils.processClassByType(clazz, callback))));
+    }
+
+    @Test
+    void shouldReturnNullForNullClass() {
+        // given
+        DescribingCallback callback = new DescribingCallback();
+        ClassTypeDispatcher<String> dispatcher = new ClassTypeDispatcher<>(callback);
+
+        // when / then
+        assertThat(dispatcher.dispatch(null), nullValue());
+        assertThat(dispatcher.getCallback(), sameInstance(callback));
+    }
+
+    private Annotation getTestAnnotation() {
+        try {
+            return getClass().getDeclaredMethod("shouldDispatchToCorrectMethod").getAnnotation(Test.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class DescribingCallback extends ClassTypeCallback<String> {
+
+        @Override
+        public String forEnum(Class<? extends Enum<?>> enumClass) {
+            return "enum[" + enumClass.getSimpleName() + "]";
+        }
+
+        @Override
+        public String forEnumEntry(Class<? extends Enum<?>> enumClass, Class<? extends Enum<?>> enumEntryClass) {
+            return "enumEntry[" + enumClass.getSimpleName() + ", " + enumEntryClass.getName() + "]";
+        }
+
+        @Override
+        public String forAnnotation(Class<? extends Annotation> annotationClass) {
+            return "annotation[" + annotationClass.getSimpleName() + "]";
+        }
+
+        @Override
+        public String forPrimitiveType(Class<?> primitiveClass) {
+            return "primitive[" + primitiveClass.getSimpleName() + "]";
+        }
+
+        @Override
+        public String forArrayType(Class<?> arrayClass) {
+            return "array[" + arrayClass.getSimpleName() + "]";
+        }
+
+        @Override
+        public String forInterface(Class<?> interfaceType) {
+            return "interface[" + interfaceType.getSimpleName() + "]";
+        }
+
+        @Override
+        public String forProxyClass(Class<?> proxyClass) {
+            return "proxy[" + proxyClass.getSimpleName() + "]";
+        }
+
+        @Override
+        public String forRegularClass(Class<?> regularClass) {
+            return "regular[" + regularClass.getSimpleName() + "]";
+        }
+    }
+
+    private enum SampleEnum {
+
+        DIRECT,
+
+        EXTENDING() {
+            @Override
+            public String toString() {
+                return "extending";
+            }
+        }
+    }
+}
@@ -14,10 +14,16 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
@@ -27,9 +33,12 @@ import static ch.jalu.typeresolver.classutil.ClassUtilsTest.ExpectedEvalResult.F
 import static ch.jalu.typeresolver.classutil.ClassUtilsTest.ExpectedEvalResult.TRUE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.matchesRegex;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -40,6 +49,8 @@ import static org.junit.jupiter.api.Assertions.fail;
  */
 class ClassUtilsTest {
 
+    private static boolean classWithStaticInitializerLoaded;
+
     /** Tests the Javadoc on {@link ClassUtils#getSemanticType}. */
     @Test
     void shouldHaveValidJavadocExample() {
@@ -100,6 +111,163 @@ class ClassUtilsTest {
             assertThat(ex2.getMessage(), equalTo("Class 'ch.jalu.typeresolver.Bogus' could not be loaded"));
             assertThat(ex2.getCause(), instanceOf(ClassNotFoundException.class));
         }
+
+        @Test
+        void shouldLoadClassWithGivenClassLoaderAndCacheResult() {
+            // given
+            ClassLoader loader = ClassUtilsTest.class.getClassLoader();
+
+            // when / then
+            assertThat(ClassUtils.tryLoadClass(TypeInfo.class.getName(), loader, false),
+                equalTo(Optional.of(TypeInfo.class)));
+            assertThat(ClassUtils.tryLoadClass("java.lang.String", null, true), equalTo(Optional.of(String.class)));
+            assertThat(ClassUtils.tryLoadClass(TypeInfo.class.getName(), null, false), equalTo(Optional.empty()));
+            assertThat(ClassUtils.tryLoadClass("ch.jalu.typeresolver.Bogus", loader, false), equalTo(Optional.empty()));
+            assertThat(ClassUtils.tryLoadClass("ch.jalu.typeresolver.Bogus", loader, true), equalTo(Optional.empty()));
+
+            assertThat(ClassUtils.classExists(TypeInfo.class.getName(), loader), equalTo(true));
+            assertThat(ClassUtils.classExists(TypeInfo.class.getName(), null), equalTo(false));
+        }
+
+        @Test
+        void shouldNotInitializeClassWhenCheckingExistence() {
+            // given
+            String className = ClassWithStaticInitializer.class.getName(); // does not initialize the class
+            ClassLoader loader = ClassUtilsTest.class.getClassLoader();
+
+            // when
+            boolean exists = ClassUtils.classExists(className, loader);
+            boolean wasInitializedAfterCheck = classWithStaticInitializerLoaded;
+            Optional<Class<?>> loadedClass = ClassUtils.tryLoadClass(className, loader, true);
+
+            // then
+            assertThat(exists, equalTo(true));
+            assertThat(wasInitializedAfterCheck, equalTo(false));
+            assertThat(loadedClass, equalTo(Optional.of(ClassWithStaticInitializer.class)));
+            assertThat(classWithStaticInitializerLoaded, equalTo(true));
+        }
+
+        @Test
+        void shouldLoadClassesInBulk() {
+            // given
+            List<String> names = Arrays.asList("java.lang.String", "ch.jalu.typeresolver.Bogus",
+                TypeInfo.class.getName(), "java.util.concurrent.TimeUnit");
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            // when
+            List<ClassLoadResult> results;
+            try {
+                results = ClassUtils.loadClasses(names, ClassUtilsTest.class.getClassLoader(), executor);
+            } finally {
+                executor.shutdown();
+            }
+
+            // then
+            assertThat(results, hasSize(4));
+            assertThat(results.get(0).getLoadedClass(), equalTo(String.class));
+            assertThat(results.get(1).getName(), equalTo("ch.jalu.typeresolver.Bogus"));
+            assertThat(results.get(1).isLoaded(), equalTo(false));
+            assertThat(results.get(1).getFailure(), instanceOf(ClassNotFoundException.class));
+            assertThat(results.get(2).getLoadedClassOrThrow(), equalTo(TypeInfo.class));
+            assertThat(results.get(3).getLoadedClass(), equalTo(TimeUnit.class));
+
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> results.get(1).getLoadedClassOrThrow());
+            assertThat(ex.getMessage(), equalTo("Class 'ch.jalu.typeresolver.Bogus' could not be loaded"));
+        }
+
+        @Test
+        void shouldLoadClassesInBatchesAndReuseCachedResults() {
+            // given
+            List<Class<?>> classes = Arrays.asList(String.class, Integer.class, Long.class, TimeUnit.class,
+                DayOfWeek.class, TypeInfo.class, ClassUtils.class, List.class, Map.class);
+            List<String> names = new ArrayList<>();
+            classes.forEach(clazz -> names.add(clazz.getName()));
+            names.add(4, "ch.jalu.typeresolver.OtherBogus");
+            ClassLoader loader = ClassUtilsTest.class.getClassLoader();
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+
+            // when
+            List<ClassLoadResult> results1;
+            List<ClassLoadResult> results2;
+            try {
+                results1 = ClassUtils.loadClasses(names, loader, executor);
+                results2 = ClassUtils.loadClasses(names, loader, executor);
+            } finally {
+                executor.shutdown();
+            }
+
+            // then
+            for (List<ClassLoadResult> results : Arrays.asList(results1, results2)) {
+                assertThat(results, hasSize(10));
+                for (int i = 0; i < names.size(); ++i) {
+                    assertThat(results.get(i).getName(), equalTo(names.get(i)));
+                }
+                assertThat(results.get(3).getLoadedClass(), equalTo(TimeUnit.class));
+                assertThat(results.get(4).getFailure(), instanceOf(ClassNotFoundException.class));
+                assertThat(results.get(5).getLoadedClass(), equalTo(DayOfWeek.class));
+                assertThat(results.get(9).getLoadedClass(), equalTo(Map.class));
+            }
+            assertThat(ClassUtils.classExists("ch.jalu.typeresolver.OtherBogus", loader), equalTo(false));
+            assertThat(BulkClassLoader.getParallelism(executor), equalTo(3));
+        }
+
+        @Test
+        void shouldReturnSameExceptionForCachedMisses() {
+            // given
+            List<String> names = Collections.singletonList("ch.jalu.typeresolver.CachedBogus");
+            ClassLoader loader = ClassUtilsTest.class.getClassLoader();
+            ClassUtils.loadClasses(names, loader);
+
+            // when
+            Throwable failure1 = ClassUtils.loadClasses(names, loader).get(0).getFailure();
+            Throwable failure2 = ClassUtils.loadClasses(names, loader).get(0).getFailure();
+
+            // then
+            assertThat(failure1, instanceOf(ClassNotFoundException.class));
+            assertThat(failure1.getMessage(), equalTo("ch.jalu.typeresolver.CachedBogus"));
+            assertThat(failure1.getStackTrace().length, equalTo(0));
+            assertThat(failure2, sameInstance(failure1));
+        }
+
+        @Test
+        void shouldLimitBatchesForCachedThreadPool() {
+            // given
+            ExecutorService executor = Executors.newCachedThreadPool();
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < 200; ++i) {
+                names.add(i % 2 == 0 ? "java.lang.String" : "ch.jalu.typeresolver.Bogus" + i);
+            }
+
+            // when
+            int parallelism = BulkClassLoader.getParallelism(executor);
+            List<ClassLoadResult> results;
+            try {
+                results = ClassUtils.loadClasses(names, ClassUtilsTest.class.getClassLoader(), executor);
+            } finally {
+                executor.shutdown();
+            }
+
+            // then
+            assertThat(parallelism, equalTo(Runtime.getRuntime().availableProcessors()));
+            assertThat(((ThreadPoolExecutor) executor).getLargestPoolSize(), lessThanOrEqualTo(parallelism));
+            assertThat(results, hasSize(200));
+            assertThat(results.get(198).getLoadedClass(), equalTo(String.class));
+            assertThat(results.get(199).isLoaded(), equalTo(false));
+        }
+
+        @Test
+        void shouldLoadClassesWithBootstrapLoaderOnCommonPool() {
+            // given
+            List<String> names = Arrays.asList("java.lang.Integer", TypeInfo.class.getName());
+
+            // when
+            List<ClassLoadResult> results = ClassUtils.loadClasses(names, null);
+
+            // then
+            assertThat(results.get(0).getLoadedClass(), equalTo(Integer.class));
+            assertThat(results.get(1).isLoaded(), equalTo(false));
+        }
     }
 
     @Nested
@@ -383,6 +551,21 @@ class ClassUtilsTest {
                     new SemanticTypeAndNameTestCase(new FakeAnnotationType[0], FakeAnnotationType[].class, "ClassUtilsTest$FakeAnnotationType[]"))
                 .forEach(SemanticTypeAndNameTestCase::verify);
         }
+
+        @Test
+        void shouldReturnSameSemanticNameInstance() {
+            // given / when
+            String name1 = ClassUtils.getSemanticName(String[][].class);
+            String name2 = ClassUtils.getSemanticName(String[][].class);
+            String enumName1 = ClassUtils.getSemanticName(EnumSample.EXTENDING.getClass());
+            String enumName2 = ClassUtils.getSemanticName(EnumSample.class);
+
+            // then
+            assertThat(name1, equalTo("String[][]"));
+            assertThat(name2, sameInstance(name1));
+            assertThat(enumName1, equalTo("ClassUtilsTest$EnumSample"));
+            assertThat(enumName2, sameInstance(enumName1));
+        }
     }
 
     @Nested
@@ -615,6 +798,12 @@ class ClassUtilsTest {
                 fail("For '" + input + "' (" + inputClass + "), expected semantic name (from class) '"
                     + expectedNameFromClass + "', but got: '" + actualSemanticNameFromClass + "'");
             }
+
+            String appendedNames = ClassUtils.appendSemanticName(new StringBuilder("<"), input).append('|')
+                .append(ClassUtils.appendSemanticName(new StringBuilder(), inputClass)).toString();
+            if (!appendedNames.equals("<" + expectedNameFromObject + "|" + expectedNameFromClass)) {
+                fail("For '" + input + "' (" + inputClass + "), got unexpected appended names: " + appendedNames);
+            }
         }
     }
 
@@ -625,6 +814,13 @@ class ClassUtilsTest {
      */
     private static final class Self { }
 
+    private static final class ClassWithStaticInitializer {
+
+        static {
+            classWithStaticInitializerLoaded = true;
+        }
+    }
+
     private static final class CallbackTestImpl extends ClassTypeCallback<String> {
 
         int methodCalls;
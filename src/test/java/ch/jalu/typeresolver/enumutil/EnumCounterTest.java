@@ -0,0 +1,78 @@
+package ch.jalu.typeresolver.enumutil;
+
+import ch.jalu.typeresolver.classutil.ClassType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Test for {@link EnumCounter}.
+ */
+class EnumCounterTest {
+
+    @Test
+    void shouldCountEntries() {
+        // given
+        EnumCounter<ClassType> counter = EnumCounter.create(ClassType.class);
+
+        // when
+        counter.increment(ClassType.ARRAY);
+        counter.increment(ClassType.ARRAY);
+        counter.add(ClassType.INTERFACE, 5);
+
+        // then
+        assertThat(counter.get(ClassType.ARRAY), equalTo(2L));
+        assertThat(counter.get(ClassType.INTERFACE), equalTo(5L));
+        assertThat(counter.get(ClassType.ENUM), equalTo(0L));
+        assertThat(counter.sum(), equalTo(7L));
+        assertThat(counter.getEnumClass(), equalTo(ClassType.class));
+    }
+
+    @Test
+    void shouldCountFromMultipleThreads() throws InterruptedException {
+        // given
+        EnumCounter<TimeUnit> counter = EnumCounter.create(TimeUnit.class);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10_000; ++j) {
+                    counter.increment(TimeUnit.values()[j % 2]);
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(counter.get(TimeUnit.NANOSECONDS), equalTo(20_000L));
+        assertThat(counter.get(TimeUnit.MICROSECONDS), equalTo(20_000L));
+        assertThat(counter.sum(), equalTo(40_000L));
+    }
+
+    @Test
+    void shouldCreateSnapshotAndReset() {
+        // given
+        EnumCounter<TimeUnit> counter = EnumCounter.create(TimeUnit.class);
+        counter.add(TimeUnit.DAYS, 3);
+        counter.increment(TimeUnit.SECONDS);
+
+        // when
+        EnumLongArray<TimeUnit> snapshot = counter.snapshot();
+        EnumLongArray<TimeUnit> resetSnapshot = counter.snapshotAndReset();
+
+        // then
+        assertThat(snapshot.get(TimeUnit.DAYS), equalTo(3L));
+        assertThat(snapshot.get(TimeUnit.SECONDS), equalTo(1L));
+        assertThat(resetSnapshot.toArray(), equalTo(snapshot.toArray()));
+        assertThat(counter.sum(), equalTo(0L));
+    }
+}
@@ -0,0 +1,125 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link EnumIndex}.
+ */
+class EnumIndexTest {
+
+    @Test
+    void shouldLookUpEntriesByKey() {
+        // given
+        EnumIndex<String, Currency> index = EnumIndex.of(Currency.class, Currency::getCode);
+
+        // when / then
+        assertThat(index.get("EUR"), equalTo(Currency.EURO));
+        assertThat(index.get("CHF"), equalTo(Currency.SWISS_FRANC));
+        assertThat(index.get("eur"), nullValue());
+        assertThat(index.get(null), nullValue());
+        assertThat(index.get(3), nullValue());
+        assertThat(index.find("USD"), equalTo(Optional.of(Currency.US_DOLLAR)));
+        assertThat(index.find("XXX"), equalTo(Optional.empty()));
+        assertThat(index.getKey(Currency.SWISS_FRANC), equalTo("CHF"));
+        assertThat(index.asMap(), aMapWithSize(4));
+        assertThat(index.getEnumClass(), equalTo(Currency.class));
+        assertThat(index.toString(), equalTo("EnumIndex[Currency, 4 keys]"));
+    }
+
+    @Test
+    void shouldReturnCachedIndex() {
+        // given
+        Function<Currency, String> keyExtractor = Currency::getCode;
+        EnumIndex<String, Currency> index = EnumIndex.of(Currency.class, keyExtractor);
+
+        // when
+        EnumIndex<String, Currency> result = EnumIndex.of(Currency.class, keyExtractor);
+
+        // then
+        assertThat(result, sameInstance(index));
+    }
+
+    @Test
+    void shouldNotCacheIndexForCapturingKeyExtractor() {
+        // given
+        String prefix = "cur-";
+
+        // when
+        EnumIndex<String, Currency> index1 = EnumIndex.of(Currency.class, currency -> prefix + currency.getCode());
+        EnumIndex<String, Currency> index2 = EnumIndex.of(Currency.class, currency -> prefix + currency.getCode());
+
+        // then
+        assertThat(index1, not(sameInstance(index2)));
+        assertThat(index1.get("cur-CHF"), equalTo(Currency.SWISS_FRANC));
+    }
+
+    @Test
+    void shouldNotShareCacheWithIntIndex() {
+        // given
+        CodeExtractor extractor = new CodeExtractor();
+
+        // when
+        EnumIndex<String, Currency> index = EnumIndex.of(Currency.class, extractor);
+        EnumIntIndex<Currency> intIndex = EnumIntIndex.of(Currency.class, extractor);
+
+        // then
+        assertThat(index.get("USD"), equalTo(Currency.US_DOLLAR));
+        assertThat(intIndex.get(3), equalTo(Currency.SWISS_FRANC));
+    }
+
+    @Test
+    void shouldThrowForDuplicateOrNullKeys() {
+        // given / when
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+            () -> EnumIndex.of(Currency.class, currency -> currency.getCode().charAt(2)));
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+            () -> EnumIndex.of(Currency.class, currency -> currency == Currency.US_DOLLAR ? null : "x"));
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Duplicate key 'D' for Currency.US_DOLLAR and Currency.CANADIAN_DOLLAR"));
+        assertThat(ex2.getMessage(), equalTo("The key of Currency.US_DOLLAR is null"));
+    }
+
+    private static final class CodeExtractor implements Function<Currency, String>, ToIntFunction<Currency> {
+
+        @Override
+        public String apply(Currency currency) {
+            return currency.getCode();
+        }
+
+        @Override
+        public int applyAsInt(Currency currency) {
+            return currency.ordinal() + 1;
+        }
+    }
+
+    private enum Currency {
+
+        EURO("EUR"),
+        US_DOLLAR("USD"),
+        SWISS_FRANC("CHF"),
+        CANADIAN_DOLLAR("CAD");
+
+        private final String code;
+
+        Currency(String code) {
+            this.code = code;
+        }
+
+        String getCode() {
+            return code;
+        }
+    }
+}
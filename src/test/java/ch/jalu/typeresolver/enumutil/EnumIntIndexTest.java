@@ -0,0 +1,128 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link EnumIntIndex}.
+ */
+class EnumIntIndexTest {
+
+    @Test
+    void shouldLookUpEntriesWithDenseKeys() {
+        // given
+        EnumIntIndex<HttpStatus> index = EnumIntIndex.of(HttpStatus.class, HttpStatus::getCode);
+
+        // when / then
+        assertThat(index.isArrayBacked(), equalTo(true));
+        assertThat(index.get(200), equalTo(HttpStatus.OK));
+        assertThat(index.get(204), equalTo(HttpStatus.NO_CONTENT));
+        assertThat(index.get(201), equalTo(HttpStatus.CREATED));
+        assertThat(index.get(202), nullValue());
+        assertThat(index.get(Integer.MIN_VALUE), nullValue());
+        assertThat(index.get(Integer.MAX_VALUE), nullValue());
+        assertThat(index.find(204), equalTo(Optional.of(HttpStatus.NO_CONTENT)));
+        assertThat(index.find(-1), equalTo(Optional.empty()));
+        assertThat(index.getKey(HttpStatus.CREATED), equalTo(201));
+        assertThat(index.getEnumClass(), equalTo(HttpStatus.class));
+    }
+
+    @Test
+    void shouldLookUpEntriesWithSparseKeys() {
+        // given
+        EnumIntIndex<Flag> index = EnumIntIndex.of(Flag.class, Flag::getMask);
+
+        // when / then
+        assertThat(index.isArrayBacked(), equalTo(false));
+        assertThat(index.get(1), equalTo(Flag.READ));
+        assertThat(index.get(1 << 20), equalTo(Flag.WRITE));
+        assertThat(index.get(Integer.MIN_VALUE), equalTo(Flag.EXECUTE));
+        assertThat(index.get(-1), equalTo(Flag.ALL));
+        assertThat(index.get(0), nullValue());
+        assertThat(index.get(2), nullValue());
+        assertThat(index.getKey(Flag.EXECUTE), equalTo(Integer.MIN_VALUE));
+        assertThat(index.toString(), equalTo("EnumIntIndex[Flag, hash]"));
+    }
+
+    @Test
+    void shouldReturnCachedIndex() {
+        // given
+        ToIntFunction<HttpStatus> keyExtractor = HttpStatus::getCode;
+        EnumIntIndex<HttpStatus> index = EnumIntIndex.of(HttpStatus.class, keyExtractor);
+
+        // when
+        EnumIntIndex<HttpStatus> result = EnumIntIndex.of(HttpStatus.class, keyExtractor);
+
+        // then
+        assertThat(result, sameInstance(index));
+    }
+
+    @Test
+    void shouldHandleEnumWithoutEntries() {
+        // given
+        EnumIntIndex<NoEntries> index = EnumIntIndex.of(NoEntries.class, NoEntries::ordinal);
+
+        // when / then
+        assertThat(index.get(0), nullValue());
+        assertThat(index.get(Integer.MIN_VALUE), nullValue());
+    }
+
+    @Test
+    void shouldThrowForDuplicateKeys() {
+        // given / when
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class,
+            () -> EnumIntIndex.of(HttpStatus.class, status -> status.getCode() / 100));
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class,
+            () -> EnumIntIndex.of(Flag.class, flag -> flag == Flag.ALL ? Integer.MIN_VALUE : flag.getMask()));
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Duplicate key '2' for HttpStatus.OK and HttpStatus.CREATED"));
+        assertThat(ex2.getMessage(), equalTo("Duplicate key '-2147483648' for Flag.EXECUTE and Flag.ALL"));
+    }
+
+    private enum HttpStatus {
+
+        OK(200),
+        CREATED(201),
+        NO_CONTENT(204);
+
+        private final int code;
+
+        HttpStatus(int code) {
+            this.code = code;
+        }
+
+        int getCode() {
+            return code;
+        }
+    }
+
+    private enum Flag {
+
+        READ(1),
+        WRITE(1 << 20),
+        EXECUTE(Integer.MIN_VALUE),
+        ALL(-1);
+
+        private final int mask;
+
+        Flag(int mask) {
+            this.mask = mask;
+        }
+
+        int getMask() {
+            return mask;
+        }
+    }
+
+    private enum NoEntries {
+    }
+}
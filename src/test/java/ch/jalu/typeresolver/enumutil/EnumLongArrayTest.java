@@ -0,0 +1,90 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link EnumLongArray}.
+ */
+class EnumLongArrayTest {
+
+    @Test
+    void shouldStoreValuesPerEntry() {
+        // given
+        EnumLongArray<Level> array = EnumLongArray.create(Level.class);
+
+        // when
+        array.set(Level.LOW, 4);
+        array.add(Level.HIGH, 10);
+        long incremented = array.increment(Level.HIGH);
+
+        // then
+        assertThat(incremented, equalTo(11L));
+        assertThat(array.get(Level.LOW), equalTo(4L));
+        assertThat(array.get(Level.MEDIUM), equalTo(0L));
+        assertThat(array.get(Level.HIGH), equalTo(11L));
+        assertThat(array.sum(), equalTo(15L));
+        assertThat(array.size(), equalTo(3));
+        assertThat(array.toArray(), equalTo(new long[]{4, 0, 11}));
+        assertThat(array.toString(), equalTo("EnumLongArray{LOW=4, MEDIUM=0, HIGH=11}"));
+    }
+
+    @Test
+    void shouldIterateAndReset() {
+        // given
+        EnumLongArray<Level> array = EnumLongArray.create(Level.class);
+        array.set(Level.MEDIUM, 7);
+        List<String> entries = new ArrayList<>();
+
+        // when
+        array.forEach((entry, value) -> entries.add(entry + ":" + value));
+        array.reset();
+
+        // then
+        assertThat(entries, contains("LOW:0", "MEDIUM:7", "HIGH:0"));
+        assertThat(array.sum(), equalTo(0L));
+    }
+
+    @Test
+    void shouldCreateArrayForEnumOfEntryClass() {
+        // given / when
+        EnumLongArray<Level> array = EnumLongArray.create(Level.HIGH.getClass());
+
+        // then
+        assertThat(Level.HIGH.getClass() == Level.class, equalTo(false));
+        assertThat(array.getEnumClass(), equalTo(Level.class));
+        assertThat(array.size(), equalTo(3));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void shouldThrowForNonEnumClass() {
+        // given / when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> EnumLongArray.create((Class) String.class));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Class 'java.lang.String' is not an enum"));
+    }
+
+    private enum Level {
+
+        LOW,
+
+        MEDIUM,
+
+        HIGH() {
+            @Override
+            public String toString() {
+                return "HIGH";
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package ch.jalu.typeresolver.enumutil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test for {@link EnumSetCodec}.
+ */
+class EnumSetCodecTest {
+
+    @Test
+    void shouldConvertToAndFromLongByOrdinal() {
+        // given
+        EnumSetCodec<TimeUnit> codec = EnumSetCodec.byOrdinal(TimeUnit.class);
+
+        // when
+        long bitmask = codec.toLong(EnumSet.of(TimeUnit.SECONDS, TimeUnit.HOURS));
+        EnumSet<TimeUnit> result = codec.fromLong(bitmask);
+
+        // then
+        assertThat(bitmask, equalTo(0b101000L));
+        assertThat(result, contains(TimeUnit.SECONDS, TimeUnit.HOURS));
+        assertThat(codec.fromLong(0L), empty());
+        assertThat(codec.fromLong(-1L), equalTo(EnumSet.allOf(TimeUnit.class)));
+        assertTrue(codec.contains(bitmask, TimeUnit.HOURS));
+        assertFalse(codec.contains(bitmask, TimeUnit.DAYS));
+        assertThat(EnumSetCodec.byOrdinal(TimeUnit.class), sameInstance(codec));
+        assertThat(codec.getBitCount(), equalTo(7));
+    }
+
+    @Test
+    void shouldConvertToAndFromArrays() {
+        // given
+        EnumSetCodec<LargeEnum> codec = EnumSetCodec.byOrdinal(LargeEnum.class);
+        EnumSet<LargeEnum> entries = EnumSet.of(LargeEnum.E0, LargeEnum.E7, LargeEnum.E8, LargeEnum.E63,
+            LargeEnum.E64, LargeEnum.E69);
+        BitSet expectedBits = new BitSet();
+        entries.forEach(entry -> expectedBits.set(entry.ordinal()));
+
+        // when
+        long[] longs = codec.toLongArray(entries);
+        byte[] bytes = codec.toByteArray(entries);
+
+        // then
+        assertThat(longs, equalTo(Arrays.copyOf(expectedBits.toLongArray(), 2)));
+        assertThat(bytes, equalTo(Arrays.copyOf(expectedBits.toByteArray(), 9)));
+        assertThat(codec.fromLongArray(longs), equalTo(entries));
+        assertThat(codec.fromByteArray(bytes), equalTo(entries));
+        assertTrue(codec.contains(longs, LargeEnum.E64));
+        assertFalse(codec.contains(longs, LargeEnum.E65));
+        assertFalse(codec.contains(new long[1], LargeEnum.E64));
+    }
+
+    @Test
+    void shouldThrowIfEntryDoesNotFitIntoLong() {
+        // given
+        EnumSetCodec<LargeEnum> codec = EnumSetCodec.byOrdinal(LargeEnum.class);
+
+        // when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> codec.toLong(EnumSet.of(LargeEnum.E1, LargeEnum.E64)));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Entry 'E64' has bit index 64, which does not fit into a long"));
+    }
+
+    @Test
+    void shouldUseBitIndicesByName() {
+        // given
+        EnumSetCodec<TimeUnit> codec = EnumSetCodec.byNames(TimeUnit.class,
+            Arrays.asList("DAYS", "REMOVED_UNIT", "SECONDS", "MINUTES"));
+
+        // when
+        long bitmask = codec.toLong(EnumSet.of(TimeUnit.DAYS, TimeUnit.MINUTES));
+        EnumSet<TimeUnit> result = codec.fromLong(0b1111L);
+
+        // then
+        assertThat(bitmask, equalTo(0b1001L));
+        assertThat(result, contains(TimeUnit.SECONDS, TimeUnit.MINUTES, TimeUnit.DAYS));
+        assertThat(codec.getBitIndex(TimeUnit.SECONDS), equalTo(2));
+        assertFalse(codec.contains(-1L, TimeUnit.HOURS));
+        assertThat(codec.fromByteArray(codec.toByteArray(EnumSet.of(TimeUnit.SECONDS))), contains(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldThrowForEntryWithoutBitIndex() {
+        // given
+        EnumSetCodec<TimeUnit> codec = EnumSetCodec.byNames(TimeUnit.class, Collections.singletonList("DAYS"));
+
+        // when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> codec.toLong(EnumSet.of(TimeUnit.HOURS)));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Entry 'HOURS' has no bit index in this codec"));
+    }
+
+    @Test
+    void shouldThrowForDuplicateName() {
+        // given / when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> EnumSetCodec.byNames(TimeUnit.class, Arrays.asList("DAYS", "HOURS", "DAYS")));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Name 'DAYS' is present multiple times"));
+    }
+
+    @Test
+    void shouldCollectToBitmasks() {
+        // given
+        EnumSetCodec<LargeEnum> codec = EnumSetCodec.byOrdinal(LargeEnum.class);
+
+        // when
+        long bitmask = Stream.of(LargeEnum.E3, LargeEnum.E1, LargeEnum.E3).collect(codec.toLongCollector());
+        long[] bitmaskArray = IntStream.range(0, 70).filter(i -> i % 10 == 0).parallel()
+            .mapToObj(i -> LargeEnum.values()[i])
+            .collect(codec.toLongArrayCollector());
+
+        // then
+        assertThat(bitmask, equalTo(0b1010L));
+        assertThat(codec.fromLongArray(bitmaskArray).stream().map(Enum::name).collect(Collectors.joining(",")),
+            equalTo("E0,E10,E20,E30,E40,E50,E60"));
+    }
+
+    private enum LargeEnum {
+        E0, E1, E2, E3, E4, E5, E6, E7, E8, E9,
+        E10, E11, E12, E13, E14, E15, E16, E17, E18, E19,
+        E20, E21, E22, E23, E24, E25, E26, E27, E28, E29,
+        E30, E31, E32, E33, E34, E35, E36, E37, E38, E39,
+        E40, E41, E42, E43, E44, E45, E46, E47, E48, E49,
+        E50, E51, E52, E53, E54, E55, E56, E57, E58, E59,
+        E60, E61, E62, E63, E64, E65, E66, E67, E68, E69
+    }
+}
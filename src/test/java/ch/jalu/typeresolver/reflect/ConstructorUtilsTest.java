@@ -8,8 +8,10 @@ import java.util.ArrayList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -59,6 +61,71 @@ class ConstructorUtilsTest {
         assertThat(ex.getMessage(), equalTo("No constructor on 'class ch.jalu.typeresolver.reflect.ConstructorUtilsTest$Sample' matches the parameter types: [String, int]"));
     }
 
+    @Test
+    void shouldReturnNewConstructorInstances() {
+        // given
+        Constructor<Sample> constr1 = ConstructorUtils.getConstructorOrNull(Sample.class, int.class, String.class);
+        constr1.setAccessible(true);
+
+        // when
+        Constructor<Sample> constr2 = ConstructorUtils.getConstructorOrThrow(Sample.class, int.class, String.class);
+
+        // then
+        assertThat(constr2, equalTo(constr1));
+        assertThat(constr2, not(sameInstance(constr1)));
+        assertThat(constr2.isAccessible(), equalTo(false));
+    }
+
+    @Test
+    void shouldReturnMatchingConstructorForArgumentTypes() throws NoSuchMethodException {
+        // given
+        Constructor<Sample> intStringConstr = Sample.class.getDeclaredConstructor(int.class, String.class);
+        Constructor<Overloaded> objectConstr = Overloaded.class.getDeclaredConstructor(Object.class);
+        Constructor<Overloaded> numberConstr = Overloaded.class.getDeclaredConstructor(Number.class);
+        Constructor<Overloaded> longConstr = Overloaded.class.getDeclaredConstructor(long.class);
+
+        // when / then
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Sample.class, int.class, String.class), equalTo(intStringConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Sample.class, Integer.class, String.class), equalTo(intStringConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Sample.class, int.class, null), equalTo(intStringConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Sample.class, null, String.class), nullValue());
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Sample.class, long.class, String.class), nullValue());
+
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, String.class), equalTo(objectConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, Integer.class), equalTo(numberConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, int.class), equalTo(longConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, char.class), equalTo(longConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, Long.class), equalTo(numberConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, Character.class), equalTo(objectConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, boolean.class), equalTo(objectConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, (Class<?>) null), equalTo(numberConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Overloaded.class, int.class, int.class), nullValue());
+    }
+
+    @Test
+    void shouldPreferPrimitiveWideningOverBoxing() throws NoSuchMethodException {
+        // given
+        Constructor<Widening> longConstr = Widening.class.getDeclaredConstructor(long.class);
+        Constructor<Widening> doubleConstr = Widening.class.getDeclaredConstructor(double.class);
+        Constructor<Widening> integerConstr = Widening.class.getDeclaredConstructor(Integer.class);
+
+        // when / then
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Widening.class, int.class), equalTo(longConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Widening.class, byte.class), equalTo(longConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Widening.class, float.class), equalTo(doubleConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Widening.class, Integer.class), equalTo(integerConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Widening.class, Short.class), equalTo(longConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Widening.class, Double.class), equalTo(doubleConstr));
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Widening.class, boolean.class), nullValue());
+    }
+
+    @Test
+    void shouldReturnNullForAmbiguousConstructors() {
+        // given / when / then
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Ambiguous.class, String.class, String.class), nullValue());
+        assertThat(ConstructorUtils.getMatchingConstructorOrNull(Ambiguous.class, CharSequence.class, String.class), notNullValue());
+    }
+
     @Test
     void shouldInvokeConstructor() throws NoSuchMethodException {
         // given
@@ -159,4 +226,37 @@ class ConstructorUtilsTest {
         public NoArgsBean() {
         }
     }
-}
\ No newline at end of file
+
+    static final class Overloaded {
+
+        Overloaded(Object o) {
+        }
+
+        Overloaded(Number n) {
+        }
+
+        Overloaded(long l) {
+        }
+    }
+
+    static final class Widening {
+
+        Widening(long l) {
+        }
+
+        Widening(double d) {
+        }
+
+        Widening(Integer i) {
+        }
+    }
+
+    static final class Ambiguous {
+
+        Ambiguous(CharSequence c, String s) {
+        }
+
+        Ambiguous(String s, CharSequence c) {
+        }
+    }
+}
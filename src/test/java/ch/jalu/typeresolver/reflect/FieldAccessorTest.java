@@ -0,0 +1,178 @@
+package ch.jalu.typeresolver.reflect;
+
+import ch.jalu.typeresolver.primitives.PrimitiveType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link FieldAccessor}.
+ */
+class FieldAccessorTest {
+
+    @Test
+    void shouldReturnSameAccessorForField() throws NoSuchFieldException {
+        // given
+        Field field = Sample.class.getDeclaredField("intField");
+
+        // when
+        FieldAccessor accessor1 = FieldAccessor.of(field);
+        FieldAccessor accessor2 = FieldAccessor.of(Sample.class.getDeclaredField("intField"));
+
+        // then
+        assertThat(accessor1, sameInstance(accessor2));
+        assertThat(accessor1.getField(), equalTo(field));
+        assertThat(accessor1.toString(), equalTo("FieldAccessor[FieldAccessorTest$Sample#intField]"));
+    }
+
+    @Test
+    void shouldNotChangeAccessibilityOfGivenField() {
+        // given
+        Field field = FieldUtils.tryFindField(Sample.class, "unsharedField").get();
+        Sample sample = new Sample();
+
+        // when
+        FieldAccessor accessor = FieldAccessor.of(field);
+        accessor.setLong(sample, 3L);
+
+        // then
+        assertThat(field.isAccessible(), equalTo(false));
+        assertThat(FieldUtils.tryFindField(Sample.class, "unsharedField").get().isAccessible(), equalTo(false));
+        assertThat(sample.unsharedField, equalTo(3L));
+    }
+
+    @Test
+    void shouldReadAndWritePrimitiveFields() {
+        // given
+        Sample sample = new Sample();
+
+        // when
+        accessor("booleanField").setBoolean(sample, true);
+        accessor("byteField").setByte(sample, (byte) 3);
+        accessor("charField").setChar(sample, 'c');
+        accessor("shortField").setShort(sample, (short) -4);
+        accessor("intField").setInt(sample, 5);
+        accessor("longField").setLong(sample, 6L);
+        accessor("floatField").setFloat(sample, 7.5f);
+        accessor("doubleField").setDouble(sample, -8.25);
+
+        // then
+        assertThat(accessor("booleanField").getBoolean(sample), equalTo(true));
+        assertThat(accessor("byteField").getByte(sample), equalTo((byte) 3));
+        assertThat(accessor("charField").getChar(sample), equalTo('c'));
+        assertThat(accessor("shortField").getShort(sample), equalTo((short) -4));
+        assertThat(accessor("intField").getInt(sample), equalTo(5));
+        assertThat(accessor("longField").getLong(sample), equalTo(6L));
+        assertThat(accessor("floatField").getFloat(sample), equalTo(7.5f));
+        assertThat(accessor("doubleField").getDouble(sample), equalTo(-8.25));
+        assertThat(sample.intField, equalTo(5));
+        assertThat(sample.doubleField, equalTo(-8.25));
+    }
+
+    @Test
+    void shouldReadAndWriteWithBoxing() {
+        // given
+        Sample sample = new Sample();
+
+        // when
+        accessor("longField").set(sample, 20L);
+        accessor("stringField").set(sample, "test");
+
+        // then
+        assertThat(accessor("longField").get(sample), equalTo(20L));
+        assertThat(accessor("stringField").get(sample), equalTo("test"));
+    }
+
+    @Test
+    void shouldReturnPrimitiveType() {
+        // given / when / then
+        assertThat(accessor("charField").getPrimitiveType(), equalTo(PrimitiveType.CHARACTER));
+        assertThat(accessor("floatField").getPrimitiveType(), equalTo(PrimitiveType.FLOAT));
+        assertThat(accessor("stringField").getPrimitiveType(), nullValue());
+        assertThat(accessor("boxedIntField").getPrimitiveType(), nullValue());
+    }
+
+    @Test
+    void shouldHandleStaticFields() {
+        // given
+        FieldAccessor staticAccessor = accessor("staticInt");
+        FieldAccessor constantAccessor = accessor("CONSTANT");
+
+        // when
+        staticAccessor.setInt(null, 42);
+
+        // then
+        assertThat(staticAccessor.getInt(null), equalTo(42));
+        assertThat(Sample.staticInt, equalTo(42));
+        assertThat(staticAccessor.isWritable(), equalTo(true));
+        assertThat(constantAccessor.get(null), equalTo("const"));
+        assertThat(constantAccessor.isWritable(), equalTo(false));
+    }
+
+    @Test
+    void shouldThrowForNonWritableField() {
+        // given
+        FieldAccessor constantAccessor = accessor("CONSTANT");
+
+        // when
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+            () -> constantAccessor.set(null, "other"));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Field 'FieldAccessorTest$Sample#CONSTANT' cannot be written to"));
+    }
+
+    @Test
+    void shouldThrowForMismatchingPrimitiveType() {
+        // given
+        Sample sample = new Sample();
+        FieldAccessor shortAccessor = accessor("shortField");
+
+        // when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> shortAccessor.getInt(sample));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Field 'FieldAccessorTest$Sample#shortField' is of type short, but int was expected"));
+    }
+
+    @Test
+    void shouldPropagateExceptionsForInvalidTargets() {
+        // given
+        FieldAccessor intAccessor = accessor("intField");
+
+        // when / then
+        assertThrows(NullPointerException.class, () -> intAccessor.getInt(null));
+        assertThrows(ClassCastException.class, () -> intAccessor.getInt("wrong"));
+        assertThrows(NullPointerException.class, () -> intAccessor.set(new Sample(), null));
+    }
+
+    private static FieldAccessor accessor(String fieldName) {
+        return FieldAccessor.of(FieldUtils.tryFindField(Sample.class, fieldName).get());
+    }
+
+    private static final class Sample {
+
+        private static final String CONSTANT = "const";
+        private static int staticInt;
+
+        private boolean booleanField;
+        private byte byteField;
+        private char charField;
+        private short shortField;
+        private int intField;
+        private long longField;
+        private float floatField;
+        private double doubleField;
+        private String stringField;
+        private Integer boxedIntField;
+        private long unsharedField;
+
+    }
+}
@@ -22,6 +22,8 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 /**
  * Test for {@link FieldUtils}.
@@ -135,6 +137,48 @@ class FieldUtilsTest {
         assertThat(allFields2, empty());
     }
 
+    @Test
+    void shouldReturnModifiableListOfRegularInstanceFields() {
+        // given
+        List<Field> fields = FieldUtils.collectAllRegularInstanceFields(Class3.class);
+        int size = fields.size();
+
+        // when
+        fields.remove(0);
+
+        // then
+        assertThat(FieldUtils.collectAllRegularInstanceFields(Class3.class), hasSize(size));
+    }
+
+    @Test
+    void shouldReturnNewFieldInstancesOnEachCall() {
+        // given
+        Field field1 = FieldUtils.tryFindField(Class2.class, "c2a").get();
+        field1.setAccessible(true);
+
+        // when
+        Field field2 = FieldUtils.tryFindFieldInClassOrParent(Class3.class, "c2a").get();
+        Field field3 = FieldUtils.getAllFields(ClassWithSameFieldNames.class)
+            .filter(f -> f.getName().equals("c2a"))
+            .findFirst().get();
+
+        // then
+        assertThat(field2, equalTo(field1));
+        assertThat(field2, not(sameInstance(field1)));
+        assertThat(field2.isAccessible(), equalTo(false));
+        assertThat(field3, equalTo(field1));
+        assertThat(field3.isAccessible(), equalTo(false));
+    }
+
+    @Test
+    void shouldHandleClassesWithoutFieldsAndPrimitives() {
+        // given / when / then
+        assertThat(FieldUtils.tryFindFieldInClassOrParent(Runnable.class, "run"), equalTo(Optional.empty()));
+        assertThat(FieldUtils.tryFindFieldInClassOrParent(int.class, "value"), equalTo(Optional.empty()));
+        assertThat(FieldUtils.getAllFields(Object.class).count(), equalTo(0L));
+        assertThat(FieldUtils.collectAllRegularInstanceFields(int[].class), empty());
+    }
+
     @Test
     void shouldReturnFieldFromClassIfExists() throws NoSuchFieldException {
         // given / when / then
@@ -0,0 +1,156 @@
+package ch.jalu.typeresolver.reflect;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link Instantiator}.
+ */
+class InstantiatorTest {
+
+    @Test
+    void shouldCreateInstancesFromZeroArgsConstructor() {
+        // given
+        Instantiator<Sample> instantiator = Instantiator.forZeroArgsConstructor(Sample.class);
+
+        // when
+        Sample sample1 = instantiator.newInstance();
+        Sample sample2 = instantiator.newInstance();
+
+        // then
+        assertThat(sample1.name, equalTo("default"));
+        assertThat(sample2, not(sameInstance(sample1)));
+        assertThat(Instantiator.forZeroArgsConstructor(Sample.class), sameInstance(instantiator));
+        assertThat(instantiator.toString(), equalTo("Instantiator[Sample()]"));
+    }
+
+    @Test
+    void shouldCreateInstanceWithArguments() throws NoSuchMethodException {
+        // given
+        Constructor<Sample> constructor = Sample.class.getDeclaredConstructor(String.class, int.class);
+        Instantiator<Sample> instantiator = Instantiator.of(constructor);
+
+        // when
+        Sample sample = instantiator.newInstance("test", 3);
+
+        // then
+        assertThat(sample.name, equalTo("test"));
+        assertThat(sample.size, equalTo(3));
+        assertThat(instantiator.getConstructor(), equalTo(constructor));
+        assertThat(instantiator.getParameterCount(), equalTo(2));
+        assertThat(Instantiator.of(Sample.class.getDeclaredConstructor(String.class, int.class)), sameInstance(instantiator));
+    }
+
+    @Test
+    void shouldNotChangeAccessibilityOfGivenConstructor() throws NoSuchMethodException {
+        // given
+        Constructor<Sample> constructor = Sample.class.getDeclaredConstructor(String.class, int.class);
+
+        // when
+        Sample sample = Instantiator.of(constructor).newInstance("test", 4);
+
+        // then
+        assertThat(sample.size, equalTo(4));
+        assertThat(constructor.isAccessible(), equalTo(false));
+    }
+
+    @Test
+    void shouldPassArrayToVarargsConstructor() throws NoSuchMethodException {
+        // given
+        Instantiator<StringBuilderWrapper> instantiator =
+            Instantiator.of(StringBuilderWrapper.class.getDeclaredConstructor(String[].class));
+
+        // when
+        StringBuilderWrapper result = instantiator.newInstance((Object) new String[]{"a", "b"});
+
+        // then
+        assertThat(result.builder.toString(), equalTo("ab"));
+    }
+
+    @Test
+    void shouldReturnEmptyOptionalForMissingZeroArgsConstructor() {
+        // given / when
+        Optional<Instantiator<Integer>> result1 = Instantiator.findZeroArgsConstructor(Integer.class);
+        Optional<Instantiator<ArrayList>> result2 = Instantiator.findZeroArgsConstructor(ArrayList.class);
+
+        // then
+        assertThat(result1, equalTo(Optional.empty()));
+        assertThat(result2.get().newInstance(), instanceOf(ArrayList.class));
+    }
+
+    @Test
+    void shouldThrowForMissingZeroArgsConstructor() {
+        // given / when
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+            () -> Instantiator.forZeroArgsConstructor(Integer.class));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Expected class 'java.lang.Integer' to have a zero-args constructor"));
+    }
+
+    @Test
+    void shouldThrowForWrongNumberOfArguments() throws NoSuchMethodException {
+        // given
+        Instantiator<Sample> instantiator = Instantiator.of(Sample.class.getDeclaredConstructor(String.class, int.class));
+
+        // when
+        IllegalArgumentException ex1 = assertThrows(IllegalArgumentException.class, () -> instantiator.newInstance());
+        IllegalArgumentException ex2 = assertThrows(IllegalArgumentException.class, () -> instantiator.newInstance("a"));
+
+        // then
+        assertThat(ex1.getMessage(), equalTo("Expected 2 argument(s) for constructor 'Sample(String, int)', but got 0"));
+        assertThat(ex2.getMessage(), equalTo("Expected 2 argument(s) for constructor 'Sample(String, int)', but got 1"));
+    }
+
+    @Test
+    void shouldWrapExceptionFromConstructor() throws NoSuchMethodException {
+        // given
+        Instantiator<Sample> instantiator = Instantiator.of(Sample.class.getDeclaredConstructor(String.class, int.class));
+
+        // when
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> instantiator.newInstance("a", -1));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Failed to call constructor for 'class ch.jalu.typeresolver.reflect.InstantiatorTest$Sample'"));
+        assertThat(ex.getCause(), instanceOf(IllegalArgumentException.class));
+    }
+
+    private static final class Sample {
+
+        private final String name;
+        private final int size;
+
+        private Sample() {
+            this("default", 0);
+        }
+
+        private Sample(String name, int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("Size may not be negative");
+            }
+            this.name = name;
+            this.size = size;
+        }
+    }
+
+    private static final class StringBuilderWrapper {
+
+        private final StringBuilder builder = new StringBuilder();
+
+        StringBuilderWrapper(String... parts) {
+            for (String part : parts) {
+                builder.append(part);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ch.jalu.typeresolver.reflect;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link MethodInvoker}.
+ */
+class MethodInvokerTest {
+
+    @Test
+    void shouldInvokeInstanceMethod() throws NoSuchMethodException {
+        // given
+        Method method = Calculator.class.getDeclaredMethod("add", int.class, long.class);
+        MethodInvoker invoker = MethodInvoker.of(method);
+
+        // when
+        Object result = invoker.invoke(new Calculator(10), 3, 4L);
+
+        // then
+        assertThat(result, equalTo(17L));
+        assertThat(invoker.getMethod(), equalTo(method));
+        assertThat(MethodInvoker.of(Calculator.class.getDeclaredMethod("add", int.class, long.class)), sameInstance(invoker));
+        assertThat(invoker.toString(), equalTo("MethodInvoker[Calculator#add(int, long)]"));
+    }
+
+    @Test
+    void shouldInvokeStaticAndVoidMethods() throws NoSuchMethodException {
+        // given
+        MethodInvoker staticInvoker = MethodInvoker.of(Calculator.class.getDeclaredMethod("join", String[].class));
+        MethodInvoker voidInvoker = MethodInvoker.of(Calculator.class.getDeclaredMethod("reset"));
+        Calculator calculator = new Calculator(5);
+
+        // when
+        Object staticResult = staticInvoker.invoke(null, (Object) new String[]{"a", "b"});
+        Object voidResult = voidInvoker.invoke(calculator);
+
+        // then
+        assertThat(staticResult, equalTo("a,b"));
+        assertThat(voidResult, nullValue());
+        assertThat(calculator.base, equalTo(0));
+    }
+
+    @Test
+    void shouldNotChangeAccessibilityOfGivenMethod() throws NoSuchMethodException {
+        // given
+        Method method = Calculator.class.getDeclaredMethod("multiply", int.class);
+
+        // when
+        Object result = MethodInvoker.of(method).invoke(new Calculator(6), 7);
+
+        // then
+        assertThat(result, equalTo(42));
+        assertThat(method.isAccessible(), equalTo(false));
+    }
+
+    @Test
+    void shouldThrowForWrongNumberOfArguments() throws NoSuchMethodException {
+        // given
+        MethodInvoker invoker = MethodInvoker.of(Calculator.class.getDeclaredMethod("add", int.class, long.class));
+
+        // when
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> invoker.invoke(new Calculator(0), 3));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Expected 2 argument(s) for method 'Calculator#add(int, long)', but got 1"));
+    }
+
+    @Test
+    void shouldWrapExceptions() throws NoSuchMethodException {
+        // given
+        MethodInvoker invoker = MethodInvoker.of(Calculator.class.getDeclaredMethod("reset"));
+
+        // when
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> invoker.invoke(null));
+
+        // then
+        assertThat(ex.getMessage(), equalTo("Failed to invoke method 'Calculator#reset()'"));
+        assertThat(ex.getCause(), instanceOf(NullPointerException.class));
+    }
+
+    private static final class Calculator {
+
+        private int base;
+
+        Calculator(int base) {
+            this.base = base;
+        }
+
+        private long add(int a, long b) {
+            return base + a + b;
+        }
+
+        private int multiply(int factor) {
+            return base * factor;
+        }
+
+        private void reset() {
+            base = 0;
+        }
+
+        private static String join(String... parts) {
+            return String.join(",", parts);
+        }
+    }
+}
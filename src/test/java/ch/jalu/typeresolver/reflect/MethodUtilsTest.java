@@ -0,0 +1,242 @@
+package ch.jalu.typeresolver.reflect;
+
+import ch.jalu.typeresolver.reference.TypeReference;
+import ch.jalu.typeresolver.samples.visibility.PublicChild;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test for {@link MethodUtils}.
+ */
+class MethodUtilsTest {
+
+    @Test
+    void shouldReturnWhetherMethodIsRegular() throws NoSuchMethodException {
+        // given
+        Method bridgeMethod = StringSupplier.class.getDeclaredMethod("get");
+        Method regularMethod = StringSupplier.class.getDeclaredMethod("getValue", int.class);
+
+        // when / then
+        assertThat(MethodUtils.isRegularMethod(regularMethod), equalTo(true));
+        // getDeclaredMethod may return either the String method or the bridge method returning Object
+        assertThat(MethodUtils.isRegularMethod(bridgeMethod), equalTo(bridgeMethod.getReturnType() == String.class));
+    }
+
+    @Test
+    void shouldReturnAllMethodsWithoutBridgesAndOverriddenMethods() throws NoSuchMethodException {
+        // given / when
+        List<Method> methods = MethodUtils.getAllMethods(StringSupplierExt.class);
+
+        // then
+        List<String> names = methods.stream()
+            .filter(method -> method.getDeclaringClass() != Object.class)
+            .map(MethodUtils::simpleToString)
+            .collect(Collectors.toList());
+        assertThat(names, containsInAnyOrder("StringSupplierExt#getValue(int)", "StringSupplier#get()",
+            "AbstractSupplier#describe()", "AbstractSupplier#toString()"));
+        assertThat(names.get(0), equalTo("StringSupplierExt#getValue(int)"));
+        assertThat(methods, hasItem(Object.class.getDeclaredMethod("hashCode")));
+        assertThat(methods, not(hasItem(Object.class.getDeclaredMethod("toString"))));
+        assertThat(MethodUtils.getAllMethods(StringSupplierExt.class), equalTo(methods));
+    }
+
+    @Test
+    void shouldReturnNewMethodInstances() throws NoSuchMethodException {
+        // given
+        Method method1 = MethodUtils.tryFindMethod(StringSupplierExt.class, "describe").get();
+        method1.setAccessible(true);
+
+        // when
+        Method method2 = MethodUtils.tryFindMethod(StringSupplierExt.class, "describe").get();
+        Method method3 = MethodUtils.getAllMethods(StringSupplierExt.class).stream()
+            .filter(method -> method.getName().equals("describe"))
+            .findFirst().get();
+        Method method4 = findMethod(MethodUtils.getAllResolvedMethods(StringSupplierExt.class), "describe").getMethod();
+
+        // then
+        assertThat(method2, equalTo(method1));
+        assertThat(method2, not(sameInstance(method1)));
+        assertThat(method2.isAccessible(), equalTo(false));
+        assertThat(method3.isAccessible(), equalTo(false));
+        assertThat(method4.isAccessible(), equalTo(false));
+        assertThat(method4, equalTo(AbstractSupplier.class.getDeclaredMethod("describe")));
+    }
+
+    @Test
+    void shouldIncludeAbstractInterfaceMethodsAndSkipStaticInterfaceMethods() {
+        // given / when
+        List<String> names = MethodUtils.getAllMethods(Named.class).stream()
+            .map(MethodUtils::simpleToString)
+            .collect(Collectors.toList());
+
+        // then
+        assertThat(names, contains("Named#name()", "Supplier#get()"));
+    }
+
+    @Test
+    void shouldResolveMethodSignatures() throws NoSuchMethodException {
+        // given
+        Type supplierType = new TypeReference<AbstractSupplier<List<Double>>>() { }.getType();
+
+        // when
+        List<ResolvedMethod> methods1 = MethodUtils.getAllResolvedMethods(supplierType);
+        List<ResolvedMethod> methods2 = MethodUtils.getAllResolvedMethods(StringSupplierExt.class);
+
+        // then
+        ResolvedMethod get1 = findMethod(methods1, "get");
+        assertThat(get1.getMethod(), equalTo(Supplier.class.getDeclaredMethod("get")));
+        assertThat(get1.getReturnType(), equalTo(new TypeReference<List<Double>>() { }.getType()));
+        assertThat(get1.getOwnerType(), equalTo(supplierType));
+        ResolvedMethod describe1 = findMethod(methods1, "describe");
+        assertThat(describe1.getReturnType(), equalTo(String.class));
+
+        ResolvedMethod get2 = findMethod(methods2, "get");
+        assertThat(get2.getReturnType(), equalTo(String.class));
+        ResolvedMethod getValue2 = findMethod(methods2, "getValue");
+        assertThat(getValue2.getParameterTypes(), contains(int.class));
+        assertThat(getValue2.toString(), equalTo("ResolvedMethod[StringSupplierExt#getValue(int) in "
+            + StringSupplierExt.class.getName() + "]"));
+
+        assertThat(MethodUtils.getAllResolvedMethods(StringSupplierExt.class), sameInstance(methods2));
+        assertThat(MethodUtils.getAllResolvedMethods(supplierType), sameInstance(methods1));
+    }
+
+    @Test
+    void shouldThrowForTypeWithoutClass() {
+        // given
+        Type wildcard = new TypeReference<List<? extends Comparable<?>>>() { }.getTypeArgumentInfo(0).getType();
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> MethodUtils.getAllResolvedMethods(wildcard));
+    }
+
+    @Test
+    void shouldFindMethod() throws NoSuchMethodException {
+        // given / when / then
+        assertThat(MethodUtils.tryFindMethod(StringSupplierExt.class, "getValue", int.class),
+            equalTo(Optional.of(StringSupplierExt.class.getDeclaredMethod("getValue", int.class))));
+        assertThat(MethodUtils.tryFindMethod(StringSupplierExt.class, "describe"),
+            equalTo(Optional.of(AbstractSupplier.class.getDeclaredMethod("describe"))));
+        assertThat(MethodUtils.tryFindMethod(StringSupplierExt.class, "getValue", Integer.class), equalTo(Optional.empty()));
+        assertThat(MethodUtils.tryFindMethod(StringSupplierExt.class, "bogus"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void shouldKeepParentMethodsBehindVisibilityBridges() throws NoSuchMethodException {
+        // given / when
+        Optional<Method> foo = MethodUtils.tryFindMethod(PublicChild.class, "foo");
+        List<Method> childMethods = MethodUtils.getAllMethods(PublicChild.class);
+        List<Method> stringBuilderMethods = MethodUtils.getAllMethods(StringBuilder.class);
+
+        // then
+        assertThat(foo.map(Method::getName), equalTo(Optional.of("foo")));
+        assertThat(childMethods.stream().filter(method -> method.getName().equals("foo")).count(), equalTo(1L));
+        assertThat(stringBuilderMethods.stream().anyMatch(method -> method.getName().equals("length")
+            && method.getParameterCount() == 0), equalTo(true));
+        assertThat(MethodUtils.tryFindMethod(StringBuilder.class, "length").isPresent(), equalTo(true));
+    }
+
+    @Test
+    void shouldKeepParentMethodBehindVisibilityBridgeWithOverloadInClass() throws NoSuchMethodException {
+        // given / when
+        List<String> barMethods = MethodUtils.getAllMethods(PublicChild.class).stream()
+            .filter(method -> method.getName().equals("bar"))
+            .map(MethodUtils::simpleToString)
+            .collect(Collectors.toList());
+
+        // then
+        assertThat(barMethods, containsInAnyOrder("PublicChild#bar(Integer)", "PackagePrivateParent#bar(String)"));
+        assertThat(MethodUtils.tryFindMethod(PublicChild.class, "bar", String.class).isPresent(), equalTo(true));
+        assertThat(MethodUtils.tryFindMethod(PublicChild.class, "bar", Integer.class),
+            equalTo(Optional.of(PublicChild.class.getDeclaredMethod("bar", Integer.class))));
+    }
+
+    @Test
+    void shouldSkipPrivateMethodsOfParents() {
+        // given / when
+        List<Method> childMethods = MethodUtils.getAllMethods(PublicChild.class);
+
+        // then
+        assertThat(childMethods.stream().anyMatch(method -> method.getName().equals("secret")), equalTo(false));
+        assertThat(MethodUtils.tryFindMethod(PublicChild.class, "secret"), equalTo(Optional.empty()));
+        assertThat(MethodUtils.tryFindMethod(AbstractSupplier.class, "hidden").isPresent(), equalTo(true));
+        assertThat(MethodUtils.tryFindMethod(StringSupplier.class, "hidden"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void shouldCreateToStringForMethod() throws NoSuchMethodException {
+        // given
+        Method method1 = String.class.getDeclaredMethod("length");
+        Method method2 = StringSupplier.class.getDeclaredMethod("getValue", int.class);
+
+        // when / then
+        assertThat(MethodUtils.simpleToString(method1), equalTo("String#length()"));
+        assertThat(MethodUtils.simpleToString(method2), equalTo("StringSupplier#getValue(int)"));
+    }
+
+    private static ResolvedMethod findMethod(List<ResolvedMethod> methods, String name) {
+        return methods.stream()
+            .filter(method -> method.getMethod().getName().equals(name))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("No method with name " + name));
+    }
+
+    private abstract static class AbstractSupplier<T> implements Supplier<T> {
+
+        String describe() {
+            return "supplier";
+        }
+
+        private void hidden() {
+        }
+
+        @Override
+        public String toString() {
+            return describe();
+        }
+    }
+
+    private static class StringSupplier extends AbstractSupplier<String> {
+
+        @Override
+        public String get() {
+            return "test";
+        }
+
+        String getValue(int index) {
+            return get().substring(index);
+        }
+    }
+
+    private static final class StringSupplierExt extends StringSupplier {
+
+        @Override
+        String getValue(int index) {
+            return "ext";
+        }
+    }
+
+    private interface Named extends Supplier<String> {
+
+        String name();
+
+        static Named of(String name) {
+            return null;
+        }
+    }
+}
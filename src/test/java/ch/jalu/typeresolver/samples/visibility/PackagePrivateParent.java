@@ -0,0 +1,16 @@
+package ch.jalu.typeresolver.samples.visibility;
+
+class PackagePrivateParent {
+
+    public String foo() {
+        return "foo";
+    }
+
+    public void bar(String value) {
+    }
+
+    private int secret() {
+        return 3;
+    }
+
+}
@@ -0,0 +1,8 @@
+package ch.jalu.typeresolver.samples.visibility;
+
+public class PublicChild extends PackagePrivateParent {
+
+    public void bar(Integer value) {
+    }
+
+}